@@ -52,6 +52,7 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureArray;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.GL20StateCache;
 import com.badlogic.gdx.graphics.glutils.GLVersion;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.WindowedMean;
@@ -320,6 +321,7 @@ public class AndroidGraphics implements Graphics, Renderer {
 	public void onSurfaceCreated (javax.microedition.khronos.opengles.GL10 gl, EGLConfig config) {
 		eglContext = ((EGL10)EGLContext.getEGL()).eglGetCurrentContext();
 		setupGL(gl);
+		GL20StateCache.invalidateAllStateCaches(app);
 		logConfig(config);
 		updatePpi();
 
@@ -567,6 +569,7 @@ public class AndroidGraphics implements Graphics, Renderer {
 		TextureArray.clearAllTextureArrays(app);
 		ShaderProgram.clearAllShaderPrograms(app);
 		FrameBuffer.clearAllFrameBuffers(app);
+		GL20StateCache.clearAllStateCaches(app);
 
 		logManagedCachesStatus();
 	}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** A {@link VertexData} implementation for vertices that are replaced every time they are drawn, like the vertices of a batch.
+ * <p>
+ * WebGL can only upload from typed arrays and has no control over the buffer storage, so this emulation uploads the vertices
+ * with glBufferData on every change, which lets the browser replace the storage, and the regions are not used.
+ * <p>
+ * StreamingVertexBufferObjects must be disposed via the {@link #dispose()} method when no longer needed. */
+public class StreamingVertexBufferObject implements VertexData {
+	/** The default number of uploads of {@link #getNumMaxVertices()} vertices that fit in the GL buffer before it is orphaned. */
+	public static final int DEFAULT_REGIONS = 4;
+
+	private final VertexAttributes attributes;
+	private final FloatBuffer buffer;
+	private int bufferHandle;
+	private boolean isDirty = false;
+	private boolean isBound = false;
+
+	/** The number of times the GL buffer was orphaned because it was full. Always 0, every upload replaces the buffer. */
+	public int orphanCount;
+
+	/** @param numVertices the maximum number of vertices per upload */
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, DEFAULT_REGIONS, new VertexAttributes(attributes));
+	}
+
+	/** @param numVertices the maximum number of vertices per upload */
+	public StreamingVertexBufferObject (int numVertices, VertexAttributes attributes) {
+		this(numVertices, DEFAULT_REGIONS, attributes);
+	}
+
+	/** @param numVertices the maximum number of vertices per upload
+	 * @param regions ignored */
+	public StreamingVertexBufferObject (int numVertices, int regions, VertexAttributes attributes) {
+		if (regions < 1) throw new IllegalArgumentException("regions must be > 0: " + regions);
+		this.attributes = attributes;
+		buffer = BufferUtils.newFloatBuffer(attributes.vertexSize / 4 * numVertices);
+		buffer.flip();
+		bufferHandle = Gdx.gl20.glGenBuffer();
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() / (attributes.vertexSize / 4);
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return buffer.capacity() / (attributes.vertexSize / 4);
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, buffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		isDirty = true;
+		final int pos = buffer.position();
+		buffer.position(targetOffset);
+		BufferUtils.copy(vertices, sourceOffset, count, buffer);
+		buffer.position(pos);
+		bufferChanged();
+	}
+
+	private void bufferChanged () {
+		if (isBound) upload();
+	}
+
+	private void upload () {
+		Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, buffer.limit() * 4, buffer, GL20.GL_STREAM_DRAW);
+		isDirty = false;
+	}
+
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+		final int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			final int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, attribute.offset);
+		}
+		isBound = true;
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		final int numAttributes = attributes.size();
+		if (locations == null) {
+			for (int i = 0; i < numAttributes; i++) {
+				shader.disableVertexAttribute(attributes.get(i).alias);
+			}
+		} else {
+			for (int i = 0; i < numAttributes; i++) {
+				final int location = locations[i];
+				if (location >= 0) shader.disableVertexAttribute(location);
+			}
+		}
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		isBound = false;
+	}
+
+	/** Invalidates the StreamingVertexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context
+	 * loss. */
+	@Override
+	public void invalidate () {
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this StreamingVertexBufferObject uses. */
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+	}
+}
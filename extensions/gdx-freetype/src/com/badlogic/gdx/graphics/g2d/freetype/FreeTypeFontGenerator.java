@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.g2d.freetype;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
@@ -28,6 +29,7 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.graphics.g2d.PixmapPacker;
 import com.badlogic.gdx.graphics.g2d.PixmapPacker.GuillotineStrategy;
@@ -161,7 +163,13 @@ public class FreeTypeFontGenerator implements Disposable {
 		if (updateTextureRegions)
 			parameter.packer.updateTextureRegions(data.regions, parameter.minFilter, parameter.magFilter, parameter.genMipMaps);
 		if (data.regions.isEmpty()) throw new GdxRuntimeException("Unable to create a font with no texture regions.");
-		BitmapFont font = new BitmapFont(data, data.regions, true);
+		BitmapFont font;
+		if (parameter.distanceFieldSpread > 0 && !bitmapped) {
+			DistanceFieldFont distanceFieldFont = new DistanceFieldFont(data, data.regions, true);
+			distanceFieldFont.setDistanceFieldSmoothing(parameter.distanceFieldSpread);
+			font = distanceFieldFont;
+		} else
+			font = new BitmapFont(data, data.regions, true);
 		font.setOwnsTexture(parameter.packer == null);
 		return font;
 	}
@@ -333,6 +341,14 @@ public class FreeTypeFontGenerator implements Disposable {
 
 		data.ascent -= data.capHeight;
 		data.down = -data.lineHeight;
+		if (parameter.distanceFieldSpread > 0 && !bitmapped) {
+			// The spread around distance field glyphs is padding that must not affect the layout.
+			int spread = parameter.distanceFieldSpread;
+			data.padTop = spread;
+			data.padLeft = spread;
+			data.padBottom = spread;
+			data.padRight = spread;
+		}
 		if (parameter.flip) {
 			data.ascent = -data.ascent;
 			data.down = -data.down;
@@ -478,6 +494,7 @@ public class FreeTypeFontGenerator implements Disposable {
 		if (missing) return null;
 
 		if (!loadChar(c, getLoadingFlags(parameter))) return null;
+		if (parameter.distanceFieldSpread > 0 && !bitmapped) return createDistanceFieldGlyph(c, data, parameter, baseLine, packer);
 
 		GlyphSlot slot = face.getGlyph();
 		FreeType.Glyph mainGlyph = slot.getGlyph();
@@ -606,6 +623,165 @@ public class FreeTypeFontGenerator implements Disposable {
 		return glyph;
 	}
 
+	/** Creates a glyph stored as a signed distance field. The glyph is rendered at {@link FreeTypeFontParameter#size} times
+	 * {@link FreeTypeFontParameter#distanceFieldUpscale}, the distance of each pixel to the outline is computed with a linear time
+	 * Euclidean distance transform and then sampled down to the font size. The glyph must already be loaded at the font size.
+	 * @return null if glyph could not be rendered. */
+	private Glyph createDistanceFieldGlyph (char c, FreeTypeBitmapFontData data, FreeTypeFontParameter parameter, float baseLine,
+		PixmapPacker packer) {
+		int xadvance = FreeType.toInt(face.getGlyph().getMetrics().getHoriAdvance());
+		int spread = parameter.distanceFieldSpread, upscale = Math.max(1, parameter.distanceFieldUpscale);
+
+		setPixelSizes(0, parameter.size * upscale);
+		FreeType.Glyph ftGlyph = null;
+		try {
+			if (!loadChar(c, getLoadingFlags(parameter))) return null;
+			ftGlyph = face.getGlyph().getGlyph();
+			ftGlyph.toBitmap(FreeType.FT_RENDER_MODE_NORMAL);
+		} catch (GdxRuntimeException e) {
+			Gdx.app.log("FreeTypeFontGenerator", "Couldn't render char: " + c);
+			if (ftGlyph != null) ftGlyph.dispose();
+			return null;
+		} finally {
+			setPixelSizes(0, parameter.size);
+		}
+
+		Bitmap bitmap = ftGlyph.getBitmap();
+		int bitmapWidth = bitmap.getWidth(), bitmapHeight = bitmap.getRows();
+		int left = ftGlyph.getLeft(), top = ftGlyph.getTop();
+
+		Glyph glyph = new Glyph();
+		glyph.id = c;
+		glyph.xadvance = xadvance + parameter.spaceX;
+		Pixmap pixmap;
+		if (bitmapWidth == 0 || bitmapHeight == 0) {
+			pixmap = new Pixmap(0, 0, Format.RGBA8888);
+		} else {
+			// Bounds of the glyph and the spread around it, in pixels at the font size.
+			int outLeft = MathUtils.floor(left / (float)upscale) - spread;
+			int outRight = MathUtils.ceil((left + bitmapWidth) / (float)upscale) + spread;
+			int outTop = MathUtils.ceil(top / (float)upscale) + spread;
+			int outBottom = MathUtils.floor((top - bitmapHeight) / (float)upscale) - spread;
+			glyph.xoffset = outLeft;
+			top = outTop;
+			pixmap = createDistanceField(bitmap, outRight - outLeft, outTop - outBottom, left - outLeft * upscale,
+				outTop * upscale - ftGlyph.getTop(), upscale, spread, parameter.color);
+		}
+		glyph.width = pixmap.getWidth();
+		glyph.height = pixmap.getHeight();
+		if (parameter.flip)
+			glyph.yoffset = -top + (int)baseLine;
+		else
+			glyph.yoffset = -(glyph.height - top) - (int)baseLine;
+
+		Rectangle rect = packer.pack(pixmap);
+		glyph.page = packer.getPages().size - 1; // Glyph is always packed into the last page for now.
+		glyph.srcX = (int)rect.x;
+		glyph.srcY = (int)rect.y;
+
+		// If a page was added, create a new texture region for the incrementally added glyph.
+		if (parameter.incremental && data.regions != null && data.regions.size <= glyph.page)
+			packer.updateTextureRegions(data.regions, parameter.minFilter, parameter.magFilter, parameter.genMipMaps);
+
+		pixmap.dispose();
+		ftGlyph.dispose();
+
+		return glyph;
+	}
+
+	/** Returns a width x height pixmap with the color and an alpha of 0.5 on the glyph outline, increasing to 1 inside and
+	 * decreasing to 0 outside at spread pixels from the outline.
+	 * @param offsetX Position of the bitmap in the upscaled grid covering the pixmap.
+	 * @param offsetY Position of the bitmap in the upscaled grid covering the pixmap. */
+	static private Pixmap createDistanceField (Bitmap bitmap, int width, int height, int offsetX, int offsetY, int upscale,
+		int spread, Color color) {
+		int gridWidth = width * upscale, gridHeight = height * upscale, size = gridWidth * gridHeight;
+		float[] toInside = new float[size], toOutside = new float[size];
+		Arrays.fill(toInside, INFINITY);
+		ByteBuffer buffer = bitmap.getBuffer();
+		int bitmapWidth = bitmap.getWidth(), bitmapHeight = bitmap.getRows(), pitch = bitmap.getPitch();
+		for (int y = 0; y < bitmapHeight; y++) {
+			for (int x = 0, row = (y + offsetY) * gridWidth + offsetX; x < bitmapWidth; x++) {
+				if ((buffer.get(y * pitch + x) & 0xff) < 128) continue;
+				toInside[row + x] = 0;
+				toOutside[row + x] = INFINITY;
+			}
+		}
+		distanceTransform(toInside, gridWidth, gridHeight);
+		distanceTransform(toOutside, gridWidth, gridHeight);
+
+		Pixmap pixmap = new Pixmap(width, height, Format.RGBA8888);
+		ByteBuffer pixels = pixmap.getPixels();
+		byte r = (byte)(color.r * 255), g = (byte)(color.g * 255), b = (byte)(color.b * 255);
+		float scale = 0.5f / (spread * upscale);
+		for (int y = 0, i = 0; y < height; y++) {
+			int row = (y * upscale + upscale / 2) * gridWidth + upscale / 2;
+			for (int x = 0; x < width; x++) {
+				int index = row + x * upscale;
+				// Distances are between pixel centers, the outline is half a pixel closer.
+				float distance = toInside[index] > 0 ? (float)Math.sqrt(toInside[index]) - 0.5f
+					: 0.5f - (float)Math.sqrt(toOutside[index]);
+				float alpha = MathUtils.clamp(0.5f - distance * scale, 0, 1);
+				pixels.put(i++, r);
+				pixels.put(i++, g);
+				pixels.put(i++, b);
+				pixels.put(i++, (byte)(alpha * 255));
+			}
+		}
+		return pixmap;
+	}
+
+	static private final float INFINITY = 1e20f;
+
+	/** Replaces each value with the squared distance to the nearest 0 value, using the separable algorithm by Felzenszwalb and
+	 * Huttenlocher. Values must be 0 or {@link #INFINITY}. */
+	static private void distanceTransform (float[] grid, int width, int height) {
+		int n = Math.max(width, height);
+		float[] f = new float[n], d = new float[n], z = new float[n + 1];
+		int[] v = new int[n];
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++)
+				f[y] = grid[y * width + x];
+			distanceTransform(f, d, v, z, height);
+			for (int y = 0; y < height; y++)
+				grid[y * width + x] = d[y];
+		}
+		for (int y = 0; y < height; y++) {
+			int row = y * width;
+			System.arraycopy(grid, row, f, 0, width);
+			distanceTransform(f, d, v, z, width);
+			System.arraycopy(d, 0, grid, row, width);
+		}
+	}
+
+	/** One dimensional squared distance transform of f into d, the lower envelope of the parabolas rooted at each value. */
+	static private void distanceTransform (float[] f, float[] d, int[] v, float[] z, int n) {
+		int k = 0;
+		v[0] = 0;
+		z[0] = -INFINITY;
+		z[1] = INFINITY;
+		for (int q = 1; q < n; q++) {
+			int p = v[k];
+			float s = ((f[q] + q * q) - (f[p] + p * p)) / (2 * q - 2 * p);
+			while (s <= z[k]) {
+				k--;
+				p = v[k];
+				s = ((f[q] + q * q) - (f[p] + p * p)) / (2 * q - 2 * p);
+			}
+			k++;
+			v[k] = q;
+			z[k] = s;
+			z[k + 1] = INFINITY;
+		}
+		k = 0;
+		for (int q = 0; q < n; q++) {
+			while (z[k + 1] < q)
+				k++;
+			int p = v[k];
+			d[q] = (q - p) * (q - p) + f[p];
+		}
+	}
+
 	public String toString () {
 		return name;
 	}
@@ -783,5 +959,14 @@ public class FreeTypeFontGenerator implements Disposable {
 		 * modified after creating a font. If a PixmapPacker is not specified, the font glyph page textures will use
 		 * {@link FreeTypeFontGenerator#getMaxTextureSize()}. */
 		public boolean incremental;
+		/** If > 0, glyphs are stored as a signed distance field spreading this many pixels around the outline, and
+		 * {@link FreeTypeFontGenerator#generateFont(FreeTypeFontParameter)} returns a {@link DistanceFieldFont}. The font can then
+		 * be scaled to any size with little loss in quality, so one font can replace fonts generated for many sizes. Use
+		 * {@link TextureFilter#Linear} filters and the {@link DistanceFieldFont#createDistanceFieldShader() distance field
+		 * shader}. Border, shadow, padding and mono are ignored. */
+		public int distanceFieldSpread;
+		/** How much larger than {@link #size} glyphs are rendered to compute the distance field. Higher values are more precise
+		 * but slower. */
+		public int distanceFieldUpscale = 4;
 	}
 }
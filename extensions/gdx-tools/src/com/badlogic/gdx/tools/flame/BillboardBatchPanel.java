@@ -38,7 +38,8 @@ public class BillboardBatchPanel extends EditorPanel<BillboardParticleBatch> {
 	
 	private enum SortMode{
 		None( "None", new ParticleSorter.None()),
-		Distance("Distance", new ParticleSorter.Distance());
+		Distance("Distance", new ParticleSorter.Distance()),
+		Incremental("Incremental", new ParticleSorter.Incremental());
 		
 		public String desc;
 		public ParticleSorter sorter;
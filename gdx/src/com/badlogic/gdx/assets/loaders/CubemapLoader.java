@@ -27,6 +27,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.CompressedTextureData;
 import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.utils.Array;
 
@@ -61,7 +62,9 @@ public class CubemapLoader extends AsynchronousAssetLoader<Cubemap, CubemapLoade
 				info.cubemap = parameter.cubemap;
 			}
 
-			if (fileName.contains(".ktx") || fileName.contains(".zktx")) {
+			if (fileName.contains(".ktx2") || fileName.contains(".dds")) {
+				info.data = new CompressedTextureData(file, genMipMaps);
+			} else if (fileName.contains(".ktx") || fileName.contains(".zktx")) {
 				info.data = new KTXTextureData(file, genMipMaps);
 			}
 		} else {
@@ -31,6 +31,7 @@ import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
 import com.badlogic.gdx.graphics.glutils.InstanceData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
@@ -68,7 +69,9 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com>, Xoppa */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO,
+		/** Vertices that are replaced before every draw, see {@link StreamingVertexBufferObject}. */
+		VertexBufferObjectStreaming
 	}
 
 	/** list of all meshes **/
@@ -182,6 +185,11 @@ public class Mesh implements Disposable {
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
 			break;
+		case VertexBufferObjectStreaming:
+			vertices = new StreamingVertexBufferObject(maxVertices, attributes);
+			indices = new IndexBufferObject(isStatic, maxIndices);
+			isVertexArray = false;
+			break;
 		case VertexArray:
 		default:
 			vertices = new VertexArray(maxVertices, attributes);
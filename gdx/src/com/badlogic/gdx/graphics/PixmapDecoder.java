@@ -0,0 +1,532 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Decodes images to {@link Pixmap Pixmaps} on a pool of threads, e.g. for texture packers, thumbnail servers or loading many
+ * images at once.
+ * <p>
+ * PNG (all color types, bit depths and interlacing) and TGA (true color and grayscale, uncompressed or RLE) images are decoded
+ * in Java, writing each row directly in the requested format so no second pass over the pixmap is needed. Other images, like
+ * JPEG, are decoded by the native decoder used by {@link Pixmap#Pixmap(FileHandle)} and then converted if needed. Files are
+ * memory mapped when possible. */
+public class PixmapDecoder implements Disposable {
+	static private final byte[] PNG_SIGNATURE = {(byte)137, 80, 78, 71, 13, 10, 26, 10};
+	static private final int IHDR = 0x49484452, PLTE = 0x504c5445, TRNS = 0x74524e53, IDAT = 0x49444154, IEND = 0x49454e44;
+	static private final int[] ADAM7_X = {0, 4, 0, 2, 0, 1, 0}, ADAM7_Y = {0, 0, 4, 0, 2, 0, 1};
+	static private final int[] ADAM7_DX = {8, 8, 4, 4, 2, 2, 1}, ADAM7_DY = {8, 8, 8, 4, 4, 2, 2};
+
+	private final AsyncExecutor executor;
+
+	/** Creates a decoder with a thread per processor. */
+	public PixmapDecoder () {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public PixmapDecoder (int threads) {
+		executor = new AsyncExecutor(threads, "PixmapDecoder");
+	}
+
+	/** Decodes the image on one of the decoder's threads.
+	 * @param format The format of the pixmap, or null for RGBA8888 if the image has transparency and RGB888 otherwise. */
+	public AsyncResult<Pixmap> decode (final FileHandle file, final Format format) {
+		return executor.submit(new AsyncTask<Pixmap>() {
+			public Pixmap call () {
+				return decodeNow(file, format);
+			}
+		});
+	}
+
+	/** Decodes the images in parallel and waits for all of them.
+	 * @param format See {@link #decode(FileHandle, Format)}.
+	 * @throws GdxRuntimeException if an image could not be decoded, after disposing the decoded pixmaps. */
+	public Pixmap[] decodeAll (FileHandle[] files, Format format) {
+		AsyncResult<Pixmap>[] results = new AsyncResult[files.length];
+		for (int i = 0; i < files.length; i++)
+			results[i] = decode(files[i], format);
+		Pixmap[] pixmaps = new Pixmap[files.length];
+		GdxRuntimeException error = null;
+		for (int i = 0; i < files.length; i++) {
+			try {
+				pixmaps[i] = results[i].get();
+			} catch (GdxRuntimeException ex) {
+				if (error == null) error = ex;
+			}
+		}
+		if (error != null) {
+			for (int i = 0; i < pixmaps.length; i++)
+				if (pixmaps[i] != null) pixmaps[i].dispose();
+			throw error;
+		}
+		return pixmaps;
+	}
+
+	/** Waits for decoding in progress, then stops the threads. */
+	public void dispose () {
+		executor.dispose();
+	}
+
+	/** Decodes the image on the calling thread.
+	 * @param format See {@link #decode(FileHandle, Format)}. */
+	static public Pixmap decodeNow (FileHandle file, Format format) {
+		ByteBuffer data;
+		try {
+			data = file.map();
+		} catch (GdxRuntimeException ex) {
+			data = ByteBuffer.wrap(file.readBytes());
+		}
+		try {
+			return decodeNow(data, format, file.extension());
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Couldn't decode image: " + file, ex);
+		}
+	}
+
+	/** Decodes the image on the calling thread.
+	 * @param format See {@link #decode(FileHandle, Format)}.
+	 * @param extension The file extension, used to recognize TGA images. May be null. */
+	static public Pixmap decodeNow (ByteBuffer data, Format format, String extension) {
+		PixmapTarget target = new PixmapTarget(format);
+		try {
+			if (isPNG(data))
+				decodePNG(data, target);
+			else if ("tga".equalsIgnoreCase(extension))
+				decodeTGA(data, target);
+			else {
+				byte[] bytes;
+				int offset = 0, length = data.remaining();
+				if (data.hasArray()) {
+					bytes = data.array();
+					offset = data.arrayOffset() + data.position();
+				} else {
+					bytes = new byte[length];
+					data.duplicate().get(bytes);
+				}
+				Pixmap pixmap = new Pixmap(bytes, offset, length);
+				if (format == null || pixmap.getFormat() == format) return pixmap;
+				try {
+					return PixmapOps.convert(pixmap, format);
+				} finally {
+					pixmap.dispose();
+				}
+			}
+		} catch (RuntimeException ex) {
+			// The pixmap is created once the header was read, the image data may still be invalid.
+			if (target.pixmap != null) target.pixmap.dispose();
+			throw ex;
+		}
+		return target.pixmap;
+	}
+
+	static boolean isPNG (ByteBuffer data) {
+		if (data.remaining() < PNG_SIGNATURE.length) return false;
+		for (int i = 0; i < PNG_SIGNATURE.length; i++)
+			if (data.get(data.position() + i) != PNG_SIGNATURE[i]) return false;
+		return true;
+	}
+
+	/** Creates the pixel buffer once the size of the image is known. */
+	static abstract class Target {
+		Format format;
+
+		Target (Format format) {
+			this.format = format;
+		}
+
+		/** @param alpha Whether the image has transparency, used when no format was specified. */
+		ByteBuffer create (int width, int height, boolean alpha) {
+			if (format == null) format = alpha ? Format.RGBA8888 : Format.RGB888;
+			return create(width, height);
+		}
+
+		abstract ByteBuffer create (int width, int height);
+	}
+
+	static class PixmapTarget extends Target {
+		Pixmap pixmap;
+
+		PixmapTarget (Format format) {
+			super(format);
+		}
+
+		ByteBuffer create (int width, int height) {
+			pixmap = new Pixmap(width, height, format);
+			return pixmap.getPixels();
+		}
+	}
+
+	static void decodePNG (ByteBuffer data, Target target) {
+		data = data.duplicate();
+		data.order(java.nio.ByteOrder.BIG_ENDIAN);
+		data.position(data.position() + PNG_SIGNATURE.length);
+
+		int width = 0, height = 0, bitDepth = 0, colorType = 0, interlace = 0;
+		int[] palette = null;
+		int transparentGray = -1, transparentRGB = -1;
+		int paletteSize = 0;
+		Inflater inflater = new Inflater();
+		try {
+			// Read the chunks before the image data.
+			int type, length;
+			while (true) {
+				length = data.getInt();
+				type = data.getInt();
+				if (type == IDAT) break;
+				int next = data.position() + length + 4; // Skip the CRC.
+				switch (type) {
+				case IHDR:
+					width = data.getInt();
+					height = data.getInt();
+					bitDepth = data.get() & 0xff;
+					colorType = data.get() & 0xff;
+					data.get(); // Compression.
+					data.get(); // Filter.
+					interlace = data.get() & 0xff;
+					break;
+				case PLTE:
+					palette = new int[256];
+					paletteSize = Math.min(256, length / 3);
+					for (int i = 0; i < paletteSize; i++)
+						palette[i] = (data.get() & 0xff) << 24 | (data.get() & 0xff) << 16 | (data.get() & 0xff) << 8 | 0xff;
+					break;
+				case TRNS:
+					if (colorType == 3) {
+						if (palette == null) throw new GdxRuntimeException("PNG transparency precedes the palette.");
+						for (int i = 0, n = Math.min(length, 256); i < n; i++)
+							palette[i] = (palette[i] & 0xffffff00) | (data.get() & 0xff);
+					} else if (colorType == 0)
+						transparentGray = data.getShort() & 0xffff;
+					else if (colorType == 2) {
+						// Compared to 8 bit samples, using the high byte of 16 bit samples.
+						int shift = bitDepth == 16 ? 8 : 0;
+						int r = (data.getShort() & 0xffff) >>> shift, g = (data.getShort() & 0xffff) >>> shift;
+						transparentRGB = r << 16 | g << 8 | (data.getShort() & 0xffff) >>> shift;
+					}
+					break;
+				case IEND:
+					throw new GdxRuntimeException("PNG has no image data.");
+				}
+				data.position(next);
+			}
+			if (width <= 0 || height <= 0) throw new GdxRuntimeException("Invalid PNG size: " + width + "x" + height);
+			if (colorType == 3 && palette == null) throw new GdxRuntimeException("PNG has no palette.");
+
+			int channels;
+			switch (colorType) {
+			case 0:
+				channels = 1;
+				break;
+			case 2:
+				channels = 3;
+				break;
+			case 3:
+				channels = 1;
+				break;
+			case 4:
+				channels = 2;
+				break;
+			case 6:
+				channels = 4;
+				break;
+			default:
+				throw new GdxRuntimeException("Invalid PNG color type: " + colorType);
+			}
+			boolean alpha = colorType == 4 || colorType == 6 || transparentGray != -1 || transparentRGB != -1;
+			if (colorType == 3) {
+				for (int i = 0; i < paletteSize; i++)
+					if ((palette[i] & 0xff) != 0xff) alpha = true;
+			}
+			int bitsPerPixel = channels * bitDepth;
+			int bytesPerPixel = Math.max(1, bitsPerPixel / 8);
+			ByteBuffer pixels = target.create(width, height, alpha);
+			Format format = target.format;
+
+			IdatInput input = new IdatInput(data, length, inflater);
+			int[] row = new int[width];
+			byte[] curLine = new byte[(width * bitsPerPixel + 7) / 8 + 1], prevLine = new byte[curLine.length];
+			if (interlace == 0) {
+				for (int y = 0; y < height; y++) {
+					input.readLine(curLine, curLine.length);
+					unfilter(curLine, prevLine, curLine.length, bytesPerPixel);
+					toRGBA8888(curLine, row, width, colorType, bitDepth, palette, transparentGray, transparentRGB);
+					PixmapOps.writeRow(pixels, format, width, y, row);
+					byte[] temp = curLine;
+					curLine = prevLine;
+					prevLine = temp;
+				}
+			} else {
+				// Collect the passes in a full image, then write the rows.
+				int[] image = new int[width * height];
+				for (int pass = 0; pass < 7; pass++) {
+					int passWidth = (width - ADAM7_X[pass] + ADAM7_DX[pass] - 1) / ADAM7_DX[pass];
+					int passHeight = (height - ADAM7_Y[pass] + ADAM7_DY[pass] - 1) / ADAM7_DY[pass];
+					if (passWidth <= 0 || passHeight <= 0) continue;
+					int lineLength = (passWidth * bitsPerPixel + 7) / 8 + 1;
+					for (int i = 0; i < lineLength; i++)
+						prevLine[i] = 0;
+					for (int py = 0; py < passHeight; py++) {
+						input.readLine(curLine, lineLength);
+						unfilter(curLine, prevLine, lineLength, bytesPerPixel);
+						toRGBA8888(curLine, row, passWidth, colorType, bitDepth, palette, transparentGray, transparentRGB);
+						int y = ADAM7_Y[pass] + py * ADAM7_DY[pass];
+						for (int px = 0, x = ADAM7_X[pass]; px < passWidth; px++, x += ADAM7_DX[pass])
+							image[y * width + x] = row[px];
+						byte[] temp = curLine;
+						curLine = prevLine;
+						prevLine = temp;
+					}
+				}
+				for (int y = 0; y < height; y++) {
+					System.arraycopy(image, y * width, row, 0, width);
+					PixmapOps.writeRow(pixels, format, width, y, row);
+				}
+			}
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/** Inflates the image data, reading the IDAT chunks as they are needed. */
+	static private class IdatInput {
+		final ByteBuffer data;
+		final Inflater inflater;
+		final byte[] chunk = new byte[8192];
+		int remaining;
+
+		IdatInput (ByteBuffer data, int length, Inflater inflater) {
+			this.data = data;
+			this.inflater = inflater;
+			remaining = length;
+		}
+
+		void readLine (byte[] line, int length) {
+			int offset = 0;
+			try {
+				while (offset < length) {
+					int count = inflater.inflate(line, offset, length - offset);
+					offset += count;
+					if (count > 0) continue;
+					if (inflater.finished() || inflater.needsDictionary())
+						throw new GdxRuntimeException("PNG image data is truncated.");
+					if (inflater.needsInput()) feed();
+				}
+			} catch (DataFormatException ex) {
+				throw new GdxRuntimeException("Invalid PNG image data.", ex);
+			}
+		}
+
+		private void feed () {
+			while (remaining == 0) {
+				data.getInt(); // CRC of the previous chunk.
+				remaining = data.getInt();
+				if (data.getInt() != IDAT) throw new GdxRuntimeException("PNG image data is truncated.");
+			}
+			int count = Math.min(remaining, chunk.length);
+			data.get(chunk, 0, count);
+			remaining -= count;
+			inflater.setInput(chunk, 0, count);
+		}
+	}
+
+	/** Reverses the PNG filter of a line, whose first byte is the filter type. */
+	static private void unfilter (byte[] line, byte[] prevLine, int length, int bpp) {
+		int type = line[0];
+		switch (type) {
+		case 0:
+			break;
+		case 1: // Sub
+			for (int i = 1 + bpp; i < length; i++)
+				line[i] += line[i - bpp];
+			break;
+		case 2: // Up
+			for (int i = 1; i < length; i++)
+				line[i] += prevLine[i];
+			break;
+		case 3: // Average
+			for (int i = 1; i < length; i++) {
+				int left = i > bpp ? line[i - bpp] & 0xff : 0;
+				line[i] += (left + (prevLine[i] & 0xff)) >>> 1;
+			}
+			break;
+		case 4: // Paeth
+			for (int i = 1; i < length; i++) {
+				int a = i > bpp ? line[i - bpp] & 0xff : 0;
+				int b = prevLine[i] & 0xff;
+				int c = i > bpp ? prevLine[i - bpp] & 0xff : 0;
+				int p = a + b - c;
+				int pa = Math.abs(p - a), pb = Math.abs(p - b), pc = Math.abs(p - c);
+				if (pa <= pb && pa <= pc)
+					c = a;
+				else if (pb <= pc) //
+					c = b;
+				line[i] += c;
+			}
+			break;
+		default:
+			throw new GdxRuntimeException("Invalid PNG filter type: " + type);
+		}
+	}
+
+	/** Converts an unfiltered line, starting after the filter type byte, to RGBA8888. */
+	static private void toRGBA8888 (byte[] line, int[] row, int width, int colorType, int bitDepth, int[] palette,
+		int transparentGray, int transparentRGB) {
+		switch (colorType) {
+		case 0: // Gray
+		case 3: { // Palette
+			int max = (1 << bitDepth) - 1;
+			for (int x = 0; x < width; x++) {
+				int value, sample;
+				if (bitDepth == 16) {
+					sample = (line[1 + x * 2] & 0xff) << 8 | (line[2 + x * 2] & 0xff);
+					value = sample >>> 8;
+				} else if (bitDepth == 8)
+					value = sample = line[1 + x] & 0xff;
+				else {
+					int bit = x * bitDepth;
+					sample = ((line[1 + (bit >>> 3)] & 0xff) >>> (8 - bitDepth - (bit & 7))) & max;
+					value = sample * 255 / max;
+				}
+				if (colorType == 3)
+					row[x] = palette[sample];
+				else
+					row[x] = value << 24 | value << 16 | value << 8 | (sample == transparentGray ? 0 : 0xff);
+			}
+			break;
+		}
+		case 2: // RGB
+			for (int x = 0; x < width; x++) {
+				int r, g, b;
+				if (bitDepth == 16) {
+					int i = 1 + x * 6;
+					r = line[i] & 0xff;
+					g = line[i + 2] & 0xff;
+					b = line[i + 4] & 0xff;
+				} else {
+					int i = 1 + x * 3;
+					r = line[i] & 0xff;
+					g = line[i + 1] & 0xff;
+					b = line[i + 2] & 0xff;
+				}
+				row[x] = r << 24 | g << 16 | b << 8 | ((r << 16 | g << 8 | b) == transparentRGB ? 0 : 0xff);
+			}
+			break;
+		case 4: // Gray and alpha
+			for (int x = 0; x < width; x++) {
+				int i = 1 + x * (bitDepth == 16 ? 4 : 2);
+				int value = line[i] & 0xff, a = line[i + (bitDepth == 16 ? 2 : 1)] & 0xff;
+				row[x] = value << 24 | value << 16 | value << 8 | a;
+			}
+			break;
+		case 6: // RGBA
+			if (bitDepth == 16) {
+				for (int x = 0, i = 1; x < width; x++, i += 8)
+					row[x] = (line[i] & 0xff) << 24 | (line[i + 2] & 0xff) << 16 | (line[i + 4] & 0xff) << 8 | (line[i + 6] & 0xff);
+			} else {
+				for (int x = 0, i = 1; x < width; x++, i += 4)
+					row[x] = (line[i] & 0xff) << 24 | (line[i + 1] & 0xff) << 16 | (line[i + 2] & 0xff) << 8 | (line[i + 3] & 0xff);
+			}
+			break;
+		}
+	}
+
+	static void decodeTGA (ByteBuffer data, Target target) {
+		data = data.duplicate();
+		data.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		int start = data.position();
+		int idLength = data.get() & 0xff;
+		int colorMapType = data.get() & 0xff;
+		int imageType = data.get() & 0xff;
+		data.getShort(); // Color map start.
+		int colorMapLength = data.getShort() & 0xffff;
+		int colorMapBits = data.get() & 0xff;
+		data.getShort(); // X origin.
+		data.getShort(); // Y origin.
+		int width = data.getShort() & 0xffff, height = data.getShort() & 0xffff;
+		int bitsPerPixel = data.get() & 0xff;
+		int descriptor = data.get() & 0xff;
+		data.position(start + 18 + idLength + (colorMapType == 1 ? colorMapLength * ((colorMapBits + 7) / 8) : 0));
+
+		boolean gray = imageType == 3 || imageType == 11, rle = imageType == 10 || imageType == 11;
+		if (imageType != 2 && imageType != 3 && imageType != 10 && imageType != 11)
+			throw new GdxRuntimeException("Unsupported TGA image type: " + imageType);
+		if (gray ? bitsPerPixel != 8 : bitsPerPixel != 16 && bitsPerPixel != 24 && bitsPerPixel != 32)
+			throw new GdxRuntimeException("Unsupported TGA bits per pixel: " + bitsPerPixel);
+		if (width <= 0 || height <= 0) throw new GdxRuntimeException("Invalid TGA size: " + width + "x" + height);
+
+		boolean alpha = bitsPerPixel == 32 || (bitsPerPixel == 16 && (descriptor & 0xf) != 0);
+		ByteBuffer pixels = target.create(width, height, alpha);
+		Format format = target.format;
+		boolean topToBottom = (descriptor & 0x20) != 0, rightToLeft = (descriptor & 0x10) != 0;
+
+		int[] row = new int[width];
+		int packetCount = 0, packetPixel = 0;
+		boolean packetRepeat = false;
+		for (int line = 0; line < height; line++) {
+			for (int x = 0; x < width; x++) {
+				int pixel;
+				if (!rle)
+					pixel = readTGAPixel(data, bitsPerPixel, alpha);
+				else {
+					if (packetCount == 0) {
+						int header = data.get() & 0xff;
+						packetCount = (header & 0x7f) + 1;
+						packetRepeat = (header & 0x80) != 0;
+						if (packetRepeat) packetPixel = readTGAPixel(data, bitsPerPixel, alpha);
+					}
+					pixel = packetRepeat ? packetPixel : readTGAPixel(data, bitsPerPixel, alpha);
+					packetCount--;
+				}
+				row[rightToLeft ? width - x - 1 : x] = pixel;
+			}
+			PixmapOps.writeRow(pixels, format, width, topToBottom ? line : height - line - 1, row);
+		}
+	}
+
+	static private int readTGAPixel (ByteBuffer data, int bitsPerPixel, boolean alpha) {
+		switch (bitsPerPixel) {
+		case 8: {
+			int value = data.get() & 0xff;
+			return value << 24 | value << 16 | value << 8 | 0xff;
+		}
+		case 16: {
+			int value = data.getShort() & 0xffff;
+			int r = (value >>> 10) & 0x1f, g = (value >>> 5) & 0x1f, b = value & 0x1f;
+			int a = alpha && (value & 0x8000) == 0 ? 0 : 0xff;
+			return ((r << 3) | (r >>> 2)) << 24 | ((g << 3) | (g >>> 2)) << 16 | ((b << 3) | (b >>> 2)) << 8 | a;
+		}
+		case 24: {
+			int b = data.get() & 0xff, g = data.get() & 0xff, r = data.get() & 0xff;
+			return r << 24 | g << 16 | b << 8 | 0xff;
+		}
+		default: {
+			int b = data.get() & 0xff, g = data.get() & 0xff, r = data.get() & 0xff, a = data.get() & 0xff;
+			return r << 24 | g << 16 | b << 8 | a;
+		}
+		}
+	}
+}
@@ -23,6 +23,8 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Adler32;
 import java.util.zip.CRC32;
 import java.util.zip.CheckedOutputStream;
 import java.util.zip.Deflater;
@@ -31,10 +33,13 @@ import java.util.zip.InflaterInputStream;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap.Format;
-import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Writes Pixmaps to various formats.
  * @author mzechner
@@ -191,13 +196,25 @@ public class PixmapIO {
 		static private final byte COMPRESSION_DEFLATE = 0;
 		static private final byte FILTER_NONE = 0;
 		static private final byte INTERLACE_NONE = 0;
-		static private final byte PAETH = 4;
+		/** The minimum number of bytes of pixels compressed by a thread. */
+		static private final int MIN_BAND_BYTES = 256 * 1024;
+
+		/** Filters applied to each row before compression, see {@link PNG#setFilter(RowFilter)}. */
+		public enum RowFilter {
+			None, Sub, Up, Average, Paeth,
+			/** Tries all filters for each row and uses the one with the smallest sum of absolute differences. Compresses best for
+			 * most images, but filtering takes about 5 times longer. */
+			Adaptive
+		}
 
 		private final ChunkBuffer buffer;
 		private final Deflater deflater;
-		private ByteArray lineOutBytes, curLineBytes, prevLineBytes;
+		private final Array<Band> bands = new Array();
 		private boolean flipY = true;
-		private int lastLineLen;
+		private RowFilter filter = RowFilter.Paeth;
+		private int compression = Deflater.DEFAULT_COMPRESSION, strategy = Deflater.DEFAULT_STRATEGY;
+		private int threads = 1;
+		private AsyncExecutor executor;
 
 		public PNG () {
 			this(128 * 128);
@@ -206,6 +223,7 @@ public class PixmapIO {
 		public PNG (int initialBufferSize) {
 			buffer = new ChunkBuffer(initialBufferSize);
 			deflater = new Deflater();
+			bands.add(new Band());
 		}
 
 		/** If true, the resulting PNG is flipped vertically. Default is true. */
@@ -213,9 +231,36 @@ public class PixmapIO {
 			this.flipY = flipY;
 		}
 
-		/** Sets the deflate compression level. Default is {@link Deflater#DEFAULT_COMPRESSION}. */
+		/** Sets the deflate compression level. Default is {@link Deflater#DEFAULT_COMPRESSION}. {@link Deflater#NO_COMPRESSION}
+		 * with {@link RowFilter#None} stores the pixels uncompressed, which is fastest, e.g. for screenshots. */
 		public void setCompression (int level) {
 			deflater.setLevel(level);
+			compression = level;
+		}
+
+		/** Sets the deflate strategy. Default is {@link Deflater#DEFAULT_STRATEGY}. {@link Deflater#HUFFMAN_ONLY} with
+		 * {@link RowFilter#Sub} compresses much faster than the default, at the cost of larger files. */
+		public void setStrategy (int strategy) {
+			deflater.setStrategy(strategy);
+			this.strategy = strategy;
+		}
+
+		/** Sets the filter applied to each row before compression. Default is {@link RowFilter#Paeth}. */
+		public void setFilter (RowFilter filter) {
+			if (filter == null) throw new IllegalArgumentException("filter cannot be null.");
+			this.filter = filter;
+		}
+
+		/** Sets the number of threads used to compress large images. The rows are split into bands that are compressed separately
+		 * and joined with sync flushes, which makes the file slightly larger. Requires Java 7 or Android API level 19 when more
+		 * than 1. Default is 1. */
+		public void setThreads (int threads) {
+			if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+			this.threads = threads;
+			if (executor != null) {
+				executor.dispose();
+				executor = null;
+			}
 		}
 
 		public void write (FileHandle file, Pixmap pixmap) throws IOException {
@@ -229,13 +274,16 @@ public class PixmapIO {
 
 		/** Writes the pixmap to the stream without closing the stream. */
 		public void write (OutputStream output, Pixmap pixmap) throws IOException {
-			DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(buffer, deflater);
+			write(output, pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight());
+		}
+
+		void write (OutputStream output, ByteBuffer pixels, Format format, int width, int height) throws IOException {
 			DataOutputStream dataOutput = new DataOutputStream(output);
 			dataOutput.write(SIGNATURE);
 
 			buffer.writeInt(IHDR);
-			buffer.writeInt(pixmap.getWidth());
-			buffer.writeInt(pixmap.getHeight());
+			buffer.writeInt(width);
+			buffer.writeInt(height);
 			buffer.writeByte(8); // 8 bits per component.
 			buffer.writeByte(COLOR_ARGB);
 			buffer.writeByte(COMPRESSION_DEFLATE);
@@ -244,73 +292,15 @@ public class PixmapIO {
 			buffer.endChunk(dataOutput);
 
 			buffer.writeInt(IDAT);
-			deflater.reset();
-
-			int lineLen = pixmap.getWidth() * 4;
-			byte[] lineOut, curLine, prevLine;
-			if (lineOutBytes == null) {
-				lineOut = (lineOutBytes = new ByteArray(lineLen)).items;
-				curLine = (curLineBytes = new ByteArray(lineLen)).items;
-				prevLine = (prevLineBytes = new ByteArray(lineLen)).items;
-			} else {
-				lineOut = lineOutBytes.ensureCapacity(lineLen);
-				curLine = curLineBytes.ensureCapacity(lineLen);
-				prevLine = prevLineBytes.ensureCapacity(lineLen);
-				for (int i = 0, n = lastLineLen; i < n; i++)
-					prevLine[i] = 0;
-			}
-			lastLineLen = lineLen;
-
-			ByteBuffer pixels = pixmap.getPixels();
-			int oldPosition = pixels.position();
-			boolean rgba8888 = pixmap.getFormat() == Format.RGBA8888;
-			for (int y = 0, h = pixmap.getHeight(); y < h; y++) {
-				int py = flipY ? (h - y - 1) : y;
-				if (rgba8888) {
-					pixels.position(py * lineLen);
-					pixels.get(curLine, 0, lineLen);
-				} else {
-					for (int px = 0, x = 0; px < pixmap.getWidth(); px++) {
-						int pixel = pixmap.getPixel(px, py);
-						curLine[x++] = (byte)((pixel >> 24) & 0xff);
-						curLine[x++] = (byte)((pixel >> 16) & 0xff);
-						curLine[x++] = (byte)((pixel >> 8) & 0xff);
-						curLine[x++] = (byte)(pixel & 0xff);
-					}
-				}
-
-				lineOut[0] = (byte)(curLine[0] - prevLine[0]);
-				lineOut[1] = (byte)(curLine[1] - prevLine[1]);
-				lineOut[2] = (byte)(curLine[2] - prevLine[2]);
-				lineOut[3] = (byte)(curLine[3] - prevLine[3]);
-
-				for (int x = 4; x < lineLen; x++) {
-					int a = curLine[x - 4] & 0xff;
-					int b = prevLine[x] & 0xff;
-					int c = prevLine[x - 4] & 0xff;
-					int p = a + b - c;
-					int pa = p - a;
-					if (pa < 0) pa = -pa;
-					int pb = p - b;
-					if (pb < 0) pb = -pb;
-					int pc = p - c;
-					if (pc < 0) pc = -pc;
-					if (pa <= pb && pa <= pc)
-						c = a;
-					else if (pb <= pc) //
-						c = b;
-					lineOut[x] = (byte)(curLine[x] - c);
-				}
-
-				deflaterOutput.write(PAETH);
-				deflaterOutput.write(lineOut, 0, lineLen);
-
-				byte[] temp = curLine;
-				curLine = prevLine;
-				prevLine = temp;
+			int bandCount = (int)Math.min(Math.min(threads, height), Math.max(1, (long)width * 4 * height / MIN_BAND_BYTES));
+			if (bandCount > 1)
+				writeBands(pixels, format, width, height, bandCount);
+			else {
+				deflater.reset();
+				DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(buffer, deflater);
+				bands.first().filterRows(pixels.duplicate(), format, width, height, flipY, filter, 0, height, deflaterOutput);
+				deflaterOutput.finish();
 			}
-			pixels.position(oldPosition);
-			deflaterOutput.finish();
 			buffer.endChunk(dataOutput);
 
 			buffer.writeInt(IEND);
@@ -319,10 +309,239 @@ public class PixmapIO {
 			output.flush();
 		}
 
+		/** Compresses bands of rows in parallel to separate raw deflate streams and joins them to a single zlib stream. */
+		private void writeBands (final ByteBuffer pixels, final Format format, final int width, final int height, int bandCount)
+			throws IOException {
+			if (executor == null) executor = new AsyncExecutor(threads, "PNG");
+			while (bands.size < bandCount)
+				bands.add(new Band());
+			AsyncResult[] results = new AsyncResult[bandCount];
+			for (int i = 0; i < bandCount; i++) {
+				final Band band = bands.get(i);
+				final int start = (int)((long)height * i / bandCount), end = (int)((long)height * (i + 1) / bandCount);
+				final boolean last = i == bandCount - 1;
+				results[i] = executor.submit(new AsyncTask<Void>() {
+					public Void call () throws Exception {
+						band.deflate(pixels.duplicate(), format, width, height, flipY, filter, start, end, compression, strategy, last);
+						return null;
+					}
+				});
+			}
+			for (int i = 0; i < bandCount; i++)
+				results[i].get();
+
+			// zlib header with the compression level, then the deflate streams and the checksum of all the uncompressed data.
+			int level = compression == Deflater.DEFAULT_COMPRESSION ? 6 : compression;
+			int flags = (level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3) << 6;
+			flags += 31 - (0x7800 + flags) % 31;
+			buffer.writeByte(0x78);
+			buffer.writeByte(flags);
+			long adler = 1;
+			for (int i = 0; i < bandCount; i++) {
+				Band band = bands.get(i);
+				band.output.writeTo(buffer);
+				adler = adler32Combine(adler, band.adler.getValue(), band.length);
+			}
+			buffer.writeInt((int)adler);
+		}
+
+		/** Returns the Adler-32 checksum of two sequences of bytes from their checksums, as zlib's adler32_combine.
+		 * @param length2 The length of the second sequence. */
+		static long adler32Combine (long adler1, long adler2, long length2) {
+			final long base = 65521;
+			long remainder = length2 % base;
+			long sum1 = adler1 & 0xffff;
+			long sum2 = (remainder * sum1) % base;
+			sum1 += (adler2 & 0xffff) + base - 1;
+			sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + base - remainder;
+			if (sum1 >= base) sum1 -= base;
+			if (sum1 >= base) sum1 -= base;
+			if (sum2 >= base << 1) sum2 -= base << 1;
+			if (sum2 >= base) sum2 -= base;
+			return sum1 | (sum2 << 16);
+		}
+
 		/** Disposal will happen automatically in {@link #finalize()} but can be done explicitly if desired. */
 		@SuppressWarnings("javadoc")
 		public void dispose () {
 			deflater.end();
+			for (int i = 0, n = bands.size; i < n; i++)
+				if (bands.get(i).deflater != null) bands.get(i).deflater.end();
+			if (executor != null) {
+				executor.dispose();
+				executor = null;
+			}
+		}
+
+		/** Filters and compresses a range of rows. */
+		static class Band {
+			byte[] curLine, prevLine, lineOut, bestLineOut;
+			int[] row;
+			Deflater deflater;
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final Adler32 adler = new Adler32();
+			long length;
+
+			/** Compresses the rows to a raw deflate stream in {@link #output}, ending with a sync flush unless it is the last band. */
+			void deflate (ByteBuffer pixels, Format format, int width, int height, boolean flipY, RowFilter filter, int start,
+				int end, int compression, int strategy, boolean last) throws IOException {
+				output.reset();
+				adler.reset();
+				length = 0;
+				if (deflater == null)
+					deflater = new Deflater(compression, true);
+				else {
+					deflater.reset();
+					deflater.setLevel(compression);
+				}
+				deflater.setStrategy(strategy);
+				DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(output, deflater, 8192, !last);
+				filterRows(pixels, format, width, height, flipY, filter, start, end, deflaterOutput);
+				if (last)
+					deflaterOutput.finish();
+				else
+					deflaterOutput.flush();
+			}
+
+			void filterRows (ByteBuffer pixels, Format format, int width, int height, boolean flipY, RowFilter filter, int start,
+				int end, OutputStream output) throws IOException {
+				int lineLen = width * 4;
+				if (curLine == null || curLine.length < lineLen) {
+					curLine = new byte[lineLen];
+					prevLine = new byte[lineLen];
+					lineOut = new byte[lineLen];
+					bestLineOut = new byte[lineLen];
+				}
+				byte[] curLine = this.curLine, prevLine = this.prevLine, lineOut = this.lineOut;
+
+				// The first row of a band is filtered with the last row of the previous band.
+				if (start > 0)
+					readLine(pixels, format, width, flipY ? height - start : start - 1, prevLine);
+				else
+					Arrays.fill(prevLine, 0, lineLen, (byte)0);
+
+				for (int y = start; y < end; y++) {
+					readLine(pixels, format, width, flipY ? height - y - 1 : y, curLine);
+
+					int type;
+					byte[] out = lineOut;
+					if (filter == RowFilter.Adaptive) {
+						type = 0;
+						out = curLine;
+						long bestCost = cost(curLine, lineLen);
+						byte[] best = bestLineOut;
+						for (int t = 1; t < 5; t++) {
+							filter(t, curLine, prevLine, lineOut, lineLen);
+							long cost = cost(lineOut, lineLen);
+							if (cost < bestCost) {
+								bestCost = cost;
+								type = t;
+								// Keep the best output, filter the next type into the other array.
+								byte[] temp = lineOut;
+								lineOut = best;
+								best = temp;
+								out = temp;
+							}
+						}
+						this.lineOut = lineOut;
+						bestLineOut = best;
+					} else {
+						type = filter.ordinal();
+						if (type == 0)
+							out = curLine;
+						else
+							filter(type, curLine, prevLine, lineOut, lineLen);
+					}
+
+					output.write(type);
+					output.write(out, 0, lineLen);
+					if (deflater != null) {
+						adler.update(type);
+						adler.update(out, 0, lineLen);
+						length += lineLen + 1;
+					}
+
+					byte[] temp = curLine;
+					curLine = prevLine;
+					prevLine = temp;
+				}
+				this.curLine = curLine;
+				this.prevLine = prevLine;
+			}
+
+			/** Reads a row of the image as RGBA8888 bytes, copying them directly for RGBA8888 pixmaps. */
+			private void readLine (ByteBuffer pixels, Format format, int width, int y, byte[] line) {
+				if (format == Format.RGBA8888) {
+					pixels.position(y * width * 4);
+					pixels.get(line, 0, width * 4);
+					return;
+				}
+				if (row == null || row.length < width) row = new int[width];
+				int[] row = this.row;
+				PixmapOps.readRow(pixels, format, width, y, row);
+				for (int x = 0, i = 0; x < width; x++) {
+					int pixel = row[x];
+					line[i++] = (byte)(pixel >>> 24);
+					line[i++] = (byte)(pixel >>> 16);
+					line[i++] = (byte)(pixel >>> 8);
+					line[i++] = (byte)pixel;
+				}
+			}
+
+			static private void filter (int type, byte[] curLine, byte[] prevLine, byte[] lineOut, int lineLen) {
+				switch (type) {
+				case 1: // Sub
+					for (int x = 0; x < 4; x++)
+						lineOut[x] = curLine[x];
+					for (int x = 4; x < lineLen; x++)
+						lineOut[x] = (byte)(curLine[x] - curLine[x - 4]);
+					break;
+				case 2: // Up
+					for (int x = 0; x < lineLen; x++)
+						lineOut[x] = (byte)(curLine[x] - prevLine[x]);
+					break;
+				case 3: // Average
+					for (int x = 0; x < 4; x++)
+						lineOut[x] = (byte)(curLine[x] - ((prevLine[x] & 0xff) >>> 1));
+					for (int x = 4; x < lineLen; x++)
+						lineOut[x] = (byte)(curLine[x] - (((curLine[x - 4] & 0xff) + (prevLine[x] & 0xff)) >>> 1));
+					break;
+				case 4: // Paeth
+					lineOut[0] = (byte)(curLine[0] - prevLine[0]);
+					lineOut[1] = (byte)(curLine[1] - prevLine[1]);
+					lineOut[2] = (byte)(curLine[2] - prevLine[2]);
+					lineOut[3] = (byte)(curLine[3] - prevLine[3]);
+
+					for (int x = 4; x < lineLen; x++) {
+						int a = curLine[x - 4] & 0xff;
+						int b = prevLine[x] & 0xff;
+						int c = prevLine[x - 4] & 0xff;
+						int p = a + b - c;
+						int pa = p - a;
+						if (pa < 0) pa = -pa;
+						int pb = p - b;
+						if (pb < 0) pb = -pb;
+						int pc = p - c;
+						if (pc < 0) pc = -pc;
+						if (pa <= pb && pa <= pc)
+							c = a;
+						else if (pb <= pc) //
+							c = b;
+						lineOut[x] = (byte)(curLine[x] - c);
+					}
+					break;
+				}
+			}
+
+			/** Returns the sum of the absolute values of the bytes as signed values, an estimate of how well a row compresses. */
+			static private long cost (byte[] line, int lineLen) {
+				long cost = 0;
+				for (int x = 0; x < lineLen; x++) {
+					int value = line[x];
+					cost += value < 0 ? -value : value;
+				}
+				return cost;
+			}
 		}
 
 		static class ChunkBuffer extends DataOutputStream {
@@ -0,0 +1,668 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Bulk operations on whole {@link Pixmap Pixmaps}, implemented in Java on the {@link Pixmap#getPixels() pixel buffer} so they
+ * can be used headless, e.g. to generate thumbnails on a server. Large images are split into bands of rows that are processed
+ * in parallel on a shared pool of daemon threads, see {@link #setThreads(int)}.
+ * <p>
+ * All formats are supported. Pixels are converted to RGBA8888 one row at a time, so the result of an operation on a format
+ * with fewer bits per channel is rounded to that format. Blurring and resizing are done with premultiplied alpha, so
+ * transparent pixels don't bleed their color into visible pixels. */
+public class PixmapOps {
+	static private final boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+	/** The minimum number of pixels processed by a thread. */
+	static private final int minPixelsPerTask = 32 * 1024;
+
+	static private int threads = Runtime.getRuntime().availableProcessors();
+	static private AsyncExecutor executor;
+
+	/** Filters for {@link PixmapOps#resize(Pixmap, int, int, ResizeFilter)}. */
+	public enum ResizeFilter {
+		/** Linear interpolation, averaging all covered pixels when downscaling. */
+		Bilinear(1),
+		/** Lanczos with 3 lobes, sharper than bilinear with slight ringing at hard edges. */
+		Lanczos3(3);
+
+		final float support;
+
+		ResizeFilter (float support) {
+			this.support = support;
+		}
+
+		float weight (float x) {
+			if (x < 0) x = -x;
+			if (x >= support) return 0;
+			if (this == Bilinear) return 1 - x;
+			if (x < 0.0001f) return 1;
+			double px = Math.PI * x;
+			return (float)(3 * Math.sin(px) * Math.sin(px / 3) / (px * px));
+		}
+	}
+
+	private PixmapOps () {
+	}
+
+	/** Sets the number of threads used for large images. 1 processes all images on the calling thread. Default is the number of
+	 * processors. */
+	static public synchronized void setThreads (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		PixmapOps.threads = threads;
+		if (executor != null) {
+			executor.dispose();
+			executor = null;
+		}
+	}
+
+	static public int getThreads () {
+		return threads;
+	}
+
+	/** Returns a new pixmap with the pixels of the specified pixmap converted to the format. */
+	static public Pixmap convert (Pixmap pixmap, Format format) {
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		Pixmap result = new Pixmap(width, height, format);
+		convert(pixmap.getPixels(), pixmap.getFormat(), result.getPixels(), format, width, height);
+		return result;
+	}
+
+	static void convert (final ByteBuffer source, final Format sourceFormat, final ByteBuffer target, final Format targetFormat,
+		final int width, int height) {
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					readRow(source, sourceFormat, width, y, row);
+					writeRow(target, targetFormat, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Multiplies the color channels of each pixel by its alpha. */
+	static public void premultiplyAlpha (Pixmap pixmap) {
+		premultiplyAlpha(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight());
+	}
+
+	static void premultiplyAlpha (final ByteBuffer pixels, final Format format, final int width, int height) {
+		if (!hasColorAndAlpha(format)) return;
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					readRow(pixels, format, width, y, row);
+					for (int x = 0; x < width; x++)
+						row[x] = premultiply(row[x]);
+					writeRow(pixels, format, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Divides the color channels of each pixel by its alpha, reversing {@link #premultiplyAlpha(Pixmap)}. */
+	static public void unpremultiplyAlpha (Pixmap pixmap) {
+		unpremultiplyAlpha(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight());
+	}
+
+	static void unpremultiplyAlpha (final ByteBuffer pixels, final Format format, final int width, int height) {
+		if (!hasColorAndAlpha(format)) return;
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					readRow(pixels, format, width, y, row);
+					for (int x = 0; x < width; x++)
+						row[x] = unpremultiply(row[x]);
+					writeRow(pixels, format, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Transforms each pixel by a 4x5 color matrix in row major order. The red, green, blue and alpha of the result are the dot
+	 * products of the rows with the pixel's red, green, blue, alpha and 1, with all channels in the range 0 to 255.
+	 * @param matrix 20 values. */
+	static public void colorMatrix (Pixmap pixmap, float[] matrix) {
+		colorMatrix(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight(), matrix);
+	}
+
+	static void colorMatrix (final ByteBuffer pixels, final Format format, final int width, int height, final float[] matrix) {
+		if (matrix.length < 20) throw new IllegalArgumentException("matrix must have 20 values: " + matrix.length);
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				float[] m = matrix;
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					readRow(pixels, format, width, y, row);
+					for (int x = 0; x < width; x++) {
+						int c = row[x];
+						float r = c >>> 24, g = (c >>> 16) & 0xff, b = (c >>> 8) & 0xff, a = c & 0xff;
+						row[x] = clamp(m[0] * r + m[1] * g + m[2] * b + m[3] * a + m[4]) << 24 //
+							| clamp(m[5] * r + m[6] * g + m[7] * b + m[8] * a + m[9]) << 16 //
+							| clamp(m[10] * r + m[11] * g + m[12] * b + m[13] * a + m[14]) << 8 //
+							| clamp(m[15] * r + m[16] * g + m[17] * b + m[18] * a + m[19]);
+					}
+					writeRow(pixels, format, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Blurs the pixmap by averaging the pixels in a square around each pixel, pixels outside the pixmap are clamped to the
+	 * edge.
+	 * @param radius The number of pixels on each side of a pixel that are averaged. */
+	static public void boxBlur (Pixmap pixmap, int radius) {
+		blur(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight(), new int[] {radius});
+	}
+
+	/** Approximates a gaussian blur with three successive box blurs.
+	 * @param sigma The standard deviation of the gaussian in pixels. */
+	static public void gaussianBlur (Pixmap pixmap, float sigma) {
+		blur(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight(), gaussianBoxRadii(sigma, 3));
+	}
+
+	/** Returns the radii of box blurs whose succession approximates a gaussian with the standard deviation. */
+	static int[] gaussianBoxRadii (float sigma, int boxes) {
+		float idealWidth = (float)Math.sqrt(12 * sigma * sigma / boxes + 1);
+		int lower = (int)Math.floor(idealWidth);
+		if (lower % 2 == 0) lower--;
+		int upper = lower + 2;
+		float ideal = (12 * sigma * sigma - boxes * lower * lower - 4 * boxes * lower - 3 * boxes) / (-4f * lower - 4);
+		int lowerCount = Math.round(ideal);
+		int[] radii = new int[boxes];
+		for (int i = 0; i < boxes; i++)
+			radii[i] = ((i < lowerCount ? lower : upper) - 1) / 2;
+		return radii;
+	}
+
+	static void blur (final ByteBuffer pixels, final Format format, final int width, final int height, int[] radii) {
+		final int[] image = new int[width * height], temp = new int[width * height];
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					readRow(pixels, format, width, y, row);
+					for (int x = 0, i = y * width; x < width; x++, i++)
+						image[i] = premultiply(row[x]);
+				}
+				return 0;
+			}
+		});
+		for (int i = 0; i < radii.length; i++) {
+			final int radius = radii[i];
+			if (radius <= 0) continue;
+			parallel(height, width, new Rows() {
+				public int run (int start, int end) {
+					for (int y = start; y < end; y++)
+						boxRow(image, temp, width, y * width, radius);
+					return 0;
+				}
+			});
+			parallel(width, height, new Rows() {
+				public int run (int start, int end) {
+					boxColumns(temp, image, width, height, start, end, radius);
+					return 0;
+				}
+			});
+		}
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					for (int x = 0, i = y * width; x < width; x++, i++)
+						row[x] = unpremultiply(image[i]);
+					writeRow(pixels, format, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Box blurs one row with a sliding window. */
+	static private void boxRow (int[] source, int[] target, int width, int offset, int radius) {
+		int size = radius * 2 + 1, half = size / 2, last = width - 1;
+		int r = 0, g = 0, b = 0, a = 0;
+		for (int i = -radius; i <= radius; i++) {
+			int c = source[offset + Math.min(Math.max(i, 0), last)];
+			r += c >>> 24;
+			g += (c >>> 16) & 0xff;
+			b += (c >>> 8) & 0xff;
+			a += c & 0xff;
+		}
+		for (int x = 0; x < width; x++) {
+			target[offset + x] = (r + half) / size << 24 | (g + half) / size << 16 | (b + half) / size << 8 | (a + half) / size;
+			int out = source[offset + Math.max(x - radius, 0)], in = source[offset + Math.min(x + radius + 1, last)];
+			r += (in >>> 24) - (out >>> 24);
+			g += ((in >>> 16) & 0xff) - ((out >>> 16) & 0xff);
+			b += ((in >>> 8) & 0xff) - ((out >>> 8) & 0xff);
+			a += (in & 0xff) - (out & 0xff);
+		}
+	}
+
+	/** Box blurs a band of columns, walking down the rows so memory is accessed sequentially. */
+	static private void boxColumns (int[] source, int[] target, int width, int height, int start, int end, int radius) {
+		int columns = end - start, size = radius * 2 + 1, half = size / 2, last = height - 1;
+		int[] sums = new int[columns * 4];
+		for (int i = -radius; i <= radius; i++) {
+			int offset = Math.min(Math.max(i, 0), last) * width + start;
+			for (int x = 0, s = 0; x < columns; x++, s += 4) {
+				int c = source[offset + x];
+				sums[s] += c >>> 24;
+				sums[s + 1] += (c >>> 16) & 0xff;
+				sums[s + 2] += (c >>> 8) & 0xff;
+				sums[s + 3] += c & 0xff;
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			int offset = y * width + start;
+			int outOffset = Math.max(y - radius, 0) * width + start, inOffset = Math.min(y + radius + 1, last) * width + start;
+			for (int x = 0, s = 0; x < columns; x++, s += 4) {
+				target[offset + x] = (sums[s] + half) / size << 24 | (sums[s + 1] + half) / size << 16
+					| (sums[s + 2] + half) / size << 8 | (sums[s + 3] + half) / size;
+				int out = source[outOffset + x], in = source[inOffset + x];
+				sums[s] += (in >>> 24) - (out >>> 24);
+				sums[s + 1] += ((in >>> 16) & 0xff) - ((out >>> 16) & 0xff);
+				sums[s + 2] += ((in >>> 8) & 0xff) - ((out >>> 8) & 0xff);
+				sums[s + 3] += (in & 0xff) - (out & 0xff);
+			}
+		}
+	}
+
+	/** Returns a new pixmap of the same format with the pixels of the specified pixmap scaled to the size. */
+	static public Pixmap resize (Pixmap pixmap, int width, int height, ResizeFilter filter) {
+		Pixmap result = new Pixmap(width, height, pixmap.getFormat());
+		resize(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight(), result.getPixels(), width, height,
+			filter);
+		return result;
+	}
+
+	static void resize (final ByteBuffer source, final Format format, final int sourceWidth, final int sourceHeight,
+		final ByteBuffer target, final int targetWidth, final int targetHeight, ResizeFilter filter) {
+		if (targetWidth < 1 || targetHeight < 1)
+			throw new IllegalArgumentException("Invalid size: " + targetWidth + "x" + targetHeight);
+		final Weights columns = new Weights(sourceWidth, targetWidth, filter);
+		final Weights rows = new Weights(sourceHeight, targetHeight, filter);
+
+		// Resize each row horizontally, then the columns of the result vertically.
+		final float[] temp = new float[sourceHeight * targetWidth * 4];
+		parallel(sourceHeight, sourceWidth, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[sourceWidth];
+				Weights weights = columns;
+				for (int y = start; y < end; y++) {
+					readRow(source, format, sourceWidth, y, row);
+					for (int x = 0, t = y * targetWidth * 4; x < targetWidth; x++, t += 4) {
+						float r = 0, g = 0, b = 0, a = 0;
+						for (int i = 0, n = weights.counts[x], s = weights.starts[x], w = x * weights.maxCount; i < n; i++) {
+							float weight = weights.weights[w + i];
+							int c = row[s + i];
+							float ca = (c & 0xff) * weight;
+							r += (c >>> 24) * ca;
+							g += ((c >>> 16) & 0xff) * ca;
+							b += ((c >>> 8) & 0xff) * ca;
+							a += ca;
+						}
+						temp[t] = r;
+						temp[t + 1] = g;
+						temp[t + 2] = b;
+						temp[t + 3] = a;
+					}
+				}
+				return 0;
+			}
+		});
+		parallel(targetHeight, targetWidth, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[targetWidth];
+				Weights weights = rows;
+				int stride = targetWidth * 4;
+				for (int y = start; y < end; y++) {
+					int n = weights.counts[y], s = weights.starts[y], w = y * weights.maxCount;
+					for (int x = 0; x < targetWidth; x++) {
+						float r = 0, g = 0, b = 0, a = 0;
+						for (int i = 0, t = s * stride + x * 4; i < n; i++, t += stride) {
+							float weight = weights.weights[w + i];
+							r += temp[t] * weight;
+							g += temp[t + 1] * weight;
+							b += temp[t + 2] * weight;
+							a += temp[t + 3] * weight;
+						}
+						if (a <= 0.5f)
+							row[x] = 0;
+						else
+							row[x] = clamp(r / a) << 24 | clamp(g / a) << 16 | clamp(b / a) << 8 | clamp(a);
+					}
+					writeRow(target, format, targetWidth, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Sets the color of fully transparent pixels to the average color of their visible neighbors, repeatedly spreading the
+	 * colors outward, so filtering a texture doesn't blend visible pixels with the color of transparent pixels. Alpha is not
+	 * changed.
+	 * @param maxIterations The maximum distance in pixels colors are spread, or -1 to fill all transparent pixels. */
+	static public void bleedAlpha (Pixmap pixmap, int maxIterations) {
+		bleedAlpha(pixmap.getPixels(), pixmap.getFormat(), pixmap.getWidth(), pixmap.getHeight(), maxIterations);
+	}
+
+	static void bleedAlpha (final ByteBuffer pixels, final Format format, final int width, final int height, int maxIterations) {
+		if (!hasColorAndAlpha(format)) return;
+		final int[][] images = {new int[width * height], new int[width * height]};
+		final boolean[][] filled = {new boolean[width * height], new boolean[width * height]};
+		int empty = parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width], image = images[0];
+				boolean[] mask = filled[0];
+				int empty = 0;
+				for (int y = start; y < end; y++) {
+					readRow(pixels, format, width, y, row);
+					for (int x = 0, i = y * width; x < width; x++, i++) {
+						image[i] = row[x];
+						mask[i] = (row[x] & 0xff) != 0;
+						if (!mask[i]) empty++;
+					}
+				}
+				return empty;
+			}
+		});
+		if (empty == 0) return;
+
+		int current = 0;
+		for (int iteration = 0; iteration != maxIterations; iteration++) {
+			final int[] source = images[current], target = images[1 - current];
+			final boolean[] sourceFilled = filled[current], targetFilled = filled[1 - current];
+			int changed = parallel(height, width, new Rows() {
+				public int run (int start, int end) {
+					int changed = 0;
+					for (int y = start; y < end; y++) {
+						for (int x = 0, i = y * width; x < width; x++, i++) {
+							target[i] = source[i];
+							targetFilled[i] = sourceFilled[i];
+							if (sourceFilled[i]) continue;
+							int r = 0, g = 0, b = 0, count = 0;
+							for (int ny = Math.max(y - 1, 0), yn = Math.min(y + 1, height - 1); ny <= yn; ny++) {
+								for (int nx = Math.max(x - 1, 0), xn = Math.min(x + 1, width - 1); nx <= xn; nx++) {
+									int n = ny * width + nx;
+									if (!sourceFilled[n]) continue;
+									int c = source[n];
+									r += c >>> 24;
+									g += (c >>> 16) & 0xff;
+									b += (c >>> 8) & 0xff;
+									count++;
+								}
+							}
+							if (count == 0) continue;
+							target[i] = (r / count) << 24 | (g / count) << 16 | (b / count) << 8 | (source[i] & 0xff);
+							targetFilled[i] = true;
+							changed++;
+						}
+					}
+					return changed;
+				}
+			});
+			current = 1 - current;
+			empty -= changed;
+			if (changed == 0 || empty == 0) break;
+		}
+
+		final int[] image = images[current];
+		parallel(height, width, new Rows() {
+			public int run (int start, int end) {
+				int[] row = new int[width];
+				for (int y = start; y < end; y++) {
+					System.arraycopy(image, y * width, row, 0, width);
+					writeRow(pixels, format, width, y, row);
+				}
+				return 0;
+			}
+		});
+	}
+
+	/** Reads a row of pixels as RGBA8888. */
+	static void readRow (ByteBuffer pixels, Format format, int width, int y, int[] row) {
+		switch (format) {
+		case Alpha:
+		case Intensity: {
+			for (int x = 0, p = y * width; x < width; x++, p++)
+				row[x] = 0xffffff00 | (pixels.get(p) & 0xff);
+			break;
+		}
+		case LuminanceAlpha: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int l = pixels.get(p) & 0xff;
+				row[x] = l << 24 | l << 16 | l << 8 | (pixels.get(p + 1) & 0xff);
+			}
+			break;
+		}
+		case RGB565: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int c = getShort(pixels, p);
+				int r = (c & 0xf800) >>> 11, g = (c & 0x7e0) >>> 5, b = c & 0x1f;
+				row[x] = ((r << 3) | (r >>> 2)) << 24 | ((g << 2) | (g >>> 4)) << 16 | ((b << 3) | (b >>> 2)) << 8 | 0xff;
+			}
+			break;
+		}
+		case RGBA4444: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int c = getShort(pixels, p);
+				row[x] = ((c >>> 12) & 0xf) * 0x11 << 24 | ((c >>> 8) & 0xf) * 0x11 << 16 | ((c >>> 4) & 0xf) * 0x11 << 8
+					| (c & 0xf) * 0x11;
+			}
+			break;
+		}
+		case RGB888: {
+			for (int x = 0, p = y * width * 3; x < width; x++, p += 3)
+				row[x] = (pixels.get(p) & 0xff) << 24 | (pixels.get(p + 1) & 0xff) << 16 | (pixels.get(p + 2) & 0xff) << 8 | 0xff;
+			break;
+		}
+		case RGBA8888: {
+			for (int x = 0, p = y * width * 4; x < width; x++, p += 4)
+				row[x] = (pixels.get(p) & 0xff) << 24 | (pixels.get(p + 1) & 0xff) << 16 | (pixels.get(p + 2) & 0xff) << 8
+					| (pixels.get(p + 3) & 0xff);
+			break;
+		}
+		default:
+			throw new GdxRuntimeException("Unknown format: " + format);
+		}
+	}
+
+	/** Writes a row of RGBA8888 pixels, converting them to the format. */
+	static void writeRow (ByteBuffer pixels, Format format, int width, int y, int[] row) {
+		switch (format) {
+		case Alpha:
+		case Intensity: {
+			for (int x = 0, p = y * width; x < width; x++, p++)
+				pixels.put(p, (byte)row[x]);
+			break;
+		}
+		case LuminanceAlpha: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int c = row[x];
+				pixels.put(p, (byte)(0.2126f * (c >>> 24) + 0.7152f * ((c >>> 16) & 0xff) + 0.0722f * ((c >>> 8) & 0xff)));
+				pixels.put(p + 1, (byte)c);
+			}
+			break;
+		}
+		case RGB565: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int c = row[x];
+				putShort(pixels, p, (c >>> 27) << 11 | ((c >>> 18) & 0x3f) << 5 | ((c >>> 11) & 0x1f));
+			}
+			break;
+		}
+		case RGBA4444: {
+			for (int x = 0, p = y * width * 2; x < width; x++, p += 2) {
+				int c = row[x];
+				putShort(pixels, p, (c >>> 28) << 12 | ((c >>> 20) & 0xf) << 8 | ((c >>> 12) & 0xf) << 4 | ((c >>> 4) & 0xf));
+			}
+			break;
+		}
+		case RGB888: {
+			for (int x = 0, p = y * width * 3; x < width; x++, p += 3) {
+				int c = row[x];
+				pixels.put(p, (byte)(c >>> 24));
+				pixels.put(p + 1, (byte)(c >>> 16));
+				pixels.put(p + 2, (byte)(c >>> 8));
+			}
+			break;
+		}
+		case RGBA8888: {
+			for (int x = 0, p = y * width * 4; x < width; x++, p += 4) {
+				int c = row[x];
+				pixels.put(p, (byte)(c >>> 24));
+				pixels.put(p + 1, (byte)(c >>> 16));
+				pixels.put(p + 2, (byte)(c >>> 8));
+				pixels.put(p + 3, (byte)c);
+			}
+			break;
+		}
+		default:
+			throw new GdxRuntimeException("Unknown format: " + format);
+		}
+	}
+
+	/** Shorts are stored in native order, see {@link Pixmap#getPixels()}. */
+	static private int getShort (ByteBuffer pixels, int p) {
+		int b0 = pixels.get(p) & 0xff, b1 = pixels.get(p + 1) & 0xff;
+		return littleEndian ? b1 << 8 | b0 : b0 << 8 | b1;
+	}
+
+	static private void putShort (ByteBuffer pixels, int p, int value) {
+		if (littleEndian) {
+			pixels.put(p, (byte)value);
+			pixels.put(p + 1, (byte)(value >>> 8));
+		} else {
+			pixels.put(p, (byte)(value >>> 8));
+			pixels.put(p + 1, (byte)value);
+		}
+	}
+
+	static private boolean hasColorAndAlpha (Format format) {
+		return format == Format.RGBA8888 || format == Format.RGBA4444 || format == Format.LuminanceAlpha;
+	}
+
+	static int premultiply (int c) {
+		int a = c & 0xff;
+		if (a == 0xff) return c;
+		return ((c >>> 24) * a + 127) / 255 << 24 | (((c >>> 16) & 0xff) * a + 127) / 255 << 16
+			| (((c >>> 8) & 0xff) * a + 127) / 255 << 8 | a;
+	}
+
+	static int unpremultiply (int c) {
+		int a = c & 0xff;
+		if (a == 0xff) return c;
+		if (a == 0) return 0;
+		int half = a / 2;
+		return Math.min(255, ((c >>> 24) * 255 + half) / a) << 24 | Math.min(255, (((c >>> 16) & 0xff) * 255 + half) / a) << 16
+			| Math.min(255, (((c >>> 8) & 0xff) * 255 + half) / a) << 8 | a;
+	}
+
+	static private int clamp (float value) {
+		if (value <= 0) return 0;
+		if (value >= 255) return 255;
+		return (int)(value + 0.5f);
+	}
+
+	/** Runs the rows in bands, in parallel when there are enough pixels.
+	 * @return The sum of the values returned by the bands. */
+	static private int parallel (final int count, int pixelsPerItem, final Rows rows) {
+		int tasks = Math.min(Math.min(threads, count), (int)Math.max(1, (long)count * pixelsPerItem / minPixelsPerTask));
+		if (tasks <= 1) return rows.run(0, count);
+
+		AsyncExecutor executor;
+		synchronized (PixmapOps.class) {
+			if (PixmapOps.executor == null) PixmapOps.executor = new AsyncExecutor(threads, "PixmapOps");
+			executor = PixmapOps.executor;
+		}
+		AsyncResult<Integer>[] results = new AsyncResult[tasks - 1];
+		for (int i = 1; i < tasks; i++) {
+			final int start = (int)((long)count * i / tasks), end = (int)((long)count * (i + 1) / tasks);
+			results[i - 1] = executor.submit(new AsyncTask<Integer>() {
+				public Integer call () {
+					return rows.run(start, end);
+				}
+			});
+		}
+		int total = rows.run(0, count / tasks);
+		for (int i = 0; i < results.length; i++)
+			total += results[i].get();
+		return total;
+	}
+
+	static private interface Rows {
+		/** @return A value summed over all bands. */
+		public int run (int start, int end);
+	}
+
+	/** The source pixels and their weights for each target pixel of one axis. */
+	static private class Weights {
+		final int[] starts, counts;
+		final float[] weights;
+		final int maxCount;
+
+		Weights (int sourceSize, int targetSize, ResizeFilter filter) {
+			float scale = sourceSize / (float)targetSize;
+			// When downscaling, the filter is widened to cover all source pixels.
+			float filterScale = Math.max(1, scale);
+			float support = filter.support * filterScale;
+			maxCount = (int)Math.ceil(support * 2) + 1;
+			starts = new int[targetSize];
+			counts = new int[targetSize];
+			weights = new float[targetSize * maxCount];
+			for (int i = 0; i < targetSize; i++) {
+				float center = (i + 0.5f) * scale - 0.5f;
+				int start = Math.max(0, (int)Math.floor(center - support) + 1);
+				int end = Math.min(sourceSize - 1, (int)Math.ceil(center + support) - 1);
+				if (end - start + 1 > maxCount) end = start + maxCount - 1;
+				if (end < start) {
+					// The filter covers no pixel centers, use the nearest pixel.
+					start = end = Math.min(sourceSize - 1, Math.max(0, Math.round(center)));
+				}
+				float total = 0;
+				for (int j = start, w = i * maxCount; j <= end; j++, w++) {
+					float weight = filter.weight((j - center) / filterScale);
+					weights[w] = weight;
+					total += weight;
+				}
+				if (total == 0) {
+					start = end = Math.min(sourceSize - 1, Math.max(0, Math.round(center)));
+					weights[i * maxCount] = 1;
+					total = 1;
+				}
+				for (int j = 0, n = end - start + 1, w = i * maxCount; j < n; j++, w++)
+					weights[w] /= total;
+				starts[i] = start;
+				counts[i] = end - start + 1;
+			}
+		}
+	}
+}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.CompressedTextureData;
 import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.graphics.glutils.KTXTextureData;
@@ -82,7 +83,7 @@ public interface TextureData {
 	/** @return whether this implementation can cope with a EGL context loss. */
 	public boolean isManaged ();
 
-	/** Provides static method to instantiate the right implementation (Pixmap, ETC1, KTX).
+	/** Provides static method to instantiate the right implementation (Pixmap, ETC1, KTX, KTX2/DDS).
 	 * @author Vincent Bousquet */
 	public static class Factory {
 
@@ -95,6 +96,7 @@ public interface TextureData {
 			if (file.name().endsWith(".cim")) return new FileTextureData(file, PixmapIO.readCIM(file), format, useMipMaps);
 			if (file.name().endsWith(".etc1")) return new ETC1TextureData(file, useMipMaps);
 			if (file.name().endsWith(".ktx") || file.name().endsWith(".zktx")) return new KTXTextureData(file, useMipMaps);
+			if (file.name().endsWith(".ktx2") || file.name().endsWith(".dds")) return new CompressedTextureData(file, useMipMaps);
 			return new FileTextureData(file, new Pixmap(file), format, useMipMaps);
 		}
 
@@ -53,6 +53,11 @@ public class BitmapFontCache {
 	private IntArray[] pageGlyphIndices;
 	/** Used internally to ensure a correct capacity for multi-page font vertex data. */
 	private int[] tempGlyphCount;
+	/** The text last added by {@link #addText(CharSequence, float, float, int, int, float, int, boolean, String)} and its
+	 * position relative to {@link #x} and {@link #y}, used by {@link #updateText(CharSequence)}. */
+	private final StringBuilder text = new StringBuilder();
+	private float textX, textY;
+	private boolean updatable;
 
 	public BitmapFontCache (BitmapFont font) {
 		this(font, font.usesIntegerPositions());
@@ -294,6 +299,7 @@ public class BitmapFontCache {
 		Pools.freeAll(pooledLayouts, true);
 		pooledLayouts.clear();
 		layouts.clear();
+		updatable = false;
 		for (int i = 0, n = idx.length; i < n; i++) {
 			if (pageGlyphIndices != null) pageGlyphIndices[i].clear();
 			idx[i] = 0;
@@ -384,6 +390,16 @@ public class BitmapFontCache {
 	}
 
 	private void addGlyph (Glyph glyph, float x, float y, float color) {
+		final int page = glyph.page;
+		int idx = this.idx[page];
+		this.idx[page] += 20;
+
+		if (pageGlyphIndices != null) pageGlyphIndices[page].add(glyphCount++);
+
+		setGlyph(pageVertices[page], idx, glyph, x, y, color);
+	}
+
+	private void setGlyph (float[] vertices, int idx, Glyph glyph, float x, float y, float color) {
 		final float scaleX = font.data.scaleX, scaleY = font.data.scaleY;
 		x += glyph.xoffset * scaleX;
 		y += glyph.yoffset * scaleY;
@@ -398,13 +414,6 @@ public class BitmapFontCache {
 		}
 		final float x2 = x + width, y2 = y + height;
 
-		final int page = glyph.page;
-		int idx = this.idx[page];
-		this.idx[page] += 20;
-
-		if (pageGlyphIndices != null) pageGlyphIndices[page].add(glyphCount++);
-
-		final float[] vertices = pageVertices[page];
 		vertices[idx++] = x;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
@@ -503,14 +512,91 @@ public class BitmapFontCache {
 		pooledLayouts.add(layout);
 		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
 		addText(layout, x, y);
+
+		updatable = layouts.size == 1 && !wrap && truncate == null;
+		text.setLength(0);
+		text.append(str, start, end);
+		textX = x - this.x;
+		textY = y + font.data.ascent - this.y;
 		return layout;
 	}
 
 	/** Adds the specified glyphs. */
 	public void addText (GlyphLayout layout, float x, float y) {
+		updatable = false;
 		addToCache(layout, x, y + font.data.ascent);
 	}
 
+	/** Replaces the cached text with the specified text without laying it out again, only the vertices of the characters that
+	 * differ from the cached text are changed. This is much faster than {@link #setText(CharSequence, float, float)} for text
+	 * where few characters change, such as numeric counters.
+	 * <p>
+	 * This is only possible if the cache holds a single line of text without color markup set by one of the setText methods
+	 * without wrapping or truncation, the font has a single page, the specified text has the same length as the cached text
+	 * and every changed character has the same advance and kerning as the character it replaces. Numbers in a font with
+	 * {@link BitmapFont#setFixedWidthGlyphs(CharSequence) fixed width} digits meet the last requirement. The position, tint and
+	 * colors of the cached text are kept.
+	 * @return false if the text could not be updated this way, the cache is then unchanged and setText should be used. */
+	public boolean updateText (CharSequence str) {
+		if (!updatable || pageVertices.length != 1) return false;
+		StringBuilder text = this.text;
+		int n = text.length();
+		if (str.length() != n) return false;
+		GlyphLayout layout = layouts.first();
+		if (layout.runs.size != 1) return false;
+		GlyphRun run = layout.runs.first();
+		Array<Glyph> glyphs = run.glyphs;
+		if (glyphs.size != n) return false; // Markup, '\r' or missing glyphs, characters don't map to glyphs.
+
+		// Check the changed glyphs leave all glyphs at the same positions.
+		BitmapFontData data = font.data;
+		float scaleX = data.scaleX;
+		float[] xAdvances = run.xAdvances.items;
+		int changed = 0;
+		for (int i = 0; i < n; i++) {
+			char ch = str.charAt(i);
+			if (ch == text.charAt(i)) continue;
+			if (ch == '\n' || ch == '\r' || (ch == '[' && data.markupEnabled)) return false;
+			Glyph glyph = getGlyph(data, ch);
+			if (glyph == null || glyph.page != 0) return false;
+			float advance;
+			if (i == 0)
+				advance = glyph.fixedWidth ? 0 : -glyph.xoffset * scaleX - data.padLeft;
+			else {
+				Glyph previous = getGlyph(data, str.charAt(i - 1));
+				if (previous == null) return false;
+				advance = (previous.xadvance + previous.getKerning(ch)) * scaleX;
+			}
+			if (advance != xAdvances[i]) return false;
+			if (i == n - 1)
+				advance = glyph.fixedWidth ? glyph.xadvance * scaleX : (glyph.width + glyph.xoffset) * scaleX - data.padRight;
+			else
+				advance = (glyph.xadvance + glyph.getKerning(str.charAt(i + 1))) * scaleX;
+			if (advance != xAdvances[i + 1]) return false;
+			changed++;
+		}
+		if (changed == 0) return true;
+
+		float[] vertices = pageVertices[0];
+		float gx = textX + x + run.x, gy = textY + y + run.y;
+		for (int i = 0; i < n; i++) {
+			gx += xAdvances[i];
+			char ch = str.charAt(i);
+			if (ch == text.charAt(i)) continue;
+			Glyph glyph = getGlyph(data, ch);
+			glyphs.set(i, glyph);
+			int offset = i * 20;
+			setGlyph(vertices, offset, glyph, gx, gy, vertices[offset + 2]);
+			text.setCharAt(i, ch);
+		}
+		return true;
+	}
+
+	private Glyph getGlyph (BitmapFontData data, char ch) {
+		Glyph glyph = data.getGlyph(ch);
+		return glyph != null ? glyph : data.missingGlyph;
+	}
+
 	/** Returns the x position of the cached string, relative to the position when the string was cached. */
 	public float getX () {
 		return x;
@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static com.badlogic.gdx.graphics.g2d.Sprite.SPRITE_SIZE;
+import static com.badlogic.gdx.graphics.g2d.Sprite.VERTEX_SIZE;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.IndexBufferObject;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/** Draws large numbers of 2D images that rarely change, like the tiles of a big world, where single images can be added,
+ * changed and removed without rebuilding the whole cache as with {@link SpriteCache}.
+ * <p>
+ * Images are stored in chunks, each holding the images of one texture whose centers are in the same square cell of the world.
+ * Each chunk has its own vertex buffer in video memory. When images are added, changed or removed only the range of modified
+ * images in their chunk is uploaded with glBufferSubData the next time it is drawn, and the slots of removed images are reused
+ * by images added later to the chunk. Each added image gets an ID that stays valid until it is removed. When drawing, chunks
+ * outside the view bounds are skipped and each visible chunk is drawn with a single draw call.
+ * <p>
+ * The order in which chunks are drawn is undefined, so images that overlap should be in separate ChunkedSpriteCaches, e.g. one
+ * per layer. Like SpriteCache, ChunkedSpriteCache does not manage blending.
+ * <p>
+ * ChunkedSpriteCache is not managed, call {@link #invalidate()} after the OpenGL context was lost. It must be disposed once it
+ * is no longer needed. */
+public class ChunkedSpriteCache implements Disposable {
+	/** The maximum number of images per chunk, limited by short indices. */
+	static public final int MAX_CHUNK_SIZE = 8191;
+	static private final int SLOT_BITS = 13, SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+	private final float cellSize;
+	private final int chunkSize;
+	private final Array<Chunk> chunks = new Array();
+	private final LongMap<Array<Chunk>> cells = new LongMap();
+	private final IndexBufferObject indices;
+	private final ByteBuffer uploadBuffer;
+	private final IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+	private int vaoHandle = -1;
+	private final float[] tempVertices = new float[SPRITE_SIZE];
+	private int size;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+	private final ShaderProgram shader;
+	private ShaderProgram customShader;
+	private boolean drawing;
+	private int positionLocation, colorLocation, texCoordLocation;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	private float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+	/** Number of chunks skipped because they were outside the view bounds since the last {@link #begin()}. */
+	public int culledChunks = 0;
+	/** Number of bytes uploaded to video memory since the last {@link #begin()}. */
+	public int uploadedBytes = 0;
+
+	/** Creates a cache with 256x256 cells of up to 4096 images each, using the default shader. */
+	public ChunkedSpriteCache () {
+		this(256, 4096);
+	}
+
+	/** @param cellSize The width and height of the world area covered by a chunk.
+	 * @param chunkSize The maximum number of images per chunk, at most {@link #MAX_CHUNK_SIZE}. A full chunk is followed by
+	 *           another chunk for the same cell. */
+	public ChunkedSpriteCache (float cellSize, int chunkSize) {
+		this(cellSize, chunkSize, SpriteCache.createDefaultShader());
+	}
+
+	/** @param shader The shader to use, owned by this cache. See {@link #setShader(ShaderProgram)} for the uniforms and
+	 *           attributes.
+	 * @see #ChunkedSpriteCache(float, int) */
+	public ChunkedSpriteCache (float cellSize, int chunkSize, ShaderProgram shader) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE)
+			throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_CHUNK_SIZE + ": " + chunkSize);
+		this.cellSize = cellSize;
+		this.chunkSize = chunkSize;
+		this.shader = shader;
+
+		int length = chunkSize * 6;
+		short[] indices = new short[length];
+		short j = 0;
+		for (int i = 0; i < length; i += 6, j += 4) {
+			indices[i] = j;
+			indices[i + 1] = (short)(j + 1);
+			indices[i + 2] = (short)(j + 2);
+			indices[i + 3] = (short)(j + 2);
+			indices[i + 4] = (short)(j + 3);
+			indices[i + 5] = j;
+		}
+		this.indices = new IndexBufferObject(true, length);
+		this.indices.setIndices(indices, 0, length);
+
+		uploadBuffer = BufferUtils.newUnsafeByteBuffer(chunkSize * SPRITE_SIZE * 4);
+		if (Gdx.gl30 != null) createVAO();
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+	}
+
+	/** Sets the color used to tint images when they are added or changed. Default is {@link Color#WHITE}. */
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	/** @see #setColor(Color) */
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	public Color getColor () {
+		return color;
+	}
+
+	/** Adds an image with 4 vertices in the {@link Batch#draw(Texture, float[], int, int)} format.
+	 * @return The ID of the image. */
+	public int add (Texture texture, float[] spriteVertices, int offset) {
+		if (drawing) throw new IllegalStateException("end must be called before add.");
+		float centerX = (spriteVertices[offset + Batch.X1] + spriteVertices[offset + Batch.X3]) / 2;
+		float centerY = (spriteVertices[offset + Batch.Y1] + spriteVertices[offset + Batch.Y3]) / 2;
+		int cellX = (int)Math.floor(centerX / cellSize), cellY = (int)Math.floor(centerY / cellSize);
+		long key = (long)cellX << 32 | (cellY & 0xffffffffL);
+
+		Array<Chunk> cellChunks = cells.get(key);
+		if (cellChunks == null) {
+			cellChunks = new Array(false, 4);
+			cells.put(key, cellChunks);
+		}
+		Chunk chunk = null;
+		for (int i = 0, n = cellChunks.size; i < n; i++) {
+			Chunk cellChunk = cellChunks.get(i);
+			if (cellChunk.texture == texture && cellChunk.hasFreeSlot()) {
+				chunk = cellChunk;
+				break;
+			}
+		}
+		if (chunk == null) {
+			if (chunks.size > (Integer.MAX_VALUE >> SLOT_BITS)) throw new IllegalStateException("Too many chunks.");
+			chunk = new Chunk(chunks.size, texture, chunkSize);
+			chunks.add(chunk);
+			cellChunks.add(chunk);
+		}
+
+		int slot = chunk.freeSlots.size > 0 ? chunk.freeSlots.pop() : chunk.count++;
+		chunk.used.set(slot);
+		chunk.set(slot, spriteVertices, offset);
+		size++;
+		return chunk.index << SLOT_BITS | slot;
+	}
+
+	/** Adds a sprite, its texture is used for the image.
+	 * @return The ID of the image. */
+	public int add (Sprite sprite) {
+		return add(sprite.getTexture(), sprite.getVertices(), 0);
+	}
+
+	/** Adds the region with the cache's color.
+	 * @return The ID of the image. */
+	public int add (TextureRegion region, float x, float y, float width, float height) {
+		return add(region.getTexture(), regionVertices(region, x, y, width, height), 0);
+	}
+
+	/** Replaces an image with the specified vertices. The image stays in the chunk it was added to, so it should stay near its
+	 * original position.
+	 * @see #add(Texture, float[], int) */
+	public void set (int id, float[] spriteVertices, int offset) {
+		if (drawing) throw new IllegalStateException("end must be called before set.");
+		getChunk(id).set(id & SLOT_MASK, spriteVertices, offset);
+	}
+
+	/** Replaces an image with a sprite, which must have the texture of the image. */
+	public void set (int id, Sprite sprite) {
+		if (getChunk(id).texture != sprite.getTexture())
+			throw new IllegalArgumentException("The texture of an image cannot be changed, remove and add it instead.");
+		set(id, sprite.getVertices(), 0);
+	}
+
+	/** Replaces an image with a region, which must have the texture of the image. */
+	public void set (int id, TextureRegion region, float x, float y, float width, float height) {
+		if (getChunk(id).texture != region.getTexture())
+			throw new IllegalArgumentException("The texture of an image cannot be changed, remove and add it instead.");
+		set(id, regionVertices(region, x, y, width, height), 0);
+	}
+
+	/** Removes an image, its ID becomes invalid and may be returned for images added later.
+	 * @throws IllegalArgumentException if the ID is invalid, e.g. because the image was already removed. */
+	public void remove (int id) {
+		if (drawing) throw new IllegalStateException("end must be called before remove.");
+		Chunk chunk = getChunk(id);
+		int slot = id & SLOT_MASK;
+		// A quad with all vertices at the same position is not rasterized.
+		float[] vertices = chunk.vertices;
+		int start = slot * SPRITE_SIZE;
+		for (int i = start, n = start + SPRITE_SIZE; i < n; i++)
+			vertices[i] = 0;
+		chunk.dirty(slot);
+		chunk.used.clear(slot);
+		chunk.freeSlots.add(slot);
+		size--;
+	}
+
+	private Chunk getChunk (int id) {
+		int index = id >>> SLOT_BITS, slot = id & SLOT_MASK;
+		if (index >= chunks.size || !chunks.get(index).used.get(slot)) throw new IllegalArgumentException("Invalid ID: " + id);
+		return chunks.get(index);
+	}
+
+	private float[] regionVertices (TextureRegion region, float x, float y, float width, float height) {
+		float fx2 = x + width, fy2 = y + height;
+		float u = region.u, v = region.v2, u2 = region.u2, v2 = region.v;
+		float color = colorPacked;
+		float[] vertices = tempVertices;
+		vertices[Batch.X1] = x;
+		vertices[Batch.Y1] = y;
+		vertices[Batch.C1] = color;
+		vertices[Batch.U1] = u;
+		vertices[Batch.V1] = v;
+
+		vertices[Batch.X2] = x;
+		vertices[Batch.Y2] = fy2;
+		vertices[Batch.C2] = color;
+		vertices[Batch.U2] = u;
+		vertices[Batch.V2] = v2;
+
+		vertices[Batch.X3] = fx2;
+		vertices[Batch.Y3] = fy2;
+		vertices[Batch.C3] = color;
+		vertices[Batch.U3] = u2;
+		vertices[Batch.V3] = v2;
+
+		vertices[Batch.X4] = fx2;
+		vertices[Batch.Y4] = y;
+		vertices[Batch.C4] = color;
+		vertices[Batch.U4] = u2;
+		vertices[Batch.V4] = v;
+		return vertices;
+	}
+
+	/** Removes all images and invalidates all IDs. */
+	public void clear () {
+		if (drawing) throw new IllegalStateException("end must be called before clear.");
+		for (int i = 0, n = chunks.size; i < n; i++)
+			chunks.get(i).dispose();
+		chunks.clear();
+		cells.clear();
+		size = 0;
+	}
+
+	/** Returns the number of images in the cache. */
+	public int getSize () {
+		return size;
+	}
+
+	/** Returns the number of chunks the images are stored in. */
+	public int getChunkCount () {
+		return chunks.size;
+	}
+
+	/** Prepares the OpenGL state for drawing. */
+	public void begin () {
+		if (drawing) throw new IllegalStateException("end must be called before begin.");
+		renderCalls = 0;
+		culledChunks = 0;
+		uploadedBytes = 0;
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+
+		Gdx.gl20.glDepthMask(false);
+
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		shader.begin();
+		if (customShader != null) {
+			customShader.setUniformMatrix("u_proj", projectionMatrix);
+			customShader.setUniformMatrix("u_trans", transformMatrix);
+			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
+		} else
+			shader.setUniformMatrix("u_projectionViewMatrix", combinedMatrix);
+		shader.setUniformi("u_texture", 0);
+
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		indices.bind();
+		positionLocation = shader.getAttributeLocation(ShaderProgram.POSITION_ATTRIBUTE);
+		colorLocation = shader.getAttributeLocation(ShaderProgram.COLOR_ATTRIBUTE);
+		texCoordLocation = shader.getAttributeLocation(ShaderProgram.TEXCOORD_ATTRIBUTE + "0");
+		if (positionLocation >= 0) shader.enableVertexAttribute(positionLocation);
+		if (colorLocation >= 0) shader.enableVertexAttribute(colorLocation);
+		if (texCoordLocation >= 0) shader.enableVertexAttribute(texCoordLocation);
+		drawing = true;
+	}
+
+	/** Completes drawing. */
+	public void end () {
+		if (!drawing) throw new IllegalStateException("begin must be called before end.");
+		drawing = false;
+
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		if (positionLocation >= 0) shader.disableVertexAttribute(positionLocation);
+		if (colorLocation >= 0) shader.disableVertexAttribute(colorLocation);
+		if (texCoordLocation >= 0) shader.disableVertexAttribute(texCoordLocation);
+		indices.unbind();
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(0);
+		shader.end();
+		Gdx.gl20.glDepthMask(true);
+	}
+
+	/** Draws all images. */
+	public void draw () {
+		draw(null);
+	}
+
+	/** Draws the chunks that overlap the specified bounds, typically the area visible by the camera.
+	 * @param viewBounds May be null to draw all chunks. */
+	public void draw (Rectangle viewBounds) {
+		if (!drawing) throw new IllegalStateException("begin must be called before draw.");
+		GL20 gl = Gdx.gl20;
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		Texture lastTexture = null;
+		for (int i = 0, n = chunks.size; i < n; i++) {
+			Chunk chunk = chunks.get(i);
+			if (chunk.count == chunk.freeSlots.size) continue; // Empty.
+			if (viewBounds != null && (chunk.maxX < viewBounds.x || chunk.minX > viewBounds.x + viewBounds.width
+				|| chunk.maxY < viewBounds.y || chunk.minY > viewBounds.y + viewBounds.height)) {
+				culledChunks++;
+				continue;
+			}
+
+			if (chunk.bufferHandle == 0) {
+				chunk.bufferHandle = gl.glGenBuffer();
+				gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, chunk.bufferHandle);
+				gl.glBufferData(GL20.GL_ARRAY_BUFFER, chunkSize * SPRITE_SIZE * 4, null, GL20.GL_DYNAMIC_DRAW);
+				chunk.dirtyStart = 0;
+				chunk.dirtyEnd = chunk.count;
+			} else
+				gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, chunk.bufferHandle);
+			if (chunk.dirtyStart < chunk.dirtyEnd) {
+				int offset = chunk.dirtyStart * SPRITE_SIZE, count = (chunk.dirtyEnd - chunk.dirtyStart) * SPRITE_SIZE;
+				BufferUtils.copy(chunk.vertices, uploadBuffer, count, offset);
+				gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, offset * 4, count * 4, uploadBuffer);
+				uploadedBytes += count * 4;
+				chunk.dirtyStart = Integer.MAX_VALUE;
+				chunk.dirtyEnd = 0;
+			}
+
+			int stride = VERTEX_SIZE * 4;
+			if (positionLocation >= 0) shader.setVertexAttribute(positionLocation, 2, GL20.GL_FLOAT, false, stride, 0);
+			if (colorLocation >= 0) shader.setVertexAttribute(colorLocation, 4, GL20.GL_UNSIGNED_BYTE, true, stride, 8);
+			if (texCoordLocation >= 0) shader.setVertexAttribute(texCoordLocation, 2, GL20.GL_FLOAT, false, stride, 12);
+
+			if (chunk.texture != lastTexture) {
+				chunk.texture.bind();
+				lastTexture = chunk.texture;
+			}
+			gl.glDrawElements(GL20.GL_TRIANGLES, chunk.count * 6, GL20.GL_UNSIGNED_SHORT, 0);
+			renderCalls++;
+			totalRenderCalls++;
+		}
+	}
+
+	/** Creates new OpenGL buffers after the OpenGL context was lost, all images are uploaded again when they are drawn. */
+	public void invalidate () {
+		indices.invalidate();
+		for (int i = 0, n = chunks.size; i < n; i++)
+			chunks.get(i).bufferHandle = 0;
+		if (vaoHandle != -1) createVAO();
+	}
+
+	/** Releases all resources held by this cache. */
+	public void dispose () {
+		clear();
+		indices.dispose();
+		BufferUtils.disposeUnsafeByteBuffer(uploadBuffer);
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+		if (shader != null) shader.dispose();
+	}
+
+	private void createVAO () {
+		tmpHandle.clear();
+		Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) throw new IllegalStateException("Can't set the matrix within begin/end.");
+		projectionMatrix.set(projection);
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) throw new IllegalStateException("Can't set the matrix within begin/end.");
+		transformMatrix.set(transform);
+	}
+
+	/** Sets the shader to use instead of the default shader, with the same attributes and uniforms as
+	 * {@link SpriteCache#setShader(ShaderProgram)}. Call this method with a null argument to use the default shader. */
+	public void setShader (ShaderProgram shader) {
+		if (drawing) throw new IllegalStateException("Can't set the shader within begin/end.");
+		customShader = shader;
+	}
+
+	/** Returns the custom shader, or null if the default shader is being used. */
+	public ShaderProgram getCustomShader () {
+		return customShader;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+
+	static private class Chunk {
+		final int index;
+		final Texture texture;
+		final float[] vertices;
+		/** Number of slots used, including free slots. */
+		int count;
+		final IntArray freeSlots = new IntArray();
+		/** Slots holding an image. */
+		final Bits used = new Bits();
+		/** Bounds of the images, only growing until the chunk is empty. */
+		float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+		/** Range of slots that need to be uploaded. */
+		int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
+		int bufferHandle;
+
+		Chunk (int index, Texture texture, int size) {
+			this.index = index;
+			this.texture = texture;
+			vertices = new float[size * SPRITE_SIZE];
+		}
+
+		boolean hasFreeSlot () {
+			return freeSlots.size > 0 || count < vertices.length / SPRITE_SIZE;
+		}
+
+		void set (int slot, float[] spriteVertices, int offset) {
+			System.arraycopy(spriteVertices, offset, vertices, slot * SPRITE_SIZE, SPRITE_SIZE);
+			for (int i = offset, n = offset + SPRITE_SIZE; i < n; i += VERTEX_SIZE) {
+				float x = spriteVertices[i], y = spriteVertices[i + 1];
+				if (x < minX) minX = x;
+				if (x > maxX) maxX = x;
+				if (y < minY) minY = y;
+				if (y > maxY) maxY = y;
+			}
+			dirty(slot);
+		}
+
+		void dirty (int slot) {
+			if (slot < dirtyStart) dirtyStart = slot;
+			if (slot >= dirtyEnd) dirtyEnd = slot + 1;
+		}
+
+		void dispose () {
+			if (bufferHandle != 0) {
+				Gdx.gl20.glDeleteBuffer(bufferHandle);
+				bufferHandle = 0;
+			}
+		}
+	}
+}
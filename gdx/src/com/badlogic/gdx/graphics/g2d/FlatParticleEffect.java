@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** A {@link ParticleEffect} that loads its emitters as {@link FlatParticleEmitter FlatParticleEmitters}. If an executor is set,
+ * new particles are still emitted on the calling thread, but the particles of the emitters are then updated in parallel.
+ * @see #setExecutor(AsyncExecutor) */
+public class FlatParticleEffect extends ParticleEffect {
+	private AsyncExecutor executor;
+	private final Array<UpdateTask> tasks = new Array<UpdateTask>();
+	private final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>();
+
+	public FlatParticleEffect () {
+	}
+
+	public FlatParticleEffect (ParticleEffect effect) {
+		super(effect);
+	}
+
+	/** @param executor updates the particles of the emitters in parallel, may be null to update them on the calling thread. The
+	 *           executor is not disposed by this effect and can be shared between effects. */
+	public void setExecutor (AsyncExecutor executor) {
+		this.executor = executor;
+	}
+
+	public AsyncExecutor getExecutor () {
+		return executor;
+	}
+
+	public void update (float delta) {
+		if (executor == null) {
+			super.update(delta);
+			return;
+		}
+		Array<ParticleEmitter> emitters = getEmitters();
+		UpdateTask last = null;
+		int taskCount = 0;
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			if (!(emitter instanceof FlatParticleEmitter)) {
+				// Other emitters share state between their particles and are updated here.
+				emitter.update(delta);
+				continue;
+			}
+			int deltaMillis = emitter.updateEmission(delta);
+			if (deltaMillis == 0) continue;
+			if (taskCount == tasks.size) tasks.add(new UpdateTask());
+			UpdateTask task = tasks.get(taskCount++);
+			task.emitter = emitter;
+			task.delta = delta;
+			task.deltaMillis = deltaMillis;
+			// The last task runs on this thread instead of waiting.
+			if (last != null) results.add(executor.submit(last));
+			last = task;
+		}
+		if (last != null) {
+			try {
+				last.call();
+				for (int i = 0, n = results.size; i < n; i++)
+					results.get(i).get();
+			} finally {
+				results.clear();
+			}
+		}
+		for (int i = 0; i < taskCount; i++)
+			tasks.get(i).emitter = null;
+	}
+
+	/** Updates the emitters as in {@link #update(float)}, then draws them. */
+	public void draw (Batch spriteBatch, float delta) {
+		update(delta);
+		draw(spriteBatch);
+	}
+
+	protected ParticleEmitter newEmitter (BufferedReader reader) throws IOException {
+		return new FlatParticleEmitter(reader);
+	}
+
+	protected ParticleEmitter newEmitter (ParticleEmitter emitter) {
+		return new FlatParticleEmitter(emitter);
+	}
+
+	static private class UpdateTask implements AsyncTask<Void> {
+		ParticleEmitter emitter;
+		float delta;
+		int deltaMillis;
+
+		public Void call () {
+			emitter.updateParticles(delta, deltaMillis);
+			return null;
+		}
+	}
+}
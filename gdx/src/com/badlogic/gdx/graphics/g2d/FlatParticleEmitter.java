@@ -0,0 +1,652 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/** A {@link ParticleEmitter} that keeps its particles in flat arrays, one per channel, instead of as {@link Particle} sprites. It
+ * reads the same effect files and values, updates the live particles with a loop per channel and writes their vertices straight
+ * into the batch. Live particles are kept packed at the front of the channels and a dead particle is replaced by the last live
+ * one, so the draw order is not stable.
+ * <p>
+ * {@link #updateParticles(float, int)} doesn't use shared state, which lets {@link FlatParticleEffect} update the particles of
+ * several emitters in parallel. */
+public class FlatParticleEmitter extends ParticleEmitter {
+	static private final int SPRITE_SIZE = 20;
+
+	// No initializers, the super constructors call setMaxParticleCount before they would run.
+	private int[] totalLife, currentLife, frames;
+	private float[] percents, scales;
+	private float[] positionX, positionY;
+	private float[] velocity, velocityDiff;
+	private float[] angle, angleDiff, angleCos, angleSin;
+	private float[] xScale, xScaleDiff, yScale, yScaleDiff;
+	private float[] rotation, rotationDiff;
+	private float[] wind, windDiff, gravity, gravityDiff;
+	private float[] transparency, transparencyDiff, tint;
+	private float[] scaleX, scaleY, rotations, colors;
+	private float[] vertices;
+	private BoundingBox bounds;
+
+	public FlatParticleEmitter () {
+	}
+
+	public FlatParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public FlatParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+	}
+
+	public void setMaxParticleCount (int maxParticleCount) {
+		super.setMaxParticleCount(maxParticleCount);
+		totalLife = new int[maxParticleCount];
+		currentLife = new int[maxParticleCount];
+		frames = new int[maxParticleCount];
+		percents = new float[maxParticleCount];
+		scales = new float[maxParticleCount];
+		positionX = new float[maxParticleCount];
+		positionY = new float[maxParticleCount];
+		velocity = new float[maxParticleCount];
+		velocityDiff = new float[maxParticleCount];
+		angle = new float[maxParticleCount];
+		angleDiff = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		xScale = new float[maxParticleCount];
+		xScaleDiff = new float[maxParticleCount];
+		yScale = new float[maxParticleCount];
+		yScaleDiff = new float[maxParticleCount];
+		rotation = new float[maxParticleCount];
+		rotationDiff = new float[maxParticleCount];
+		wind = new float[maxParticleCount];
+		windDiff = new float[maxParticleCount];
+		gravity = new float[maxParticleCount];
+		gravityDiff = new float[maxParticleCount];
+		transparency = new float[maxParticleCount];
+		transparencyDiff = new float[maxParticleCount];
+		tint = new float[maxParticleCount * 3];
+		scaleX = new float[maxParticleCount];
+		scaleY = new float[maxParticleCount];
+		rotations = new float[maxParticleCount];
+		colors = new float[maxParticleCount];
+		vertices = null;
+	}
+
+	public void addParticle () {
+		addParticles(1);
+	}
+
+	public void addParticles (int count) {
+		count = Math.min(count, getMaxParticleCount() - activeCount);
+		for (int i = 0; i < count; i++)
+			activateParticle(activeCount++);
+	}
+
+	private void activateParticle (int i) {
+		Array<Sprite> sprites = getSprites();
+		int frame = getSpriteMode() == SpriteMode.random ? MathUtils.random(sprites.size - 1) : 0;
+		Sprite sprite = sprites.get(frame);
+		frames[i] = frame;
+
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		if (lifeValue.independent) generateLifeValues();
+
+		if (lifeOffsetValue.independent) generateLifeOffsetValues();
+
+		currentLife[i] = totalLife[i] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			velocity[i] = velocityValue.newLowValue();
+			velocityDiff[i] = velocityValue.newHighValue();
+			if (!velocityValue.isRelative()) velocityDiff[i] -= velocity[i];
+		}
+
+		angle[i] = angleValue.newLowValue();
+		angleDiff[i] = angleValue.newHighValue();
+		if (!angleValue.isRelative()) angleDiff[i] -= angle[i];
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = this.angle[i] + angleDiff[i] * angleValue.getScale(0);
+			this.angle[i] = angle;
+			angleCos[i] = MathUtils.cosDeg(angle);
+			angleSin[i] = MathUtils.sinDeg(angle);
+		}
+
+		float spriteWidth = sprite.getWidth();
+		float spriteHeight = sprite.getHeight();
+
+		xScale[i] = xScaleValue.newLowValue() / spriteWidth;
+		xScaleDiff[i] = xScaleValue.newHighValue() / spriteWidth;
+		if (!xScaleValue.isRelative()) xScaleDiff[i] -= xScale[i];
+		scaleX[i] = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(0);
+
+		if (yScaleValue.active) {
+			yScale[i] = yScaleValue.newLowValue() / spriteHeight;
+			yScaleDiff[i] = yScaleValue.newHighValue() / spriteHeight;
+			if (!yScaleValue.isRelative()) yScaleDiff[i] -= yScale[i];
+			scaleY[i] = yScale[i] + yScaleDiff[i] * yScaleValue.getScale(0);
+		} else
+			scaleY[i] = scaleX[i];
+
+		if (rotationValue.active) {
+			rotation[i] = rotationValue.newLowValue();
+			rotationDiff[i] = rotationValue.newHighValue();
+			if (!rotationValue.isRelative()) rotationDiff[i] -= rotation[i];
+			float rotation = this.rotation[i] + rotationDiff[i] * rotationValue.getScale(0);
+			if (isAligned()) rotation += angle;
+			rotations[i] = rotation;
+		} else {
+			rotation[i] = 0;
+			rotationDiff[i] = 0;
+			rotations[i] = 0;
+		}
+
+		if (windValue.active) {
+			wind[i] = windValue.newLowValue();
+			windDiff[i] = windValue.newHighValue();
+			if (!windValue.isRelative()) windDiff[i] -= wind[i];
+		}
+
+		if (gravityValue.active) {
+			gravity[i] = gravityValue.newLowValue();
+			gravityDiff[i] = gravityValue.newHighValue();
+			if (!gravityValue.isRelative()) gravityDiff[i] -= gravity[i];
+		}
+
+		interpolateTint(0, tint, i * 3);
+
+		transparency[i] = transparencyValue.newLowValue();
+		transparencyDiff[i] = transparencyValue.newHighValue() - transparency[i];
+
+		// Spawn.
+		float x = getX();
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		float y = getY();
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		switch (spawnShapeValue.shape) {
+		case square: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			x += MathUtils.random(width) - width / 2;
+			y += MathUtils.random(height) - height / 2;
+			break;
+		}
+		case ellipse: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			float radiusX = width / 2;
+			float radiusY = height / 2;
+			if (radiusX == 0 || radiusY == 0) break;
+			float scaleY = radiusX / (float)radiusY;
+			if (spawnShapeValue.edges) {
+				float spawnAngle;
+				switch (spawnShapeValue.side) {
+				case top:
+					spawnAngle = -MathUtils.random(179f);
+					break;
+				case bottom:
+					spawnAngle = MathUtils.random(179f);
+					break;
+				default:
+					spawnAngle = MathUtils.random(360f);
+					break;
+				}
+				float cosDeg = MathUtils.cosDeg(spawnAngle);
+				float sinDeg = MathUtils.sinDeg(spawnAngle);
+				x += cosDeg * radiusX;
+				y += sinDeg * radiusX / scaleY;
+				if ((updateFlags & UPDATE_ANGLE) == 0) {
+					this.angle[i] = spawnAngle;
+					angleCos[i] = cosDeg;
+					angleSin[i] = sinDeg;
+				}
+			} else {
+				float radius2 = radiusX * radiusX;
+				while (true) {
+					float px = MathUtils.random(width) - radiusX;
+					float py = MathUtils.random(width) - radiusX;
+					if (px * px + py * py <= radius2) {
+						x += px;
+						y += py / scaleY;
+						break;
+					}
+				}
+			}
+			break;
+		}
+		case line: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			if (width != 0) {
+				float lineX = width * MathUtils.random();
+				x += lineX;
+				y += lineX * (height / (float)width);
+			} else
+				y += height * MathUtils.random();
+			break;
+		}
+		}
+
+		positionX[i] = x;
+		positionY[i] = y;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLife[i]) offsetTime = currentLife[i] - 1;
+			int life = currentLife[i] - offsetTime;
+			currentLife[i] = life;
+			percents[i] = 1 - life / (float)totalLife[i];
+			animateParticles(i, i + 1, offsetTime / 1000f);
+		}
+	}
+
+	void updateParticles (float delta, int deltaMillis) {
+		int[] currentLife = this.currentLife, totalLife = this.totalLife;
+		float[] percents = this.percents;
+		int activeCount = this.activeCount;
+		for (int i = 0; i < activeCount;) {
+			int life = currentLife[i] - deltaMillis;
+			if (life <= 0) {
+				// The last particle hasn't been aged yet, it is moved here and aged in the next iteration.
+				if (i != --activeCount) copyParticle(activeCount, i);
+				continue;
+			}
+			currentLife[i] = life;
+			percents[i] = 1 - life / (float)totalLife[i];
+			i++;
+		}
+		this.activeCount = activeCount;
+		animateParticles(0, activeCount, delta);
+	}
+
+	private void animateParticles (int start, int end, float delta) {
+		float[] percents = this.percents, scales = this.scales;
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0) {
+			sampleScale(xScaleValue, start, end);
+			float[] xScale = this.xScale, xScaleDiff = this.xScaleDiff, scaleX = this.scaleX;
+			for (int i = start; i < end; i++)
+				scaleX[i] = xScale[i] + xScaleDiff[i] * scales[i];
+			if (yScaleValue.active) {
+				sampleScale(yScaleValue, start, end);
+				float[] yScale = this.yScale, yScaleDiff = this.yScaleDiff, scaleY = this.scaleY;
+				for (int i = start; i < end; i++)
+					scaleY[i] = yScale[i] + yScaleDiff[i] * scales[i];
+			} else
+				System.arraycopy(scaleX, start, scaleY, start, end - start);
+		}
+
+		boolean aligned = isAligned();
+		float[] rotation = this.rotation, rotationDiff = this.rotationDiff, rotations = this.rotations;
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float[] angle = this.angle, angleCos = this.angleCos, angleSin = this.angleSin;
+			if ((updateFlags & UPDATE_ANGLE) != 0) {
+				sampleScale(angleValue, start, end);
+				float[] angleDiff = this.angleDiff;
+				boolean rotate = (updateFlags & UPDATE_ROTATION) != 0;
+				// When rotating, the current angle is kept in the rotations channel until the rotation replaces it.
+				for (int i = start; i < end; i++) {
+					float currentAngle = angle[i] + angleDiff[i] * scales[i];
+					angleCos[i] = MathUtils.cosDeg(currentAngle);
+					angleSin[i] = MathUtils.sinDeg(currentAngle);
+					if (rotate) rotations[i] = currentAngle;
+				}
+				if (rotate) {
+					sampleScale(rotationValue, start, end);
+					for (int i = start; i < end; i++) {
+						float currentRotation = rotation[i] + rotationDiff[i] * scales[i];
+						rotations[i] = aligned ? currentRotation + rotations[i] : currentRotation;
+					}
+				}
+			} else if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+				sampleScale(rotationValue, start, end);
+				for (int i = start; i < end; i++) {
+					float currentRotation = rotation[i] + rotationDiff[i] * scales[i];
+					rotations[i] = aligned ? currentRotation + angle[i] : currentRotation;
+				}
+			}
+
+			sampleScale(velocityValue, start, end);
+			float[] velocity = this.velocity, velocityDiff = this.velocityDiff;
+			float[] positionX = this.positionX, positionY = this.positionY;
+			for (int i = start; i < end; i++) {
+				float distance = (velocity[i] + velocityDiff[i] * scales[i]) * delta;
+				positionX[i] += distance * angleCos[i];
+				positionY[i] += distance * angleSin[i];
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0) {
+				sampleScale(windValue, start, end);
+				float[] wind = this.wind, windDiff = this.windDiff;
+				for (int i = start; i < end; i++)
+					positionX[i] += (wind[i] + windDiff[i] * scales[i]) * delta;
+			}
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0) {
+				sampleScale(gravityValue, start, end);
+				float[] gravity = this.gravity, gravityDiff = this.gravityDiff;
+				for (int i = start; i < end; i++)
+					positionY[i] += (gravity[i] + gravityDiff[i] * scales[i]) * delta;
+			}
+		} else if ((updateFlags & UPDATE_ROTATION) != 0) {
+			sampleScale(rotationValue, start, end);
+			for (int i = start; i < end; i++)
+				rotations[i] = rotation[i] + rotationDiff[i] * scales[i];
+		}
+
+		float[] tint = this.tint;
+		if ((updateFlags & UPDATE_TINT) != 0) {
+			for (int i = start; i < end; i++)
+				interpolateTint(percents[i], tint, i * 3);
+		}
+
+		sampleScale(transparencyValue, start, end);
+		float[] transparency = this.transparency, transparencyDiff = this.transparencyDiff, colors = this.colors;
+		if (isPremultipliedAlpha()) {
+			float alphaMultiplier = isAdditive() ? 0 : 1;
+			for (int i = start, t = start * 3; i < end; i++, t += 3) {
+				float a = MathUtils.clamp(transparency[i] + transparencyDiff[i] * scales[i], 0, 1);
+				colors[i] = Color.toFloatBits(tint[t] * a, tint[t + 1] * a, tint[t + 2] * a, a * alphaMultiplier);
+			}
+		} else {
+			for (int i = start, t = start * 3; i < end; i++, t += 3) {
+				float a = MathUtils.clamp(transparency[i] + transparencyDiff[i] * scales[i], 0, 1);
+				colors[i] = Color.toFloatBits(tint[t], tint[t + 1], tint[t + 2], a);
+			}
+		}
+
+		if ((updateFlags & UPDATE_SPRITE) != 0) {
+			int frameCount = getSprites().size;
+			int[] frames = this.frames;
+			for (int i = start; i < end; i++)
+				frames[i] = Math.min((int)(percents[i] * frameCount), frameCount - 1);
+		}
+	}
+
+	/** Writes {@link ScaledNumericValue#getScale(float)} of each particle's percent to the scales channel. Timelines with one or
+	 * two points, which most effects use, are computed without searching the timeline. */
+	private void sampleScale (ScaledNumericValue value, int start, int end) {
+		float[] percents = this.percents, scales = this.scales;
+		float[] timeline = value.timeline, scaling = value.getScaling();
+		switch (timeline.length) {
+		case 1: {
+			float scale = scaling[0];
+			for (int i = start; i < end; i++)
+				scales[i] = scale;
+			break;
+		}
+		case 2: {
+			float startTime = timeline[0], endTime = timeline[1], duration = endTime - startTime;
+			float startValue = scaling[0], endValue = scaling[1], range = endValue - startValue;
+			for (int i = start; i < end; i++) {
+				float percent = percents[i];
+				scales[i] = endTime > percent ? startValue + range * ((percent - startTime) / duration) : endValue;
+			}
+			break;
+		}
+		default:
+			for (int i = start; i < end; i++)
+				scales[i] = value.getScale(percents[i]);
+		}
+	}
+
+	/** Same as {@link GradientColorValue#getColor(float)}, but writes to the given array instead of a shared one. */
+	private void interpolateTint (float percent, float[] out, int offset) {
+		float[] timeline = tintValue.timeline;
+		float[] colors = tintValue.getColors();
+		int startIndex = 0, endIndex = -1;
+		for (int i = 1, n = timeline.length; i < n; i++) {
+			if (timeline[i] > percent) {
+				endIndex = i;
+				break;
+			}
+			startIndex = i;
+		}
+		int c = startIndex * 3;
+		if (endIndex == -1) {
+			out[offset] = colors[c];
+			out[offset + 1] = colors[c + 1];
+			out[offset + 2] = colors[c + 2];
+			return;
+		}
+		float startTime = timeline[startIndex];
+		float factor = (percent - startTime) / (timeline[endIndex] - startTime);
+		int e = endIndex * 3;
+		out[offset] = colors[c] + (colors[e] - colors[c]) * factor;
+		out[offset + 1] = colors[c + 1] + (colors[e + 1] - colors[c + 1]) * factor;
+		out[offset + 2] = colors[c + 2] + (colors[e + 2] - colors[c + 2]) * factor;
+	}
+
+	private void copyParticle (int from, int to) {
+		totalLife[to] = totalLife[from];
+		currentLife[to] = currentLife[from];
+		frames[to] = frames[from];
+		percents[to] = percents[from];
+		positionX[to] = positionX[from];
+		positionY[to] = positionY[from];
+		velocity[to] = velocity[from];
+		velocityDiff[to] = velocityDiff[from];
+		angle[to] = angle[from];
+		angleDiff[to] = angleDiff[from];
+		angleCos[to] = angleCos[from];
+		angleSin[to] = angleSin[from];
+		xScale[to] = xScale[from];
+		xScaleDiff[to] = xScaleDiff[from];
+		yScale[to] = yScale[from];
+		yScaleDiff[to] = yScaleDiff[from];
+		rotation[to] = rotation[from];
+		rotationDiff[to] = rotationDiff[from];
+		wind[to] = wind[from];
+		windDiff[to] = windDiff[from];
+		gravity[to] = gravity[from];
+		gravityDiff[to] = gravityDiff[from];
+		transparency[to] = transparency[from];
+		transparencyDiff[to] = transparencyDiff[from];
+		System.arraycopy(tint, from * 3, tint, to * 3, 3);
+		scaleX[to] = scaleX[from];
+		scaleY[to] = scaleY[from];
+		rotations[to] = rotations[from];
+		colors[to] = colors[from];
+	}
+
+	public void draw (Batch batch) {
+		if (isPremultipliedAlpha()) {
+			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		} else if (isAdditive()) {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+		} else {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+
+		int activeCount = this.activeCount;
+		if (activeCount > 0) {
+			float[] vertices = this.vertices;
+			if (vertices == null) this.vertices = vertices = new float[getMaxParticleCount() * SPRITE_SIZE];
+			// Consecutive particles with the same texture are drawn with one call.
+			Array<Sprite> sprites = getSprites();
+			Texture texture = sprites.get(frames[0]).getTexture();
+			int start = 0;
+			for (int i = 0; i < activeCount; i++) {
+				Texture particleTexture = sprites.get(frames[i]).getTexture();
+				if (particleTexture != texture) {
+					batch.draw(texture, vertices, start * SPRITE_SIZE, (i - start) * SPRITE_SIZE);
+					texture = particleTexture;
+					start = i;
+				}
+				computeVertices(i, vertices, i * SPRITE_SIZE);
+			}
+			batch.draw(texture, vertices, start * SPRITE_SIZE, (activeCount - start) * SPRITE_SIZE);
+		}
+
+		if (cleansUpBlendFunction && (isAdditive() || isPremultipliedAlpha()))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Updates and draws the particles. Unlike {@link ParticleEmitter#draw(Batch, float)}, the particles are always updated
+	 * before they are drawn. */
+	public void draw (Batch batch, float delta) {
+		update(delta);
+		draw(batch);
+	}
+
+	/** Writes the four vertices of the particle in the same layout as {@link Sprite#getVertices()}. */
+	private void computeVertices (int i, float[] vertices, int offset) {
+		Sprite sprite = getSprites().get(frames[i]);
+		float width = sprite.getWidth(), height = sprite.getHeight();
+		float originX = sprite.getOriginX(), originY = sprite.getOriginY();
+		float worldOriginX = positionX[i] - width / 2 + originX;
+		float worldOriginY = positionY[i] - height / 2 + originY;
+		float scaleX = this.scaleX[i], scaleY = this.scaleY[i];
+		float fx = -originX * scaleX;
+		float fy = -originY * scaleY;
+		float fx2 = (width - originX) * scaleX;
+		float fy2 = (height - originY) * scaleY;
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+		float rotation = rotations[i];
+		if (rotation != 0) {
+			float cos = MathUtils.cosDeg(rotation);
+			float sin = MathUtils.sinDeg(rotation);
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+			x2 = fx;
+			y2 = fy2;
+			x3 = fx2;
+			y3 = fy2;
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		float u = sprite.getU(), v = sprite.getV2(), u2 = sprite.getU2(), v2 = sprite.getV();
+		if (flipX) {
+			float temp = u;
+			u = u2;
+			u2 = temp;
+		}
+		if (flipY) {
+			float temp = v;
+			v = v2;
+			v2 = temp;
+		}
+
+		float color = colors[i];
+		vertices[offset] = x1 + worldOriginX;
+		vertices[offset + 1] = y1 + worldOriginY;
+		vertices[offset + 2] = color;
+		vertices[offset + 3] = u;
+		vertices[offset + 4] = v;
+
+		vertices[offset + 5] = x2 + worldOriginX;
+		vertices[offset + 6] = y2 + worldOriginY;
+		vertices[offset + 7] = color;
+		vertices[offset + 8] = u;
+		vertices[offset + 9] = v2;
+
+		vertices[offset + 10] = x3 + worldOriginX;
+		vertices[offset + 11] = y3 + worldOriginY;
+		vertices[offset + 12] = color;
+		vertices[offset + 13] = u2;
+		vertices[offset + 14] = v2;
+
+		vertices[offset + 15] = x4 + worldOriginX;
+		vertices[offset + 16] = y4 + worldOriginY;
+		vertices[offset + 17] = color;
+		vertices[offset + 18] = u2;
+		vertices[offset + 19] = v;
+	}
+
+	public void setPosition (float x, float y) {
+		if (isAttached()) {
+			float xAmount = x - getX();
+			float yAmount = y - getY();
+			float[] positionX = this.positionX, positionY = this.positionY;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				positionX[i] += xAmount;
+				positionY[i] += yAmount;
+			}
+		}
+		super.setPosition(x, y);
+	}
+
+	public void setSprites (Array<Sprite> sprites) {
+		super.setSprites(sprites);
+		if (sprites.size == 0) return;
+		int[] frames = this.frames;
+		for (int i = 0, n = activeCount; i < n; i++) {
+			switch (getSpriteMode()) {
+			case single:
+				frames[i] = 0;
+				break;
+			case random:
+				if (frames[i] >= sprites.size) frames[i] = MathUtils.random(sprites.size - 1);
+				break;
+			case animated:
+				frames[i] = Math.min((int)(percents[i] * sprites.size), sprites.size - 1);
+				break;
+			}
+		}
+	}
+
+	/** Returns the bounding box for all active particles. z axis will always be zero. */
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) bounds = new BoundingBox();
+
+		BoundingBox bounds = this.bounds;
+		bounds.inf();
+		float[] vertices = new float[SPRITE_SIZE];
+		for (int i = 0, n = activeCount; i < n; i++) {
+			computeVertices(i, vertices, 0);
+			for (int v = 0; v < SPRITE_SIZE; v += 5)
+				bounds.ext(vertices[v], vertices[v + 1], 0);
+		}
+		return bounds;
+	}
+
+	/** @return the x coordinate of the center of the particle at the given index, which must be less than
+	 *         {@link #getActiveCount()} */
+	public float getParticleX (int index) {
+		return positionX[index];
+	}
+
+	/** @return the y coordinate of the center of the particle at the given index, which must be less than
+	 *         {@link #getActiveCount()} */
+	public float getParticleY (int index) {
+		return positionY[index];
+	}
+}
@@ -23,19 +23,30 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.badlogic.gdx.utils.Pools;
 
 /** Stores {@link GlyphRun runs} of glyphs for a piece of text. The text may contain newlines and color markup tags.
+ * <p>
+ * Runs and colors are pooled, so once the pools hold enough objects, setting text does not allocate.
  * @author Nathan Sweet
  * @author davebaol
  * @author Alexander Dorokhov */
 public class GlyphLayout implements Poolable {
+	/** Has no maximum, so runs freed by long text can be reused instead of being garbage collected. */
+	static private final Pool<GlyphRun> glyphRunPool = new Pool<GlyphRun>() {
+		protected GlyphRun newObject () {
+			return new GlyphRun();
+		}
+	};
+
 	public final Array<GlyphRun> runs = new Array();
 	public float width, height;
 
 	private final Array<Color> colorStack = new Array(4);
+	private final ColorName colorName = new ColorName();
 
 	/** Creates an empty GlyphLayout. */
 	public GlyphLayout () {
@@ -89,7 +100,7 @@ public class GlyphLayout implements Poolable {
 
 		boolean markupEnabled = fontData.markupEnabled;
 
-		Pool<GlyphRun> glyphRunPool = Pools.get(GlyphRun.class);
+		Pool<GlyphRun> glyphRunPool = GlyphLayout.glyphRunPool;
 		Array<GlyphRun> runs = this.runs;
 		glyphRunPool.freeAll(runs);
 		runs.clear();
@@ -465,7 +476,7 @@ public class GlyphLayout implements Poolable {
 		for (int i = start + 1; i < end; i++) {
 			char ch = str.charAt(i);
 			if (ch != ']') continue;
-			Color namedColor = Colors.get(str.subSequence(colorStart, i).toString());
+			Color namedColor = getNamedColor(str, colorStart, i);
 			if (namedColor == null) return -1; // Unknown color name.
 			Color color = colorPool.obtain();
 			colorStack.add(color);
@@ -475,8 +486,16 @@ public class GlyphLayout implements Poolable {
 		return -1; // Unclosed color tag.
 	}
 
+	/** Returns the {@link Colors named color} for the specified characters without allocating a string for the name. */
+	private Color getNamedColor (CharSequence str, int start, int end) {
+		ObjectMap colors = Colors.getColors();
+		Color color = (Color)colors.get(colorName.set(str, start, end));
+		colorName.str = null;
+		return color;
+	}
+
 	public void reset () {
-		Pools.get(GlyphRun.class).freeAll(runs);
+		glyphRunPool.freeAll(runs);
 		runs.clear();
 
 		width = 0;
@@ -498,6 +517,37 @@ public class GlyphLayout implements Poolable {
 		return buffer.toString();
 	}
 
+	/** A key equal to the String with the same characters as a range of a CharSequence. ObjectMap compares the key being looked
+	 * up with the stored keys using the key's equals, so it finds the String key without a String being created. */
+	static private class ColorName {
+		CharSequence str;
+		int start, length, hashCode;
+
+		ColorName set (CharSequence str, int start, int end) {
+			this.str = str;
+			this.start = start;
+			length = end - start;
+			int hashCode = 0;
+			for (int i = start; i < end; i++)
+				hashCode = 31 * hashCode + str.charAt(i);
+			this.hashCode = hashCode;
+			return this;
+		}
+
+		public int hashCode () {
+			return hashCode;
+		}
+
+		public boolean equals (Object object) {
+			if (!(object instanceof String)) return false;
+			String name = (String)object;
+			if (name.length() != length) return false;
+			for (int i = 0; i < length; i++)
+				if (name.charAt(i) != str.charAt(start + i)) return false;
+			return true;
+		}
+	}
+
 	/** Stores glyphs and positions for a piece of text which is a single color and does not span multiple lines.
 	 * @author Nathan Sweet */
 	static public class GlyphRun implements Poolable {
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Caches the layout and vertices of recently drawn text, so text that is drawn every frame but rarely changes, such as labels
+ * in a HUD, doesn't need to be laid out again each frame. Text is looked up by font, font scale, whether markup is enabled, text,
+ * color, target width, alignment and wrap without allocating. When the cache is full, the least recently used text is evicted
+ * and its {@link BitmapFontCache} is reused for the new text. */
+public class GlyphLayoutCache {
+	private final int capacity;
+	private final ObjectMap<Key, Entry> entries;
+	private final Key lookup = new Key();
+	/** Most and least recently used entries. */
+	private Entry head, tail;
+
+	/** The number of lookups that found cached text and the number that had to lay out the text. */
+	public int hits, misses;
+
+	/** @param capacity The maximum number of texts to cache. */
+	public GlyphLayoutCache (int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		this.capacity = capacity;
+		entries = new ObjectMap(capacity);
+	}
+
+	/** Draws the text at the specified position with the font's current color.
+	 * @see #get(BitmapFont, CharSequence, Color, float, int, boolean) */
+	public void draw (Batch batch, BitmapFont font, CharSequence str, float x, float y) {
+		draw(batch, font, str, x, y, 0, Align.left, false);
+	}
+
+	/** Draws the text at the specified position with the font's current color.
+	 * @see #get(BitmapFont, CharSequence, Color, float, int, boolean) */
+	public void draw (Batch batch, BitmapFont font, CharSequence str, float x, float y, float targetWidth, int halign,
+		boolean wrap) {
+		BitmapFontCache cache = get(font, str, font.getColor(), targetWidth, halign, wrap);
+		cache.setPosition(x, y);
+		cache.draw(batch);
+	}
+
+	/** Returns a cache containing the glyphs for the specified text, laying out the text only if it is not cached. The text is
+	 * cached at 0,0, use {@link BitmapFontCache#setPosition(float, float)} to move it before drawing. The returned cache is
+	 * owned by this GlyphLayoutCache and may be reused for other text by subsequent calls.
+	 * @see GlyphLayout#setText(BitmapFont, CharSequence, Color, float, int, boolean) */
+	public BitmapFontCache get (BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+		Key lookup = this.lookup;
+		lookup.set(font, str, color.toFloatBits(), targetWidth, halign, wrap);
+		Entry entry = entries.get(lookup);
+		lookup.text = null;
+		if (entry != null) {
+			hits++;
+			if (entry != head) {
+				unlink(entry);
+				link(entry);
+			}
+			return entry.cache;
+		}
+		misses++;
+
+		if (entries.size >= capacity) {
+			// Evict the least recently used entry and reuse it.
+			entry = tail;
+			unlink(entry);
+			entries.remove(entry.key);
+			if (entry.cache.getFont() != font) entry.cache = new BitmapFontCache(font);
+		} else {
+			entry = new Entry();
+			entry.key = new Key();
+			entry.cache = new BitmapFontCache(font);
+		}
+		entry.key.set(font, str.toString(), lookup.color, targetWidth, halign, wrap);
+		entries.put(entry.key, entry);
+		link(entry);
+
+		BitmapFontCache cache = entry.cache;
+		cache.getColor().set(color);
+		cache.setText(str, 0, 0, targetWidth, halign, wrap);
+		return cache;
+	}
+
+	/** Returns the number of cached texts. */
+	public int size () {
+		return entries.size;
+	}
+
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/** Removes all cached text. */
+	public void clear () {
+		entries.clear();
+		head = null;
+		tail = null;
+	}
+
+	private void link (Entry entry) {
+		entry.previous = null;
+		entry.next = head;
+		if (head != null) head.previous = entry;
+		head = entry;
+		if (tail == null) tail = entry;
+	}
+
+	private void unlink (Entry entry) {
+		if (entry.previous != null)
+			entry.previous.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.previous = entry.previous;
+		else
+			tail = entry.previous;
+		entry.previous = null;
+		entry.next = null;
+	}
+
+	static private class Entry {
+		Key key;
+		BitmapFontCache cache;
+		Entry previous, next;
+	}
+
+	/** Keys hold a String when stored in the map, the lookup key holds the CharSequence being looked up. */
+	static private class Key {
+		BitmapFont font;
+		CharSequence text;
+		float scaleX, scaleY, color, targetWidth;
+		int halign;
+		boolean markupEnabled, wrap;
+		int hashCode;
+
+		void set (BitmapFont font, CharSequence text, float color, float targetWidth, int halign, boolean wrap) {
+			BitmapFontData data = font.getData();
+			this.font = font;
+			this.text = text;
+			scaleX = data.scaleX;
+			scaleY = data.scaleY;
+			markupEnabled = data.markupEnabled;
+			this.color = color;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+
+			int h = font.hashCode();
+			h = 31 * h + NumberUtils.floatToRawIntBits(data.scaleX);
+			h = 31 * h + NumberUtils.floatToRawIntBits(data.scaleY);
+			if (data.markupEnabled) h++;
+			for (int i = 0, n = text.length(); i < n; i++)
+				h = 31 * h + text.charAt(i);
+			h = 31 * h + NumberUtils.floatToRawIntBits(color);
+			h = 31 * h + NumberUtils.floatToRawIntBits(targetWidth);
+			h = 31 * h + halign;
+			hashCode = wrap ? h + 1 : h;
+		}
+
+		public int hashCode () {
+			return hashCode;
+		}
+
+		public boolean equals (Object object) {
+			if (this == object) return true;
+			if (!(object instanceof Key)) return false;
+			Key other = (Key)object;
+			if (hashCode != other.hashCode || font != other.font || scaleX != other.scaleX || scaleY != other.scaleY
+				|| markupEnabled != other.markupEnabled || color != other.color || targetWidth != other.targetWidth
+				|| halign != other.halign || wrap != other.wrap) return false;
+			CharSequence text = this.text, otherText = other.text;
+			int n = text.length();
+			if (otherText.length() != n) return false;
+			for (int i = 0; i < n; i++)
+				if (text.charAt(i) != otherText.charAt(i)) return false;
+			return true;
+		}
+	}
+}
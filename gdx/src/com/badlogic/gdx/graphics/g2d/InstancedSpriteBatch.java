@@ -0,0 +1,621 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link Batch} that uses instanced rendering, see {@link Mesh#enableInstancedRendering(boolean, int, VertexAttribute...)}.
+ * Instead of computing 4 vertices per sprite on the CPU, each sprite is stored as one record of {@link #INSTANCE_SIZE} floats
+ * (position, origin, size, rotation, texture region and packed color) and the corners are computed in the vertex shader. This
+ * removes the rotation and scale math from the draw methods and uploads less data than {@link SpriteBatch}, which helps when
+ * drawing many sprites per frame. Requires OpenGL ES 3.0.
+ * <p>
+ * A sprite is always a rotated and scaled rectangle. {@link #draw(Texture, float[], int, int)} and
+ * {@link #draw(TextureRegion, float, float, Affine2)} convert their input to this form, so shear is discarded. For sprite vertices
+ * only the color of the first vertex is used and the texture coordinates are taken from the bottom left and top right vertices.
+ * The conversion is slower than the other draw methods.
+ * <p>
+ * A custom shader must be a GLSL ES 3.0 shader that declares the {@link #CORNER_ATTRIBUTE} and the per instance attributes
+ * {@link #POSITION_ATTRIBUTE}, {@link #SIZE_ATTRIBUTE}, {@link #REGION_ATTRIBUTE} and {@link #COLOR_ATTRIBUTE}, see
+ * {@link #createDefaultShader()}.
+ * @see SpriteBatch */
+public class InstancedSpriteBatch implements Batch {
+	/** Per vertex: the corner of the quad, (0, 0) for the bottom left and (1, 1) for the top right corner. */
+	public static final String CORNER_ATTRIBUTE = "a_corner";
+	/** Per instance: xy is the world position of the origin, zw the offset of the bottom left corner from the origin. */
+	public static final String POSITION_ATTRIBUTE = "i_position";
+	/** Per instance: xy is the scaled size, z the rotation around the origin in radians and w the rotation of the texture
+	 * region, 0 for none, 1 for a region rotated clockwise and -1 for counter clockwise, see
+	 * {@link #draw(TextureRegion, float, float, float, float, float, float, float, float, float, boolean)}. */
+	public static final String SIZE_ATTRIBUTE = "i_size";
+	/** Per instance: the texture coordinates of the bottom left (xy) and top right (zw) corners. */
+	public static final String REGION_ATTRIBUTE = "i_region";
+	/** Per instance: the packed color. */
+	public static final String COLOR_ATTRIBUTE = "i_color";
+	/** The number of floats per sprite. */
+	public static final int INSTANCE_SIZE = 4 + 4 + 4 + 1;
+
+	private Mesh mesh;
+
+	final float[] instances;
+	int idx = 0;
+	Texture lastTexture = null;
+	float invTexWidth = 0, invTexHeight = 0;
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private final ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** The maximum number of sprites rendered in one batch so far. **/
+	public int maxSpritesInBatch = 0;
+
+	/** Constructs a new InstancedSpriteBatch with a size of 1000 and the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(1000, null);
+	}
+
+	/** Constructs an InstancedSpriteBatch with the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards,
+	 * x-axis point to the right and the origin being in the bottom left corner of the screen.
+	 * @param size The max number of sprites in a single batch. Unlike {@link SpriteBatch} this is not limited by the index range.
+	 * @param defaultShader The default shader to use. This is not owned by the InstancedSpriteBatch and must be disposed
+	 *           separately. See {@link #createDefaultShader()}.
+	 * @throws GdxRuntimeException if OpenGL ES 3.0 is not available. */
+	public InstancedSpriteBatch (int size, ShaderProgram defaultShader) {
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("InstancedSpriteBatch requires OpenGL ES 3.0.");
+		if (size < 1) throw new IllegalArgumentException("size must be > 0: " + size);
+
+		mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Position, 2, CORNER_ATTRIBUTE));
+		mesh.setVertices(new float[] {0, 0, 0, 1, 1, 1, 1, 0});
+		mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+		mesh.enableInstancedRendering(false, size, new VertexAttribute(Usage.Generic, 4, POSITION_ATTRIBUTE),
+			new VertexAttribute(Usage.Generic, 4, SIZE_ATTRIBUTE), new VertexAttribute(Usage.Generic, 4, REGION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, COLOR_ATTRIBUTE));
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+		instances = new float[size * INSTANCE_SIZE];
+
+		if (defaultShader == null) {
+			shader = createDefaultShader();
+			ownsShader = true;
+		} else
+			shader = defaultShader;
+	}
+
+	/** Returns a new instance of the default shader used by InstancedSpriteBatch when no shader is specified. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "#version 300 es\n" //
+			+ "in vec2 " + CORNER_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + POSITION_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + SIZE_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + REGION_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "out vec4 v_color;\n" //
+			+ "out vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   vec2 local = " + POSITION_ATTRIBUTE + ".zw + " + CORNER_ATTRIBUTE + " * " + SIZE_ATTRIBUTE + ".xy;\n" //
+			+ "   float c = cos(" + SIZE_ATTRIBUTE + ".z);\n" //
+			+ "   float s = sin(" + SIZE_ATTRIBUTE + ".z);\n" //
+			+ "   vec2 position = " + POSITION_ATTRIBUTE + ".xy + vec2(c * local.x - s * local.y, s * local.x + c * local.y);\n" //
+			+ "   vec2 t = " + CORNER_ATTRIBUTE + ";\n" //
+			+ "   if (" + SIZE_ATTRIBUTE + ".w > 0.5) t = vec2(1.0 - t.y, t.x);\n" //
+			+ "   else if (" + SIZE_ATTRIBUTE + ".w < -0.5) t = vec2(t.y, 1.0 - t.x);\n" //
+			+ "   v_texCoords = mix(" + REGION_ATTRIBUTE + ".xy, " + REGION_ATTRIBUTE + ".zw, t);\n" //
+			+ "   v_color = " + COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = "#version 300 es\n" //
+			+ "precision mediump float;\n" //
+			+ "in lowp vec4 v_color;\n" //
+			+ "in vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "out vec4 fragColor;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  fragColor = v_color * texture(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	@Override
+	public void begin () {
+		if (drawing) throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+		renderCalls = 0;
+
+		Gdx.gl.glDepthMask(false);
+		if (customShader != null)
+			customShader.begin();
+		else
+			shader.begin();
+		setupMatrices();
+
+		drawing = true;
+	}
+
+	@Override
+	public void end () {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+		if (idx > 0) flush();
+		lastTexture = null;
+		drawing = false;
+
+		GL20 gl = Gdx.gl;
+		gl.glDepthMask(true);
+		if (isBlendingEnabled()) gl.glDisable(GL20.GL_BLEND);
+
+		if (customShader != null)
+			customShader.end();
+		else
+			shader.end();
+	}
+
+	@Override
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	@Override
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor () {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.colorPacked = packedColor;
+	}
+
+	@Override
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	/** Adds a sprite record, the texture must already be current and there must be room in the buffer. */
+	private void add (float worldOriginX, float worldOriginY, float offsetX, float offsetY, float width, float height,
+		float radians, float regionRotation, float u, float v, float u2, float v2, float color) {
+		float[] instances = this.instances;
+		int idx = this.idx;
+		instances[idx] = worldOriginX;
+		instances[idx + 1] = worldOriginY;
+		instances[idx + 2] = offsetX;
+		instances[idx + 3] = offsetY;
+		instances[idx + 4] = width;
+		instances[idx + 5] = height;
+		instances[idx + 6] = radians;
+		instances[idx + 7] = regionRotation;
+		instances[idx + 8] = u;
+		instances[idx + 9] = v;
+		instances[idx + 10] = u2;
+		instances[idx + 11] = v2;
+		instances[idx + 12] = color;
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	/** Adds a sprite given by its bottom left corner and the vectors along its bottom and left edges. Shear is discarded. */
+	private void addQuad (float x, float y, float edgeX, float edgeY, float upX, float upY, float u, float v, float u2, float v2,
+		float color) {
+		float width = (float)Math.sqrt(edgeX * edgeX + edgeY * edgeY);
+		float height, radians;
+		if (width != 0) {
+			// The component of the left edge perpendicular to the bottom edge, negative when the quad is mirrored.
+			height = (edgeX * upY - edgeY * upX) / width;
+			radians = (float)Math.atan2(edgeY, edgeX);
+		} else {
+			height = (float)Math.sqrt(upX * upX + upY * upY);
+			radians = height != 0 ? (float)Math.atan2(upY, upX) - MathUtils.PI / 2 : 0;
+		}
+		add(x, y, 0, 0, width, height, radians, 0, u, v, u2, v2, color);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x + originX, y + originY, -originX * scaleX, -originY * scaleY, width * scaleX, height * scaleY,
+			rotation * MathUtils.degreesToRadians, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x, y, 0, 0, width, height, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		final float u = srcX * invTexWidth;
+		final float v = (srcY + srcHeight) * invTexHeight;
+		final float u2 = (srcX + srcWidth) * invTexWidth;
+		final float v2 = srcY * invTexHeight;
+
+		add(x, y, 0, 0, srcWidth, srcHeight, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		add(x, y, 0, 0, width, height, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		add(x, y, 0, 0, width, height, 0, 0, 0, 1, 1, 0, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture) switchTexture(texture);
+
+		for (int end = offset + count; offset < end; offset += Sprite.SPRITE_SIZE) {
+			if (idx == instances.length) flush();
+			// Vertices are bottom left, top left, top right, bottom right.
+			final float x1 = spriteVertices[offset + X1], y1 = spriteVertices[offset + Y1];
+			addQuad(x1, y1, spriteVertices[offset + X4] - x1, spriteVertices[offset + Y4] - y1, spriteVertices[offset + X2] - x1,
+				spriteVertices[offset + Y2] - y1, spriteVertices[offset + U1], spriteVertices[offset + V1],
+				spriteVertices[offset + U3], spriteVertices[offset + V3], spriteVertices[offset + C1]);
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		add(x, y, 0, 0, width, height, 0, 0, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		add(x + originX, y + originY, -originX * scaleX, -originY * scaleY, width * scaleX, height * scaleY,
+			rotation * MathUtils.degreesToRadians, 0, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		add(x + originX, y + originY, -originX * scaleX, -originY * scaleY, width * scaleX, height * scaleY,
+			rotation * MathUtils.degreesToRadians, clockwise ? 1 : -1, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) {
+			flush();
+		}
+
+		addQuad(transform.m02, transform.m12, transform.m00 * width, transform.m10 * width, transform.m01 * height,
+			transform.m11 * height, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	@Override
+	public void flush () {
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / INSTANCE_SIZE;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		Mesh mesh = this.mesh;
+		mesh.setInstanceData(instances, 0, idx);
+
+		if (blendingDisabled) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (blendSrcFunc != -1) Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+		}
+
+		mesh.render(customShader != null ? customShader : shader, GL20.GL_TRIANGLES, 0, 6);
+
+		idx = 0;
+	}
+
+	@Override
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	@Override
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	@Override
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	@Override
+	public void dispose () {
+		mesh.dispose();
+		if (ownsShader && shader != null) shader.dispose();
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+		if (drawing) setupMatrices();
+	}
+
+	@Override
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) flush();
+		transformMatrix.set(transform);
+		if (drawing) setupMatrices();
+	}
+
+	private void setupMatrices () {
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		if (customShader != null) {
+			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
+			customShader.setUniformi("u_texture", 0);
+		} else {
+			shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			shader.setUniformi("u_texture", 0);
+		}
+	}
+
+	protected void switchTexture (Texture texture) {
+		flush();
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	@Override
+	public void setShader (ShaderProgram shader) {
+		if (drawing) {
+			flush();
+			if (customShader != null)
+				customShader.end();
+			else
+				this.shader.end();
+		}
+		customShader = shader;
+		if (drawing) {
+			if (customShader != null)
+				customShader.begin();
+			else
+				this.shader.begin();
+			setupMatrices();
+		}
+	}
+
+	@Override
+	public ShaderProgram getShader () {
+		if (customShader == null) {
+			return shader;
+		}
+		return customShader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+}
@@ -56,6 +56,9 @@ public class NinePatch {
 	private int idx;
 	private final Color color = new Color(Color.WHITE);
 	private float padLeft = -1, padRight = -1, padTop = -1, padBottom = -1;
+	/** The bounds and color the vertices were last prepared for, so a patch drawn again in the same place reuses them. */
+	private float preparedX, preparedY, preparedWidth, preparedHeight, preparedColor;
+	private boolean prepared;
 
 	/** Create a ninepatch by cutting up the given texture into nine patches. The subsequent parameters define the 4 lines that
 	 * will cut the texture region into 9 pieces.
@@ -348,6 +351,14 @@ public class NinePatch {
 		final float middleRowY = y + bottomHeight;
 		final float topRowY = y + height - topHeight;
 		final float c = tmpDrawColor.set(color).mul(batch.getColor()).toFloatBits();
+		if (prepared && x == preparedX && y == preparedY && width == preparedWidth && height == preparedHeight
+			&& c == preparedColor) return;
+		prepared = true;
+		preparedX = x;
+		preparedY = y;
+		preparedWidth = width;
+		preparedHeight = height;
+		preparedColor = c;
 
 		if (bottomLeft != -1) set(bottomLeft, x, y, centerColumnX - x, middleRowY - y, c);
 		if (bottomCenter != -1) set(bottomCenter, centerColumnX, y, rightColumnX - centerColumnX, middleRowY - y, c);
@@ -378,11 +389,13 @@ public class NinePatch {
 				vertices[i] = cos * vx - sin * vy + worldOriginX;
 				vertices[i + 1] = sin * vx + cos * vy + worldOriginY;
 			}
+			prepared = false;
 		} else if (scaleX != 1 || scaleY != 1) {
 			for (int i = 0; i < n; i += 5) {
 				vertices[i] = (vertices[i] - worldOriginX) * scaleX + worldOriginX;
 				vertices[i + 1] = (vertices[i + 1] - worldOriginY) * scaleY + worldOriginY;
 			}
+			prepared = false;
 		}
 		batch.draw(texture, vertices, 0, n);
 	}
@@ -404,6 +417,7 @@ public class NinePatch {
 	/** Set the draw-time width of the three left edge patches */
 	public void setLeftWidth (float leftWidth) {
 		this.leftWidth = leftWidth;
+		prepared = false;
 	}
 
 	public float getRightWidth () {
@@ -413,6 +427,7 @@ public class NinePatch {
 	/** Set the draw-time width of the three right edge patches */
 	public void setRightWidth (float rightWidth) {
 		this.rightWidth = rightWidth;
+		prepared = false;
 	}
 
 	public float getTopHeight () {
@@ -422,6 +437,7 @@ public class NinePatch {
 	/** Set the draw-time height of the three top edge patches */
 	public void setTopHeight (float topHeight) {
 		this.topHeight = topHeight;
+		prepared = false;
 	}
 
 	public float getBottomHeight () {
@@ -431,6 +447,7 @@ public class NinePatch {
 	/** Set the draw-time height of the three bottom edge patches */
 	public void setBottomHeight (float bottomHeight) {
 		this.bottomHeight = bottomHeight;
+		prepared = false;
 	}
 
 	public float getMiddleWidth () {
@@ -528,6 +545,7 @@ public class NinePatch {
 		if (padRight != -1) padRight *= scaleX;
 		if (padTop != -1) padTop *= scaleY;
 		if (padBottom != -1) padBottom *= scaleY;
+		prepared = false;
 	}
 
 	public Texture getTexture () {
@@ -228,6 +228,7 @@ public class ParticleEffect implements Disposable {
 	}
 
 	protected ParticleEmitter newEmitter (ParticleEmitter emitter) {
+		if (emitter instanceof FlatParticleEmitter) return new FlatParticleEmitter(emitter);
 		return new ParticleEmitter(emitter);
 	}
 
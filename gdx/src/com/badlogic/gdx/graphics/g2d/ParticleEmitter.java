@@ -29,34 +29,34 @@ import java.io.Writer;
 import java.util.Arrays;
 
 public class ParticleEmitter {
-	static private final int UPDATE_SCALE = 1 << 0;
-	static private final int UPDATE_ANGLE = 1 << 1;
-	static private final int UPDATE_ROTATION = 1 << 2;
-	static private final int UPDATE_VELOCITY = 1 << 3;
-	static private final int UPDATE_WIND = 1 << 4;
-	static private final int UPDATE_GRAVITY = 1 << 5;
-	static private final int UPDATE_TINT = 1 << 6;
-	static private final int UPDATE_SPRITE = 1 << 7;
+	static final int UPDATE_SCALE = 1 << 0;
+	static final int UPDATE_ANGLE = 1 << 1;
+	static final int UPDATE_ROTATION = 1 << 2;
+	static final int UPDATE_VELOCITY = 1 << 3;
+	static final int UPDATE_WIND = 1 << 4;
+	static final int UPDATE_GRAVITY = 1 << 5;
+	static final int UPDATE_TINT = 1 << 6;
+	static final int UPDATE_SPRITE = 1 << 7;
 
 	private RangedNumericValue delayValue = new RangedNumericValue();
-	private IndependentScaledNumericValue lifeOffsetValue = new IndependentScaledNumericValue();
+	IndependentScaledNumericValue lifeOffsetValue = new IndependentScaledNumericValue();
 	private RangedNumericValue durationValue = new RangedNumericValue();
-	private IndependentScaledNumericValue lifeValue = new IndependentScaledNumericValue();
+	IndependentScaledNumericValue lifeValue = new IndependentScaledNumericValue();
 	private ScaledNumericValue emissionValue = new ScaledNumericValue();
-	private ScaledNumericValue xScaleValue = new ScaledNumericValue();
-	private ScaledNumericValue yScaleValue = new ScaledNumericValue();
-	private ScaledNumericValue rotationValue = new ScaledNumericValue();
-	private ScaledNumericValue velocityValue = new ScaledNumericValue();
-	private ScaledNumericValue angleValue = new ScaledNumericValue();
-	private ScaledNumericValue windValue = new ScaledNumericValue();
-	private ScaledNumericValue gravityValue = new ScaledNumericValue();
-	private ScaledNumericValue transparencyValue = new ScaledNumericValue();
-	private GradientColorValue tintValue = new GradientColorValue();
-	private RangedNumericValue xOffsetValue = new ScaledNumericValue();
-	private RangedNumericValue yOffsetValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
-	private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
+	ScaledNumericValue xScaleValue = new ScaledNumericValue();
+	ScaledNumericValue yScaleValue = new ScaledNumericValue();
+	ScaledNumericValue rotationValue = new ScaledNumericValue();
+	ScaledNumericValue velocityValue = new ScaledNumericValue();
+	ScaledNumericValue angleValue = new ScaledNumericValue();
+	ScaledNumericValue windValue = new ScaledNumericValue();
+	ScaledNumericValue gravityValue = new ScaledNumericValue();
+	ScaledNumericValue transparencyValue = new ScaledNumericValue();
+	GradientColorValue tintValue = new GradientColorValue();
+	RangedNumericValue xOffsetValue = new ScaledNumericValue();
+	RangedNumericValue yOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
+	ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
+	SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
 
 	private RangedNumericValue[] xSizeValues;
 	private RangedNumericValue[] ySizeValues;
@@ -70,19 +70,19 @@ public class ParticleEmitter {
 	private float x, y;
 	private String name;
 	private Array<String> imagePaths;
-	private int activeCount;
+	int activeCount;
 	private boolean[] active;
 	private boolean firstUpdate;
-	private boolean flipX, flipY;
-	private int updateFlags;
+	boolean flipX, flipY;
+	int updateFlags;
 	private boolean allowCompletion;
 	private BoundingBox bounds;
 
 	private int emission, emissionDiff, emissionDelta;
-	private int lifeOffset, lifeOffsetDiff;
-	private int life, lifeDiff;
-	private float spawnWidth, spawnWidthDiff;
-	private float spawnHeight, spawnHeightDiff;
+	int lifeOffset, lifeOffsetDiff;
+	int life, lifeDiff;
+	float spawnWidth, spawnWidthDiff;
+	float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
 
@@ -193,8 +193,15 @@ public class ParticleEmitter {
 	}
 
 	public void update (float delta) {
+		int deltaMillis = updateEmission(delta);
+		if (deltaMillis > 0) updateParticles(delta, deltaMillis);
+	}
+
+	/** Advances the delay, duration and emission timers and adds the particles emitted in that time.
+	 * @return the whole milliseconds to pass to {@link #updateParticles(float, int)}, or 0 if less than one has elapsed. */
+	int updateEmission (float delta) {
 		accumulator += delta * 1000;
-		if (accumulator < 1) return;
+		if (accumulator < 1) return 0;
 		int deltaMillis = (int)accumulator;
 		accumulator -= deltaMillis;
 
@@ -232,7 +239,11 @@ public class ParticleEmitter {
 				if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
 			}
 		}
+		return deltaMillis;
+	}
 
+	/** Updates the active particles, removing those whose life has ended. */
+	void updateParticles (float delta, int deltaMillis) {
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
 		Particle[] particles = this.particles;
@@ -650,13 +661,13 @@ public class ParticleEmitter {
 		return true;
 	}
 
-	private void generateLifeValues () {
+	void generateLifeValues () {
 		life = (int)lifeValue.newLowValue();
 		lifeDiff = (int)lifeValue.newHighValue();
 		if (!lifeValue.isRelative()) lifeDiff -= life;
 	}
 
-	private void generateLifeOffsetValues () {
+	void generateLifeOffsetValues () {
 		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
 		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
 		if (!lifeOffsetValue.isRelative()) lifeOffsetDiff -= lifeOffset;
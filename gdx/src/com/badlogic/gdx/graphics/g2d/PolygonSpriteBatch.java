@@ -122,13 +122,23 @@ public class PolygonSpriteBatch implements PolygonBatch {
 	 * @param defaultShader The default shader to use. This is not owned by the PolygonSpriteBatch and must be disposed separately.
 	 *           May be null to use the default shader. */
 	public PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader) {
+		this(maxVertices, maxTriangles, defaultShader, null);
+	}
+
+	/** Constructs a new PolygonSpriteBatch that stores its vertices using the specified {@link VertexDataType}.
+	 * {@link VertexDataType#VertexBufferObjectStreaming} avoids stalls when the batch is flushed many times per frame.
+	 * @param vertexDataType May be null to use a vertex buffer object with VAO on GLES 3 and a vertex array otherwise.
+	 * @see #PolygonSpriteBatch(int, int, ShaderProgram) */
+	public PolygonSpriteBatch (int maxVertices, int maxTriangles, ShaderProgram defaultShader, VertexDataType vertexDataType) {
 		// 32767 is max vertex index.
 		if (maxVertices > 32767)
 			throw new IllegalArgumentException("Can't have more than 32767 vertices per batch: " + maxVertices);
 
-		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
-		if (Gdx.gl30 != null) {
-			vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
+		if (vertexDataType == null) {
+			vertexDataType = Mesh.VertexDataType.VertexArray;
+			if (Gdx.gl30 != null) {
+				vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
+			}
 		}
 		mesh = new Mesh(vertexDataType, false, maxVertices, maxTriangles * 3,
 			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
@@ -0,0 +1,1018 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A {@link Batch} that records sprite vertices instead of rendering them, so they can be built on any thread and later drawn
+ * by another batch on the rendering thread with {@link #submit(Batch)}. No OpenGL calls are made except by submit.
+ * <p>
+ * Vertices are generated like {@link SpriteBatch} does and stored in a growable array. The transform matrix is applied to the
+ * vertices on the CPU, like {@link CpuSpriteBatch} does, so scene2d groups with transform enabled can be recorded. The projection
+ * matrix is only stored, the projection of the batch passed to submit is used. Draws are grouped in runs of the same texture,
+ * shader and blend state, and submit passes each run to {@link Batch#draw(Texture, float[], int, int)} with a single call.
+ * <p>
+ * To spread vertex generation over multiple cores, use one RecordingBatch per worker thread, wait for the workers to finish and
+ * submit the RecordingBatches in the order they should be drawn. A RecordingBatch must not be used by multiple threads at the
+ * same time. The recorded vertices are kept until the next {@link #begin()} or {@link #clear()}, so static content can be
+ * submitted repeatedly. */
+public class RecordingBatch implements Batch {
+	final FloatArray vertices;
+	Texture lastTexture = null;
+	float invTexWidth = 0, invTexHeight = 0;
+
+	/** For each run, the texture, the shader or null for the default shader, and {@link #RUN_SIZE} ints. */
+	private final Array<Texture> runTextures = new Array<Texture>();
+	private final Array<ShaderProgram> runShaders = new Array<ShaderProgram>();
+	private final IntArray runs = new IntArray();
+	private static final int RUN_SIZE = 6;
+	private boolean newRun = true;
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Affine2 transform = new Affine2();
+	boolean transformed;
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private ShaderProgram customShader = null;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Constructs a RecordingBatch with room for 1000 sprites before growing. */
+	public RecordingBatch () {
+		this(1000);
+	}
+
+	/** @param size The number of sprites that can be recorded before the vertex array grows. */
+	public RecordingBatch (int size) {
+		vertices = new FloatArray(true, size * Sprite.SPRITE_SIZE);
+	}
+
+	/** Clears the recorded vertices and starts recording. Doesn't require the OpenGL thread. */
+	@Override
+	public void begin () {
+		if (drawing) throw new IllegalStateException("RecordingBatch.end must be called before begin.");
+		clear();
+		drawing = true;
+	}
+
+	/** Stops recording. The recorded vertices are kept until they are cleared. */
+	@Override
+	public void end () {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before end.");
+		lastTexture = null;
+		drawing = false;
+	}
+
+	/** Discards the recorded vertices. */
+	public void clear () {
+		vertices.clear();
+		runTextures.clear();
+		runShaders.clear();
+		runs.clear();
+		lastTexture = null;
+		newRun = true;
+	}
+
+	/** Draws the recorded vertices with the specified batch, which must be drawing. Must be called on the OpenGL thread, after
+	 * recording has ended. The shader and blend state of the batch are changed for the runs that need it and restored
+	 * afterwards. */
+	public void submit (Batch batch) {
+		if (drawing) throw new IllegalStateException("RecordingBatch.end must be called before submit.");
+		if (!batch.isDrawing()) throw new IllegalStateException("The batch to submit to must be drawing.");
+		int count = runTextures.size;
+		if (count == 0) return;
+
+		ShaderProgram shader = batch.getShader();
+		boolean blending = batch.isBlendingEnabled();
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		int srcFuncAlpha = batch.getBlendSrcFuncAlpha(), dstFuncAlpha = batch.getBlendDstFuncAlpha();
+
+		float[] vertices = this.vertices.items;
+		int[] runs = this.runs.items;
+		for (int i = 0, o = 0; i < count; i++, o += RUN_SIZE) {
+			int start = runs[o];
+			int end = i + 1 < count ? runs[o + RUN_SIZE] : this.vertices.size;
+			if (start == end) continue;
+			ShaderProgram runShader = runShaders.get(i);
+			if (runShader == null)
+				restoreShader(batch, shader);
+			else if (batch.getShader() != runShader) batch.setShader(runShader);
+			if (runs[o + 5] != 0)
+				batch.disableBlending();
+			else
+				batch.enableBlending();
+			batch.setBlendFunctionSeparate(runs[o + 1], runs[o + 2], runs[o + 3], runs[o + 4]);
+			batch.draw(runTextures.get(i), vertices, start, end - start);
+		}
+
+		restoreShader(batch, shader);
+		if (blending)
+			batch.enableBlending();
+		else
+			batch.disableBlending();
+		batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+	}
+
+	/** Sets the shader the batch had before {@link #submit(Batch)}. The default shader is tried first, so a batch without a
+	 * custom shader doesn't end up with its default shader set as the custom one. */
+	static private void restoreShader (Batch batch, ShaderProgram shader) {
+		if (batch.getShader() == shader) return;
+		batch.setShader(null);
+		if (batch.getShader() != shader) batch.setShader(shader);
+	}
+
+	/** @return The number of recorded sprites. */
+	public int getSpriteCount () {
+		return vertices.size / Sprite.SPRITE_SIZE;
+	}
+
+	/** @return The number of runs, each run is submitted with a single draw call to the target batch. */
+	public int getRunCount () {
+		return runTextures.size;
+	}
+
+	private void setTexture (Texture texture) {
+		if (texture != lastTexture) {
+			lastTexture = texture;
+			invTexWidth = 1.0f / texture.getWidth();
+			invTexHeight = 1.0f / texture.getHeight();
+			newRun = true;
+		}
+		if (newRun) {
+			newRun = false;
+			int start = vertices.size;
+			int last = runTextures.size - 1;
+			if (last >= 0 && runs.get(last * RUN_SIZE) == start) {
+				// The previous run is empty, replace it.
+				runTextures.removeIndex(last);
+				runShaders.removeIndex(last);
+				runs.size -= RUN_SIZE;
+			}
+			runTextures.add(texture);
+			runShaders.add(customShader);
+			runs.add(start, blendSrcFunc, blendDstFunc, blendSrcFuncAlpha);
+			runs.add(blendDstFuncAlpha, blendingDisabled ? 1 : 0);
+		}
+	}
+
+	/** Ensures there is room for one sprite and returns the index to write it at. */
+	private int reserve () {
+		int idx = vertices.size;
+		vertices.ensureCapacity(Sprite.SPRITE_SIZE);
+		vertices.size = idx + Sprite.SPRITE_SIZE;
+		return idx;
+	}
+
+	/** Applies the transform matrix to the positions of the sprite at the specified index. */
+	private void transform (float[] vertices, int idx) {
+		Affine2 t = transform;
+		for (int i = idx, n = idx + Sprite.SPRITE_SIZE; i < n; i += Sprite.VERTEX_SIZE) {
+			float x = vertices[i], y = vertices[i + 1];
+			vertices[i] = t.m00 * x + t.m01 * y + t.m02;
+			vertices[i + 1] = t.m10 * x + t.m11 * y + t.m12;
+		}
+	}
+
+	@Override
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	@Override
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor () {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.colorPacked = packedColor;
+	}
+
+	@Override
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+
+		// bottom left and top right corner points relative to origin
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		// scale
+		if (scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		// construct corner points, start from top left and go counter clockwise
+		final float p1x = fx;
+		final float p1y = fy;
+		final float p2x = fx;
+		final float p2y = fy2;
+		final float p3x = fx2;
+		final float p3y = fy2;
+		final float p4x = fx2;
+		final float p4y = fy;
+
+		float x1;
+		float y1;
+		float x2;
+		float y2;
+		float x3;
+		float y3;
+		float x4;
+		float y4;
+
+		// rotate
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * p1x - sin * p1y;
+			y1 = sin * p1x + cos * p1y;
+
+			x2 = cos * p2x - sin * p2y;
+			y2 = sin * p2x + cos * p2y;
+
+			x3 = cos * p3x - sin * p3y;
+			y3 = sin * p3x + cos * p3y;
+
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = p1x;
+			y1 = p1y;
+
+			x2 = p2x;
+			y2 = p2y;
+
+			x3 = p3x;
+			y3 = p3y;
+
+			x4 = p4x;
+			y4 = p4y;
+		}
+
+		x1 += worldOriginX;
+		y1 += worldOriginY;
+		x2 += worldOriginX;
+		y2 += worldOriginY;
+		x3 += worldOriginX;
+		y3 += worldOriginY;
+		x4 += worldOriginX;
+		y4 += worldOriginY;
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x1;
+		vertices[idx + 1] = y1;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x2;
+		vertices[idx + 6] = y2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = x3;
+		vertices[idx + 11] = y3;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = x4;
+		vertices[idx + 16] = y4;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+
+		final float u = srcX * invTexWidth;
+		final float v = (srcY + srcHeight) * invTexHeight;
+		final float u2 = (srcX + srcWidth) * invTexWidth;
+		final float v2 = srcY * invTexHeight;
+		final float fx2 = x + srcWidth;
+		final float fy2 = y + srcHeight;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+		final float u = 0;
+		final float v = 1;
+		final float u2 = 1;
+		final float v2 = 0;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		setTexture(texture);
+		int idx = vertices.size;
+		float[] vertices = this.vertices.ensureCapacity(count);
+		System.arraycopy(spriteVertices, offset, vertices, idx, count);
+		this.vertices.size = idx + count;
+		if (transformed) {
+			for (int n = idx + count; idx < n; idx += Sprite.SPRITE_SIZE)
+				transform(vertices, idx);
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		setTexture(texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+		final float u = region.u;
+		final float v = region.v2;
+		final float u2 = region.u2;
+		final float v2 = region.v;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		setTexture(texture);
+
+		// bottom left and top right corner points relative to origin
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		// scale
+		if (scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		// construct corner points, start from top left and go counter clockwise
+		final float p1x = fx;
+		final float p1y = fy;
+		final float p2x = fx;
+		final float p2y = fy2;
+		final float p3x = fx2;
+		final float p3y = fy2;
+		final float p4x = fx2;
+		final float p4y = fy;
+
+		float x1;
+		float y1;
+		float x2;
+		float y2;
+		float x3;
+		float y3;
+		float x4;
+		float y4;
+
+		// rotate
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * p1x - sin * p1y;
+			y1 = sin * p1x + cos * p1y;
+
+			x2 = cos * p2x - sin * p2y;
+			y2 = sin * p2x + cos * p2y;
+
+			x3 = cos * p3x - sin * p3y;
+			y3 = sin * p3x + cos * p3y;
+
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = p1x;
+			y1 = p1y;
+
+			x2 = p2x;
+			y2 = p2y;
+
+			x3 = p3x;
+			y3 = p3y;
+
+			x4 = p4x;
+			y4 = p4y;
+		}
+
+		x1 += worldOriginX;
+		y1 += worldOriginY;
+		x2 += worldOriginX;
+		y2 += worldOriginY;
+		x3 += worldOriginX;
+		y3 += worldOriginY;
+		x4 += worldOriginX;
+		y4 += worldOriginY;
+
+		final float u = region.u;
+		final float v = region.v2;
+		final float u2 = region.u2;
+		final float v2 = region.v;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x1;
+		vertices[idx + 1] = y1;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x2;
+		vertices[idx + 6] = y2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = x3;
+		vertices[idx + 11] = y3;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = x4;
+		vertices[idx + 16] = y4;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		setTexture(texture);
+
+		// bottom left and top right corner points relative to origin
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		// scale
+		if (scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		// construct corner points, start from top left and go counter clockwise
+		final float p1x = fx;
+		final float p1y = fy;
+		final float p2x = fx;
+		final float p2y = fy2;
+		final float p3x = fx2;
+		final float p3y = fy2;
+		final float p4x = fx2;
+		final float p4y = fy;
+
+		float x1;
+		float y1;
+		float x2;
+		float y2;
+		float x3;
+		float y3;
+		float x4;
+		float y4;
+
+		// rotate
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * p1x - sin * p1y;
+			y1 = sin * p1x + cos * p1y;
+
+			x2 = cos * p2x - sin * p2y;
+			y2 = sin * p2x + cos * p2y;
+
+			x3 = cos * p3x - sin * p3y;
+			y3 = sin * p3x + cos * p3y;
+
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = p1x;
+			y1 = p1y;
+
+			x2 = p2x;
+			y2 = p2y;
+
+			x3 = p3x;
+			y3 = p3y;
+
+			x4 = p4x;
+			y4 = p4y;
+		}
+
+		x1 += worldOriginX;
+		y1 += worldOriginY;
+		x2 += worldOriginX;
+		y2 += worldOriginY;
+		x3 += worldOriginX;
+		y3 += worldOriginY;
+		x4 += worldOriginX;
+		y4 += worldOriginY;
+
+		float u1, v1, u2, v2, u3, v3, u4, v4;
+		if (clockwise) {
+			u1 = region.u2;
+			v1 = region.v2;
+			u2 = region.u;
+			v2 = region.v2;
+			u3 = region.u;
+			v3 = region.v;
+			u4 = region.u2;
+			v4 = region.v;
+		} else {
+			u1 = region.u;
+			v1 = region.v;
+			u2 = region.u2;
+			v2 = region.v;
+			u3 = region.u2;
+			v3 = region.v2;
+			u4 = region.u;
+			v4 = region.v2;
+		}
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x1;
+		vertices[idx + 1] = y1;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u1;
+		vertices[idx + 4] = v1;
+
+		vertices[idx + 5] = x2;
+		vertices[idx + 6] = y2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u2;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = x3;
+		vertices[idx + 11] = y3;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u3;
+		vertices[idx + 14] = v3;
+
+		vertices[idx + 15] = x4;
+		vertices[idx + 16] = y4;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u4;
+		vertices[idx + 19] = v4;
+		if (transformed) transform(vertices, idx);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+
+		Texture texture = region.texture;
+		setTexture(texture);
+
+		// construct corner points
+		float x1 = transform.m02;
+		float y1 = transform.m12;
+		float x2 = transform.m01 * height + transform.m02;
+		float y2 = transform.m11 * height + transform.m12;
+		float x3 = transform.m00 * width + transform.m01 * height + transform.m02;
+		float y3 = transform.m10 * width + transform.m11 * height + transform.m12;
+		float x4 = transform.m00 * width + transform.m02;
+		float y4 = transform.m10 * width + transform.m12;
+
+		float u = region.u;
+		float v = region.v2;
+		float u2 = region.u2;
+		float v2 = region.v;
+
+		float color = this.colorPacked;
+		int idx = reserve();
+		float[] vertices = this.vertices.items;
+		vertices[idx] = x1;
+		vertices[idx + 1] = y1;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x2;
+		vertices[idx + 6] = y2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = x3;
+		vertices[idx + 11] = y3;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
+
+		vertices[idx + 15] = x4;
+		vertices[idx + 16] = y4;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		if (transformed) transform(vertices, idx);
+	}
+
+	/** Does nothing, the recorded vertices are drawn by {@link #submit(Batch)}. */
+	@Override
+	public void flush () {
+	}
+
+	@Override
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		blendingDisabled = true;
+		newRun = true;
+	}
+
+	@Override
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		blendingDisabled = false;
+		newRun = true;
+	}
+
+	@Override
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+		newRun = true;
+	}
+
+	@Override
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	/** Discards the recorded vertices, a RecordingBatch holds no native resources. */
+	@Override
+	public void dispose () {
+		clear();
+	}
+
+	/** The projection matrix is not used, the projection matrix of the batch passed to {@link #submit(Batch)} is used instead. */
+	@Override
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix (Matrix4 projection) {
+		projectionMatrix.set(projection);
+	}
+
+	/** Sets the transform matrix that is applied to the vertices of subsequent draws. Only the 2D affine part of the matrix is
+	 * used. */
+	@Override
+	public void setTransformMatrix (Matrix4 transform) {
+		transformMatrix.set(transform);
+		this.transform.set(transform);
+		Affine2 t = this.transform;
+		transformed = t.m00 != 1 || t.m01 != 0 || t.m02 != 0 || t.m10 != 0 || t.m11 != 1 || t.m12 != 0;
+	}
+
+	/** Sets the shader recorded for subsequent draws, null draws with the shader of the batch passed to {@link #submit(Batch)}.
+	 * The shader's uniforms are not set until it's submitted. */
+	@Override
+	public void setShader (ShaderProgram shader) {
+		if (customShader == shader) return;
+		customShader = shader;
+		newRun = true;
+	}
+
+	/** @return The shader set with {@link #setShader(ShaderProgram)}, which may be null. */
+	@Override
+	public ShaderProgram getShader () {
+		return customShader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	@Override
+	public boolean isDrawing () {
+		return drawing;
+	}
+}
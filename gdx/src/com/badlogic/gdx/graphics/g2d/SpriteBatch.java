@@ -61,6 +61,9 @@ public class SpriteBatch implements Batch {
 	private final ShaderProgram shader;
 	private ShaderProgram customShader = null;
 	private boolean ownsShader;
+	/** The shader whose uniform handles are cached. **/
+	private ShaderProgram handleShader;
+	private int projTransHandle, textureHandle;
 
 	private final Color color = new Color(1, 1, 1, 1);
 	float colorPacked = Color.WHITE_FLOAT_BITS;
@@ -95,10 +98,21 @@ public class SpriteBatch implements Batch {
 	 * @param size The max number of sprites in a single batch. Max of 8191.
 	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, null);
+	}
+
+	/** Constructs a new SpriteBatch that stores its vertices using the specified {@link VertexDataType}.
+	 * {@link VertexDataType#VertexBufferObjectStreaming} avoids stalls when the batch is flushed many times per frame.
+	 * @param size The max number of sprites in a single batch. Max of 8191.
+	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately.
+	 * @param vertexDataType May be null to use a vertex buffer object with VAO on GLES 3 and a vertex array otherwise.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram) */
+	public SpriteBatch (int size, ShaderProgram defaultShader, VertexDataType vertexDataType) {
 		// 32767 is max vertex index, so 32767 / 4 vertices per sprite = 8191 sprites max.
 		if (size > 8191) throw new IllegalArgumentException("Can't have more than 8191 sprites per batch: " + size);
 
-		VertexDataType vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
+		if (vertexDataType == null)
+			vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
 
 		mesh = new Mesh(vertexDataType, false, size * 4, size * 6,
 			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
@@ -1057,13 +1071,14 @@ public class SpriteBatch implements Batch {
 
 	private void setupMatrices () {
 		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
-		if (customShader != null) {
-			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
-			customShader.setUniformi("u_texture", 0);
-		} else {
-			shader.setUniformMatrix("u_projTrans", combinedMatrix);
-			shader.setUniformi("u_texture", 0);
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		if (handleShader != shader) {
+			projTransHandle = shader.uniformHandle("u_projTrans");
+			textureHandle = shader.uniformHandle("u_texture");
+			handleShader = shader;
 		}
+		shader.setUniformMatrix(projTransHandle, combinedMatrix);
+		shader.setUniformi(textureHandle, 0);
 	}
 
 	protected void switchTexture (Texture texture) {
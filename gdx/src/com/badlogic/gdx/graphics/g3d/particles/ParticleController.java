@@ -225,8 +225,18 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 
 	/** Updates the particles data */
 	public void update (float deltaTime) {
+		emit(deltaTime);
+		updateInfluencers();
+	}
+
+	/** Updates the emitter, which activates and kills the particles. The first half of {@link #update(float)}. */
+	void emit (float deltaTime) {
 		setTimeStep(deltaTime);
 		emitter.update();
+	}
+
+	/** Updates the influencers. The second half of {@link #update(float)}. */
+	void updateInfluencers () {
 		for (Influencer influencer : influencers)
 			influencer.update();
 	}
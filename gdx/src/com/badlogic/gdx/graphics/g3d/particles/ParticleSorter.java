@@ -21,6 +21,8 @@ import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRende
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
 
 /** This class is used by particle batches to sort the particles before rendering.
  * @author Inferno */
@@ -144,6 +146,251 @@ public abstract class ParticleSorter {
 		}
 	}
 
+	/** Sorts the particles by distance from the camera like {@link Distance}, starting from their order in the previous frame. As
+	 * the particles barely move between frames, that order is usually almost sorted and an insertion sort finishes it in about
+	 * linear time, while new particles are sorted apart and merged in. When too many particles are out of place, for example after
+	 * the camera turned, all the particles are radix sorted instead. With {@link #setBuckets(int) buckets}, the particles are
+	 * only sorted into distance ranges, keeping their previous order within a range. */
+	public static class Incremental extends ParticleSorter {
+		/** The maximum number of buckets. */
+		public static final int MAX_BUCKETS = 1024;
+		private static final int INSERTION_SORT_MAX = 64;
+
+		private float[] distances;
+		private int[] keys, order, offsets, tmpKeys, tmpOrder;
+		private final int[] counts = new int[MAX_BUCKETS];
+		private int currentSize, previousCount, buckets;
+		/** The controllers of the previous frame, with the index of their first particle and their particle count. */
+		private final Array<ParticleController> controllers = new Array<ParticleController>();
+		private final IntArray starts = new IntArray(), sizes = new IntArray();
+		/** The number of sorts which didn't start from the previous order, for tests. */
+		int fullSorts;
+
+		public Incremental () {
+		}
+
+		/** @param buckets see {@link #setBuckets(int)} */
+		public Incremental (int buckets) {
+			setBuckets(buckets);
+		}
+
+		/** @param buckets the number of equal distance ranges between the nearest and the farthest particle the particles are
+		 *           sorted into, up to {@link #MAX_BUCKETS}, or 0 to sort them exactly. */
+		public void setBuckets (int buckets) {
+			if (buckets < 0 || buckets > MAX_BUCKETS)
+				throw new IllegalArgumentException("buckets must be >= 0 and <= " + MAX_BUCKETS + ": " + buckets);
+			this.buckets = buckets;
+		}
+
+		public int getBuckets () {
+			return buckets;
+		}
+
+		@Override
+		public void ensureCapacity (int capacity) {
+			if (currentSize < capacity) {
+				distances = new float[capacity];
+				keys = new int[capacity];
+				offsets = new int[capacity];
+				tmpKeys = new int[capacity];
+				tmpOrder = new int[capacity];
+				int[] order = new int[capacity];
+				if (this.order != null) System.arraycopy(this.order, 0, order, 0, previousCount);
+				this.order = order;
+				currentSize = capacity;
+			}
+		}
+
+		@Override
+		public <T extends ParticleControllerRenderData> int[] sort (Array<T> renderData) {
+			float[] val = camera.view.val;
+			float cx = val[Matrix4.M20], cy = val[Matrix4.M21], cz = val[Matrix4.M22];
+			float[] distances = this.distances;
+			// A particle keeps its index within its controller, so its index among all the particles moves when the controllers
+			// before it change size. Finds where each previous index moved to, or -1 if the particle is gone, and the new particles.
+			int[] moved = this.tmpOrder, added = this.keys;
+			for (int i = 0; i < previousCount; i++)
+				moved[i] = -1;
+			int count = 0, addedCount = 0;
+			for (int d = 0, n = renderData.size; d < n; d++) {
+				ParticleControllerRenderData data = renderData.get(d);
+				int start = count, size = data.controller.particles.size;
+				float[] positions = data.positionChannel.data;
+				for (int i = 0, k = 0; i < size; i++, k += data.positionChannel.strideSize) {
+					distances[count++] = cx * positions[k + ParticleChannels.XOffset] + cy * positions[k + ParticleChannels.YOffset]
+						+ cz * positions[k + ParticleChannels.ZOffset];
+				}
+				int previous = d < controllers.size && controllers.get(d) == data.controller ? d
+					: controllers.indexOf(data.controller, true);
+				int remaining = 0;
+				if (previous != -1) {
+					remaining = Math.min(size, sizes.get(previous));
+					for (int i = 0, previousStart = starts.get(previous); i < remaining; i++)
+						moved[previousStart + i] = start + i;
+				}
+				for (int i = remaining; i < size; i++)
+					added[addedCount++] = start + i;
+			}
+			controllers.clear();
+			starts.clear();
+			sizes.clear();
+			for (int d = 0, n = renderData.size, start = 0; d < n; d++) {
+				ParticleController controller = renderData.get(d).controller;
+				controllers.add(controller);
+				starts.add(start);
+				sizes.add(controller.particles.size);
+				start += controller.particles.size;
+			}
+
+			// Start from the previous order of the remaining particles, followed by the new particles.
+			int[] order = this.order;
+			int kept = 0;
+			for (int i = 0; i < previousCount; i++) {
+				int index = moved[order[i]];
+				if (index != -1) order[kept++] = index;
+			}
+			System.arraycopy(added, 0, order, kept, addedCount);
+			previousCount = count;
+
+			if (buckets > 0)
+				bucketSort(count);
+			else {
+				int[] keys = this.keys;
+				for (int i = 0; i < count; i++)
+					keys[i] = key(distances[order[i]]);
+				// Past a quarter of shifts per particle, the insertion sort costs about as much as the radix sort.
+				if (!insertionSort(0, kept, count / 4)) {
+					radixSort(0, count);
+					fullSorts++;
+				} else if (kept < count) {
+					if (count - kept <= INSERTION_SORT_MAX)
+						insertionSort(kept, count, Integer.MAX_VALUE);
+					else
+						radixSort(kept, count);
+					if (kept > 0) merge(kept, count);
+				}
+			}
+
+			int[] offsets = this.offsets;
+			order = this.order;
+			for (int i = 0; i < count; i++)
+				offsets[order[i]] = i;
+			return offsets;
+		}
+
+		/** @return an int with the same signed order as the float */
+		static private int key (float value) {
+			int bits = NumberUtils.floatToRawIntBits(value);
+			return bits ^ (bits >> 31 & 0x7fffffff);
+		}
+
+		/** Sorts the keys from start (inclusive) to end (exclusive), giving up once more than maxShifts keys were moved.
+		 * @return false if the keys aren't sorted */
+		private boolean insertionSort (int start, int end, int maxShifts) {
+			int[] keys = this.keys, order = this.order;
+			for (int i = start + 1; i < end; i++) {
+				int key = keys[i];
+				if (keys[i - 1] <= key) continue;
+				int index = order[i], j = i - 1;
+				do {
+					keys[j + 1] = keys[j];
+					order[j + 1] = order[j];
+				} while (--j >= start && keys[j] > key);
+				keys[j + 1] = key;
+				order[j + 1] = index;
+				maxShifts -= i - j - 1;
+				if (maxShifts < 0) return false;
+			}
+			return true;
+		}
+
+		/** Sorts the keys from start (inclusive) to end (exclusive) one byte at a time, skipping the bytes all the keys share. */
+		private void radixSort (int start, int end) {
+			int[] counts = this.counts, keys = this.keys, order = this.order, tmpKeys = this.tmpKeys, tmpOrder = this.tmpOrder;
+			for (int i = 0, n = counts.length; i < n; i++)
+				counts[i] = 0;
+			for (int i = start; i < end; i++) {
+				int key = keys[i] ^ 0x80000000;
+				counts[key & 0xff]++;
+				counts[256 + (key >>> 8 & 0xff)]++;
+				counts[512 + (key >>> 16 & 0xff)]++;
+				counts[768 + (key >>> 24)]++;
+			}
+			boolean swapped = false;
+			for (int shift = 0, base = 0; shift < 32; shift += 8, base += 256) {
+				if (counts[base + ((keys[start] ^ 0x80000000) >>> shift & 0xff)] == end - start) continue;
+				for (int i = base, offset = start, n = base + 256; i < n; i++) {
+					int count = counts[i];
+					counts[i] = offset;
+					offset += count;
+				}
+				for (int i = start; i < end; i++) {
+					int key = keys[i], to = counts[base + ((key ^ 0x80000000) >>> shift & 0xff)]++;
+					tmpKeys[to] = key;
+					tmpOrder[to] = order[i];
+				}
+				int[] temp = keys;
+				keys = tmpKeys;
+				tmpKeys = temp;
+				temp = order;
+				order = tmpOrder;
+				tmpOrder = temp;
+				swapped = !swapped;
+			}
+			if (swapped) {
+				System.arraycopy(keys, start, tmpKeys, start, end - start);
+				System.arraycopy(order, start, tmpOrder, start, end - start);
+			}
+		}
+
+		/** Merges the sorted keys from mid to end into the sorted keys before mid. */
+		private void merge (int mid, int end) {
+			int[] keys = this.keys, order = this.order, tmpKeys = this.tmpKeys, tmpOrder = this.tmpOrder;
+			System.arraycopy(keys, mid, tmpKeys, 0, end - mid);
+			System.arraycopy(order, mid, tmpOrder, 0, end - mid);
+			for (int i = mid - 1, j = end - mid - 1, w = end - 1; j >= 0; w--) {
+				if (i >= 0 && keys[i] > tmpKeys[j]) {
+					keys[w] = keys[i];
+					order[w] = order[i--];
+				} else {
+					keys[w] = tmpKeys[j];
+					order[w] = tmpOrder[j--];
+				}
+			}
+		}
+
+		/** Sorts the particles into the buckets with a stable counting sort. */
+		private void bucketSort (int count) {
+			float[] distances = this.distances;
+			float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+			for (int i = 0; i < count; i++) {
+				float distance = distances[i];
+				if (distance < min) min = distance;
+				if (distance > max) max = distance;
+			}
+			if (!(max > min)) return;
+			int buckets = this.buckets;
+			float scale = buckets / (max - min);
+			int[] keys = this.keys, counts = this.counts, order = this.order, tmpOrder = this.tmpOrder;
+			for (int i = 0; i < buckets; i++)
+				counts[i] = 0;
+			for (int i = 0; i < count; i++) {
+				int bucket = Math.min((int)((distances[order[i]] - min) * scale), buckets - 1);
+				keys[i] = bucket;
+				counts[bucket]++;
+			}
+			for (int i = 0, offset = 0; i < buckets; i++) {
+				int bucketCount = counts[i];
+				counts[i] = offset;
+				offset += bucketCount;
+			}
+			for (int i = 0; i < count; i++)
+				tmpOrder[counts[keys[i]]++] = order[i];
+			this.order = tmpOrder;
+			this.tmpOrder = order;
+		}
+	}
+
 	protected Camera camera;
 
 	/** @return an array of offsets where each particle should be put in the resulting mesh (also if more than one mesh will be
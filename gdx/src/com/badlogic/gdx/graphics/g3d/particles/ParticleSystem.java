@@ -16,11 +16,19 @@
 
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.graphics.g3d.particles.batches.BufferedParticleBatch;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.Influencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ParticleControllerFinalizerInfluencer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Singleton class which manages the particle effects. It's a utility class to ease particle batches management and particle
  * effects update.
@@ -36,6 +44,11 @@ public final class ParticleSystem implements RenderableProvider {
 
 	private Array<ParticleBatch<?>> batches;
 	private Array<ParticleEffect> effects;
+	private AsyncExecutor executor;
+	private int threads;
+	private final Array<ParticleController> updateControllers = new Array<ParticleController>(false, 16, ParticleController.class);
+	private final Array<UpdateTask> updateTasks = new Array<UpdateTask>();
+	private final Array<AsyncResult<Void>> updateResults = new Array<AsyncResult<Void>>();
 
 	public ParticleSystem () {
 		batches = new Array<ParticleBatch<?>>();
@@ -44,6 +57,8 @@ public final class ParticleSystem implements RenderableProvider {
 
 	public void add (ParticleBatch<?> batch) {
 		batches.add(batch);
+		if (executor != null && batch instanceof BufferedParticleBatch)
+			((BufferedParticleBatch<?>)batch).setExecutor(executor, threads);
 	}
 
 	public void add (ParticleEffect effect) {
@@ -59,14 +74,43 @@ public final class ParticleSystem implements RenderableProvider {
 		effects.clear();
 	}
 
+	/** Sets the executor used to update the controllers of the effects and to fill the vertices of the
+	 * {@link BufferedParticleBatch batches} on multiple threads. The emitters, which activate particles using
+	 * {@link MathUtils#random}, are updated in order on the calling thread. The influencers of different controllers are then
+	 * updated at the same time, directly rather than through {@link ParticleEffect#update()}, so they must not share mutable
+	 * state between controllers nor use {@link MathUtils#random} in {@link Influencer#update()}. Controllers with a
+	 * {@link ParticleControllerFinalizerInfluencer}, which emit the particles of their particles while updating the influencers,
+	 * are updated entirely on the calling thread.
+	 * @param executor the executor, null to update on the calling thread. It isn't disposed by the particle system.
+	 * @param threads the number of threads of the executor. The work is split into one more range, run on the calling thread. */
+	public void setExecutor (AsyncExecutor executor, int threads) {
+		this.executor = executor;
+		this.threads = executor == null ? 0 : threads;
+		for (ParticleBatch<?> batch : batches)
+			if (batch instanceof BufferedParticleBatch) ((BufferedParticleBatch<?>)batch).setExecutor(executor, threads);
+	}
+
+	public AsyncExecutor getExecutor () {
+		return executor;
+	}
+
 	/** Updates the simulation of all effects */
 	public void update () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 		}
 	}
 
 	public void updateAndDraw () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 			effect.draw();
@@ -74,17 +118,66 @@ public final class ParticleSystem implements RenderableProvider {
 	}
 
 	public void update (float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 		}
 	}
 	public void updateAndDraw(float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 			effect.draw();
 		}
 	}
 
+	/** Updates the emitters of the controllers of all effects, then splits the controllers into ranges, one per thread, and
+	 * updates their influencers on the executor. */
+	private void updateParallel (float deltaTime) {
+		Array<ParticleController> controllers = updateControllers;
+		for (int i = 0, n = effects.size; i < n; i++) {
+			Array<ParticleController> effectControllers = effects.get(i).getControllers();
+			for (int c = 0, nc = effectControllers.size; c < nc; c++) {
+				ParticleController controller = effectControllers.get(c);
+				if (controller.findInfluencer(ParticleControllerFinalizerInfluencer.class) != null)
+					controller.update(deltaTime);
+				else {
+					controller.emit(deltaTime);
+					controllers.add(controller);
+				}
+			}
+		}
+		int count = controllers.size, ranges = Math.min(threads + 1, count);
+		if (ranges == 0) return;
+		UpdateTask task = null;
+		for (int i = 0, start = 0; i < ranges; i++) {
+			if (i == updateTasks.size) updateTasks.add(new UpdateTask());
+			if (task != null) updateResults.add(executor.submit(task));
+			task = updateTasks.get(i);
+			task.start = start;
+			start += (count - start) / (ranges - i);
+			task.end = start;
+		}
+		try {
+			task.call();
+		} finally {
+			try {
+				for (int i = 0, n = updateResults.size; i < n; i++)
+					updateResults.get(i).get();
+			} finally {
+				updateResults.clear();
+				controllers.clear();
+			}
+		}
+	}
+
 	/** Must be called one time per frame before any particle effect drawing operation will occur. */
 	public void begin () {
 		for (ParticleBatch<?> batch : batches)
@@ -113,4 +206,15 @@ public final class ParticleSystem implements RenderableProvider {
 	public Array<ParticleBatch<?>> getBatches () {
 		return batches;
 	}
+
+	private class UpdateTask implements AsyncTask<Void> {
+		int start, end;
+
+		public Void call () {
+			ParticleController[] controllers = updateControllers.items;
+			for (int i = start; i < end; i++)
+				controllers[i].updateInfluencers();
+			return null;
+		}
+	}
 }
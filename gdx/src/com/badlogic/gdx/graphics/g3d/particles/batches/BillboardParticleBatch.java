@@ -90,6 +90,12 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 		CPU_VERTEX_SIZE = CPU_ATTRIBUTES.vertexSize / 4;
 	private final static int MAX_PARTICLES_PER_MESH = Short.MAX_VALUE / 4, MAX_VERTICES_PER_MESH = MAX_PARTICLES_PER_MESH * 4;
 
+	/** Temporary objects for a range of particles filled by {@link #fillVertices(int[], int, int, int, int)}. */
+	static private class FillTemp {
+		final Vector3 v1 = new Vector3(), v2 = new Vector3(), v3 = new Vector3(), v4 = new Vector3(), v6 = new Vector3();
+		final Matrix3 m3 = new Matrix3();
+	}
+
 	private class RenderablePool extends Pool<Renderable> {
 		public RenderablePool () {
 		}
@@ -114,6 +120,7 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 	}
 
 	private RenderablePool renderablePool;
+	private FillTemp[] fillTemps = {};
 	private Array<Renderable> renderables;
 	private float[] vertices;
 	private short[] indices;
@@ -349,9 +356,10 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 		vertices[offset + CPU_COLOR_OFFSET + 3] = a;
 	}
 
-	private void fillVerticesGPU (int[] particlesOffset) {
-		int tp = 0;
-		for (BillboardControllerRenderData data : renderData) {
+	private void fillVerticesGPU (int[] particlesOffset, int start, int end, int tp) {
+		BillboardControllerRenderData[] items = renderData.items;
+		for (int d = start; d < end; d++) {
+			BillboardControllerRenderData data = items[d];
 			FloatChannel scaleChannel = data.scaleChannel;
 			FloatChannel regionChannel = data.regionChannel;
 			FloatChannel positionChannel = data.positionChannel;
@@ -465,9 +473,12 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 	 * -TMP_V1.z+TMP_V2.z+pz), u, v, r, g, b, a); } } } }
 	 */
 
-	private void fillVerticesToViewPointCPU (int[] particlesOffset) {
-		int tp = 0;
-		for (BillboardControllerRenderData data : renderData) {
+	private void fillVerticesToViewPointCPU (int[] particlesOffset, int start, int end, int tp, FillTemp temp) {
+		Vector3 tmpV1 = temp.v1, tmpV2 = temp.v2, tmpV3 = temp.v3, tmpV4 = temp.v4, tmpV6 = temp.v6;
+		Matrix3 tmpM3 = temp.m3;
+		BillboardControllerRenderData[] items = renderData.items;
+		for (int d = start; d < end; d++) {
+			BillboardControllerRenderData data = items[d];
 			FloatChannel scaleChannel = data.scaleChannel;
 			FloatChannel regionChannel = data.regionChannel;
 			FloatChannel positionChannel = data.positionChannel;
@@ -496,53 +507,56 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 				float a = colorChannel.data[colorOffset + ParticleChannels.AlphaOffset];
 				float cosRotation = rotationChannel.data[rotationOffset + ParticleChannels.CosineOffset];
 				float sinRotation = rotationChannel.data[rotationOffset + ParticleChannels.SineOffset];
-				Vector3 look = TMP_V3.set(camera.position).sub(px, py, pz).nor(), // normal
-				right = TMP_V1.set(camera.up).crs(look).nor(), // tangent
-				up = TMP_V2.set(look).crs(right);
+				Vector3 look = tmpV3.set(camera.position).sub(px, py, pz).nor(), // normal
+				right = tmpV1.set(camera.up).crs(look).nor(), // tangent
+				up = tmpV2.set(look).crs(right);
 				right.scl(sx);
 				up.scl(sy);
 
 				if (cosRotation != 1) {
-					TMP_M3.setToRotation(look, cosRotation, sinRotation);
+					tmpM3.setToRotation(look, cosRotation, sinRotation);
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x - TMP_V2.x, -TMP_V1.y - TMP_V2.y, -TMP_V1.z - TMP_V2.z).mul(TMP_M3).add(px, py, pz), u,
+						tmpV6.set(-tmpV1.x - tmpV2.x, -tmpV1.y - tmpV2.y, -tmpV1.z - tmpV2.z).mul(tmpM3).add(px, py, pz), u,
 						v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x - TMP_V2.x, TMP_V1.y - TMP_V2.y, TMP_V1.z - TMP_V2.z).mul(TMP_M3).add(px, py, pz), u2, v2,
+						tmpV6.set(tmpV1.x - tmpV2.x, tmpV1.y - tmpV2.y, tmpV1.z - tmpV2.z).mul(tmpM3).add(px, py, pz), u2, v2,
 						r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x + TMP_V2.x, TMP_V1.y + TMP_V2.y, TMP_V1.z + TMP_V2.z).mul(TMP_M3).add(px, py, pz), u2, v,
+						tmpV6.set(tmpV1.x + tmpV2.x, tmpV1.y + tmpV2.y, tmpV1.z + tmpV2.z).mul(tmpM3).add(px, py, pz), u2, v,
 						r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x + TMP_V2.x, -TMP_V1.y + TMP_V2.y, -TMP_V1.z + TMP_V2.z).mul(TMP_M3).add(px, py, pz), u, v,
+						tmpV6.set(-tmpV1.x + tmpV2.x, -tmpV1.y + tmpV2.y, -tmpV1.z + tmpV2.z).mul(tmpM3).add(px, py, pz), u, v,
 						r, g, b, a);
 				} else {
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x - TMP_V2.x + px, -TMP_V1.y - TMP_V2.y + py, -TMP_V1.z - TMP_V2.z + pz), u, v2, r, g, b, a);
+						tmpV6.set(-tmpV1.x - tmpV2.x + px, -tmpV1.y - tmpV2.y + py, -tmpV1.z - tmpV2.z + pz), u, v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x - TMP_V2.x + px, TMP_V1.y - TMP_V2.y + py, TMP_V1.z - TMP_V2.z + pz), u2, v2, r, g, b, a);
+						tmpV6.set(tmpV1.x - tmpV2.x + px, tmpV1.y - tmpV2.y + py, tmpV1.z - tmpV2.z + pz), u2, v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x + TMP_V2.x + px, TMP_V1.y + TMP_V2.y + py, TMP_V1.z + TMP_V2.z + pz), u2, v, r, g, b, a);
+						tmpV6.set(tmpV1.x + tmpV2.x + px, tmpV1.y + tmpV2.y + py, tmpV1.z + tmpV2.z + pz), u2, v, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x + TMP_V2.x + px, -TMP_V1.y + TMP_V2.y + py, -TMP_V1.z + TMP_V2.z + pz), u, v, r, g, b, a);
+						tmpV6.set(-tmpV1.x + tmpV2.x + px, -tmpV1.y + tmpV2.y + py, -tmpV1.z + tmpV2.z + pz), u, v, r, g, b, a);
 				}
 			}
 		}
 	}
 
-	private void fillVerticesToScreenCPU (int[] particlesOffset) {
-		Vector3 look = TMP_V3.set(camera.direction).scl(-1), // normal
-		right = TMP_V4.set(camera.up).crs(look).nor(), // tangent
+	private void fillVerticesToScreenCPU (int[] particlesOffset, int start, int end, int tp, FillTemp temp) {
+		Vector3 tmpV1 = temp.v1, tmpV2 = temp.v2, tmpV3 = temp.v3, tmpV4 = temp.v4, tmpV6 = temp.v6;
+		Matrix3 tmpM3 = temp.m3;
+		Vector3 look = tmpV3.set(camera.direction).scl(-1), // normal
+		right = tmpV4.set(camera.up).crs(look).nor(), // tangent
 		up = camera.up;
 
-		int tp = 0;
-		for (BillboardControllerRenderData data : renderData) {
+		BillboardControllerRenderData[] items = renderData.items;
+		for (int d = start; d < end; d++) {
+			BillboardControllerRenderData data = items[d];
 			FloatChannel scaleChannel = data.scaleChannel;
 			FloatChannel regionChannel = data.regionChannel;
 			FloatChannel positionChannel = data.positionChannel;
@@ -571,38 +585,38 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 				float a = colorChannel.data[colorOffset + ParticleChannels.AlphaOffset];
 				float cosRotation = rotationChannel.data[rotationOffset + ParticleChannels.CosineOffset];
 				float sinRotation = rotationChannel.data[rotationOffset + ParticleChannels.SineOffset];
-				TMP_V1.set(right).scl(sx);
-				TMP_V2.set(up).scl(sy);
+				tmpV1.set(right).scl(sx);
+				tmpV2.set(up).scl(sy);
 
 				if (cosRotation != 1) {
-					TMP_M3.setToRotation(look, cosRotation, sinRotation);
+					tmpM3.setToRotation(look, cosRotation, sinRotation);
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x - TMP_V2.x, -TMP_V1.y - TMP_V2.y, -TMP_V1.z - TMP_V2.z).mul(TMP_M3).add(px, py, pz), u,
+						tmpV6.set(-tmpV1.x - tmpV2.x, -tmpV1.y - tmpV2.y, -tmpV1.z - tmpV2.z).mul(tmpM3).add(px, py, pz), u,
 						v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x - TMP_V2.x, TMP_V1.y - TMP_V2.y, TMP_V1.z - TMP_V2.z).mul(TMP_M3).add(px, py, pz), u2, v2,
+						tmpV6.set(tmpV1.x - tmpV2.x, tmpV1.y - tmpV2.y, tmpV1.z - tmpV2.z).mul(tmpM3).add(px, py, pz), u2, v2,
 						r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x + TMP_V2.x, TMP_V1.y + TMP_V2.y, TMP_V1.z + TMP_V2.z).mul(TMP_M3).add(px, py, pz), u2, v,
+						tmpV6.set(tmpV1.x + tmpV2.x, tmpV1.y + tmpV2.y, tmpV1.z + tmpV2.z).mul(tmpM3).add(px, py, pz), u2, v,
 						r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x + TMP_V2.x, -TMP_V1.y + TMP_V2.y, -TMP_V1.z + TMP_V2.z).mul(TMP_M3).add(px, py, pz), u, v,
+						tmpV6.set(-tmpV1.x + tmpV2.x, -tmpV1.y + tmpV2.y, -tmpV1.z + tmpV2.z).mul(tmpM3).add(px, py, pz), u, v,
 						r, g, b, a);
 				} else {
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x - TMP_V2.x + px, -TMP_V1.y - TMP_V2.y + py, -TMP_V1.z - TMP_V2.z + pz), u, v2, r, g, b, a);
+						tmpV6.set(-tmpV1.x - tmpV2.x + px, -tmpV1.y - tmpV2.y + py, -tmpV1.z - tmpV2.z + pz), u, v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x - TMP_V2.x + px, TMP_V1.y - TMP_V2.y + py, TMP_V1.z - TMP_V2.z + pz), u2, v2, r, g, b, a);
+						tmpV6.set(tmpV1.x - tmpV2.x + px, tmpV1.y - tmpV2.y + py, tmpV1.z - tmpV2.z + pz), u2, v2, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(TMP_V1.x + TMP_V2.x + px, TMP_V1.y + TMP_V2.y + py, TMP_V1.z + TMP_V2.z + pz), u2, v, r, g, b, a);
+						tmpV6.set(tmpV1.x + tmpV2.x + px, tmpV1.y + tmpV2.y + py, tmpV1.z + tmpV2.z + pz), u2, v, r, g, b, a);
 					baseOffset += currentVertexSize;
 					putVertex(vertices, baseOffset,
-						TMP_V6.set(-TMP_V1.x + TMP_V2.x + px, -TMP_V1.y + TMP_V2.y + py, -TMP_V1.z + TMP_V2.z + pz), u, v, r, g, b, a);
+						tmpV6.set(-tmpV1.x + tmpV2.x + px, -tmpV1.y + tmpV2.y + py, -tmpV1.z + tmpV2.z + pz), u, v, r, g, b, a);
 				}
 			}
 		}
@@ -612,18 +626,15 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 	protected void flush (int[] offsets) {
 
 		// fill vertices
-		if (useGPU) {
-			// if(mode != AlignMode.ParticleDirection)
-			fillVerticesGPU(offsets);
-			// else
-			// fillVerticesToParticleDirectionGPU(offsets);
-		} else {
-			if (mode == AlignMode.Screen)
-				fillVerticesToScreenCPU(offsets);
-			else if (mode == AlignMode.ViewPoint) fillVerticesToViewPointCPU(offsets);
-			// else
-			// fillVerticesToParticleDirectionCPU(offsets);
+		int ranges = getFillRanges();
+		if (fillTemps.length < ranges) {
+			FillTemp[] fillTemps = new FillTemp[ranges];
+			System.arraycopy(this.fillTemps, 0, fillTemps, 0, this.fillTemps.length);
+			for (int i = this.fillTemps.length; i < ranges; i++)
+				fillTemps[i] = new FillTemp();
+			this.fillTemps = fillTemps;
 		}
+		fillVertices(offsets);
 
 		// send vertices to meshes
 		int addedVertexCount = 0;
@@ -638,6 +649,27 @@ public class BillboardParticleBatch extends BufferedParticleBatch<BillboardContr
 		}
 	}
 
+	@Override
+	protected boolean canFillRanges () {
+		return true;
+	}
+
+	@Override
+	protected void fillVertices (int[] offsets, int start, int end, int firstParticle, int range) {
+		if (useGPU) {
+			// if(mode != AlignMode.ParticleDirection)
+			fillVerticesGPU(offsets, start, end, firstParticle);
+			// else
+			// fillVerticesToParticleDirectionGPU(offsets);
+		} else {
+			if (mode == AlignMode.Screen)
+				fillVerticesToScreenCPU(offsets, start, end, firstParticle, fillTemps[range]);
+			else if (mode == AlignMode.ViewPoint) fillVerticesToViewPointCPU(offsets, start, end, firstParticle, fillTemps[range]);
+			// else
+			// fillVerticesToParticleDirectionCPU(offsets);
+		}
+	}
+
 	@Override
 	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
 		for (Renderable renderable : this.renderables)
@@ -20,6 +20,10 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleSorter;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Base class of all the batches requiring to buffer {@link ParticleControllerRenderData}
  * @author Inferno */
@@ -28,6 +32,10 @@ public abstract class BufferedParticleBatch<T extends ParticleControllerRenderDa
 	protected int bufferedParticlesCount, currentCapacity = 0;
 	protected ParticleSorter sorter;
 	protected Camera camera;
+	protected AsyncExecutor executor;
+	protected int threads;
+	private final Array<FillTask> fillTasks = new Array<FillTask>();
+	private final Array<AsyncResult<Void>> fillResults = new Array<AsyncResult<Void>>();
 
 	protected BufferedParticleBatch (Class<T> type) {
 		this.sorter = new ParticleSorter.Distance();
@@ -92,4 +100,91 @@ public abstract class BufferedParticleBatch<T extends ParticleControllerRenderDa
 	public int getBufferedCount () {
 		return bufferedParticlesCount;
 	}
+
+	/** Sets the executor used by {@link #fillVertices(int[])} to fill the vertices on multiple threads. It is only used if the
+	 * batch {@link #canFillRanges() fills vertices by range}.
+	 * @param executor the executor, null to fill the vertices on the calling thread. It isn't disposed by the batch.
+	 * @param threads the number of threads of the executor. The work is split into one more range, filled on the calling
+	 *           thread. */
+	public void setExecutor (AsyncExecutor executor, int threads) {
+		this.executor = executor;
+		this.threads = executor == null ? 0 : threads;
+	}
+
+	/** @return true if {@link #fillVertices(int[], int, int, int, int)} is implemented, false by default */
+	protected boolean canFillRanges () {
+		return false;
+	}
+
+	/** @return the number of ranges {@link #fillVertices(int[])} will split the current render data into, 1 if the batch can't
+	 *         {@link #canFillRanges() fill vertices by range} */
+	protected int getFillRanges () {
+		if (!canFillRanges()) return 1;
+		return Math.max(1, Math.min(threads + 1, renderData.size));
+	}
+
+	/** Fills the vertices of all the render data with {@link #fillVertices(int[], int, int, int, int)}. If an executor is set, the
+	 * render data is split into ranges of about the same number of particles which are filled at the same time, the last one on
+	 * the calling thread. Returns once all the ranges are filled. Must only be called if {@link #canFillRanges()} returns true. */
+	protected void fillVertices (int[] offsets) {
+		int ranges = getFillRanges();
+		if (ranges == 1) {
+			fillVertices(offsets, 0, renderData.size, 0, 0);
+			return;
+		}
+		T[] items = renderData.items;
+		FillTask task = null;
+		for (int range = 0, start = 0, particle = 0, n = renderData.size; range < ranges; range++) {
+			if (range == fillTasks.size) fillTasks.add(new FillTask());
+			if (task != null) fillResults.add(executor.submit(task));
+			task = fillTasks.get(range);
+			task.offsets = offsets;
+			task.start = start;
+			task.firstParticle = particle;
+			task.range = range;
+			if (range == ranges - 1)
+				start = n;
+			else {
+				// Take render data until the range has its share of the remaining particles, leaving one per remaining range.
+				int share = (bufferedParticlesCount - particle) / (ranges - range), count = 0, last = n - (ranges - range - 1);
+				do {
+					count += items[start++].controller.particles.size;
+				} while (start < last && count < share);
+				particle += count;
+			}
+			task.end = start;
+		}
+		try {
+			task.call();
+		} finally {
+			try {
+				for (int i = 0, n = fillResults.size; i < n; i++)
+					fillResults.get(i).get();
+			} finally {
+				fillResults.clear();
+				for (int i = 0; i < ranges; i++)
+					fillTasks.get(i).offsets = null;
+			}
+		}
+	}
+
+	/** Writes the vertices of the particles of the render data from start (inclusive) to end (exclusive). This is called for
+	 * different ranges at the same time when an executor is set, so it must not use temporary objects shared between ranges.
+	 * Subclasses implementing this must override {@link #canFillRanges()} to return true.
+	 * @param offsets the offsets calculated by the sorter, indexed by the particle's position in the render data
+	 * @param firstParticle the position in the render data of the first particle of the range
+	 * @param range the index of the range, less than {@link #getFillRanges()} */
+	protected void fillVertices (int[] offsets, int start, int end, int firstParticle, int range) {
+		throw new GdxRuntimeException(getClass().getName() + " doesn't fill vertices by range.");
+	}
+
+	private class FillTask implements AsyncTask<Void> {
+		int[] offsets;
+		int start, end, firstParticle, range;
+
+		public Void call () {
+			fillVertices(offsets, start, end, firstParticle, range);
+			return null;
+		}
+	}
 }
@@ -115,8 +115,24 @@ public class PointSpriteParticleBatch extends BufferedParticleBatch<PointSpriteC
 
 	@Override
 	protected void flush (int[] offsets) {
-		int tp = 0;
-		for (PointSpriteControllerRenderData data : renderData) {
+		fillVertices(offsets);
+
+		renderable.meshPart.size = bufferedParticlesCount;
+		renderable.meshPart.mesh.setVertices(vertices, 0, bufferedParticlesCount * CPU_VERTEX_SIZE);
+		renderable.meshPart.update();
+	}
+
+	@Override
+	protected boolean canFillRanges () {
+		return true;
+	}
+
+	@Override
+	protected void fillVertices (int[] offsets, int start, int end, int firstParticle, int range) {
+		int tp = firstParticle;
+		PointSpriteControllerRenderData[] items = renderData.items;
+		for (int d = start; d < end; d++) {
+			PointSpriteControllerRenderData data = items[d];
 			FloatChannel scaleChannel = data.scaleChannel;
 			FloatChannel regionChannel = data.regionChannel;
 			FloatChannel positionChannel = data.positionChannel;
@@ -148,10 +164,6 @@ public class PointSpriteParticleBatch extends BufferedParticleBatch<PointSpriteC
 				vertices[offset + CPU_REGION_OFFSET + 3] = regionChannel.data[regionOffset + ParticleChannels.V2Offset];
 			}
 		}
-
-		renderable.meshPart.size = bufferedParticlesCount;
-		renderable.meshPart.mesh.setVertices(vertices, 0, bufferedParticlesCount * CPU_VERTEX_SIZE);
-		renderable.meshPart.update();
 	}
 
 	@Override
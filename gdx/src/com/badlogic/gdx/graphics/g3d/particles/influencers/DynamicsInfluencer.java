@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -32,6 +33,8 @@ public class DynamicsInfluencer extends Influencer {
 	public Array<DynamicsModifier> velocities;
 	private FloatChannel accellerationChannel, positionChannel, previousPositionChannel, rotationChannel, angularVelocityChannel;
 	boolean hasAcceleration, has2dAngularVelocity, has3dAngularVelocity;
+	/** Temporary used by {@link #update()}, owned by the influencer since controllers can be updated on different threads. */
+	private final Quaternion tmpRotation = new Quaternion();
 
 	public DynamicsInfluencer () {
 		this.velocities = new Array<DynamicsModifier>(true, 3, DynamicsModifier.class);
@@ -193,11 +196,11 @@ public class DynamicsInfluencer extends Influencer {
 					+ ParticleChannels.YOffset], wz = angularVelocityChannel.data[angularOffset + ParticleChannels.ZOffset], qx = rotationChannel.data[offset
 					+ ParticleChannels.XOffset], qy = rotationChannel.data[offset + ParticleChannels.YOffset], qz = rotationChannel.data[offset
 					+ ParticleChannels.ZOffset], qw = rotationChannel.data[offset + ParticleChannels.WOffset];
-				TMP_Q.set(wx, wy, wz, 0).mul(qx, qy, qz, qw).mul(0.5f * controller.deltaTime).add(qx, qy, qz, qw).nor();
-				rotationChannel.data[offset + ParticleChannels.XOffset] = TMP_Q.x;
-				rotationChannel.data[offset + ParticleChannels.YOffset] = TMP_Q.y;
-				rotationChannel.data[offset + ParticleChannels.ZOffset] = TMP_Q.z;
-				rotationChannel.data[offset + ParticleChannels.WOffset] = TMP_Q.w;
+				tmpRotation.set(wx, wy, wz, 0).mul(qx, qy, qz, qw).mul(0.5f * controller.deltaTime).add(qx, qy, qz, qw).nor();
+				rotationChannel.data[offset + ParticleChannels.XOffset] = tmpRotation.x;
+				rotationChannel.data[offset + ParticleChannels.YOffset] = tmpRotation.y;
+				rotationChannel.data[offset + ParticleChannels.ZOffset] = tmpRotation.z;
+				rotationChannel.data[offset + ParticleChannels.WOffset] = tmpRotation.w;
 			}
 		}
 	}
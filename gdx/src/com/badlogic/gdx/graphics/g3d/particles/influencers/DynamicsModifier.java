@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.g3d.particles.values.ScaledNumericValue;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -37,6 +38,9 @@ public abstract class DynamicsModifier extends Influencer {
 
 	public static class FaceDirection extends DynamicsModifier {
 		FloatChannel rotationChannel, accellerationChannel;
+		/** Temporaries used by {@link #update()}, owned by the modifier since controllers can be updated on different threads. */
+		private final Vector3 tmpAxisX = new Vector3(), tmpAxisY = new Vector3(), tmpAxisZ = new Vector3();
+		private final Quaternion tmpRotation = new Quaternion();
 
 		public FaceDirection () {
 		}
@@ -55,15 +59,15 @@ public abstract class DynamicsModifier extends Influencer {
 		public void update () {
 			for (int i = 0, accelOffset = 0, c = i + controller.particles.size * rotationChannel.strideSize; i < c; i += rotationChannel.strideSize, accelOffset += accellerationChannel.strideSize) {
 
-				Vector3 axisZ = TMP_V1.set(accellerationChannel.data[accelOffset + ParticleChannels.XOffset],
+				Vector3 axisZ = tmpAxisZ.set(accellerationChannel.data[accelOffset + ParticleChannels.XOffset],
 					accellerationChannel.data[accelOffset + ParticleChannels.YOffset],
-					accellerationChannel.data[accelOffset + ParticleChannels.ZOffset]).nor(), axisY = TMP_V2.set(TMP_V1)
-					.crs(Vector3.Y).nor().crs(TMP_V1).nor(), axisX = TMP_V3.set(axisY).crs(axisZ).nor();
-				TMP_Q.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
-				rotationChannel.data[i + ParticleChannels.XOffset] = TMP_Q.x;
-				rotationChannel.data[i + ParticleChannels.YOffset] = TMP_Q.y;
-				rotationChannel.data[i + ParticleChannels.ZOffset] = TMP_Q.z;
-				rotationChannel.data[i + ParticleChannels.WOffset] = TMP_Q.w;
+					accellerationChannel.data[accelOffset + ParticleChannels.ZOffset]).nor(), axisY = tmpAxisY.set(axisZ)
+					.crs(Vector3.Y).nor().crs(axisZ).nor(), axisX = tmpAxisX.set(axisY).crs(axisZ).nor();
+				tmpRotation.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
+				rotationChannel.data[i + ParticleChannels.XOffset] = tmpRotation.x;
+				rotationChannel.data[i + ParticleChannels.YOffset] = tmpRotation.y;
+				rotationChannel.data[i + ParticleChannels.ZOffset] = tmpRotation.z;
+				rotationChannel.data[i + ParticleChannels.WOffset] = tmpRotation.w;
 			}
 		}
 
@@ -76,6 +80,8 @@ public abstract class DynamicsModifier extends Influencer {
 	public static abstract class Strength extends DynamicsModifier {
 		protected FloatChannel strengthChannel;
 		public ScaledNumericValue strengthValue;
+		/** Temporary used by {@link #update()}, owned by the modifier since controllers can be updated on different threads. */
+		protected final Vector3 tmpForce = new Vector3();
 
 		public Strength () {
 			strengthValue = new ScaledNumericValue();
@@ -274,12 +280,12 @@ public abstract class DynamicsModifier extends Influencer {
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi), sinPhi = MathUtils
 					.sinDeg(phi);
 
-				TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
-				TMP_V3.scl(strength * MathUtils.degreesToRadians);
+				tmpForce.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
+				tmpForce.scl(strength * MathUtils.degreesToRadians);
 
-				rotationalForceChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				rotationalForceChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				rotationalForceChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				rotationalForceChannel.data[i + ParticleChannels.XOffset] += tmpForce.x;
+				rotationalForceChannel.data[i + ParticleChannels.YOffset] += tmpForce.y;
+				rotationalForceChannel.data[i + ParticleChannels.ZOffset] += tmpForce.z;
 			}
 		}
 
@@ -323,13 +329,13 @@ public abstract class DynamicsModifier extends Influencer {
 				float strength = strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthStartOffset]
 					+ strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthDiffOffset]
 					* strengthValue.getScale(lifeChannel.data[lifeOffset]);
-				TMP_V3
+				tmpForce
 					.set(positionChannel.data[positionOffset + ParticleChannels.XOffset] - cx,
 						positionChannel.data[positionOffset + ParticleChannels.YOffset] - cy,
 						positionChannel.data[positionOffset + ParticleChannels.ZOffset] - cz).nor().scl(strength);
-				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += TMP_V3.x;
-				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += TMP_V3.y;
-				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += TMP_V3.z;
+				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += tmpForce.x;
+				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += tmpForce.y;
+				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += tmpForce.z;
 			}
 		}
 
@@ -370,10 +376,10 @@ public abstract class DynamicsModifier extends Influencer {
 
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi), sinPhi = MathUtils
 					.sinDeg(phi);
-				TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
-				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				tmpForce.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
+				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += tmpForce.x;
+				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += tmpForce.y;
+				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += tmpForce.z;
 			}
 		}
 
@@ -415,14 +421,14 @@ public abstract class DynamicsModifier extends Influencer {
 
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi), sinPhi = MathUtils
 					.sinDeg(phi);
-				TMP_V3
+				tmpForce
 					.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi)
 					.crs(positionChannel.data[positionOffset + ParticleChannels.XOffset],
 						positionChannel.data[positionOffset + ParticleChannels.YOffset],
 						positionChannel.data[positionOffset + ParticleChannels.ZOffset]).nor().scl(strength);
-				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += tmpForce.x;
+				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += tmpForce.y;
+				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += tmpForce.z;
 			}
 		}
 
@@ -432,8 +438,11 @@ public abstract class DynamicsModifier extends Influencer {
 		}
 	}
 
+	/** Accelerates the particles in random directions. It uses its own generator, seeded from {@link MathUtils#random} by
+	 * {@link #init()}, so controllers can be updated on different threads. */
 	public static class BrownianAcceleration extends Strength {
 		FloatChannel accelerationChannel;
+		private final RandomXS128 random = new RandomXS128();
 
 		public BrownianAcceleration () {
 		}
@@ -448,18 +457,25 @@ public abstract class DynamicsModifier extends Influencer {
 			accelerationChannel = controller.particles.addChannel(ParticleChannels.Acceleration);
 		}
 
+		@Override
+		public void init () {
+			super.init();
+			random.setSeed(MathUtils.random.nextLong());
+		}
+
 		@Override
 		public void update () {
+			RandomXS128 random = this.random;
 			int lifeOffset = ParticleChannels.LifePercentOffset, strengthOffset = 0, forceOffset = 0;
 			for (int i = 0, c = controller.particles.size; i < c; ++i, strengthOffset += strengthChannel.strideSize, forceOffset += accelerationChannel.strideSize, lifeOffset += lifeChannel.strideSize) {
 
 				float strength = strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthStartOffset]
 					+ strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthDiffOffset]
 					* strengthValue.getScale(lifeChannel.data[lifeOffset]);
-				TMP_V3.set(MathUtils.random(-1, 1f), MathUtils.random(-1, 1f), MathUtils.random(-1, 1f)).nor().scl(strength);
-				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += TMP_V3.x;
-				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += TMP_V3.y;
-				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += TMP_V3.z;
+				tmpForce.set(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1).nor().scl(strength);
+				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += tmpForce.x;
+				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += tmpForce.y;
+				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += tmpForce.z;
 			}
 		}
 
@@ -0,0 +1,589 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Cubemap;
+import com.badlogic.gdx.graphics.CubemapData;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** Texture data from a KTX2 or DDS file, usually holding block compressed (S3TC/BCn, ETC2, ASTC) mipmaps. The file is memory
+ * mapped and every mipmap level is passed to GL as a slice of the mapping, so the image data is never copied to the heap. Files
+ * that can't be mapped, like compressed Android assets, are streamed into a direct buffer instead.
+ * <p>
+ * KTX2 files may use zlib supercompression, which is inflated by {@link #prepare()}, on the loading thread when loaded through
+ * the {@link com.badlogic.gdx.assets.AssetManager}. The buffer it is inflated to is reused for the next file. BasisLZ and
+ * Zstandard supercompression are not supported.
+ * <p>
+ * Only 2D textures and cubemaps are supported, see {@link Texture} and {@link Cubemap}. */
+public class CompressedTextureData implements TextureData, CubemapData {
+	static private final byte[] KTX2_IDENTIFIER = {(byte)0xAB, 0x4B, 0x54, 0x58, 0x20, 0x32, 0x30, (byte)0xBB, 0x0D, 0x0A, 0x1A,
+		0x0A};
+	static private final int DDS_MAGIC = 0x20534444; // "DDS "
+	static private final int DDS_DXT1 = 0x31545844, DDS_DXT3 = 0x33545844, DDS_DXT5 = 0x35545844, DDS_ATI1 = 0x31495441,
+		DDS_ATI2 = 0x32495441, DDS_BC4U = 0x55344342, DDS_BC4S = 0x53344342, DDS_BC5U = 0x55354342, DDS_BC5S = 0x53354342,
+		DDS_DX10 = 0x30315844;
+	static private final int SUPERCOMPRESSION_NONE = 0, SUPERCOMPRESSION_ZLIB = 3;
+
+	static private final int GL_COMPRESSED_RGB_S3TC_DXT1 = 0x83F0, GL_COMPRESSED_RGBA_S3TC_DXT1 = 0x83F1,
+		GL_COMPRESSED_RGBA_S3TC_DXT3 = 0x83F2, GL_COMPRESSED_RGBA_S3TC_DXT5 = 0x83F3, GL_COMPRESSED_SRGB_S3TC_DXT1 = 0x8C4C,
+		GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1 = 0x8C4D, GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3 = 0x8C4E,
+		GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5 = 0x8C4F;
+	static private final int GL_COMPRESSED_RED_RGTC1 = 0x8DBB, GL_COMPRESSED_SIGNED_RED_RGTC1 = 0x8DBC,
+		GL_COMPRESSED_RG_RGTC2 = 0x8DBD, GL_COMPRESSED_SIGNED_RG_RGTC2 = 0x8DBE;
+	static private final int GL_COMPRESSED_RGBA_BPTC_UNORM = 0x8E8C, GL_COMPRESSED_SRGB_ALPHA_BPTC_UNORM = 0x8E8D,
+		GL_COMPRESSED_RGB_BPTC_SIGNED_FLOAT = 0x8E8E, GL_COMPRESSED_RGB_BPTC_UNSIGNED_FLOAT = 0x8E8F;
+	static private final int GL_COMPRESSED_RGBA_ASTC_4x4 = 0x93B0, GL_COMPRESSED_SRGB8_ALPHA8_ASTC_4x4 = 0x93D0;
+
+	/** Reused to inflate supercompressed files, so loading many of them doesn't allocate a buffer each time. */
+	static private ByteBuffer inflateBuffer;
+
+	private final FileHandle file;
+	private boolean useMipMaps;
+
+	// Only available after preparing.
+	private int width = -1, height = -1;
+	private int levels, faces;
+	private int glInternalFormat, glFormat, glType;
+	/** The mapped file or the inflated image data. **/
+	private ByteBuffer data;
+	private boolean inflated;
+	/** Offset in the data for each level and face. **/
+	private int[] offsets;
+	/** Size of a face for each level. **/
+	private int[] sizes;
+
+	/** @param genMipMaps Whether to generate mipmaps if the file has none, which is only possible for uncompressed formats. */
+	public CompressedTextureData (FileHandle file, boolean genMipMaps) {
+		this.file = file;
+		this.useMipMaps = genMipMaps;
+	}
+
+	@Override
+	public TextureDataType getType () {
+		return TextureDataType.Custom;
+	}
+
+	@Override
+	public boolean isPrepared () {
+		return data != null;
+	}
+
+	@Override
+	public void prepare () {
+		if (data != null) throw new GdxRuntimeException("Already prepared");
+		if (file == null) throw new GdxRuntimeException("Need a file to load from");
+		try {
+			prepare(read(file));
+		} catch (RuntimeException ex) {
+			throw new GdxRuntimeException("Couldn't load compressed texture: " + file, ex);
+		}
+	}
+
+	/** Memory maps the file, or streams it into a direct buffer if it can't be mapped. */
+	static private ByteBuffer read (FileHandle file) {
+		try {
+			return file.map();
+		} catch (GdxRuntimeException ignored) {
+		}
+		int length = (int)file.length();
+		if (length <= 0) {
+			byte[] bytes = file.readBytes();
+			ByteBuffer buffer = BufferUtils.newByteBuffer(bytes.length);
+			buffer.put(bytes);
+			buffer.flip();
+			return buffer;
+		}
+		ByteBuffer buffer = BufferUtils.newByteBuffer(length);
+		InputStream input = file.read();
+		try {
+			byte[] chunk = new byte[16 * 1024];
+			while (buffer.hasRemaining()) {
+				int count = input.read(chunk, 0, Math.min(chunk.length, buffer.remaining()));
+				if (count == -1) break;
+				buffer.put(chunk, 0, count);
+			}
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Error reading file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	void prepare (ByteBuffer buffer) {
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (isKTX2(buffer))
+			prepareKTX2(buffer);
+		else if (buffer.remaining() >= 128 && buffer.getInt(0) == DDS_MAGIC)
+			prepareDDS(buffer);
+		else
+			throw new GdxRuntimeException("Not a KTX2 or DDS file.");
+	}
+
+	static private boolean isKTX2 (ByteBuffer buffer) {
+		if (buffer.remaining() < 80) return false;
+		for (int i = 0; i < KTX2_IDENTIFIER.length; i++)
+			if (buffer.get(i) != KTX2_IDENTIFIER[i]) return false;
+		return true;
+	}
+
+	private void prepareKTX2 (ByteBuffer buffer) {
+		int vkFormat = buffer.getInt(12);
+		width = buffer.getInt(20);
+		height = buffer.getInt(24);
+		int depth = buffer.getInt(28), layers = buffer.getInt(32);
+		faces = buffer.getInt(36);
+		levels = buffer.getInt(40);
+		int supercompression = buffer.getInt(44);
+		if (height == 0 || depth != 0 || layers != 0) throw new GdxRuntimeException("Only 2D textures and cubemaps are supported.");
+		if (faces != 1 && faces != 6) throw new GdxRuntimeException("Invalid face count: " + faces);
+		if (levels == 0) {
+			levels = 1;
+			useMipMaps = true;
+		}
+		setVkFormat(vkFormat);
+
+		offsets = new int[levels * faces];
+		sizes = new int[levels];
+		if (supercompression == SUPERCOMPRESSION_NONE) {
+			data = buffer;
+			for (int level = 0; level < levels; level++) {
+				int index = 80 + level * 24;
+				int offset = (int)buffer.getLong(index), size = (int)buffer.getLong(index + 8) / faces;
+				if (offset + size * faces > buffer.limit()) throw new GdxRuntimeException("File is truncated.");
+				sizes[level] = size;
+				for (int face = 0; face < faces; face++)
+					offsets[level * faces + face] = offset + face * size;
+			}
+		} else if (supercompression == SUPERCOMPRESSION_ZLIB) {
+			int total = 0;
+			for (int level = 0; level < levels; level++)
+				total += (int)buffer.getLong(80 + level * 24 + 16);
+			data = obtainBuffer(total);
+			inflated = true;
+			Inflater inflater = new Inflater();
+			byte[] input = new byte[16 * 1024], output = new byte[64 * 1024];
+			try {
+				int offset = 0;
+				for (int level = 0; level < levels; level++) {
+					int index = 80 + level * 24;
+					int compressedOffset = (int)buffer.getLong(index), compressedSize = (int)buffer.getLong(index + 8);
+					int size = (int)buffer.getLong(index + 16);
+					if (compressedOffset + compressedSize > buffer.limit()) throw new GdxRuntimeException("File is truncated.");
+					inflater.reset();
+					ByteBuffer compressed = buffer.duplicate();
+					compressed.limit(compressedOffset + compressedSize);
+					compressed.position(compressedOffset);
+					data.limit(offset + size);
+					data.position(offset);
+					while (data.hasRemaining()) {
+						if (inflater.needsInput()) {
+							if (!compressed.hasRemaining()) throw new GdxRuntimeException("Supercompressed level is truncated.");
+							int count = Math.min(input.length, compressed.remaining());
+							compressed.get(input, 0, count);
+							inflater.setInput(input, 0, count);
+						}
+						int count = inflater.inflate(output, 0, Math.min(output.length, data.remaining()));
+						data.put(output, 0, count);
+						if (inflater.finished()) break;
+					}
+					if (data.hasRemaining()) throw new GdxRuntimeException("Supercompressed level is truncated.");
+					sizes[level] = size / faces;
+					for (int face = 0; face < faces; face++)
+						offsets[level * faces + face] = offset + face * sizes[level];
+					offset += size;
+				}
+			} catch (DataFormatException ex) {
+				disposePreparedData();
+				throw new GdxRuntimeException("Invalid supercompressed data.", ex);
+			} finally {
+				inflater.end();
+			}
+			data.clear();
+		} else
+			throw new GdxRuntimeException("Unsupported supercompression scheme: " + supercompression);
+	}
+
+	private void setVkFormat (int vkFormat) {
+		glFormat = 0;
+		glType = 0;
+		switch (vkFormat) {
+		case 23: // VK_FORMAT_R8G8B8_UNORM
+			setUncompressed(GL20.GL_RGB, GL20.GL_RGB);
+			return;
+		case 37: // VK_FORMAT_R8G8B8A8_UNORM
+			setUncompressed(GL20.GL_RGBA, GL20.GL_RGBA);
+			return;
+		case 43: // VK_FORMAT_R8G8B8A8_SRGB
+			setUncompressed(GL30.GL_SRGB8_ALPHA8, GL20.GL_RGBA);
+			return;
+		case 131:
+			glInternalFormat = GL_COMPRESSED_RGB_S3TC_DXT1;
+			return;
+		case 132:
+			glInternalFormat = GL_COMPRESSED_SRGB_S3TC_DXT1;
+			return;
+		case 133:
+			glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT1;
+			return;
+		case 134:
+			glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1;
+			return;
+		case 135:
+			glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT3;
+			return;
+		case 136:
+			glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3;
+			return;
+		case 137:
+			glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT5;
+			return;
+		case 138:
+			glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5;
+			return;
+		case 139:
+			glInternalFormat = GL_COMPRESSED_RED_RGTC1;
+			return;
+		case 140:
+			glInternalFormat = GL_COMPRESSED_SIGNED_RED_RGTC1;
+			return;
+		case 141:
+			glInternalFormat = GL_COMPRESSED_RG_RGTC2;
+			return;
+		case 142:
+			glInternalFormat = GL_COMPRESSED_SIGNED_RG_RGTC2;
+			return;
+		case 143:
+			glInternalFormat = GL_COMPRESSED_RGB_BPTC_UNSIGNED_FLOAT;
+			return;
+		case 144:
+			glInternalFormat = GL_COMPRESSED_RGB_BPTC_SIGNED_FLOAT;
+			return;
+		case 145:
+			glInternalFormat = GL_COMPRESSED_RGBA_BPTC_UNORM;
+			return;
+		case 146:
+			glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_BPTC_UNORM;
+			return;
+		}
+		if (vkFormat >= 147 && vkFormat <= 152) {
+			// ETC2 RGB8, RGB8A1 and RGBA8, each as UNORM and SRGB.
+			glInternalFormat = GL30.GL_COMPRESSED_RGB8_ETC2 + vkFormat - 147;
+			return;
+		}
+		if (vkFormat >= 153 && vkFormat <= 156) {
+			// EAC R11 and R11G11, each as UNORM and SNORM.
+			glInternalFormat = GL30.GL_COMPRESSED_R11_EAC + vkFormat - 153;
+			return;
+		}
+		if (vkFormat >= 157 && vkFormat <= 184) {
+			// ASTC block sizes from 4x4 to 12x12, each as UNORM and SRGB.
+			int blockSize = (vkFormat - 157) / 2;
+			glInternalFormat = ((vkFormat - 157) & 1) == 0 ? GL_COMPRESSED_RGBA_ASTC_4x4 + blockSize
+				: GL_COMPRESSED_SRGB8_ALPHA8_ASTC_4x4 + blockSize;
+			return;
+		}
+		throw new GdxRuntimeException("Unsupported KTX2 format: " + vkFormat);
+	}
+
+	private void setUncompressed (int glInternalFormat, int glFormat) {
+		this.glInternalFormat = glInternalFormat;
+		this.glFormat = glFormat;
+		this.glType = GL20.GL_UNSIGNED_BYTE;
+	}
+
+	private void prepareDDS (ByteBuffer buffer) {
+		if (buffer.getInt(4) != 124) throw new GdxRuntimeException("Invalid DDS header.");
+		int flags = buffer.getInt(8);
+		height = buffer.getInt(12);
+		width = buffer.getInt(16);
+		levels = (flags & 0x20000) != 0 ? Math.max(1, buffer.getInt(28)) : 1; // DDSD_MIPMAPCOUNT
+		int pixelFlags = buffer.getInt(80), fourCC = buffer.getInt(84), bitCount = buffer.getInt(88);
+		int caps2 = buffer.getInt(112);
+		faces = 1;
+		if ((caps2 & 0x200) != 0) { // DDSCAPS2_CUBEMAP
+			if ((caps2 & 0xfc00) != 0xfc00) throw new GdxRuntimeException("Cubemaps must have all 6 faces.");
+			faces = 6;
+		}
+		int offset = 128;
+
+		glFormat = 0;
+		glType = 0;
+		int blockBytes = 16, pixelBytes = 0;
+		if ((pixelFlags & 0x4) != 0) { // DDPF_FOURCC
+			switch (fourCC) {
+			case DDS_DXT1:
+				glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT1;
+				blockBytes = 8;
+				break;
+			case DDS_DXT3:
+				glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT3;
+				break;
+			case DDS_DXT5:
+				glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT5;
+				break;
+			case DDS_ATI1:
+			case DDS_BC4U:
+				glInternalFormat = GL_COMPRESSED_RED_RGTC1;
+				blockBytes = 8;
+				break;
+			case DDS_BC4S:
+				glInternalFormat = GL_COMPRESSED_SIGNED_RED_RGTC1;
+				blockBytes = 8;
+				break;
+			case DDS_ATI2:
+			case DDS_BC5U:
+				glInternalFormat = GL_COMPRESSED_RG_RGTC2;
+				break;
+			case DDS_BC5S:
+				glInternalFormat = GL_COMPRESSED_SIGNED_RG_RGTC2;
+				break;
+			case DDS_DX10:
+				if (buffer.getInt(140) > 1) throw new GdxRuntimeException("Texture arrays are not supported.");
+				if ((buffer.getInt(136) & 0x4) != 0) faces = 6; // DDS_RESOURCE_MISC_TEXTURECUBE
+				offset += 20;
+				int dxgiFormat = buffer.getInt(128);
+				switch (dxgiFormat) {
+				case 28: // DXGI_FORMAT_R8G8B8A8_UNORM
+					setUncompressed(GL20.GL_RGBA, GL20.GL_RGBA);
+					pixelBytes = 4;
+					break;
+				case 29: // DXGI_FORMAT_R8G8B8A8_UNORM_SRGB
+					setUncompressed(GL30.GL_SRGB8_ALPHA8, GL20.GL_RGBA);
+					pixelBytes = 4;
+					break;
+				case 71:
+					glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT1;
+					blockBytes = 8;
+					break;
+				case 72:
+					glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1;
+					blockBytes = 8;
+					break;
+				case 74:
+					glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT3;
+					break;
+				case 75:
+					glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3;
+					break;
+				case 77:
+					glInternalFormat = GL_COMPRESSED_RGBA_S3TC_DXT5;
+					break;
+				case 78:
+					glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5;
+					break;
+				case 80:
+					glInternalFormat = GL_COMPRESSED_RED_RGTC1;
+					blockBytes = 8;
+					break;
+				case 81:
+					glInternalFormat = GL_COMPRESSED_SIGNED_RED_RGTC1;
+					blockBytes = 8;
+					break;
+				case 83:
+					glInternalFormat = GL_COMPRESSED_RG_RGTC2;
+					break;
+				case 84:
+					glInternalFormat = GL_COMPRESSED_SIGNED_RG_RGTC2;
+					break;
+				case 95:
+					glInternalFormat = GL_COMPRESSED_RGB_BPTC_UNSIGNED_FLOAT;
+					break;
+				case 96:
+					glInternalFormat = GL_COMPRESSED_RGB_BPTC_SIGNED_FLOAT;
+					break;
+				case 98:
+					glInternalFormat = GL_COMPRESSED_RGBA_BPTC_UNORM;
+					break;
+				case 99:
+					glInternalFormat = GL_COMPRESSED_SRGB_ALPHA_BPTC_UNORM;
+					break;
+				default:
+					throw new GdxRuntimeException("Unsupported DXGI format: " + dxgiFormat);
+				}
+				break;
+			default:
+				throw new GdxRuntimeException("Unsupported DDS format: 0x" + Integer.toHexString(fourCC));
+			}
+		} else if ((pixelFlags & 0x40) != 0 && buffer.getInt(92) == 0xff && buffer.getInt(96) == 0xff00
+			&& buffer.getInt(100) == 0xff0000) { // DDPF_RGB in RGB(A) order
+			if (bitCount == 32 && (pixelFlags & 0x1) != 0 && buffer.getInt(104) == 0xff000000) {
+				setUncompressed(GL20.GL_RGBA, GL20.GL_RGBA);
+				pixelBytes = 4;
+			} else if (bitCount == 24) {
+				setUncompressed(GL20.GL_RGB, GL20.GL_RGB);
+				pixelBytes = 3;
+			} else
+				throw new GdxRuntimeException("Unsupported DDS pixel format.");
+		} else
+			throw new GdxRuntimeException("Unsupported DDS pixel format.");
+
+		// DDS stores all levels of a face before the next face.
+		offsets = new int[levels * faces];
+		sizes = new int[levels];
+		for (int level = 0; level < levels; level++) {
+			int width = Math.max(1, this.width >> level), height = Math.max(1, this.height >> level);
+			sizes[level] = pixelBytes != 0 ? width * height * pixelBytes : ((width + 3) / 4) * ((height + 3) / 4) * blockBytes;
+		}
+		for (int face = 0; face < faces; face++) {
+			for (int level = 0; level < levels; level++) {
+				offsets[level * faces + face] = offset;
+				offset += sizes[level];
+			}
+		}
+		if (offset > buffer.limit()) throw new GdxRuntimeException("File is truncated.");
+		data = buffer;
+	}
+
+	static private synchronized ByteBuffer obtainBuffer (int size) {
+		ByteBuffer buffer = inflateBuffer;
+		if (buffer != null && buffer.capacity() >= size) {
+			inflateBuffer = null;
+			buffer.clear();
+			return buffer;
+		}
+		return BufferUtils.newByteBuffer(size);
+	}
+
+	static private synchronized void freeBuffer (ByteBuffer buffer) {
+		if (inflateBuffer == null || inflateBuffer.capacity() < buffer.capacity()) inflateBuffer = buffer;
+	}
+
+	@Override
+	public void consumeCubemapData () {
+		consumeCustomData(GL20.GL_TEXTURE_CUBE_MAP);
+	}
+
+	@Override
+	public void consumeCustomData (int target) {
+		if (data == null) throw new GdxRuntimeException("Call prepare() before calling consumeCustomData()");
+		int firstFace = 0, lastFace = faces - 1, faceTarget = target;
+		if (faces == 6) {
+			if (target == GL20.GL_TEXTURE_CUBE_MAP)
+				faceTarget = GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X;
+			else if (target >= GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X && target <= GL20.GL_TEXTURE_CUBE_MAP_NEGATIVE_Z) {
+				// Load a single face of the cube.
+				firstFace = lastFace = target - GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X;
+				faceTarget = GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X;
+			} else
+				throw new GdxRuntimeException("A cubemap must be loaded to GL_TEXTURE_CUBE_MAP or one of its faces.");
+		} else if (target == GL20.GL_TEXTURE_CUBE_MAP) //
+			throw new GdxRuntimeException("The file has no cubemap: " + file);
+
+		boolean compressed = glFormat == 0;
+		if (!compressed) Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+		for (int level = 0; level < levels; level++) {
+			int width = Math.max(1, this.width >> level), height = Math.max(1, this.height >> level);
+			for (int face = firstFace; face <= lastFace; face++) {
+				ByteBuffer data = getData(level, face);
+				if (compressed)
+					Gdx.gl.glCompressedTexImage2D(faceTarget + face, level, glInternalFormat, width, height, 0, sizes[level], data);
+				else
+					Gdx.gl.glTexImage2D(faceTarget + face, level, glInternalFormat, width, height, 0, glFormat, glType, data);
+			}
+		}
+		if (useMipMaps && levels == 1 && !compressed) Gdx.gl.glGenerateMipmap(target);
+
+		disposePreparedData();
+	}
+
+	/** Releases the mapped file or the inflated data. Called after the data was consumed. */
+	public void disposePreparedData () {
+		if (inflated) freeBuffer(data);
+		data = null;
+		inflated = false;
+	}
+
+	/** Returns the image data of a face of a mipmap level. Only available after preparing and before consuming. */
+	public ByteBuffer getData (int level, int face) {
+		if (data == null) throw new GdxRuntimeException("Call prepare() before calling getData()");
+		ByteBuffer slice = data.duplicate();
+		int offset = offsets[level * faces + face];
+		slice.limit(offset + sizes[level]);
+		slice.position(offset);
+		return slice.slice();
+	}
+
+	@Override
+	public Pixmap consumePixmap () {
+		throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+	}
+
+	@Override
+	public boolean disposePixmap () {
+		throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+	}
+
+	@Override
+	public int getWidth () {
+		return width;
+	}
+
+	@Override
+	public int getHeight () {
+		return height;
+	}
+
+	public int getNumberOfMipMapLevels () {
+		return levels;
+	}
+
+	public int getNumberOfFaces () {
+		return faces;
+	}
+
+	public int getGlInternalFormat () {
+		return glInternalFormat;
+	}
+
+	/** @return Whether the data is block compressed, false for uncompressed RGB and RGBA data. */
+	public boolean isCompressed () {
+		return glFormat == 0;
+	}
+
+	@Override
+	public Format getFormat () {
+		throw new GdxRuntimeException("This TextureData implementation directly handles texture formats.");
+	}
+
+	@Override
+	public boolean useMipMaps () {
+		return useMipMaps || levels > 1;
+	}
+
+	@Override
+	public boolean isManaged () {
+		return true;
+	}
+}
@@ -0,0 +1,1004 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** A {@link GL20} that remembers the state set through it and drops calls that wouldn't change it: texture, program, buffer,
+ * framebuffer and renderbuffer bindings, enabled capabilities, blending, depth, culling, color mask, viewport, scissor, clear
+ * color, line width and pixel storage. Installed with {@link #install(Graphics)}, it filters the calls of everything using
+ * {@link com.badlogic.gdx.Gdx#gl}, so SpriteBatch, ShapeRenderer, FrameBuffer, Texture and the 3D
+ * {@link com.badlogic.gdx.graphics.g3d.utils.RenderContext} don't repeat each other's state changes in mixed frames.
+ * <p>
+ * The cache relies on seeing every state change of the context. Call {@link #invalidate()} after the state was changed
+ * elsewhere, e.g. by native code. The backends invalidate the installed cache when the context is recreated, even if a
+ * {@link com.badlogic.gdx.graphics.profiling.GLProfiler} wraps it. glGet* queries are always passed on. */
+public class GL20StateCache implements GL20 {
+	static private final int UNKNOWN = -1;
+	static private final int MAX_TEXTURE_UNITS = 32;
+	static private final int[] TEXTURE_TARGETS = {GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_CUBE_MAP, GL30.GL_TEXTURE_3D,
+		GL30.GL_TEXTURE_2D_ARRAY};
+	static private final Map<Application, GL20StateCache> installedCaches = new HashMap<Application, GL20StateCache>();
+
+	protected final GL20 gl20;
+
+	protected int filteredCalls, filteredTextureBindings, filteredShaderSwitches;
+
+	/** The active texture unit, as an offset from {@link GL20#GL_TEXTURE0}. **/
+	private int activeUnit;
+	/** The bound textures, per unit for each of {@link #TEXTURE_TARGETS}. **/
+	private final int[] textures = new int[MAX_TEXTURE_UNITS * TEXTURE_TARGETS.length];
+	private int program, arrayBuffer;
+	protected int elementArrayBuffer;
+	private int readFramebuffer, drawFramebuffer, renderbuffer;
+	/** 1 for enabled capabilities, 0 for disabled ones. **/
+	private final IntIntMap capabilities = new IntIntMap();
+	private final IntIntMap pixelStore = new IntIntMap();
+	private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha, blendEquationRGB, blendEquationAlpha;
+	private int depthFunc, depthMask, cullFace, frontFace, colorMask;
+	private boolean viewportKnown, scissorKnown, clearColorKnown;
+	private int viewportX, viewportY, viewportWidth, viewportHeight;
+	private int scissorX, scissorY, scissorWidth, scissorHeight;
+	private float clearRed, clearGreen, clearBlue, clearAlpha, lineWidth;
+
+	public GL20StateCache (GL20 gl20) {
+		this.gl20 = gl20;
+		invalidate();
+	}
+
+	/** Replaces the GL instances of the graphics with a state cache, which also sets {@link com.badlogic.gdx.Gdx#gl}. A
+	 * {@link com.badlogic.gdx.graphics.profiling.GLProfiler} has to be enabled after installing the cache and disabled before
+	 * uninstalling it.
+	 * @return the installed cache, a {@link GL30StateCache} if GL30 is available. */
+	static public GL20StateCache install (Graphics graphics) {
+		GL30 gl30 = graphics.getGL30();
+		if (gl30 != null) {
+			if (gl30 instanceof GL30StateCache) return (GL30StateCache)gl30;
+			GL30StateCache cache = new GL30StateCache(gl30);
+			graphics.setGL30(cache);
+			installedCaches.put(Gdx.app, cache);
+			return cache;
+		}
+		GL20 gl20 = graphics.getGL20();
+		if (gl20 instanceof GL20StateCache) return (GL20StateCache)gl20;
+		GL20StateCache cache = new GL20StateCache(gl20);
+		graphics.setGL20(cache);
+		installedCaches.put(Gdx.app, cache);
+		return cache;
+	}
+
+	/** Restores the GL instances the graphics had before {@link #install(Graphics)}. */
+	static public void uninstall (Graphics graphics) {
+		GL30 gl30 = graphics.getGL30();
+		if (gl30 instanceof GL30StateCache)
+			graphics.setGL30(((GL30StateCache)gl30).gl30);
+		else if (graphics.getGL20() instanceof GL20StateCache) //
+			graphics.setGL20(((GL20StateCache)graphics.getGL20()).gl20);
+		installedCaches.remove(Gdx.app);
+	}
+
+	/** Invalidates the cache installed for the application. This is an internal method. Do not use it! */
+	static public void invalidateAllStateCaches (Application app) {
+		GL20StateCache cache = installedCaches.get(app);
+		if (cache != null) cache.invalidate();
+	}
+
+	/** Forgets the cache installed for the application. This is an internal method. Do not use it! */
+	static public void clearAllStateCaches (Application app) {
+		installedCaches.remove(app);
+	}
+
+	/** Forgets all remembered state, so the next call setting any state is passed on. Must be called when the state was changed
+	 * without this cache, e.g. after the context was recreated. */
+	public void invalidate () {
+		activeUnit = UNKNOWN;
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = UNKNOWN;
+		program = arrayBuffer = elementArrayBuffer = UNKNOWN;
+		readFramebuffer = drawFramebuffer = renderbuffer = UNKNOWN;
+		capabilities.clear();
+		pixelStore.clear();
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = blendEquationRGB = blendEquationAlpha = UNKNOWN;
+		depthFunc = depthMask = cullFace = frontFace = colorMask = UNKNOWN;
+		viewportKnown = scissorKnown = clearColorKnown = false;
+		lineWidth = Float.NaN;
+	}
+
+	/** @return the number of calls dropped since the last {@link #resetCounts()} because they wouldn't have changed the state */
+	public int getFilteredCalls () {
+		return filteredCalls;
+	}
+
+	/** @return the number of dropped glBindTexture calls, included in {@link #getFilteredCalls()} */
+	public int getFilteredTextureBindings () {
+		return filteredTextureBindings;
+	}
+
+	/** @return the number of dropped glUseProgram calls, included in {@link #getFilteredCalls()} */
+	public int getFilteredShaderSwitches () {
+		return filteredShaderSwitches;
+	}
+
+	public void resetCounts () {
+		filteredCalls = 0;
+		filteredTextureBindings = 0;
+		filteredShaderSwitches = 0;
+	}
+
+	static private int targetIndex (int target) {
+		for (int i = 0; i < TEXTURE_TARGETS.length; i++)
+			if (TEXTURE_TARGETS[i] == target) return i;
+		return -1;
+	}
+
+	public void glActiveTexture (int texture) {
+		int unit = texture - GL20.GL_TEXTURE0;
+		if (unit == activeUnit) {
+			filteredCalls++;
+			return;
+		}
+		activeUnit = unit >= 0 && unit < MAX_TEXTURE_UNITS ? unit : UNKNOWN;
+		gl20.glActiveTexture(texture);
+	}
+
+	public void glBindTexture (int target, int texture) {
+		int index = targetIndex(target);
+		if (index != -1 && activeUnit != UNKNOWN) {
+			index += activeUnit * TEXTURE_TARGETS.length;
+			if (textures[index] == texture) {
+				filteredCalls++;
+				filteredTextureBindings++;
+				return;
+			}
+			textures[index] = texture;
+		}
+		gl20.glBindTexture(target, texture);
+	}
+
+	public void glDeleteTexture (int texture) {
+		textureDeleted(texture);
+		gl20.glDeleteTexture(texture);
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		for (int i = 0, position = textures.position(); i < n; i++)
+			textureDeleted(textures.get(position + i));
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	/** Deleting a bound texture binds 0 to its targets. */
+	private void textureDeleted (int texture) {
+		if (texture == 0) return;
+		int[] textures = this.textures;
+		for (int i = 0; i < textures.length; i++)
+			if (textures[i] == texture) textures[i] = 0;
+	}
+
+	public void glUseProgram (int program) {
+		if (program == this.program) {
+			filteredCalls++;
+			filteredShaderSwitches++;
+			return;
+		}
+		this.program = program;
+		gl20.glUseProgram(program);
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		if (target == GL20.GL_ARRAY_BUFFER) {
+			if (buffer == arrayBuffer) {
+				filteredCalls++;
+				return;
+			}
+			arrayBuffer = buffer;
+		} else if (target == GL20.GL_ELEMENT_ARRAY_BUFFER) {
+			if (buffer == elementArrayBuffer) {
+				filteredCalls++;
+				return;
+			}
+			elementArrayBuffer = buffer;
+		}
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	public void glDeleteBuffer (int buffer) {
+		bufferDeleted(buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		for (int i = 0, position = buffers.position(); i < n; i++)
+			bufferDeleted(buffers.get(position + i));
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	private void bufferDeleted (int buffer) {
+		if (buffer == 0) return;
+		if (arrayBuffer == buffer) arrayBuffer = 0;
+		if (elementArrayBuffer == buffer) elementArrayBuffer = 0;
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		if (target == GL20.GL_FRAMEBUFFER) {
+			if (framebuffer == readFramebuffer && framebuffer == drawFramebuffer) {
+				filteredCalls++;
+				return;
+			}
+			readFramebuffer = drawFramebuffer = framebuffer;
+		} else if (target == GL30.GL_READ_FRAMEBUFFER) {
+			if (framebuffer == readFramebuffer) {
+				filteredCalls++;
+				return;
+			}
+			readFramebuffer = framebuffer;
+		} else if (target == GL30.GL_DRAW_FRAMEBUFFER) {
+			if (framebuffer == drawFramebuffer) {
+				filteredCalls++;
+				return;
+			}
+			drawFramebuffer = framebuffer;
+		}
+		gl20.glBindFramebuffer(target, framebuffer);
+	}
+
+	public void glDeleteFramebuffer (int framebuffer) {
+		framebufferDeleted(framebuffer);
+		gl20.glDeleteFramebuffer(framebuffer);
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		for (int i = 0, position = framebuffers.position(); i < n; i++)
+			framebufferDeleted(framebuffers.get(position + i));
+		gl20.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	private void framebufferDeleted (int framebuffer) {
+		if (framebuffer == 0) return;
+		if (readFramebuffer == framebuffer) readFramebuffer = 0;
+		if (drawFramebuffer == framebuffer) drawFramebuffer = 0;
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		if (renderbuffer == this.renderbuffer) {
+			filteredCalls++;
+			return;
+		}
+		this.renderbuffer = renderbuffer;
+		gl20.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		if (renderbuffer != 0 && renderbuffer == this.renderbuffer) this.renderbuffer = 0;
+		gl20.glDeleteRenderbuffer(renderbuffer);
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		for (int i = 0, position = renderbuffers.position(); i < n; i++) {
+			int renderbuffer = renderbuffers.get(position + i);
+			if (renderbuffer != 0 && renderbuffer == this.renderbuffer) this.renderbuffer = 0;
+		}
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	public void glEnable (int cap) {
+		if (capabilities.get(cap, UNKNOWN) == 1) {
+			filteredCalls++;
+			return;
+		}
+		capabilities.put(cap, 1);
+		gl20.glEnable(cap);
+	}
+
+	public void glDisable (int cap) {
+		if (capabilities.get(cap, UNKNOWN) == 0) {
+			filteredCalls++;
+			return;
+		}
+		capabilities.put(cap, 0);
+		gl20.glDisable(cap);
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		if (pixelStore.containsKey(pname) && pixelStore.get(pname, 0) == param) {
+			filteredCalls++;
+			return;
+		}
+		pixelStore.put(pname, param);
+		gl20.glPixelStorei(pname, param);
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (sfactor == blendSrcRGB && dfactor == blendDstRGB && sfactor == blendSrcAlpha && dfactor == blendDstAlpha) {
+			filteredCalls++;
+			return;
+		}
+		blendSrcRGB = blendSrcAlpha = sfactor;
+		blendDstRGB = blendDstAlpha = dfactor;
+		gl20.glBlendFunc(sfactor, dfactor);
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (srcRGB == blendSrcRGB && dstRGB == blendDstRGB && srcAlpha == blendSrcAlpha && dstAlpha == blendDstAlpha) {
+			filteredCalls++;
+			return;
+		}
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	public void glBlendEquation (int mode) {
+		if (mode == blendEquationRGB && mode == blendEquationAlpha) {
+			filteredCalls++;
+			return;
+		}
+		blendEquationRGB = blendEquationAlpha = mode;
+		gl20.glBlendEquation(mode);
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		if (modeRGB == blendEquationRGB && modeAlpha == blendEquationAlpha) {
+			filteredCalls++;
+			return;
+		}
+		blendEquationRGB = modeRGB;
+		blendEquationAlpha = modeAlpha;
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	public void glDepthFunc (int func) {
+		if (func == depthFunc) {
+			filteredCalls++;
+			return;
+		}
+		depthFunc = func;
+		gl20.glDepthFunc(func);
+	}
+
+	public void glDepthMask (boolean flag) {
+		int mask = flag ? 1 : 0;
+		if (mask == depthMask) {
+			filteredCalls++;
+			return;
+		}
+		depthMask = mask;
+		gl20.glDepthMask(flag);
+	}
+
+	public void glCullFace (int mode) {
+		if (mode == cullFace) {
+			filteredCalls++;
+			return;
+		}
+		cullFace = mode;
+		gl20.glCullFace(mode);
+	}
+
+	public void glFrontFace (int mode) {
+		if (mode == frontFace) {
+			filteredCalls++;
+			return;
+		}
+		frontFace = mode;
+		gl20.glFrontFace(mode);
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		int mask = (red ? 1 : 0) | (green ? 2 : 0) | (blue ? 4 : 0) | (alpha ? 8 : 0);
+		if (mask == colorMask) {
+			filteredCalls++;
+			return;
+		}
+		colorMask = mask;
+		gl20.glColorMask(red, green, blue, alpha);
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		if (viewportKnown && x == viewportX && y == viewportY && width == viewportWidth && height == viewportHeight) {
+			filteredCalls++;
+			return;
+		}
+		viewportKnown = true;
+		viewportX = x;
+		viewportY = y;
+		viewportWidth = width;
+		viewportHeight = height;
+		gl20.glViewport(x, y, width, height);
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		if (scissorKnown && x == scissorX && y == scissorY && width == scissorWidth && height == scissorHeight) {
+			filteredCalls++;
+			return;
+		}
+		scissorKnown = true;
+		scissorX = x;
+		scissorY = y;
+		scissorWidth = width;
+		scissorHeight = height;
+		gl20.glScissor(x, y, width, height);
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		if (clearColorKnown && red == clearRed && green == clearGreen && blue == clearBlue && alpha == clearAlpha) {
+			filteredCalls++;
+			return;
+		}
+		clearColorKnown = true;
+		clearRed = red;
+		clearGreen = green;
+		clearBlue = blue;
+		clearAlpha = alpha;
+		gl20.glClearColor(red, green, blue, alpha);
+	}
+
+	public void glLineWidth (float width) {
+		if (width == lineWidth) {
+			filteredCalls++;
+			return;
+		}
+		lineWidth = width;
+		gl20.glLineWidth(width);
+	}
+
+	// Calls that are passed on unchanged.
+
+	public void glClear (int mask) {
+		gl20.glClear(mask);
+	}
+
+	public void glClearDepthf (float depth) {
+		gl20.glClearDepthf(depth);
+	}
+
+	public void glClearStencil (int s) {
+		gl20.glClearStencil(s);
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		gl20.glDepthRangef(zNear, zFar);
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glFinish () {
+		gl20.glFinish();
+	}
+
+	public void glFlush () {
+		gl20.glFlush();
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl20.glGenTextures(n, textures);
+	}
+
+	public int glGenTexture () {
+		return gl20.glGenTexture();
+	}
+
+	public int glGetError () {
+		return gl20.glGetError();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		gl20.glGetIntegerv(pname, params);
+	}
+
+	public String glGetString (int name) {
+		return gl20.glGetString(name);
+	}
+
+	public void glHint (int target, int mode) {
+		gl20.glHint(target, mode);
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		gl20.glPolygonOffset(factor, units);
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		gl20.glStencilFunc(func, ref, mask);
+	}
+
+	public void glStencilMask (int mask) {
+		gl20.glStencilMask(mask);
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		gl20.glStencilOp(fail, zfail, zpass);
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		gl20.glTexParameterf(target, pname, param);
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	public void glAttachShader (int program, int shader) {
+		gl20.glAttachShader(program, shader);
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		gl20.glBlendColor(red, green, blue, alpha);
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		gl20.glBufferSubData(target, offset, size, data);
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		return gl20.glCheckFramebufferStatus(target);
+	}
+
+	public void glCompileShader (int shader) {
+		gl20.glCompileShader(shader);
+	}
+
+	public int glCreateProgram () {
+		return gl20.glCreateProgram();
+	}
+
+	public int glCreateShader (int type) {
+		return gl20.glCreateShader(type);
+	}
+
+	public void glDeleteProgram (int program) {
+		gl20.glDeleteProgram(program);
+	}
+
+	public void glDeleteShader (int shader) {
+		gl20.glDeleteShader(shader);
+	}
+
+	public void glDetachShader (int program, int shader) {
+		gl20.glDetachShader(program, shader);
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		gl20.glDisableVertexAttribArray(index);
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		gl20.glEnableVertexAttribArray(index);
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+	}
+
+	public int glGenBuffer () {
+		return gl20.glGenBuffer();
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl20.glGenBuffers(n, buffers);
+	}
+
+	public void glGenerateMipmap (int target) {
+		gl20.glGenerateMipmap(target);
+	}
+
+	public int glGenFramebuffer () {
+		return gl20.glGenFramebuffer();
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		gl20.glGenFramebuffers(n, framebuffers);
+	}
+
+	public int glGenRenderbuffer () {
+		return gl20.glGenRenderbuffer();
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glGenRenderbuffers(n, renderbuffers);
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		return gl20.glGetActiveAttrib(program, index, size, type);
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		return gl20.glGetActiveUniform(program, index, size, type);
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		return gl20.glGetAttribLocation(program, name);
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		gl20.glGetBooleanv(pname, params);
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetBufferParameteriv(target, pname, params);
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		gl20.glGetFloatv(pname, params);
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl20.glGetProgramiv(program, pname, params);
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		return gl20.glGetProgramInfoLog(program);
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetRenderbufferParameteriv(target, pname, params);
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		gl20.glGetShaderiv(shader, pname, params);
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		return gl20.glGetShaderInfoLog(shader);
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glGetTexParameterfv(target, pname, params);
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetTexParameteriv(target, pname, params);
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		gl20.glGetUniformfv(program, location, params);
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		gl20.glGetUniformiv(program, location, params);
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		return gl20.glGetUniformLocation(program, name);
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		gl20.glGetVertexAttribfv(index, pname, params);
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		gl20.glGetVertexAttribiv(index, pname, params);
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		return gl20.glIsBuffer(buffer);
+	}
+
+	public boolean glIsEnabled (int cap) {
+		return gl20.glIsEnabled(cap);
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		return gl20.glIsFramebuffer(framebuffer);
+	}
+
+	public boolean glIsProgram (int program) {
+		return gl20.glIsProgram(program);
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		return gl20.glIsRenderbuffer(renderbuffer);
+	}
+
+	public boolean glIsShader (int shader) {
+		return gl20.glIsShader(shader);
+	}
+
+	public boolean glIsTexture (int texture) {
+		return gl20.glIsTexture(texture);
+	}
+
+	public void glLinkProgram (int program) {
+		gl20.glLinkProgram(program);
+	}
+
+	public void glReleaseShaderCompiler () {
+		gl20.glReleaseShaderCompiler();
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		gl20.glSampleCoverage(value, invert);
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+	}
+
+	public void glShaderSource (int shader, String string) {
+		gl20.glShaderSource(shader, string);
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		gl20.glStencilMaskSeparate(face, mask);
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glTexParameterfv(target, pname, params);
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		gl20.glTexParameteri(target, pname, param);
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glTexParameteriv(target, pname, params);
+	}
+
+	public void glUniform1f (int location, float x) {
+		gl20.glUniform1f(location, x);
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform1fv(location, count, v);
+	}
+
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform1fv(location, count, v, offset);
+	}
+
+	public void glUniform1i (int location, int x) {
+		gl20.glUniform1i(location, x);
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		gl20.glUniform1iv(location, count, v);
+	}
+
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform1iv(location, count, v, offset);
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		gl20.glUniform2f(location, x, y);
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform2fv(location, count, v);
+	}
+
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform2fv(location, count, v, offset);
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		gl20.glUniform2i(location, x, y);
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		gl20.glUniform2iv(location, count, v);
+	}
+
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform2iv(location, count, v, offset);
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		gl20.glUniform3f(location, x, y, z);
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform3fv(location, count, v);
+	}
+
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform3fv(location, count, v, offset);
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		gl20.glUniform3i(location, x, y, z);
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		gl20.glUniform3iv(location, count, v);
+	}
+
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform3iv(location, count, v, offset);
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		gl20.glUniform4f(location, x, y, z, w);
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform4fv(location, count, v);
+	}
+
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform4fv(location, count, v, offset);
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		gl20.glUniform4i(location, x, y, z, w);
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		gl20.glUniform4iv(location, count, v);
+	}
+
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform4iv(location, count, v, offset);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	public void glValidateProgram (int program) {
+		gl20.glValidateProgram(program);
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		gl20.glVertexAttrib1f(indx, x);
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib1fv(indx, values);
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		gl20.glVertexAttrib2f(indx, x, y);
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib2fv(indx, values);
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		gl20.glVertexAttrib3f(indx, x, y, z);
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib3fv(indx, values);
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		gl20.glVertexAttrib4f(indx, x, y, z, w);
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib4fv(indx, values);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+}
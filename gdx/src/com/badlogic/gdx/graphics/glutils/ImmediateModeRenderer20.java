@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.glutils;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.math.Matrix4;
@@ -58,12 +59,27 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 	}
 
 	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords, ShaderProgram shader) {
+		this(maxVertices, hasNormals, hasColors, numTexCoords, shader, null);
+	}
+
+	/** @param shader May be null to create and own the default shader.
+	 * @param vertexDataType The {@link VertexDataType} of the mesh, {@link VertexDataType#VertexBufferObjectStreaming} avoids
+	 *           stalls when flushing many times per frame. May be null to use a vertex buffer object. */
+	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords, ShaderProgram shader,
+		VertexDataType vertexDataType) {
 		this.maxVertices = maxVertices;
 		this.numTexCoords = numTexCoords;
+		if (shader == null) {
+			shader = createDefaultShader(hasNormals, hasColors, numTexCoords);
+			ownsShader = true;
+		}
 		this.shader = shader;
 
 		VertexAttribute[] attribs = buildVertexAttributes(hasNormals, hasColors, numTexCoords);
-		mesh = new Mesh(false, maxVertices, 0, attribs);
+		if (vertexDataType == null)
+			mesh = new Mesh(false, maxVertices, 0, attribs);
+		else
+			mesh = new Mesh(vertexDataType, false, maxVertices, 0, attribs);
 
 		vertices = new float[maxVertices * (mesh.getVertexAttributes().vertexSize / 4)];
 		vertexSize = mesh.getVertexAttributes().vertexSize / 4;
@@ -99,6 +115,10 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 		ownsShader = false;
 	}
 
+	public ShaderProgram getShader () {
+		return shader;
+	}
+
 	public void begin (Matrix4 projModelView, int primitiveType) {
 		this.projModelView.set(projModelView);
 		this.primitiveType = primitiveType;
@@ -28,6 +28,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.profiling.GLInterceptor;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
@@ -35,6 +36,8 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
@@ -93,6 +96,8 @@ public class ShaderProgram implements Disposable {
 	 * as-is, you should include a newline (`\n`) if needed. */
 	public static String prependFragmentCode = "";
 
+	static private final int UNIFORM_INT = 1, UNIFORM_FLOAT = 2;
+
 	/** the list of currently available shaders **/
 	private final static ObjectMap<Application, Array<ShaderProgram>> shaders = new ObjectMap<Application, Array<ShaderProgram>>();
 
@@ -114,6 +119,12 @@ public class ShaderProgram implements Disposable {
 	/** uniform names **/
 	private String[] uniformNames;
 
+	/** uniform value offsets by location **/
+	private final IntIntMap uniformShadows = new IntIntMap();
+
+	/** uniform values last set, per uniform the component count, the kind of value and the value bits **/
+	private int[] uniformValues;
+
 	/** attribute lookup **/
 	private final ObjectIntMap<String> attributes = new ObjectIntMap<String>();
 
@@ -311,20 +322,120 @@ public class ShaderProgram implements Disposable {
 		return location;
 	}
 
+	/** Returns a handle of the uniform with the given name for the setters taking a location. Setting a uniform through its handle
+	 * avoids looking up the name on every call. Through either kind of setter, setting a uniform to the value it already has
+	 * doesn't issue a GL call. Call {@link #invalidateUniforms()} after changing uniforms of this program directly through GL.
+	 * 
+	 * @param name the name of the uniform
+	 * @return the location of the uniform, or -1 if it doesn't exist and {@link #pedantic} is false */
+	public int uniformHandle (String name) {
+		return fetchUniformLocation(name, pedantic);
+	}
+
+	/** Forgets the uniform values this program remembers to skip redundant GL calls. */
+	public void invalidateUniforms () {
+		int[] values = uniformValues;
+		if (values == null) return;
+		for (int offset = 0, n = values.length; offset < n; offset += values[offset] + 2)
+			values[offset + 1] = 0;
+	}
+
+	/** Returns true if the uniform at the location needs to be set to the given values, remembering the values. */
+	private boolean changed (int location, int kind, int count, int value1, int value2, int value3, int value4) {
+		int offset = uniformShadows.get(location, -1);
+		int[] values = uniformValues;
+		if (offset == -1 || values[offset] != count) return true;
+		offset += 2;
+		if (values[offset - 1] == kind && values[offset] == value1 && (count < 2 || values[offset + 1] == value2
+			&& (count < 3 || values[offset + 2] == value3 && (count < 4 || values[offset + 3] == value4)))) {
+			uniformSkipped();
+			return false;
+		}
+		values[offset - 1] = kind;
+		switch (count) {
+		case 4:
+			values[offset + 3] = value4;
+		case 3:
+			values[offset + 2] = value3;
+		case 2:
+			values[offset + 1] = value2;
+		}
+		values[offset] = value1;
+		return true;
+	}
+
+	/** Returns true if the matrix uniform at the location needs to be set to the given values, remembering the values. */
+	private boolean changed (int location, float[] matrix, int matrixOffset, int count) {
+		int offset = uniformShadows.get(location, -1);
+		int[] values = uniformValues;
+		if (offset == -1 || values[offset] != count) return true;
+		offset += 2;
+		boolean changed = values[offset - 1] != UNIFORM_FLOAT;
+		values[offset - 1] = UNIFORM_FLOAT;
+		for (int i = 0; i < count; i++) {
+			int bits = NumberUtils.floatToRawIntBits(matrix[matrixOffset + i]);
+			if (values[offset + i] != bits) {
+				values[offset + i] = bits;
+				changed = true;
+			}
+		}
+		if (!changed) uniformSkipped();
+		return changed;
+	}
+
+	/** Forgets the value of the uniform at the location, for setters that aren't tracked. */
+	private void invalidateUniform (int location) {
+		int offset = uniformShadows.get(location, -1);
+		if (offset != -1) uniformValues[offset + 1] = 0;
+	}
+
+	private void uniformSkipped () {
+		GL20 gl = Gdx.gl20;
+		if (gl instanceof GLInterceptor) ((GLInterceptor)gl).skipUniformUpload();
+	}
+
+	static private int uniformComponents (int type) {
+		switch (type) {
+		case GL20.GL_FLOAT:
+		case GL20.GL_INT:
+		case GL20.GL_BOOL:
+		case GL20.GL_SAMPLER_2D:
+		case GL20.GL_SAMPLER_CUBE:
+			return 1;
+		case GL20.GL_FLOAT_VEC2:
+		case GL20.GL_INT_VEC2:
+		case GL20.GL_BOOL_VEC2:
+			return 2;
+		case GL20.GL_FLOAT_VEC3:
+		case GL20.GL_INT_VEC3:
+		case GL20.GL_BOOL_VEC3:
+			return 3;
+		case GL20.GL_FLOAT_VEC4:
+		case GL20.GL_INT_VEC4:
+		case GL20.GL_BOOL_VEC4:
+			return 4;
+		case GL20.GL_FLOAT_MAT3:
+			return 9;
+		case GL20.GL_FLOAT_MAT4:
+			return 16;
+		default:
+			return 0;
+		}
+	}
+
 	/** Sets the uniform with the given name. The {@link ShaderProgram} must be bound for this to work.
 	 * 
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformi (String name, int value) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform1i(location, value);
+		setUniformi(fetchUniformLocation(name), value);
 	}
 
 	public void setUniformi (int location, int value) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_INT, 1, value, 0, 0, 0)) return;
 		gl.glUniform1i(location, value);
 	}
 
@@ -334,15 +445,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformi (String name, int value1, int value2) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform2i(location, value1, value2);
+		setUniformi(fetchUniformLocation(name), value1, value2);
 	}
 
 	public void setUniformi (int location, int value1, int value2) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_INT, 2, value1, value2, 0, 0)) return;
 		gl.glUniform2i(location, value1, value2);
 	}
 
@@ -353,15 +463,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformi (String name, int value1, int value2, int value3) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform3i(location, value1, value2, value3);
+		setUniformi(fetchUniformLocation(name), value1, value2, value3);
 	}
 
 	public void setUniformi (int location, int value1, int value2, int value3) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_INT, 3, value1, value2, value3, 0)) return;
 		gl.glUniform3i(location, value1, value2, value3);
 	}
 
@@ -373,15 +482,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformi (String name, int value1, int value2, int value3, int value4) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform4i(location, value1, value2, value3, value4);
+		setUniformi(fetchUniformLocation(name), value1, value2, value3, value4);
 	}
 
 	public void setUniformi (int location, int value1, int value2, int value3, int value4) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_INT, 4, value1, value2, value3, value4)) return;
 		gl.glUniform4i(location, value1, value2, value3, value4);
 	}
 
@@ -390,15 +498,14 @@ public class ShaderProgram implements Disposable {
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformf (String name, float value) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform1f(location, value);
+		setUniformf(fetchUniformLocation(name), value);
 	}
 
 	public void setUniformf (int location, float value) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_FLOAT, 1, NumberUtils.floatToRawIntBits(value), 0, 0, 0)) return;
 		gl.glUniform1f(location, value);
 	}
 
@@ -408,15 +515,15 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformf (String name, float value1, float value2) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform2f(location, value1, value2);
+		setUniformf(fetchUniformLocation(name), value1, value2);
 	}
 
 	public void setUniformf (int location, float value1, float value2) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_FLOAT, 2, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2), 0,
+			0)) return;
 		gl.glUniform2f(location, value1, value2);
 	}
 
@@ -427,15 +534,15 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformf (String name, float value1, float value2, float value3) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform3f(location, value1, value2, value3);
+		setUniformf(fetchUniformLocation(name), value1, value2, value3);
 	}
 
 	public void setUniformf (int location, float value1, float value2, float value3) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_FLOAT, 3, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2),
+			NumberUtils.floatToRawIntBits(value3), 0)) return;
 		gl.glUniform3f(location, value1, value2, value3);
 	}
 
@@ -447,67 +554,63 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformf (String name, float value1, float value2, float value3, float value4) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform4f(location, value1, value2, value3, value4);
+		setUniformf(fetchUniformLocation(name), value1, value2, value3, value4);
 	}
 
 	public void setUniformf (int location, float value1, float value2, float value3, float value4) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (!changed(location, UNIFORM_FLOAT, 4, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2),
+			NumberUtils.floatToRawIntBits(value3), NumberUtils.floatToRawIntBits(value4))) return;
 		gl.glUniform4f(location, value1, value2, value3, value4);
 	}
 
 	public void setUniform1fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform1fv(location, length, values, offset);
+		setUniform1fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform1fv (int location, float[] values, int offset, int length) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		invalidateUniform(location);
 		gl.glUniform1fv(location, length, values, offset);
 	}
 
 	public void setUniform2fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform2fv(location, length / 2, values, offset);
+		setUniform2fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform2fv (int location, float[] values, int offset, int length) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		invalidateUniform(location);
 		gl.glUniform2fv(location, length / 2, values, offset);
 	}
 
 	public void setUniform3fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform3fv(location, length / 3, values, offset);
+		setUniform3fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform3fv (int location, float[] values, int offset, int length) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		invalidateUniform(location);
 		gl.glUniform3fv(location, length / 3, values, offset);
 	}
 
 	public void setUniform4fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.gl20;
 		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform4fv(location, length / 4, values, offset);
+		setUniform4fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform4fv (int location, float[] values, int offset, int length) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		invalidateUniform(location);
 		gl.glUniform4fv(location, length / 4, values, offset);
 	}
 
@@ -525,6 +628,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the matrix should be transposed */
 	public void setUniformMatrix (String name, Matrix4 matrix, boolean transpose) {
+		checkManaged();
 		setUniformMatrix(fetchUniformLocation(name), matrix, transpose);
 	}
 
@@ -535,6 +639,9 @@ public class ShaderProgram implements Disposable {
 	public void setUniformMatrix (int location, Matrix4 matrix, boolean transpose) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (transpose)
+			invalidateUniform(location);
+		else if (!changed(location, matrix.val, 0, 16)) return;
 		gl.glUniformMatrix4fv(location, 1, transpose, matrix.val, 0);
 	}
 
@@ -552,6 +659,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the uniform matrix should be transposed */
 	public void setUniformMatrix (String name, Matrix3 matrix, boolean transpose) {
+		checkManaged();
 		setUniformMatrix(fetchUniformLocation(name), matrix, transpose);
 	}
 
@@ -562,6 +670,9 @@ public class ShaderProgram implements Disposable {
 	public void setUniformMatrix (int location, Matrix3 matrix, boolean transpose) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (transpose)
+			invalidateUniform(location);
+		else if (!changed(location, matrix.val, 0, 9)) return;
 		gl.glUniformMatrix3fv(location, 1, transpose, matrix.val, 0);
 	}
 
@@ -575,6 +686,7 @@ public class ShaderProgram implements Disposable {
 		checkManaged();
 		buffer.position(0);
 		int location = fetchUniformLocation(name);
+		invalidateUniform(location);
 		gl.glUniformMatrix3fv(location, count, transpose, buffer);
 	}
 
@@ -588,16 +700,21 @@ public class ShaderProgram implements Disposable {
 		checkManaged();
 		buffer.position(0);
 		int location = fetchUniformLocation(name);
+		invalidateUniform(location);
 		gl.glUniformMatrix4fv(location, count, transpose, buffer);
 	}
 
 	public void setUniformMatrix4fv (int location, float[] values, int offset, int length) {
 		GL20 gl = Gdx.gl20;
 		checkManaged();
+		if (length != 16)
+			invalidateUniform(location);
+		else if (!changed(location, values, offset, 16)) return;
 		gl.glUniformMatrix4fv(location, length / 16, false, values, offset);
 	}
 
 	public void setUniformMatrix4fv (String name, float[] values, int offset, int length) {
+		checkManaged();
 		setUniformMatrix4fv(fetchUniformLocation(name), values, offset, length);
 	}
 
@@ -813,6 +930,8 @@ public class ShaderProgram implements Disposable {
 		int numUniforms = params.get(0);
 
 		uniformNames = new String[numUniforms];
+		uniformShadows.clear();
+		int shadowSize = 0;
 
 		for (int i = 0; i < numUniforms; i++) {
 			params.clear();
@@ -824,6 +943,17 @@ public class ShaderProgram implements Disposable {
 			uniformTypes.put(name, type.get(0));
 			uniformSizes.put(name, params.get(0));
 			uniformNames[i] = name;
+			int components = uniformComponents(type.get(0));
+			if (location >= 0 && components > 0) {
+				uniformShadows.put(location, shadowSize);
+				shadowSize += components + 2;
+			}
+		}
+
+		uniformValues = new int[shadowSize];
+		for (int i = 0; i < numUniforms; i++) {
+			int offset = uniformShadows.get(uniforms.get(uniformNames[i], -1), -1);
+			if (offset != -1) uniformValues[offset] = uniformComponents(uniformTypes.get(uniformNames[i], 0));
 		}
 	}
 
@@ -20,11 +20,13 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
 
 /** Renders points, lines, shape outlines and filled shapes.
  * <p>
@@ -92,7 +94,12 @@ public class ShapeRenderer implements Disposable {
 		}
 	}
 
-	private final ImmediateModeRenderer renderer;
+	private ImmediateModeRenderer renderer;
+	/** The renderer of each shape type when shape types are merged, indexed by ordinal. */
+	private final ImmediateModeRenderer[] renderers = new ImmediateModeRenderer[3];
+	private final int maxVertices;
+	private final VertexDataType vertexDataType;
+	private final IntMap<float[]> unitCircles = new IntMap<float[]>();
 	private boolean matrixDirty = false;
 	private final Matrix4 projectionMatrix = new Matrix4();
 	private final Matrix4 transformMatrix = new Matrix4();
@@ -100,7 +107,7 @@ public class ShapeRenderer implements Disposable {
 	private final Vector2 tmp = new Vector2();
 	private final Color color = new Color(1, 1, 1, 1);
 	private ShapeType shapeType;
-	private boolean autoShapeType;
+	private boolean autoShapeType, mergeShapeTypes;
 	private float defaultRectLineWidth = 0.75f;
 
 	public ShapeRenderer () {
@@ -112,11 +119,17 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader) {
-		if (defaultShader == null) {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
-		} else {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
-		}
+		this(maxVertices, defaultShader, null);
+	}
+
+	/** @param defaultShader May be null to use the default shader.
+	 * @param vertexDataType The {@link VertexDataType} of the mesh, {@link VertexDataType#VertexBufferObjectStreaming} avoids
+	 *           stalls when flushing many times per frame. May be null to use a vertex buffer object. */
+	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader, VertexDataType vertexDataType) {
+		renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader, vertexDataType);
+		renderers[ShapeType.Line.ordinal()] = renderer;
+		this.maxVertices = maxVertices;
+		this.vertexDataType = vertexDataType;
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		matrixDirty = true;
 	}
@@ -192,6 +205,22 @@ public class ShapeRenderer implements Disposable {
 		this.autoShapeType = autoShapeType;
 	}
 
+	/** If true, points, lines and filled shapes are collected by separate renderers, each holding the maximum number of vertices
+	 * given to the constructor. Changing the shape type then switches renderer instead of flushing, so many shapes of mixed types
+	 * are rendered with one draw call per type. A full renderer is flushed alone. The renderers are flushed together by
+	 * {@link #end()}, {@link #flush()} or a matrix change, filled shapes first, then lines, then points, regardless of the order
+	 * the shapes were drawn in. Default is false.
+	 * @throws IllegalStateException if called between begin and end. */
+	public void setMergeShapeTypes (boolean mergeShapeTypes) {
+		if (shapeType != null) throw new IllegalStateException("Call end() before changing whether shape types are merged.");
+		this.mergeShapeTypes = mergeShapeTypes;
+		if (!mergeShapeTypes) renderer = renderers[ShapeType.Line.ordinal()];
+	}
+
+	public boolean getMergeShapeTypes () {
+		return mergeShapeTypes;
+	}
+
 	/** Begins a new batch without specifying a shape type.
 	 * @throws IllegalStateException if {@link #autoShapeType} is false. */
 	public void begin () {
@@ -210,13 +239,43 @@ public class ShapeRenderer implements Disposable {
 			Matrix4.mul(combinedMatrix.val, transformMatrix.val);
 			matrixDirty = false;
 		}
-		renderer.begin(combinedMatrix, shapeType.getGlType());
+		if (mergeShapeTypes) {
+			// The other renderers use the shader of the line renderer, which may have been changed through getRenderer().
+			ShaderProgram shader = ((ImmediateModeRenderer20)renderers[ShapeType.Line.ordinal()]).getShader();
+			ShapeType[] types = ShapeType.values();
+			for (int i = 0; i < renderers.length; i++) {
+				ImmediateModeRenderer20 renderer = (ImmediateModeRenderer20)renderers[i];
+				if (renderer == null) continue;
+				if (renderer.getShader() != shader) renderer.setShader(shader);
+				renderer.begin(combinedMatrix, types[i].getGlType());
+			}
+			renderer = renderer(type);
+		} else
+			renderer.begin(combinedMatrix, shapeType.getGlType());
+	}
+
+	/** Returns the renderer of the shape type when shape types are merged, creating it if needed with the shader of the line
+	 * renderer. */
+	private ImmediateModeRenderer renderer (ShapeType type) {
+		ImmediateModeRenderer renderer = renderers[type.ordinal()];
+		if (renderer == null) {
+			ShaderProgram shader = ((ImmediateModeRenderer20)renderers[ShapeType.Line.ordinal()]).getShader();
+			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, shader, vertexDataType);
+			renderer.begin(combinedMatrix, type.getGlType());
+			renderers[type.ordinal()] = renderer;
+		}
+		return renderer;
 	}
 
 	public void set (ShapeType type) {
 		if (shapeType == type) return;
 		if (shapeType == null) throw new IllegalStateException("begin must be called first.");
 		if (!autoShapeType) throw new IllegalStateException("autoShapeType must be enabled.");
+		if (mergeShapeTypes) {
+			shapeType = type;
+			renderer = renderer(type);
+			return;
+		}
 		end();
 		begin(type);
 	}
@@ -894,50 +953,43 @@ public class ShapeRenderer implements Disposable {
 	public void circle (float x, float y, float radius, int segments) {
 		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
 		float colorBits = color.toFloatBits();
-		float angle = 2 * MathUtils.PI / segments;
-		float cos = MathUtils.cos(angle);
-		float sin = MathUtils.sin(angle);
-		float cx = radius, cy = 0;
+		float[] unit = unitCircle(segments);
 		if (shapeType == ShapeType.Line) {
-			check(ShapeType.Line, ShapeType.Filled, segments * 2 + 2);
-			for (int i = 0; i < segments; i++) {
+			check(ShapeType.Line, ShapeType.Filled, segments * 2);
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
-				renderer.vertex(x + cx, y + cy, 0);
-				float temp = cx;
-				cx = cos * cx - sin * cy;
-				cy = sin * temp + cos * cy;
+				renderer.vertex(x + unit[i] * radius, y + unit[i + 1] * radius, 0);
 				renderer.color(colorBits);
-				renderer.vertex(x + cx, y + cy, 0);
+				renderer.vertex(x + unit[i + 2] * radius, y + unit[i + 3] * radius, 0);
 			}
-			// Ensure the last segment is identical to the first.
-			renderer.color(colorBits);
-			renderer.vertex(x + cx, y + cy, 0);
 		} else {
-			check(ShapeType.Line, ShapeType.Filled, segments * 3 + 3);
-			segments--;
-			for (int i = 0; i < segments; i++) {
+			check(ShapeType.Line, ShapeType.Filled, segments * 3);
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
 				renderer.vertex(x, y, 0);
 				renderer.color(colorBits);
-				renderer.vertex(x + cx, y + cy, 0);
-				float temp = cx;
-				cx = cos * cx - sin * cy;
-				cy = sin * temp + cos * cy;
+				renderer.vertex(x + unit[i] * radius, y + unit[i + 1] * radius, 0);
 				renderer.color(colorBits);
-				renderer.vertex(x + cx, y + cy, 0);
+				renderer.vertex(x + unit[i + 2] * radius, y + unit[i + 3] * radius, 0);
 			}
-			// Ensure the last segment is identical to the first.
-			renderer.color(colorBits);
-			renderer.vertex(x, y, 0);
-			renderer.color(colorBits);
-			renderer.vertex(x + cx, y + cy, 0);
 		}
+	}
 
-		float temp = cx;
-		cx = radius;
-		cy = 0;
-		renderer.color(colorBits);
-		renderer.vertex(x + cx, y + cy, 0);
+	/** Returns the points of a circle of radius 1 split into the segments as x,y pairs, starting at angle 0 and ending with the
+	 * first point again. The points are computed once per number of segments. */
+	private float[] unitCircle (int segments) {
+		float[] unit = unitCircles.get(segments);
+		if (unit == null) {
+			unit = new float[segments * 2 + 2];
+			for (int i = 0; i < segments; i++) {
+				double angle = 2 * Math.PI * i / segments;
+				unit[i * 2] = (float)Math.cos(angle);
+				unit[i * 2 + 1] = (float)Math.sin(angle);
+			}
+			unit[segments * 2] = 1;
+			unitCircles.put(segments, unit);
+		}
+		return unit;
 	}
 
 	/** Calls {@link #ellipse(float, float, float, float, int)} by estimating the number of segments needed for a smooth ellipse. */
@@ -950,29 +1002,27 @@ public class ShapeRenderer implements Disposable {
 		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
 		check(ShapeType.Line, ShapeType.Filled, segments * 3);
 		float colorBits = color.toFloatBits();
-		float angle = 2 * MathUtils.PI / segments;
+		float[] unit = unitCircle(segments);
 
-		float cx = x + width / 2, cy = y + height / 2;
+		float hw = width * 0.5f, hh = height * 0.5f, cx = x + hw, cy = y + hh;
 		if (shapeType == ShapeType.Line) {
-			for (int i = 0; i < segments; i++) {
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos(i * angle)), cy + (height * 0.5f * MathUtils.sin(i * angle)), 0);
+				renderer.vertex(cx + hw * unit[i], cy + hh * unit[i + 1], 0);
 
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos((i + 1) * angle)),
-					cy + (height * 0.5f * MathUtils.sin((i + 1) * angle)), 0);
+				renderer.vertex(cx + hw * unit[i + 2], cy + hh * unit[i + 3], 0);
 			}
 		} else {
-			for (int i = 0; i < segments; i++) {
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos(i * angle)), cy + (height * 0.5f * MathUtils.sin(i * angle)), 0);
+				renderer.vertex(cx + hw * unit[i], cy + hh * unit[i + 1], 0);
 
 				renderer.color(colorBits);
 				renderer.vertex(cx, cy, 0);
 
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos((i + 1) * angle)),
-					cy + (height * 0.5f * MathUtils.sin((i + 1) * angle)), 0);
+				renderer.vertex(cx + hw * unit[i + 2], cy + hh * unit[i + 3], 0);
 			}
 		}
 	}
@@ -987,36 +1037,36 @@ public class ShapeRenderer implements Disposable {
 		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
 		check(ShapeType.Line, ShapeType.Filled, segments * 3);
 		float colorBits = color.toFloatBits();
-		float angle = 2 * MathUtils.PI / segments;
+		float[] unit = unitCircle(segments);
 		
 		rotation = MathUtils.PI * rotation / 180f;
 		float sin = MathUtils.sin(rotation);
 		float cos = MathUtils.cos(rotation);
 
-		float cx = x + width / 2, cy = y + height / 2;
-		float x1 = width * 0.5f;
+		float hw = width * 0.5f, hh = height * 0.5f, cx = x + hw, cy = y + hh;
+		float x1 = hw;
 		float y1 = 0;
 		if (shapeType == ShapeType.Line) {
-			for (int i = 0; i < segments; i++) {
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
 				
-				x1 = (width * 0.5f * MathUtils.cos((i + 1) * angle));
-				y1 = (height * 0.5f * MathUtils.sin((i + 1) * angle));
+				x1 = hw * unit[i + 2];
+				y1 = hh * unit[i + 3];
 
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
 			}
 		} else {
-			for (int i = 0; i < segments; i++) {
+			for (int i = 0, n = segments * 2; i < n; i += 2) {
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
 
 				renderer.color(colorBits);
 				renderer.vertex(cx, cy, 0);
 				
-				x1 = (width * 0.5f * MathUtils.cos((i + 1) * angle));
-				y1 = (height * 0.5f * MathUtils.sin((i + 1) * angle));
+				x1 = hw * unit[i + 2];
+				y1 = hh * unit[i + 3];
 
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
@@ -1177,24 +1227,40 @@ public class ShapeRenderer implements Disposable {
 				else
 					throw new IllegalStateException("Must call begin(ShapeType." + preferred + ") or begin(ShapeType." + other + ").");
 			}
-			end();
-			begin(preferred);
-		} else if (matrixDirty) {
+			if (!mergeShapeTypes) {
+				end();
+				begin(preferred);
+				return;
+			}
+			// Switch renderer without flushing.
+			shapeType = preferred;
+			renderer = renderer(preferred);
+		}
+		if (matrixDirty) {
 			// Matrix has been changed.
 			ShapeType type = shapeType;
 			end();
 			begin(type);
 		} else if (renderer.getMaxVertices() - renderer.getNumVertices() < newVertices) {
 			// Not enough space.
-			ShapeType type = shapeType;
-			end();
-			begin(type);
+			if (mergeShapeTypes)
+				renderer.flush();
+			else {
+				ShapeType type = shapeType;
+				end();
+				begin(type);
+			}
 		}
 	}
 
 	/** Finishes the batch of shapes and ensures they get rendered. */
 	public void end () {
-		renderer.end();
+		if (mergeShapeTypes) {
+			// Filled shapes first, then lines and points over them.
+			for (int i = renderers.length - 1; i >= 0; i--)
+				if (renderers[i] != null) renderers[i].end();
+		} else
+			renderer.end();
 		shapeType = null;
 	}
 
@@ -1210,8 +1276,10 @@ public class ShapeRenderer implements Disposable {
 		return shapeType;
 	}
 
+	/** Returns the renderer used for all shapes, or only for lines when shape types are merged. Its shader is also used by the
+	 * renderers of the other shape types, so a shader set on it applies to all shapes from the next {@link #begin(ShapeType)}. */
 	public ImmediateModeRenderer getRenderer () {
-		return renderer;
+		return renderers[ShapeType.Line.ordinal()];
 	}
 
 	/** @return true if currently between begin and end. */
@@ -1220,6 +1288,7 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public void dispose () {
-		renderer.dispose();
+		for (int i = 0; i < renderers.length; i++)
+			if (renderers[i] != null) renderers[i].dispose();
 	}
 }
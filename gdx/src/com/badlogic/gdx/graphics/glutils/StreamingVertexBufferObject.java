@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** A {@link VertexData} implementation for vertices that are replaced every time they are drawn, like the vertices of a batch.
+ * <p>
+ * {@link VertexBufferObject} uploads new vertices over the previous ones with glBufferData, which can stall when the GPU is
+ * still drawing the previous vertices. This class instead allocates a GL buffer with room for several uploads (regions) and
+ * appends each upload after the previous one with glBufferSubData, pointing the vertex attributes at the start of the latest
+ * upload. When the buffer is full it is orphaned with glBufferData(null), so the driver can hand out fresh storage while the GPU
+ * finishes drawing from the old one, and writing restarts at the beginning.
+ * <p>
+ * Vertices can be written directly into the buffer returned by {@link #getBuffer()}, set its limit to the number of floats
+ * written. They are uploaded on the next bind, which avoids copying from a float array first. When OpenGL ES 3.0 is available
+ * a vertex array object is used.
+ * <p>
+ * StreamingVertexBufferObjects must be disposed via the {@link #dispose()} method when no longer needed. */
+public class StreamingVertexBufferObject implements VertexData {
+	/** The default number of uploads of {@link #getNumMaxVertices()} vertices that fit in the GL buffer before it is orphaned. */
+	public static final int DEFAULT_REGIONS = 4;
+
+	private final VertexAttributes attributes;
+	private final FloatBuffer buffer;
+	private final ByteBuffer byteBuffer;
+	private final int capacity;
+	private int bufferHandle;
+	private int vaoHandle = -1;
+	private final IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+	private int writeOffset, drawOffset;
+	private boolean isDirty = false;
+	private boolean isBound = false;
+	private ShaderProgram boundShader;
+	private int[] boundLocations;
+
+	/** The number of times the GL buffer was orphaned because it was full. */
+	public int orphanCount;
+
+	/** @param numVertices the maximum number of vertices per upload */
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, DEFAULT_REGIONS, new VertexAttributes(attributes));
+	}
+
+	/** @param numVertices the maximum number of vertices per upload */
+	public StreamingVertexBufferObject (int numVertices, VertexAttributes attributes) {
+		this(numVertices, DEFAULT_REGIONS, attributes);
+	}
+
+	/** @param numVertices the maximum number of vertices per upload
+	 * @param regions the number of uploads of numVertices vertices the GL buffer can hold before it is orphaned */
+	public StreamingVertexBufferObject (int numVertices, int regions, VertexAttributes attributes) {
+		if (regions < 1) throw new IllegalArgumentException("regions must be > 0: " + regions);
+		this.attributes = attributes;
+		byteBuffer = BufferUtils.newUnsafeByteBuffer(attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.limit(0);
+		byteBuffer.limit(0);
+		capacity = attributes.vertexSize * numVertices * regions;
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		if (Gdx.gl30 != null) createVAO();
+		writeOffset = capacity;
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		// The previous upload may still be in use, so the whole buffer is uploaded again to a new region.
+		isDirty = true;
+		final int pos = byteBuffer.position();
+		byteBuffer.position(targetOffset * 4);
+		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		byteBuffer.position(pos);
+		buffer.position(0);
+		bufferChanged();
+	}
+
+	private void bufferChanged () {
+		if (isBound) {
+			Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			upload();
+			setAttributes(boundShader, boundLocations);
+		}
+	}
+
+	private void upload () {
+		final GL20 gl = Gdx.gl20;
+		final int size = buffer.limit() * 4;
+		byteBuffer.limit(size);
+		if (writeOffset + size > capacity) {
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, GL20.GL_STREAM_DRAW);
+			writeOffset = 0;
+			orphanCount++;
+		}
+		if (size > 0) gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, byteBuffer);
+		drawOffset = writeOffset;
+		writeOffset += size;
+		isDirty = false;
+	}
+
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+		setAttributes(shader, locations);
+		boundShader = shader;
+		boundLocations = locations;
+		isBound = true;
+	}
+
+	private void setAttributes (ShaderProgram shader, int[] locations) {
+		final int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			final int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, drawOffset + attribute.offset);
+		}
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		final int numAttributes = attributes.size();
+		if (locations == null) {
+			for (int i = 0; i < numAttributes; i++) {
+				shader.disableVertexAttribute(attributes.get(i).alias);
+			}
+		} else {
+			for (int i = 0; i < numAttributes; i++) {
+				final int location = locations[i];
+				if (location >= 0) shader.disableVertexAttribute(location);
+			}
+		}
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(0);
+		boundShader = null;
+		boundLocations = null;
+		isBound = false;
+	}
+
+	/** Invalidates the StreamingVertexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context
+	 * loss. */
+	@Override
+	public void invalidate () {
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		if (vaoHandle != -1) createVAO();
+		writeOffset = capacity;
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this StreamingVertexBufferObject uses. */
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+
+	private void createVAO () {
+		tmpHandle.clear();
+		Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+}
@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Streams the mipmap levels of textures in the background, keeping only the levels that are needed and fit in a memory
+ * budget in video memory.
+ * <p>
+ * {@link #load(FileHandle)} returns a {@link StreamedTexture} immediately, before the image is decoded. Only the size of the
+ * image is read, the texture starts out as a single transparent pixel. The image is decoded and its mipmaps generated on a
+ * background thread, then {@link #update()} uploads the levels from the smallest to the largest, a few each frame. Use
+ * {@link StreamedTexture#setScreenSize(float)} to tell the streamer how large a texture appears on screen, e.g. based on the
+ * distance to the camera, so levels larger than needed are not loaded. When the resident levels of all textures would exceed
+ * the budget, the largest levels are evicted, coarsening all textures by the same number of levels.
+ * <p>
+ * On OpenGL ES 3.0 only the resident levels are in video memory, selected with {@link GL30#GL_TEXTURE_BASE_LEVEL}. On OpenGL ES
+ * 2.0 the texture is replaced with the resident levels when they change, so all its levels are uploaded at once and the
+ * image size must be a power of two to use mipmap filters. Textures always use {@link Format#RGBA8888}. Only PNG and JPEG files
+ * can be streamed, the size of other images is read by decoding them when they are loaded.
+ * <p>
+ * {@link #update()} must be called on the rendering thread, outside of {@link com.badlogic.gdx.graphics.g2d.Batch#begin()
+ * Batch#begin()} and {@link com.badlogic.gdx.graphics.g2d.Batch#end() end()} as it binds textures. */
+public class TextureStreamer implements Disposable {
+	private final Array<StreamedTexture> textures = new Array();
+	private final AsyncExecutor executor;
+	private long budget;
+	private int uploadBytesPerFrame = 4 * 1024 * 1024;
+	private long residentBytes;
+	private int bias;
+
+	/** Number of load jobs completed and levels evicted since the last {@link #resetStats()}. */
+	public int loads, evictions;
+	/** Number of bytes uploaded since the last {@link #resetStats()}. */
+	public long uploadedBytes;
+
+	/** @param budget The maximum number of bytes of video memory for the levels of all textures. */
+	public TextureStreamer (long budget) {
+		this(budget, 1);
+	}
+
+	/** @param threads The number of threads decoding images. */
+	public TextureStreamer (long budget, int threads) {
+		setBudget(budget);
+		executor = new AsyncExecutor(threads, "TextureStreamer");
+	}
+
+	/** Creates a texture for the image, which is loaded in the background by {@link #update()}. The texture is disposed by
+	 * {@link StreamedTexture#dispose()} or when this streamer is disposed. */
+	public StreamedTexture load (FileHandle file) {
+		int width, height;
+		int[] size = readImageSize(file);
+		if (size != null) {
+			width = size[0];
+			height = size[1];
+		} else {
+			Pixmap pixmap = new Pixmap(file);
+			width = pixmap.getWidth();
+			height = pixmap.getHeight();
+			pixmap.dispose();
+		}
+		StreamedTexture texture = new StreamedTexture(file, width, height);
+		textures.add(texture);
+		return texture;
+	}
+
+	/** Uploads decoded levels, evicts levels that are not needed or exceed the budget and starts loading the levels that are
+	 * needed. Must be called on the rendering thread, typically once per frame. */
+	public void update () {
+		Array<StreamedTexture> textures = this.textures;
+		for (int i = textures.size - 1; i >= 0; i--) {
+			StreamedTexture texture = textures.get(i);
+			if (texture.getTextureObjectHandle() == 0) {
+				// Disposed, free the levels of a load in progress.
+				if (texture.result != null) {
+					if (!texture.result.isDone()) continue;
+					disposeLevels(texture);
+				}
+				textures.removeIndex(i);
+			}
+		}
+
+		// Find the smallest number of levels all textures must be coarsened by to fit in the budget.
+		int bias = 0;
+		while (bias < 31) {
+			long bytes = 0;
+			for (int i = 0, n = textures.size; i < n; i++) {
+				StreamedTexture texture = textures.get(i);
+				bytes += levelBytes(texture.getWidth(), texture.getHeight(), texture.levels,
+					Math.min(texture.getDesiredLevel() + bias, texture.levels - 1));
+			}
+			if (bytes <= budget) break;
+			bias++;
+		}
+		this.bias = bias;
+
+		int uploadBytes = 0;
+		for (int i = 0, n = textures.size; i < n; i++) {
+			StreamedTexture texture = textures.get(i);
+			int targetLevel = Math.min(texture.getDesiredLevel() + bias, texture.levels - 1);
+
+			if (texture.result != null && texture.result.isDone()) {
+				if (texture.pending == null) {
+					try {
+						texture.pending = texture.result.get();
+					} catch (GdxRuntimeException ex) {
+						texture.result = null;
+						throw new GdxRuntimeException("Couldn't load texture: " + texture.file, ex);
+					}
+					loads++;
+				}
+				uploadBytes += upload(texture, targetLevel, uploadBytes);
+			}
+
+			if (texture.residentLevel < targetLevel && Gdx.gl30 != null) evict(texture, targetLevel);
+			if (texture.residentLevel != targetLevel && texture.result == null) {
+				final FileHandle file = texture.file;
+				final int width = texture.getWidth(), height = texture.getHeight(), levels = texture.levels;
+				final int loadLevel = targetLevel;
+				texture.loadLevel = loadLevel;
+				texture.result = executor.submit(new AsyncTask<Pixmap[]>() {
+					public Pixmap[] call () throws Exception {
+						return decode(file, width, height, levels, loadLevel);
+					}
+				});
+			}
+		}
+		if (uploadBytes > 0) Gdx.gl.glBindTexture(GL20.GL_TEXTURE_2D, 0);
+		uploadedBytes += uploadBytes;
+
+		long residentBytes = 0;
+		for (int i = 0, n = textures.size; i < n; i++)
+			residentBytes += textures.get(i).getResidentBytes();
+		this.residentBytes = residentBytes;
+	}
+
+	/** Uploads the decoded levels from the smallest to the largest until the bytes uploaded this frame exceed the limit.
+	 * @return The number of bytes uploaded. */
+	private int upload (StreamedTexture texture, int targetLevel, int uploadedThisFrame) {
+		Pixmap[] levels = texture.pending;
+		int firstLevel = Math.max(texture.loadLevel, targetLevel);
+		int bytes = 0;
+		texture.bind();
+		Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+		if (Gdx.gl30 != null) {
+			for (int level = texture.residentLevel - 1; level >= firstLevel; level--) {
+				if (uploadedThisFrame + bytes >= uploadBytesPerFrame && bytes > 0) break;
+				Pixmap pixmap = levels[level];
+				Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, level, GL20.GL_RGBA, pixmap.getWidth(), pixmap.getHeight(), 0, GL20.GL_RGBA,
+					GL20.GL_UNSIGNED_BYTE, pixmap.getPixels());
+				Gdx.gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL30.GL_TEXTURE_BASE_LEVEL, level);
+				texture.residentLevel = level;
+				bytes += pixmap.getWidth() * pixmap.getHeight() * 4;
+			}
+			if (texture.residentLevel > firstLevel) return bytes; // Continue next frame.
+		} else if (texture.residentLevel != firstLevel) {
+			// Without a base level the whole mipmap chain is replaced, starting at level 0.
+			for (int level = firstLevel; level < texture.levels; level++) {
+				Pixmap pixmap = levels[level];
+				Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, level - firstLevel, GL20.GL_RGBA, pixmap.getWidth(), pixmap.getHeight(), 0,
+					GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixmap.getPixels());
+				bytes += pixmap.getWidth() * pixmap.getHeight() * 4;
+			}
+			if (texture.residentLevel < firstLevel) evictions += firstLevel - texture.residentLevel;
+			texture.residentLevel = firstLevel;
+		}
+		disposeLevels(texture);
+		return bytes;
+	}
+
+	/** Frees the levels larger than the target level. Without a base level, the smaller levels are loaded instead to replace
+	 * the texture. */
+	private void evict (StreamedTexture texture, int targetLevel) {
+		texture.bind();
+		Gdx.gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL30.GL_TEXTURE_BASE_LEVEL, targetLevel);
+		// Respecifying the levels with no size frees their memory.
+		for (int level = texture.residentLevel; level < targetLevel; level++)
+			Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, level, GL20.GL_RGBA, 0, 0, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, null);
+		Gdx.gl.glBindTexture(GL20.GL_TEXTURE_2D, 0);
+		evictions += targetLevel - texture.residentLevel;
+		texture.residentLevel = targetLevel;
+	}
+
+	private void disposeLevels (StreamedTexture texture) {
+		Pixmap[] levels = texture.pending;
+		if (levels == null) {
+			try {
+				levels = texture.result.get();
+			} catch (GdxRuntimeException ignored) {
+			}
+		}
+		if (levels != null) {
+			for (int i = 0; i < levels.length; i++)
+				if (levels[i] != null) levels[i].dispose();
+		}
+		texture.pending = null;
+		texture.result = null;
+	}
+
+	/** Decodes the image and generates the levels from the target level to the smallest level, called on a background thread.
+	 * @return The levels, with null for levels larger than the target level. */
+	static Pixmap[] decode (FileHandle file, int width, int height, int levels, int targetLevel) {
+		Pixmap pixmap = new Pixmap(file);
+		if (pixmap.getWidth() != width || pixmap.getHeight() != height) {
+			pixmap.dispose();
+			throw new GdxRuntimeException("Image size changed: " + file);
+		}
+		if (pixmap.getFormat() != Format.RGBA8888) {
+			Pixmap converted = new Pixmap(width, height, Format.RGBA8888);
+			converted.setBlending(Blending.None);
+			converted.drawPixmap(pixmap, 0, 0);
+			pixmap.dispose();
+			pixmap = converted;
+		}
+		Pixmap[] result = new Pixmap[levels];
+		result[0] = pixmap;
+		for (int level = 1; level < levels; level++) {
+			Pixmap previous = result[level - 1];
+			Pixmap next = new Pixmap(Math.max(1, width >> level), Math.max(1, height >> level), Format.RGBA8888);
+			next.setBlending(Blending.None);
+			next.drawPixmap(previous, 0, 0, previous.getWidth(), previous.getHeight(), 0, 0, next.getWidth(), next.getHeight());
+			result[level] = next;
+			if (level - 1 < targetLevel) {
+				previous.dispose();
+				result[level - 1] = null;
+			}
+		}
+		return result;
+	}
+
+	/** Returns the width and height of a PNG or JPEG image by reading its header, or null for other images and invalid
+	 * headers. */
+	static int[] readImageSize (FileHandle file) {
+		DataInputStream input = new DataInputStream(file.read(512));
+		try {
+			int magic = input.readUnsignedShort();
+			if (magic == 0x8950) { // PNG, the IHDR chunk follows the signature.
+				input.skipBytes(14);
+				return new int[] {input.readInt(), input.readInt()};
+			}
+			if (magic == 0xffd8) { // JPEG, find the start of frame segment.
+				while (true) {
+					int marker = input.readUnsignedShort();
+					int length = input.readUnsignedShort();
+					if (marker >= 0xffc0 && marker <= 0xffcf && marker != 0xffc4 && marker != 0xffc8 && marker != 0xffcc) {
+						input.skipBytes(1);
+						int height = input.readUnsignedShort();
+						return new int[] {input.readUnsignedShort(), height};
+					}
+					// skipBytes only skips fewer bytes at the end of the stream, the header is truncated or corrupt.
+					if (input.skipBytes(length - 2) != length - 2) return null;
+				}
+			}
+			return null;
+		} catch (IOException ex) {
+			return null;
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	/** Returns the number of bytes of the levels from the specified level to the smallest level. */
+	static long levelBytes (int width, int height, int levels, int level) {
+		long bytes = 0;
+		for (; level < levels; level++)
+			bytes += (long)Math.max(1, width >> level) * Math.max(1, height >> level) * 4;
+		return bytes;
+	}
+
+	/** Sets the maximum number of bytes of video memory for the levels of all textures. */
+	public void setBudget (long budget) {
+		if (budget < 0) throw new IllegalArgumentException("budget must be >= 0: " + budget);
+		this.budget = budget;
+	}
+
+	public long getBudget () {
+		return budget;
+	}
+
+	/** Sets the number of bytes uploaded per {@link #update()} after which no more levels are uploaded, at least one level is
+	 * uploaded per update. Default is 4MB. */
+	public void setUploadBytesPerFrame (int uploadBytesPerFrame) {
+		this.uploadBytesPerFrame = uploadBytesPerFrame;
+	}
+
+	public int getUploadBytesPerFrame () {
+		return uploadBytesPerFrame;
+	}
+
+	/** Returns the number of bytes of video memory used by the resident levels of all textures. */
+	public long getResidentBytes () {
+		return residentBytes;
+	}
+
+	/** Returns the number of levels all textures are coarsened by to fit in the budget, as of the last {@link #update()}. */
+	public int getBias () {
+		return bias;
+	}
+
+	/** Returns the number of textures with a load in progress. */
+	public int getPendingLoads () {
+		int count = 0;
+		for (int i = 0, n = textures.size; i < n; i++)
+			if (textures.get(i).result != null) count++;
+		return count;
+	}
+
+	public Array<StreamedTexture> getTextures () {
+		return textures;
+	}
+
+	public void resetStats () {
+		loads = 0;
+		evictions = 0;
+		uploadedBytes = 0;
+	}
+
+	/** Disposes all textures, waiting for loads in progress. */
+	public void dispose () {
+		executor.dispose();
+		for (int i = 0, n = textures.size; i < n; i++) {
+			StreamedTexture texture = textures.get(i);
+			if (texture.result != null) disposeLevels(texture);
+			texture.dispose();
+		}
+		textures.clear();
+		residentBytes = 0;
+	}
+
+	/** A texture whose levels are loaded by a {@link TextureStreamer}. The width and height are those of the image. */
+	static public class StreamedTexture extends Texture {
+		final FileHandle file;
+		final int levels;
+		/** The largest level with image data, {@link #levels} if only the placeholder pixel is resident. */
+		int residentLevel;
+		float screenSize = Float.MAX_VALUE;
+		AsyncResult<Pixmap[]> result;
+		Pixmap[] pending;
+		int loadLevel;
+
+		StreamedTexture (FileHandle file, int width, int height) {
+			super(new StreamedTextureData(width, height, levelCount(width, height)));
+			this.file = file;
+			levels = levelCount(width, height);
+			residentLevel = levels;
+			((StreamedTextureData)getTextureData()).texture = this;
+		}
+
+		/** Sets the largest size in pixels the texture is drawn at, e.g. computed from the distance to the camera. Levels larger
+		 * than needed for this size are not loaded, or evicted. Default is {@link Float#MAX_VALUE}. */
+		public void setScreenSize (float screenSize) {
+			this.screenSize = screenSize;
+		}
+
+		public float getScreenSize () {
+			return screenSize;
+		}
+
+		/** Returns the largest level needed for the screen size, ignoring the budget. */
+		public int getDesiredLevel () {
+			float size = Math.max(getWidth(), getHeight());
+			int level = 0;
+			while (size >= screenSize * 2 && level < levels - 1) {
+				size /= 2;
+				level++;
+			}
+			return level;
+		}
+
+		/** Returns the largest level in video memory, 0 if the full image is resident. Returns {@link #getLevels()} if only the
+		 * placeholder pixel is resident. */
+		public int getResidentLevel () {
+			return residentLevel;
+		}
+
+		/** Returns the number of levels from the size of the image down to 1x1. */
+		public int getLevels () {
+			return levels;
+		}
+
+		/** Returns the number of bytes of video memory used by the resident levels. */
+		public long getResidentBytes () {
+			if (residentLevel >= levels) return 4;
+			return levelBytes(getWidth(), getHeight(), levels, residentLevel);
+		}
+
+		public FileHandle getFile () {
+			return file;
+		}
+
+		/** Called when the context is lost and the texture is uploaded again, a load in progress uploads all its levels. */
+		void reset () {
+			residentLevel = levels;
+		}
+
+		public String toString () {
+			return file.toString();
+		}
+
+		static int levelCount (int width, int height) {
+			int levels = 1;
+			for (int size = Math.max(width, height); size > 1; size >>= 1)
+				levels++;
+			return levels;
+		}
+	}
+
+	/** Uploads the transparent placeholder pixel as the smallest level, or as the only level without
+	 * {@link GL30#GL_TEXTURE_BASE_LEVEL}. */
+	static class StreamedTextureData implements TextureData {
+		final int width, height, levels;
+		StreamedTexture texture;
+
+		StreamedTextureData (int width, int height, int levels) {
+			this.width = width;
+			this.height = height;
+			this.levels = levels;
+		}
+
+		public TextureDataType getType () {
+			return TextureDataType.Custom;
+		}
+
+		public boolean isPrepared () {
+			return true;
+		}
+
+		public void prepare () {
+		}
+
+		public Pixmap consumePixmap () {
+			throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+		}
+
+		public boolean disposePixmap () {
+			throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+		}
+
+		public void consumeCustomData (int target) {
+			ByteBuffer pixel = BufferUtils.newByteBuffer(4);
+			Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+			if (Gdx.gl30 != null) {
+				Gdx.gl.glTexImage2D(target, levels - 1, GL20.GL_RGBA, 1, 1, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixel);
+				Gdx.gl.glTexParameteri(target, GL30.GL_TEXTURE_BASE_LEVEL, levels - 1);
+				Gdx.gl.glTexParameteri(target, GL30.GL_TEXTURE_MAX_LEVEL, levels - 1);
+			} else
+				Gdx.gl.glTexImage2D(target, 0, GL20.GL_RGBA, 1, 1, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixel);
+			if (texture != null) texture.reset();
+		}
+
+		public int getWidth () {
+			return width;
+		}
+
+		public int getHeight () {
+			return height;
+		}
+
+		public Format getFormat () {
+			return Format.RGBA8888;
+		}
+
+		public boolean useMipMaps () {
+			return true;
+		}
+
+		public boolean isManaged () {
+			return true;
+		}
+	}
+}
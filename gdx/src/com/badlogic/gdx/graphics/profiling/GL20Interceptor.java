@@ -915,6 +915,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1f (int location, float x) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1f(location, x);
 		check();
@@ -922,6 +923,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1fv(location, count, v);
 		check();
@@ -929,6 +931,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1fv(location, count, v, offset);
 		check();
@@ -936,6 +939,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1i (int location, int x) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1i(location, x);
 		check();
@@ -943,6 +947,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1iv(location, count, v);
 		check();
@@ -950,6 +955,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform1iv(location, count, v, offset);
 		check();
@@ -957,6 +963,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2f (int location, float x, float y) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2f(location, x, y);
 		check();
@@ -964,6 +971,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2fv(location, count, v);
 		check();
@@ -971,6 +979,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2fv(location, count, v, offset);
 		check();
@@ -978,6 +987,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2i (int location, int x, int y) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2i(location, x, y);
 		check();
@@ -985,6 +995,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2iv(location, count, v);
 		check();
@@ -992,6 +1003,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform2iv(location, count, v, offset);
 		check();
@@ -999,6 +1011,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3f (int location, float x, float y, float z) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3f(location, x, y, z);
 		check();
@@ -1006,6 +1019,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3fv(location, count, v);
 		check();
@@ -1013,6 +1027,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3fv(location, count, v, offset);
 		check();
@@ -1020,6 +1035,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3i (int location, int x, int y, int z) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3i(location, x, y, z);
 		check();
@@ -1027,6 +1043,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3iv(location, count, v);
 		check();
@@ -1034,6 +1051,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform3iv(location, count, v, offset);
 		check();
@@ -1041,6 +1059,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4f (int location, float x, float y, float z, float w) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4f(location, x, y, z, w);
 		check();
@@ -1048,6 +1067,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4fv(location, count, v);
 		check();
@@ -1055,6 +1075,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4fv(location, count, v, offset);
 		check();
@@ -1062,6 +1083,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4i (int location, int x, int y, int z, int w) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4i(location, x, y, z, w);
 		check();
@@ -1069,6 +1091,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4iv(location, count, v);
 		check();
@@ -1076,6 +1099,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniform4iv(location, count, v, offset);
 		check();
@@ -1083,6 +1107,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix2fv(location, count, transpose, value);
 		check();
@@ -1090,6 +1115,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
 		check();
@@ -1097,6 +1123,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix3fv(location, count, transpose, value);
 		check();
@@ -1104,6 +1131,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
 		check();
@@ -1111,6 +1139,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix4fv(location, count, transpose, value);
 		check();
@@ -1118,6 +1147,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
 		check();
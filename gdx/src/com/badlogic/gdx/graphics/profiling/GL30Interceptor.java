@@ -917,6 +917,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1f (int location, float x) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1f(location, x);
 		check();
@@ -924,6 +925,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1fv(location, count, v);
 		check();
@@ -931,6 +933,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1fv(location, count, v, offset);
 		check();
@@ -938,6 +941,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1i (int location, int x) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1i(location, x);
 		check();
@@ -945,6 +949,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1iv(location, count, v);
 		check();
@@ -952,6 +957,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1iv(location, count, v, offset);
 		check();
@@ -959,6 +965,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2f (int location, float x, float y) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2f(location, x, y);
 		check();
@@ -966,6 +973,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2fv(location, count, v);
 		check();
@@ -973,6 +981,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2fv(location, count, v, offset);
 		check();
@@ -980,6 +989,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2i (int location, int x, int y) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2i(location, x, y);
 		check();
@@ -987,6 +997,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2iv(location, count, v);
 		check();
@@ -994,6 +1005,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform2iv(location, count, v, offset);
 		check();
@@ -1001,6 +1013,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3f (int location, float x, float y, float z) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3f(location, x, y, z);
 		check();
@@ -1008,6 +1021,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3fv(location, count, v);
 		check();
@@ -1015,6 +1029,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3fv(location, count, v, offset);
 		check();
@@ -1022,6 +1037,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3i (int location, int x, int y, int z) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3i(location, x, y, z);
 		check();
@@ -1029,6 +1045,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3iv(location, count, v);
 		check();
@@ -1036,6 +1053,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3iv(location, count, v, offset);
 		check();
@@ -1043,6 +1061,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4f (int location, float x, float y, float z, float w) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4f(location, x, y, z, w);
 		check();
@@ -1050,6 +1069,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4fv(location, count, v);
 		check();
@@ -1057,6 +1077,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4fv(location, count, v, offset);
 		check();
@@ -1064,6 +1085,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4i (int location, int x, int y, int z, int w) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4i(location, x, y, z, w);
 		check();
@@ -1071,6 +1093,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4iv (int location, int count, IntBuffer v) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4iv(location, count, v);
 		check();
@@ -1078,6 +1101,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4iv(location, count, v, offset);
 		check();
@@ -1085,6 +1109,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix2fv(location, count, transpose, value);
 		check();
@@ -1092,6 +1117,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix2fv(location, count, transpose, value, offset);
 		check();
@@ -1099,6 +1125,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix3fv(location, count, transpose, value);
 		check();
@@ -1106,6 +1133,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix3fv(location, count, transpose, value, offset);
 		check();
@@ -1113,6 +1141,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix4fv(location, count, transpose, value);
 		check();
@@ -1120,6 +1149,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix4fv(location, count, transpose, value, offset);
 		check();
@@ -1367,6 +1397,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
 		check();
@@ -1374,6 +1405,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
 		check();
@@ -1381,6 +1413,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
 		check();
@@ -1388,6 +1421,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
 		check();
@@ -1395,6 +1429,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
 		check();
@@ -1402,6 +1437,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
 		check();
@@ -1566,6 +1602,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform1uiv(location, count, value);
 		check();
@@ -1573,6 +1610,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform3uiv(location, count, value);
 		check();
@@ -1580,6 +1618,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 
 	@Override
 	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		uniformUploads++;
 		calls++;
 		gl30.glUniform4uiv(location, count, value);
 		check();
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.profiling;
 
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.FloatCounter;
 
 public abstract class GLInterceptor implements GL20 {
@@ -25,6 +26,8 @@ public abstract class GLInterceptor implements GL20 {
 	protected int textureBindings;
 	protected int drawCalls;
 	protected int shaderSwitches;
+	protected int uniformUploads;
+	protected int skippedUniformUploads;
 	protected final FloatCounter vertexCount = new FloatCounter(0);
 
 	protected GLProfiler glProfiler;
@@ -66,6 +69,19 @@ public abstract class GLInterceptor implements GL20 {
 		return shaderSwitches;
 	}
 
+	public int getUniformUploads () {
+		return uniformUploads;
+	}
+
+	public int getSkippedUniformUploads () {
+		return skippedUniformUploads;
+	}
+
+	/** Called by {@link ShaderProgram} when it doesn't set a uniform because the uniform already has the value. */
+	public void skipUniformUpload () {
+		skippedUniformUploads++;
+	}
+
 	public FloatCounter getVertexCount () {
 		return vertexCount;
 	}
@@ -75,6 +91,8 @@ public abstract class GLInterceptor implements GL20 {
 		textureBindings = 0;
 		drawCalls = 0;
 		shaderSwitches = 0;
+		uniformUploads = 0;
+		skippedUniformUploads = 0;
 		vertexCount.reset();
 	}
 }
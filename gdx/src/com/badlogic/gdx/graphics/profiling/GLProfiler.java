@@ -124,6 +124,23 @@ public class GLProfiler {
 		return glInterceptor.getShaderSwitches();
 	}
 
+	/**
+	 *
+	 * @return the total amount of uniform values set since the last reset
+	 */
+	public int getUniformUploads () {
+		return glInterceptor.getUniformUploads();
+	}
+
+	/**
+	 *
+	 * @return the total amount of uniform values {@link com.badlogic.gdx.graphics.glutils.ShaderProgram} didn't set since the last
+	 *         reset, because the uniforms already had the values
+	 */
+	public int getSkippedUniformUploads () {
+		return glInterceptor.getSkippedUniformUploads();
+	}
+
 	/**
 	 *
 	 * @return {@link FloatCounter} containing information about rendered vertices since the last reset
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Caches the arc length parameterization of a {@link Path}. The path is sampled once using adaptive subdivision, segments are
+ * split until the sum of the two half chords differs less than the tolerance from the full chord and both halves are about
+ * equally long, and the cumulative lengths are stored. Afterwards, converting a distance along the path to the path parameter t is a binary search, which makes it cheap
+ * to move along a {@link Bezier}, {@link BSpline} or {@link CatmullRomSpline} at constant speed.
+ * <p>
+ * The table must be rebuilt by calling {@link #build()} whenever the control points of the path change. */
+public class ArcLengthTable<T extends Vector<T>> {
+	/** The path this table was built for. */
+	public Path<T> path;
+	/** The minimum number of uniform segments the path is split into before adaptive subdivision. */
+	public int minSegments = 8;
+	/** The maximum amount each initial segment is recursively split. */
+	public int maxDepth = 8;
+	/** The maximum allowed difference between a segment's chord and the length of its two half chords. */
+	public float tolerance = 0.001f;
+
+	private final FloatArray parameters = new FloatArray();
+	private final FloatArray lengths = new FloatArray();
+	private final Array<T> stack = new Array<T>();
+	private T tmp;
+	private float length;
+
+	/** Creates an empty table, call {@link #set(Path, Vector)} before use. */
+	public ArcLengthTable () {
+	}
+
+	/** Creates and builds a table for the specified path.
+	 * @param tmp A vector of the type used by the path, it's used as template for the temporary vectors and is not modified. */
+	public ArcLengthTable (Path<T> path, T tmp) {
+		set(path, tmp);
+	}
+
+	/** Creates and builds a table for the specified path.
+	 * @param tmp A vector of the type used by the path, it's used as template for the temporary vectors and is not modified.
+	 * @param tolerance See {@link #tolerance}. */
+	public ArcLengthTable (Path<T> path, T tmp, float tolerance) {
+		this.tolerance = tolerance;
+		set(path, tmp);
+	}
+
+	/** Sets the path and rebuilds the table.
+	 * @param tmp A vector of the type used by the path, it's used as template for the temporary vectors and is not modified.
+	 * @return This table for chaining */
+	public ArcLengthTable<T> set (Path<T> path, T tmp) {
+		this.path = path;
+		if (this.tmp == null) {
+			this.tmp = tmp.cpy();
+			stack.clear();
+		}
+		return build();
+	}
+
+	/** Rebuilds the table, must be called after the path has been modified.
+	 * @return This table for chaining */
+	public ArcLengthTable<T> build () {
+		if (path == null || tmp == null) throw new GdxRuntimeException("No path set.");
+		if (minSegments < 1) throw new IllegalArgumentException("minSegments must be > 0: " + minSegments);
+		while (stack.size < maxDepth + 3)
+			stack.add(tmp.cpy());
+		parameters.clear();
+		lengths.clear();
+		length = 0;
+
+		final T start = stack.get(0), end = stack.get(1);
+		path.valueAt(start, 0f);
+		parameters.add(0f);
+		lengths.add(0f);
+		for (int i = 1; i <= minSegments; i++) {
+			final float t = (float)i / minSegments;
+			path.valueAt(end, t);
+			subdivide((float)(i - 1) / minSegments, start, t, end, 0);
+			start.set(end);
+		}
+		return this;
+	}
+
+	private void subdivide (float t0, T p0, float t1, T p1, int depth) {
+		final float tm = (t0 + t1) * 0.5f;
+		final T pm = path.valueAt(stack.get(depth + 2), tm);
+		final float a = p0.dst(pm), b = pm.dst(p1);
+		// Split when the segment is curved, or when the speed along it varies so linear interpolation of t would be off.
+		if (depth < maxDepth && ((a + b) - p0.dst(p1) > tolerance || Math.abs(a - b) > 2f * tolerance)) {
+			subdivide(t0, p0, tm, pm, depth + 1);
+			subdivide(tm, pm, t1, p1, depth + 1);
+		} else {
+			length += a;
+			parameters.add(tm);
+			lengths.add(length);
+			length += b;
+			parameters.add(t1);
+			lengths.add(length);
+		}
+	}
+
+	/** @return The approximated length of the path. */
+	public float getLength () {
+		return length;
+	}
+
+	/** @return The number of samples stored in this table. */
+	public int size () {
+		return parameters.size;
+	}
+
+	/** @param distance The distance along the path, clamped to [0, {@link #getLength()}].
+	 * @return The path parameter t (between 0 and 1) at the specified distance from the start of the path. */
+	public float getT (float distance) {
+		final float[] lengths = this.lengths.items;
+		final int last = this.lengths.size - 1;
+		if (distance <= 0) return 0f;
+		if (distance >= length) return 1f;
+		int low = 0, high = last;
+		while (high - low > 1) {
+			final int mid = (low + high) >>> 1;
+			if (lengths[mid] < distance)
+				low = mid;
+			else
+				high = mid;
+		}
+		final float l0 = lengths[low], segment = lengths[high] - l0;
+		final float t0 = parameters.items[low];
+		if (segment <= 0) return t0;
+		return t0 + (parameters.items[high] - t0) * (distance - l0) / segment;
+	}
+
+	/** @param t The path parameter, clamped to [0, 1].
+	 * @return The distance along the path from the start to the specified path parameter. */
+	public float getDistance (float t) {
+		final float[] parameters = this.parameters.items;
+		final int last = this.parameters.size - 1;
+		if (t <= 0) return 0f;
+		if (t >= 1) return length;
+		int low = 0, high = last;
+		while (high - low > 1) {
+			final int mid = (low + high) >>> 1;
+			if (parameters[mid] < t)
+				low = mid;
+			else
+				high = mid;
+		}
+		final float t0 = parameters[low], l0 = lengths.items[low];
+		return l0 + (lengths.items[high] - l0) * (t - t0) / (parameters[high] - t0);
+	}
+
+	/** @param fraction The fraction of the length of the path, between 0 and 1.
+	 * @return The path parameter t such that moving fraction uniformly along the path results in uniform speed. */
+	public float getUniformT (float fraction) {
+		return getT(fraction * length);
+	}
+
+	/** @param out The vector to set to the result.
+	 * @param distance The distance along the path, clamped to [0, {@link #getLength()}].
+	 * @return The value specified by out for chaining */
+	public T valueAtDistance (T out, float distance) {
+		return path.valueAt(out, getT(distance));
+	}
+
+	/** @param out The vector to set to the result.
+	 * @param fraction The fraction of the length of the path, between 0 and 1.
+	 * @return The value specified by out for chaining */
+	public T valueAtUniform (T out, float fraction) {
+		return path.valueAt(out, getT(fraction * length));
+	}
+
+	/** @param out The vector to set to the result.
+	 * @param distance The distance along the path, clamped to [0, {@link #getLength()}].
+	 * @return The derivative at the specified distance, specified by out for chaining */
+	public T derivativeAtDistance (T out, float distance) {
+		return path.derivativeAt(out, getT(distance));
+	}
+
+	/** Samples the path at evenly spaced distances.
+	 * @param out The vectors to set, the first is set to the start and the last to the end of the path.
+	 * @param offset The index of the first vector to set.
+	 * @param count The number of vectors to set.
+	 * @return The out array for chaining */
+	public T[] sampleUniform (T[] out, int offset, int count) {
+		if (count == 1) {
+			path.valueAt(out[offset], 0f);
+			return out;
+		}
+		final float step = length / (count - 1);
+		for (int i = 0; i < count; i++)
+			path.valueAt(out[offset + i], getT(i * step));
+		return out;
+	}
+}
@@ -0,0 +1,482 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Computes the convex hull of a 3D point cloud using the quickhull algorithm. The hull is made of triangles, coplanar faces
+ * are not merged. All working memory and the returned arrays are kept and reused by later calls, so computing hulls of
+ * similar size repeatedly doesn't allocate. The result can for example be used as input for a physics convex hull shape.
+ * <p>
+ * Point clouds with fewer than 4 points or where all points are coplanar don't have a volume and result in an empty hull.
+ * <p>
+ * Points outside of the hull by less than a tolerance relative to the magnitude of the coordinates are treated as inside, so
+ * duplicate and nearly duplicate points become a single hull vertex instead of producing zero area triangles. Which faces a
+ * point sees is decided exactly, so nearly coplanar points can't produce a concave hull. Coplanar faces are not merged, which
+ * can leave adjacent coplanar triangles. */
+public class ConvexHull3D {
+	private final IntArray indices = new IntArray();
+	private final FloatArray vertices = new FloatArray();
+	private final IntArray triangles = new IntArray();
+
+	// Faces: 3 point indices, 3 neighbor faces (across the edge from vertex i to i + 1) and the plane (normal, the magnitudes of
+	// the products the normal is computed from and the inverse length of the normal).
+	private int[] faceVertices = new int[0], faceNeighbors = new int[0];
+	private double[] facePlanes = new double[0];
+	private int[] faceOutside = new int[0], faceMark = new int[0];
+	private boolean[] faceDead = new boolean[0];
+	private int faceCount, mark;
+
+	// Points: the next point in the outside set of a face, -1 ends the list.
+	private int[] pointNext = new int[0], vertexMap = new int[0];
+	private int unclaimed;
+
+	// Horizon: the 2 point indices of each edge, the hidden face on the other side and the index of the edge in that face.
+	private final IntArray horizon = new IntArray();
+
+	// Error bound of the double precision orientation relative to its permanent, from Shewchuk's "Adaptive Precision
+	// Floating-Point Arithmetic and Fast Robust Geometric Predicates".
+	static private final double orientBound = (7 + 56 * 1.1102230246251565E-16) * 1.1102230246251565E-16;
+	static private final double splitter = 134217729; // 2^27 + 1
+	/** The tolerance relative to the sum of the largest magnitude of each coordinate, about 8 float ulps. */
+	static private final double relativeTolerance = 1e-6;
+
+	private float[] points;
+	private int offset;
+	private double tolerance;
+	private final double[] expansion = new double[48];
+
+	/** @see #computeIndices(float[], int, int) */
+	public IntArray computeIndices (FloatArray points) {
+		return computeIndices(points.items, 0, points.size);
+	}
+
+	/** @see #computeIndices(float[], int, int) */
+	public IntArray computeIndices (float[] points) {
+		return computeIndices(points, 0, points.length);
+	}
+
+	/** Computes the hull triangles for the given point cloud.
+	 * @param points x,y,z triplets describing points.
+	 * @return Each successive 3 indices describe a triangle of the hull in counterclockwise order when seen from outside the
+	 *         hull. An index is the index of a point (not of a float), relative to the offset. Note the returned array is reused
+	 *         for later calls to the same method. */
+	public IntArray computeIndices (float[] points, int offset, int count) {
+		IntArray indices = this.indices;
+		indices.clear();
+		if (!compute(points, offset, count)) return indices;
+		final int[] v = faceVertices;
+		for (int f = 0; f < faceCount; f++) {
+			if (faceDead[f]) continue;
+			indices.add(v[f * 3], v[f * 3 + 1], v[f * 3 + 2]);
+		}
+		return indices;
+	}
+
+	/** @see #computeVertices(float[], int, int) */
+	public FloatArray computeVertices (FloatArray points) {
+		return computeVertices(points.items, 0, points.size);
+	}
+
+	/** @see #computeVertices(float[], int, int) */
+	public FloatArray computeVertices (float[] points) {
+		return computeVertices(points, 0, points.length);
+	}
+
+	/** Computes the vertices of the hull for the given point cloud. The triangles connecting the vertices are available from
+	 * {@link #getTriangles()} afterward.
+	 * @param points x,y,z triplets describing points.
+	 * @return x,y,z triplets of the points on the hull, without duplicates and without points inside the hull. Note the returned
+	 *         array is reused for later calls to the same method. */
+	public FloatArray computeVertices (float[] points, int offset, int count) {
+		FloatArray vertices = this.vertices;
+		IntArray triangles = this.triangles;
+		vertices.clear();
+		triangles.clear();
+		if (!compute(points, offset, count)) return vertices;
+		final int[] map = vertexMap, v = faceVertices;
+		for (int i = 0, n = count / 3; i < n; i++)
+			map[i] = -1;
+		for (int f = 0; f < faceCount; f++) {
+			if (faceDead[f]) continue;
+			for (int i = f * 3, e = i + 3; i < e; i++) {
+				final int p = v[i];
+				if (map[p] == -1) {
+					map[p] = vertices.size / 3;
+					final int o = offset + p * 3;
+					vertices.add(points[o], points[o + 1], points[o + 2]);
+				}
+				triangles.add(map[p]);
+			}
+		}
+		return vertices;
+	}
+
+	/** @return Each successive 3 indices describe a triangle of the hull computed by the last call to
+	 *         {@link #computeVertices(float[], int, int)}, indexing the returned vertices. The triangles are in counterclockwise
+	 *         order when seen from outside the hull. Note the returned array is reused. */
+	public IntArray getTriangles () {
+		return triangles;
+	}
+
+	private boolean compute (float[] points, int offset, int count) {
+		final int n = count / 3;
+		this.points = points;
+		this.offset = offset;
+		faceCount = 0;
+		if (n < 4) return false;
+		if (pointNext.length < n) {
+			pointNext = new int[n];
+			vertexMap = new int[n];
+		}
+
+		// Find the extreme points along each axis and the largest magnitudes.
+		int minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+		float absX = 0, absY = 0, absZ = 0;
+		for (int i = 0, o = offset; i < n; i++, o += 3) {
+			final float x = points[o], y = points[o + 1], z = points[o + 2];
+			absX = Math.max(absX, Math.abs(x));
+			absY = Math.max(absY, Math.abs(y));
+			absZ = Math.max(absZ, Math.abs(z));
+			if (x < points[offset + minX * 3]) minX = i;
+			if (x > points[offset + maxX * 3]) maxX = i;
+			if (y < points[offset + minY * 3 + 1]) minY = i;
+			if (y > points[offset + maxY * 3 + 1]) maxY = i;
+			if (z < points[offset + minZ * 3 + 2]) minZ = i;
+			if (z > points[offset + maxZ * 3 + 2]) maxZ = i;
+		}
+
+		final double tolerance = ((double)absX + absY + absZ) * relativeTolerance;
+		this.tolerance = tolerance;
+
+		// The initial simplex: the most distant pair of extremes, the point farthest from their line and the point farthest
+		// from the plane through all three, each farther than the tolerance.
+		int a = minX, b = maxX;
+		double best = distanceSq(minX, maxX);
+		if (distanceSq(minY, maxY) > best) {
+			a = minY;
+			b = maxY;
+			best = distanceSq(minY, maxY);
+		}
+		if (distanceSq(minZ, maxZ) > best) {
+			a = minZ;
+			b = maxZ;
+			best = distanceSq(minZ, maxZ);
+		}
+		if (best <= tolerance * tolerance) return false;
+
+		final double dx = x(b) - x(a), dy = y(b) - y(a), dz = z(b) - z(a);
+		int c = -1;
+		// The squared length of the cross product is the squared distance to the line times the squared length of ab.
+		best = tolerance * tolerance * best;
+		for (int i = 0; i < n; i++) {
+			final double px = x(i) - x(a), py = y(i) - y(a), pz = z(i) - z(a);
+			final double cx = dy * pz - dz * py, cy = dz * px - dx * pz, cz = dx * py - dy * px;
+			final double d = cx * cx + cy * cy + cz * cz;
+			if (d > best) {
+				best = d;
+				c = i;
+			}
+		}
+		if (c == -1) return false;
+
+		ensureFaces(4);
+		faceCount = 1;
+		setFace(0, a, b, c);
+		int d = -1;
+		best = tolerance;
+		for (int i = 0; i < n; i++) {
+			final double dist = Math.abs(distance(0, i));
+			if (dist > best) {
+				best = dist;
+				d = i;
+			}
+		}
+		if (d == -1) {
+			faceCount = 0;
+			return false;
+		}
+		// Orient the base so the fourth point is behind it.
+		if (distance(0, d) > 0) {
+			final int t = b;
+			b = c;
+			c = t;
+			setFace(0, a, b, c);
+		}
+		faceCount = 4;
+		setFace(1, a, d, b);
+		setFace(2, b, d, c);
+		setFace(3, c, d, a);
+		final int[] nb = faceNeighbors;
+		// Base edges ab, bc, ca.
+		nb[0] = 1;
+		nb[1] = 2;
+		nb[2] = 3;
+		// Side face f is (x, d, y) with edges xd, dy and yx, bordering the previous side face, the next side face and the base.
+		for (int f = 1; f <= 3; f++) {
+			nb[f * 3] = f == 1 ? 3 : f - 1;
+			nb[f * 3 + 1] = f == 3 ? 1 : f + 1;
+			nb[f * 3 + 2] = 0;
+		}
+
+		// Assign the remaining points to the face they are farthest outside of.
+		for (int f = 0; f < 4; f++)
+			faceOutside[f] = -1;
+		for (int i = 0; i < n; i++) {
+			if (i == a || i == b || i == c || i == d) continue;
+			assign(i, 0, 4);
+		}
+
+		// Add the farthest outside point of a face until no face has outside points.
+		mark = 0;
+		for (int f = 0; f < faceCount; f++) {
+			if (faceDead[f] || faceOutside[f] == -1) continue;
+			addPoint(f);
+		}
+		return true;
+	}
+
+	private void addPoint (int face) {
+		// Remove the farthest point from the outside set.
+		int eye = -1, eyePrevious = -1;
+		double best = -1;
+		for (int p = faceOutside[face], previous = -1; p != -1; previous = p, p = pointNext[p]) {
+			final double d = distance(face, p);
+			if (d > best) {
+				best = d;
+				eye = p;
+				eyePrevious = previous;
+			}
+		}
+		if (eyePrevious == -1)
+			faceOutside[face] = pointNext[eye];
+		else
+			pointNext[eyePrevious] = pointNext[eye];
+
+		// Find the faces visible from the point, the edges between visible and hidden faces form the horizon.
+		mark++;
+		horizon.clear();
+		unclaimed = -1;
+		computeHorizon(eye, face, -1);
+
+		// Connect the horizon to the point with a fan of new faces.
+		final IntArray horizon = this.horizon;
+		final int edges = horizon.size / 4;
+		ensureFaces(faceCount + edges);
+		final int[] nb = faceNeighbors;
+		final int first = faceCount;
+		for (int i = 0, h = 0; i < edges; i++, h += 4) {
+			final int f = faceCount++;
+			setFace(f, horizon.items[h], horizon.items[h + 1], eye);
+			final int hidden = horizon.items[h + 2];
+			nb[f * 3] = hidden;
+			nb[hidden * 3 + horizon.items[h + 3]] = f;
+			nb[f * 3 + 1] = i == edges - 1 ? first : f + 1;
+			nb[f * 3 + 2] = i == 0 ? first + edges - 1 : f - 1;
+			faceOutside[f] = -1;
+		}
+
+		// Reassign the points outside of the removed faces.
+		for (int p = unclaimed; p != -1;) {
+			final int next = pointNext[p];
+			assign(p, first, faceCount);
+			p = next;
+		}
+	}
+
+	/** Depth first traversal of the visible faces, adding the horizon edges in counterclockwise order.
+	 * @param edge The index of the edge the face was entered through, or -1 for the first face. */
+	private void computeHorizon (int eye, int face, int edge) {
+		faceDead[face] = true;
+		faceMark[face] = mark;
+		// Move the outside points of the visible face to the unclaimed list.
+		for (int p = faceOutside[face]; p != -1;) {
+			final int next = pointNext[p];
+			pointNext[p] = unclaimed;
+			unclaimed = p;
+			p = next;
+		}
+		faceOutside[face] = -1;
+
+		final int[] v = faceVertices, nb = faceNeighbors;
+		for (int i = 1; i <= 3; i++) {
+			final int e = (edge + i) % 3;
+			final int neighbor = nb[face * 3 + e];
+			if (faceMark[neighbor] == mark) continue;
+			final int a = v[face * 3 + e], b = v[face * 3 + (e + 1) % 3], neighborEdge = indexOfEdge(neighbor, face);
+			// A face the point is on the plane of stays, the new face is coplanar with it.
+			if (distance(neighbor, eye) > 0)
+				computeHorizon(eye, neighbor, neighborEdge);
+			else
+				horizon.add(a, b, neighbor, neighborEdge);
+		}
+	}
+
+	private int indexOfEdge (int face, int neighbor) {
+		final int[] nb = faceNeighbors;
+		final int o = face * 3;
+		if (nb[o] == neighbor) return 0;
+		if (nb[o + 1] == neighbor) return 1;
+		return 2;
+	}
+
+	/** Adds the point to the outside set of the face in [start, end) it is farthest outside of, if it is farther than the
+	 * tolerance. */
+	private void assign (int point, int start, int end) {
+		int face = -1;
+		double best = tolerance;
+		for (int f = start; f < end; f++) {
+			if (faceDead[f]) continue;
+			final double d = distance(f, point);
+			if (d > best) {
+				best = d;
+				face = f;
+			}
+		}
+		if (face == -1) return;
+		pointNext[point] = faceOutside[face];
+		faceOutside[face] = point;
+	}
+
+	private void setFace (int face, int a, int b, int c) {
+		final int o = face * 3;
+		faceVertices[o] = a;
+		faceVertices[o + 1] = b;
+		faceVertices[o + 2] = c;
+		faceDead[face] = false;
+		faceMark[face] = 0;
+		final double ux = x(b) - x(a), uy = y(b) - y(a), uz = z(b) - z(a);
+		final double vx = x(c) - x(a), vy = y(c) - y(a), vz = z(c) - z(a);
+		final double uyvz = uy * vz, uzvy = uz * vy, uzvx = uz * vx, uxvz = ux * vz, uxvy = ux * vy, uyvx = uy * vx;
+		final double nx = uyvz - uzvy, ny = uzvx - uxvz, nz = uxvy - uyvx;
+		final double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+		final double[] planes = facePlanes;
+		final int p = face * 7;
+		planes[p] = nx;
+		planes[p + 1] = ny;
+		planes[p + 2] = nz;
+		planes[p + 3] = Math.abs(uyvz) + Math.abs(uzvy);
+		planes[p + 4] = Math.abs(uzvx) + Math.abs(uxvz);
+		planes[p + 5] = Math.abs(uxvy) + Math.abs(uyvx);
+		planes[p + 6] = length == 0 ? 0 : 1 / length;
+	}
+
+	private void ensureFaces (int count) {
+		if (faceDead.length >= count) return;
+		final int size = Math.max(count, Math.max(16, faceDead.length * 2));
+		int[] vertices = new int[size * 3], neighbors = new int[size * 3], outside = new int[size], marks = new int[size];
+		double[] planes = new double[size * 7];
+		boolean[] dead = new boolean[size];
+		System.arraycopy(faceVertices, 0, vertices, 0, faceCount * 3);
+		System.arraycopy(faceNeighbors, 0, neighbors, 0, faceCount * 3);
+		System.arraycopy(facePlanes, 0, planes, 0, faceCount * 7);
+		System.arraycopy(faceOutside, 0, outside, 0, faceCount);
+		System.arraycopy(faceMark, 0, marks, 0, faceCount);
+		System.arraycopy(faceDead, 0, dead, 0, faceCount);
+		faceVertices = vertices;
+		faceNeighbors = neighbors;
+		facePlanes = planes;
+		faceOutside = outside;
+		faceMark = marks;
+		faceDead = dead;
+	}
+
+	/** @return The signed distance of the point to the plane of the face, positive is outside. The sign is exact: the double
+	 *         precision result is used when it is farther from 0 than its error bound, otherwise the sign is computed exactly and
+	 *         a point on the plane is at distance 0. */
+	private double distance (int face, int point) {
+		final double[] p = facePlanes;
+		final int o = face * 7, a = faceVertices[face * 3];
+		final double dx = x(point) - x(a), dy = y(point) - y(a), dz = z(point) - z(a);
+		final double det = p[o] * dx + p[o + 1] * dy + p[o + 2] * dz;
+		final double bound = orientBound * (p[o + 3] * Math.abs(dx) + p[o + 4] * Math.abs(dy) + p[o + 5] * Math.abs(dz));
+		if (det > bound || det < -bound) return det * p[o + 6];
+		final int side = orient(face, point);
+		if (side == 0) return 0;
+		return side > 0 ? Math.max(det * p[o + 6], Double.MIN_VALUE) : Math.min(det * p[o + 6], -Double.MIN_VALUE);
+	}
+
+	/** @return The exact sign of (b - a) x (c - a) . (point - a) for the vertices a, b and c of the face, computed as the
+	 *         determinant of the 4x4 matrix of the points with a column of ones, a sum of exact products of 3 coordinates. */
+	private int orient (int face, int point) {
+		final int[] v = faceVertices;
+		final int a = v[face * 3], b = v[face * 3 + 1], c = v[face * 3 + 2];
+		int n = minor(0, b, c, point, 1);
+		n = minor(n, a, c, point, -1);
+		n = minor(n, a, b, point, 1);
+		n = minor(n, a, b, c, -1);
+		if (n == 0) return 0;
+		return expansion[n - 1] > 0 ? 1 : -1;
+	}
+
+	/** Adds the determinant of the 3x3 matrix of the points' coordinates, times the sign, to the expansion. */
+	private int minor (int n, int r, int s, int t, double sign) {
+		final double rx = x(r), ry = y(r), rz = z(r), sx = x(s), sy = y(s), sz = z(s), tx = x(t), ty = y(t), tz = z(t);
+		n = product(n, sign * rx * sy, tz);
+		n = product(n, -sign * rx * sz, ty);
+		n = product(n, -sign * ry * sx, tz);
+		n = product(n, sign * ry * sz, tx);
+		n = product(n, sign * rz * sx, ty);
+		return product(n, -sign * rz * sy, tx);
+	}
+
+	/** Adds a * b to the expansion exactly. The product of 2 float coordinates is exact in double precision, the product with
+	 * the third is split into its rounded value and error (Dekker's two product). */
+	private int product (int n, double a, double b) {
+		final double p = a * b;
+		double c = splitter * a;
+		final double aHigh = c - (c - a), aLow = a - aHigh;
+		c = splitter * b;
+		final double bHigh = c - (c - b), bLow = b - bHigh;
+		final double error = aLow * bLow - (((p - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow);
+		return grow(grow(n, error), p);
+	}
+
+	/** Adds the value to the expansion, a sum of nonoverlapping doubles ordered by increasing magnitude, dropping zeros.
+	 * @return The new number of doubles in the expansion, the sign of its sum is the sign of the last one. */
+	private int grow (int n, double value) {
+		final double[] e = expansion;
+		int m = 0;
+		for (int i = 0; i < n; i++) {
+			final double sum = value + e[i];
+			final double virtual = sum - value;
+			final double error = (value - (sum - virtual)) + (e[i] - virtual);
+			value = sum;
+			if (error != 0) e[m++] = error;
+		}
+		if (value != 0) e[m++] = value;
+		return m;
+	}
+
+	private double distanceSq (int a, int b) {
+		final double dx = x(b) - x(a), dy = y(b) - y(a), dz = z(b) - z(a);
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	private double x (int point) {
+		return points[offset + point * 3];
+	}
+
+	private double y (int point) {
+		return points[offset + point * 3 + 1];
+	}
+
+	private double z (int point) {
+		return points[offset + point * 3 + 2];
+	}
+}
@@ -27,6 +27,20 @@ public abstract class Interpolation {
 		return start + (end - start) * apply(a);
 	}
 
+	/** Applies this interpolation to many alpha values at once. Some interpolations override this with a faster loop than calling
+	 * {@link #apply(float)} for each value.
+	 * @param in Alpha values between 0 and 1.
+	 * @param out Receives the interpolated values, may be the same array as in. */
+	public void apply (float[] in, float[] out, int count) {
+		apply(in, 0, out, 0, count);
+	}
+
+	/** @see #apply(float[], float[], int) */
+	public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+		for (int i = 0; i < count; i++)
+			out[outOffset + i] = apply(in[inOffset + i]);
+	}
+
 	//
 
 	static public final Interpolation linear = new Interpolation() {
@@ -176,6 +190,30 @@ public abstract class Interpolation {
 			if (a <= 0.5f) return (float)Math.pow(a * 2, power) / 2;
 			return (float)Math.pow((a - 1) * 2, power) / (power % 2 == 0 ? -2 : 2) + 1;
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			if (power < 0) {
+				super.apply(in, inOffset, out, outOffset, count);
+				return;
+			}
+			final float divisor = power % 2 == 0 ? -2 : 2;
+			for (int i = 0; i < count; i++) {
+				final float a = in[inOffset + i];
+				if (a <= 0.5f)
+					out[outOffset + i] = pow(a * 2, power) / 2;
+				else
+					out[outOffset + i] = pow((a - 1) * 2, power) / divisor + 1;
+			}
+		}
+
+		/** Raises the value to the power by repeated multiplication, which is much faster than {@link Math#pow(double, double)}
+		 * for the small integer powers used by interpolations. */
+		static float pow (float value, int power) {
+			float result = 1;
+			for (int i = 0; i < power; i++)
+				result *= value;
+			return result;
+		}
 	}
 
 	static public class PowIn extends Pow {
@@ -186,6 +224,15 @@ public abstract class Interpolation {
 		public float apply (float a) {
 			return (float)Math.pow(a, power);
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			if (power < 0) {
+				super.apply(in, inOffset, out, outOffset, count);
+				return;
+			}
+			for (int i = 0; i < count; i++)
+				out[outOffset + i] = pow(in[inOffset + i], power);
+		}
 	}
 
 	static public class PowOut extends Pow {
@@ -196,24 +243,49 @@ public abstract class Interpolation {
 		public float apply (float a) {
 			return (float)Math.pow(a - 1, power) * (power % 2 == 0 ? -1 : 1) + 1;
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			if (power < 0) {
+				super.apply(in, inOffset, out, outOffset, count);
+				return;
+			}
+			final float sign = power % 2 == 0 ? -1 : 1;
+			for (int i = 0; i < count; i++)
+				out[outOffset + i] = pow(in[inOffset + i] - 1, power) * sign + 1;
+		}
 	}
 
 	//
 
 	static public class Exp extends Interpolation {
 		final float value, power, min, scale;
+		/** The natural logarithm of value, so value^x can be computed as e^(x * log). */
+		final double log;
 
 		public Exp (float value, float power) {
 			this.value = value;
 			this.power = power;
 			min = (float)Math.pow(value, -power);
 			scale = 1 / (1 - min);
+			log = Math.log(value);
 		}
 
 		public float apply (float a) {
 			if (a <= 0.5f) return ((float)Math.pow(value, power * (a * 2 - 1)) - min) * scale / 2;
 			return (2 - ((float)Math.pow(value, -power * (a * 2 - 1)) - min) * scale) / 2;
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			final double log = this.log;
+			final float power = this.power, min = this.min, scale = this.scale;
+			for (int i = 0; i < count; i++) {
+				final float a = in[inOffset + i];
+				if (a <= 0.5f)
+					out[outOffset + i] = ((float)Math.exp(log * (power * (a * 2 - 1))) - min) * scale / 2;
+				else
+					out[outOffset + i] = (2 - ((float)Math.exp(log * (-power * (a * 2 - 1))) - min) * scale) / 2;
+			}
+		}
 	};
 
 	static public class ExpIn extends Exp {
@@ -224,6 +296,13 @@ public abstract class Interpolation {
 		public float apply (float a) {
 			return ((float)Math.pow(value, power * (a - 1)) - min) * scale;
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			final double log = this.log;
+			final float power = this.power, min = this.min, scale = this.scale;
+			for (int i = 0; i < count; i++)
+				out[outOffset + i] = ((float)Math.exp(log * (power * (in[inOffset + i] - 1))) - min) * scale;
+		}
 	}
 
 	static public class ExpOut extends Exp {
@@ -234,6 +313,13 @@ public abstract class Interpolation {
 		public float apply (float a) {
 			return 1 - ((float)Math.pow(value, -power * a) - min) * scale;
 		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			final double log = this.log;
+			final float power = this.power, min = this.min, scale = this.scale;
+			for (int i = 0; i < count; i++)
+				out[outOffset + i] = 1 - ((float)Math.exp(log * (-power * in[inOffset + i])) - min) * scale;
+		}
 	}
 
 	//
@@ -433,4 +519,103 @@ public abstract class Interpolation {
 			return a * a * ((scale + 1) * a - scale);
 		}
 	}
+
+	//
+
+	/** Approximates another interpolation with a lookup table and linear interpolation between the table values, which is much
+	 * faster for interpolations that use {@link Math#pow(double, double)} or {@link Math#exp(double)}, such as {@link Elastic},
+	 * {@link Exp} and {@link Bounce}. The table size is doubled until the error measured between table entries is at most
+	 * the requested error, or the maximum size is reached. Discontinuities, like the jump of {@link Elastic} at 0.5, can't be
+	 * approximated by a table of any size and are ignored, so the error is only exceeded within one table interval around them.
+	 * Alpha values outside of 0-1 are clamped. */
+	static public class Table extends Interpolation {
+		static private final int minSize = 16, maxSize = 1 << 16;
+
+		final float[] values;
+		final int size;
+		final float error;
+
+		/** @param interpolation The interpolation to approximate.
+		 * @param maxError The maximum difference between this table and the interpolation. */
+		public Table (Interpolation interpolation, float maxError) {
+			float[] values;
+			int size = minSize;
+			float error;
+			while (true) {
+				values = new float[size + 1];
+				for (int i = 0; i <= size; i++)
+					values[i] = interpolation.apply(i / (float)size);
+				error = 0;
+				for (int i = 0; i < size; i++) {
+					float intervalError = 0;
+					for (int j = 1; j < 4; j++) {
+						final float expected = interpolation.apply((i + j / 4f) / size);
+						intervalError = Math.max(intervalError, Math.abs(expected - (values[i] + (values[i + 1] - values[i]) * j / 4f)));
+					}
+					if (intervalError > maxError && isDiscontinuous(interpolation, i / (float)size, (i + 1) / (float)size, maxError))
+						continue;
+					error = Math.max(error, intervalError);
+				}
+				if (error <= maxError || size >= maxSize) break;
+				size <<= 1;
+			}
+			this.values = values;
+			this.size = size;
+			this.error = error;
+		}
+
+		/** Bisects the interval towards the largest change in value. If the change is still larger than maxError when the interval
+		 * is tiny, the interpolation jumps there. */
+		static private boolean isDiscontinuous (Interpolation interpolation, float start, float end, float maxError) {
+			float startValue = interpolation.apply(start), endValue = interpolation.apply(end);
+			for (int i = 0; i < 16; i++) {
+				final float mid = (start + end) / 2, midValue = interpolation.apply(mid);
+				if (Math.abs(midValue - startValue) > Math.abs(endValue - midValue)) {
+					end = mid;
+					endValue = midValue;
+				} else {
+					start = mid;
+					startValue = midValue;
+				}
+			}
+			return Math.abs(endValue - startValue) > maxError;
+		}
+
+		public float apply (float a) {
+			if (a <= 0) return values[0];
+			if (a >= 1) return values[size];
+			final float f = a * size;
+			final int i = (int)f;
+			final float value = values[i];
+			return value + (values[i + 1] - value) * (f - i);
+		}
+
+		public void apply (float[] in, int inOffset, float[] out, int outOffset, int count) {
+			final float[] values = this.values;
+			final int size = this.size;
+			for (int i = 0; i < count; i++) {
+				final float a = in[inOffset + i];
+				if (a <= 0)
+					out[outOffset + i] = values[0];
+				else if (a >= 1)
+					out[outOffset + i] = values[size];
+				else {
+					final float f = a * size;
+					final int index = (int)f;
+					final float value = values[index];
+					out[outOffset + i] = value + (values[index + 1] - value) * (f - index);
+				}
+			}
+		}
+
+		/** @return The number of intervals in the table. */
+		public int getSize () {
+			return size;
+		}
+
+		/** @return The largest error measured when the table was built. */
+		public float getError () {
+			return error;
+		}
+	}
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import com.badlogic.gdx.math.Plane.PlaneSide;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.math.collision.TriangleBVH;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 
@@ -753,6 +754,587 @@ public final class Intersector {
 		}
 	}
 
+	private static final Vector3 sweepNormal = new Vector3();
+	private static final Vector3 sweepPoint = new Vector3();
+	private static final Vector3 sweepEdge = new Vector3();
+	private static final Vector3 sweepBase = new Vector3();
+	private static final Vector3 sweepA = new Vector3();
+	private static final Vector3 sweepB = new Vector3();
+	private static final Vector3 sweepC = new Vector3();
+	private static final Vector3 rayInvDir = new Vector3();
+	private static final SweepResult sweepResult = new SweepResult();
+	private static int[] bvhStack = new int[32];
+	private static float sweepEnter, sweepExit;
+	private static int sweepAxis;
+
+	/** Sweeps a sphere along a movement vector against a triangle and returns the first contact. The triangle is two sided.
+	 * 
+	 * @param center The center of the sphere at the start of the movement
+	 * @param radius The radius of the sphere
+	 * @param velocity The movement of the sphere, the time of impact is a fraction (0..1) of this movement
+	 * @param t1 The first vertex of the triangle
+	 * @param t2 The second vertex of the triangle
+	 * @param t3 The third vertex of the triangle
+	 * @param result The time of impact, contact normal and contact point (optional)
+	 * @return Whether the sphere hits the triangle during the movement. */
+	public static boolean sweepSphereTriangle (Vector3 center, float radius, Vector3 velocity, Vector3 t1, Vector3 t2,
+		Vector3 t3, SweepResult result) {
+		if (result == null) result = sweepResult;
+		if (!sweepSphereTriangle(center, radius, velocity, t1, t2, t3, 1f, result)) return false;
+		result.triangle = -1;
+		return true;
+	}
+
+	/** Sweeps a sphere along a movement vector against a list of triangles and returns the first contact.
+	 * 
+	 * @param center The center of the sphere at the start of the movement
+	 * @param radius The radius of the sphere
+	 * @param velocity The movement of the sphere, the time of impact is a fraction (0..1) of this movement
+	 * @param triangles The triangles, each successive 9 elements are the 3 vertices of a triangle, a vertex is made of 3
+	 *           successive floats (XYZ)
+	 * @param result The time of impact, contact normal, contact point and triangle index (optional)
+	 * @return Whether the sphere hits any of the triangles during the movement. */
+	public static boolean sweepSphereTriangles (Vector3 center, float radius, Vector3 velocity, float[] triangles,
+		SweepResult result) {
+		if (triangles.length % 9 != 0) throw new RuntimeException("triangles array size is not a multiple of 9");
+		if (result == null) result = sweepResult;
+		float maxTime = 1f;
+		boolean hit = false;
+		for (int i = 0; i < triangles.length; i += 9) {
+			if (sweepSphereTriangle(center, radius, velocity, sweepA.set(triangles[i], triangles[i + 1], triangles[i + 2]),
+				sweepB.set(triangles[i + 3], triangles[i + 4], triangles[i + 5]),
+				sweepC.set(triangles[i + 6], triangles[i + 7], triangles[i + 8]), maxTime, result)) {
+				maxTime = result.time;
+				result.triangle = i / 9;
+				hit = true;
+			}
+		}
+		return hit;
+	}
+
+	/** Sweeps a sphere along a movement vector against an indexed triangle mesh and returns the first contact.
+	 * 
+	 * @param center The center of the sphere at the start of the movement
+	 * @param radius The radius of the sphere
+	 * @param velocity The movement of the sphere, the time of impact is a fraction (0..1) of this movement
+	 * @param vertices the vertices
+	 * @param indices the indices, each successive 3 shorts index the 3 vertices of a triangle
+	 * @param vertexSize the size of a vertex in floats
+	 * @param result The time of impact, contact normal, contact point and triangle index (optional)
+	 * @return Whether the sphere hits any of the triangles during the movement. */
+	public static boolean sweepSphereTriangles (Vector3 center, float radius, Vector3 velocity, float[] vertices,
+		short[] indices, int vertexSize, SweepResult result) {
+		if (indices.length % 3 != 0) throw new RuntimeException("triangle list size is not a multiple of 3");
+		if (result == null) result = sweepResult;
+		float maxTime = 1f;
+		boolean hit = false;
+		for (int i = 0; i < indices.length; i += 3) {
+			int i1 = (indices[i] & 0xFFFF) * vertexSize;
+			int i2 = (indices[i + 1] & 0xFFFF) * vertexSize;
+			int i3 = (indices[i + 2] & 0xFFFF) * vertexSize;
+			if (sweepSphereTriangle(center, radius, velocity, sweepA.set(vertices[i1], vertices[i1 + 1], vertices[i1 + 2]),
+				sweepB.set(vertices[i2], vertices[i2 + 1], vertices[i2 + 2]),
+				sweepC.set(vertices[i3], vertices[i3 + 1], vertices[i3 + 2]), maxTime, result)) {
+				maxTime = result.time;
+				result.triangle = i / 3;
+				hit = true;
+			}
+		}
+		return hit;
+	}
+
+	/** Sweeps a sphere along a movement vector against the triangles of a {@link TriangleBVH} and returns the first contact.
+	 * Only the triangles in nodes overlapping the swept bounds of the sphere are tested.
+	 * 
+	 * @param center The center of the sphere at the start of the movement
+	 * @param radius The radius of the sphere
+	 * @param velocity The movement of the sphere, the time of impact is a fraction (0..1) of this movement
+	 * @param bvh The prebuilt hierarchy
+	 * @param result The time of impact, contact normal, contact point and source triangle index (optional)
+	 * @return Whether the sphere hits any of the triangles during the movement. */
+	public static boolean sweepSphereTriangles (Vector3 center, float radius, Vector3 velocity, TriangleBVH bvh,
+		SweepResult result) {
+		if (bvh.triangleCount == 0) return false;
+		if (result == null) result = sweepResult;
+		final float minX = Math.min(center.x, center.x + velocity.x) - radius;
+		final float minY = Math.min(center.y, center.y + velocity.y) - radius;
+		final float minZ = Math.min(center.z, center.z + velocity.z) - radius;
+		final float maxX = Math.max(center.x, center.x + velocity.x) + radius;
+		final float maxY = Math.max(center.y, center.y + velocity.y) + radius;
+		final float maxZ = Math.max(center.z, center.z + velocity.z) + radius;
+		final float[] bounds = bvh.nodeBounds, triangles = bvh.triangles;
+		final int[] data = bvh.nodeData;
+		final int[] stack = bvhStack(bvh.depth);
+		float maxTime = 1f;
+		boolean hit = false;
+		int size = 0;
+		stack[size++] = 0;
+		while (size > 0) {
+			final int node = stack[--size];
+			final int b = node * 6;
+			if (bounds[b] > maxX || bounds[b + 3] < minX || bounds[b + 1] > maxY || bounds[b + 4] < minY || bounds[b + 2] > maxZ
+				|| bounds[b + 5] < minZ) continue;
+			final int first = data[node * 2], count = data[node * 2 + 1];
+			if (count == 0) {
+				stack[size++] = first + 1;
+				stack[size++] = first;
+				continue;
+			}
+			for (int i = first, n = first + count; i < n; i++) {
+				final int o = i * 9;
+				if (sweepSphereTriangle(center, radius, velocity, sweepA.set(triangles[o], triangles[o + 1], triangles[o + 2]),
+					sweepB.set(triangles[o + 3], triangles[o + 4], triangles[o + 5]),
+					sweepC.set(triangles[o + 6], triangles[o + 7], triangles[o + 8]), maxTime, result)) {
+					maxTime = result.time;
+					result.triangle = bvh.triangleIndices[i];
+					hit = true;
+				}
+			}
+		}
+		return hit;
+	}
+
+	private static int[] bvhStack (int depth) {
+		if (bvhStack.length <= depth) bvhStack = new int[depth + 1];
+		return bvhStack;
+	}
+
+	/** Sweeps the sphere against the triangle, only writing the result if the time of impact is less than maxTime. Based on
+	 * "Improved Collision detection and Response" by Kasper Fauerby. */
+	private static boolean sweepSphereTriangle (Vector3 center, float radius, Vector3 velocity, Vector3 t1, Vector3 t2,
+		Vector3 t3, float maxTime, SweepResult result) {
+		final Vector3 normal = sweepNormal.set(t2).sub(t1).crs(sweepEdge.set(t3).sub(t1));
+		final float len = normal.len();
+		if (len == 0) return false;
+		normal.scl(1f / len);
+		float dist = normal.dot(center) - normal.dot(t1);
+		if (dist < 0) {
+			normal.scl(-1f);
+			dist = -dist;
+		}
+		final float r2 = radius * radius;
+
+		if (dist < radius) {
+			// Already touching the plane, test for overlap at the start of the movement.
+			final Vector3 point = sweepPoint.set(normal).scl(-dist).add(center);
+			if (isPointInTriangle(point, t1, t2, t3) || nearestTriangleEdge(center, t1, t2, t3, point) <= r2) {
+				result.time = 0;
+				result.point.set(point);
+				if (point.dst2(center) > MathUtils.FLOAT_ROUNDING_ERROR)
+					result.normal.set(center).sub(point).nor();
+				else
+					result.normal.set(normal);
+				return true;
+			}
+		} else {
+			final float nDotV = normal.dot(velocity);
+			if (nDotV >= 0) return false;
+			final float t = (dist - radius) / -nDotV;
+			if (t >= maxTime) return false;
+			final Vector3 point = sweepPoint.set(velocity).scl(t).add(center).mulAdd(normal, -radius);
+			if (isPointInTriangle(point, t1, t2, t3)) {
+				result.time = t;
+				result.point.set(point);
+				result.normal.set(normal);
+				return true;
+			}
+		}
+
+		// The sphere hits the plane outside of the triangle, test against the vertices and edges.
+		final float velSq = velocity.len2();
+		if (velSq == 0) return false;
+		float time = maxTime;
+		boolean hit = false;
+		for (int i = 0; i < 3; i++) {
+			final Vector3 p = i == 0 ? t1 : (i == 1 ? t2 : t3);
+			final float b = 2f * velocity.dot(center.x - p.x, center.y - p.y, center.z - p.z);
+			final float c = p.dst2(center) - r2;
+			final float root = lowestRoot(velSq, b, c, time);
+			if (root >= 0) {
+				time = root;
+				result.point.set(p);
+				hit = true;
+			}
+		}
+		for (int i = 0; i < 3; i++) {
+			final Vector3 p1 = i == 0 ? t1 : (i == 1 ? t2 : t3);
+			final Vector3 p2 = i == 0 ? t2 : (i == 1 ? t3 : t1);
+			final Vector3 edge = sweepEdge.set(p2).sub(p1);
+			final Vector3 base = sweepBase.set(p1).sub(center);
+			final float edgeSq = edge.len2(), edgeDotVel = edge.dot(velocity), edgeDotBase = edge.dot(base);
+			final float a = edgeSq * -velSq + edgeDotVel * edgeDotVel;
+			final float b = edgeSq * (2f * velocity.dot(base)) - 2f * edgeDotVel * edgeDotBase;
+			final float c = edgeSq * (r2 - base.len2()) + edgeDotBase * edgeDotBase;
+			final float root = lowestRoot(a, b, c, time);
+			if (root >= 0) {
+				final float f = (edgeDotVel * root - edgeDotBase) / edgeSq;
+				if (f >= 0 && f <= 1) {
+					time = root;
+					result.point.set(p1).mulAdd(edge, f);
+					hit = true;
+				}
+			}
+		}
+		if (!hit) return false;
+		result.time = time;
+		result.normal.set(velocity).scl(time).add(center).sub(result.point).nor();
+		return true;
+	}
+
+	/** @return The squared distance from the point to the nearest triangle edge, nearest is set to the nearest point. */
+	private static float nearestTriangleEdge (Vector3 point, Vector3 t1, Vector3 t2, Vector3 t3, Vector3 nearest) {
+		float best = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < 3; i++) {
+			final Vector3 p1 = i == 0 ? t1 : (i == 1 ? t2 : t3);
+			final Vector3 p2 = i == 0 ? t2 : (i == 1 ? t3 : t1);
+			final Vector3 edge = sweepEdge.set(p2).sub(p1);
+			final float edgeSq = edge.len2();
+			float f = edgeSq == 0 ? 0 : edge.dot(point.x - p1.x, point.y - p1.y, point.z - p1.z) / edgeSq;
+			f = MathUtils.clamp(f, 0f, 1f);
+			final Vector3 candidate = sweepBase.set(p1).mulAdd(edge, f);
+			final float dst2 = candidate.dst2(point);
+			if (dst2 < best) {
+				best = dst2;
+				nearest.set(candidate);
+			}
+		}
+		return best;
+	}
+
+	/** @return The lowest root of a*t*t + b*t + c = 0 if it is within [0, max), or -1 otherwise. The lowest root is the time the
+	 *         sphere or circle starts touching, overlap at the start of the movement is handled by the callers. */
+	private static float lowestRoot (float a, float b, float c, float max) {
+		if (a == 0) return -1;
+		final float det = b * b - 4f * a * c;
+		if (det < 0) return -1;
+		final float sqrtD = (float)Math.sqrt(det);
+		final float r1 = (-b - sqrtD) / (2f * a), r2 = (-b + sqrtD) / (2f * a);
+		final float root = Math.min(r1, r2);
+		return root >= 0 && root < max ? root : -1;
+	}
+
+	/** Sweeps two moving axis aligned boxes and returns their time of impact.
+	 * 
+	 * @param a The first box at the start of the movement
+	 * @param velocityA The movement of the first box
+	 * @param b The second box at the start of the movement
+	 * @param velocityB The movement of the second box (optional, null for a static box)
+	 * @param result The time of impact as a fraction (0..1) of the movement, the normal of the face of b that was hit and the
+	 *           center of the contact area. The time is 0 if the boxes already overlap. (optional)
+	 * @return Whether the boxes touch during the movement. */
+	public static boolean sweepBounds (BoundingBox a, Vector3 velocityA, BoundingBox b, Vector3 velocityB, SweepResult result) {
+		final float vx = velocityB == null ? velocityA.x : velocityA.x - velocityB.x;
+		final float vy = velocityB == null ? velocityA.y : velocityA.y - velocityB.y;
+		final float vz = velocityB == null ? velocityA.z : velocityA.z - velocityB.z;
+		sweepEnter = Float.NEGATIVE_INFINITY;
+		sweepExit = Float.POSITIVE_INFINITY;
+		sweepAxis = -1;
+		if (!sweepAxis(a.min.x, a.max.x, b.min.x, b.max.x, vx, 0) || !sweepAxis(a.min.y, a.max.y, b.min.y, b.max.y, vy, 1)
+			|| !sweepAxis(a.min.z, a.max.z, b.min.z, b.max.z, vz, 2)) return false;
+		if (sweepEnter > sweepExit || sweepEnter > 1f || sweepExit < 0) return false;
+		if (result != null) {
+			final float time = Math.max(0, sweepEnter);
+			result.time = time;
+			result.triangle = -1;
+			result.normal.setZero();
+			if (sweepAxis == 0)
+				result.normal.x = vx > 0 ? -1 : 1;
+			else if (sweepAxis == 1)
+				result.normal.y = vy > 0 ? -1 : 1;
+			else if (sweepAxis == 2) result.normal.z = vz > 0 ? -1 : 1;
+			final float ax = velocityA.x * time, ay = velocityA.y * time, az = velocityA.z * time;
+			final float bx = velocityB == null ? 0 : velocityB.x * time, by = velocityB == null ? 0 : velocityB.y * time,
+				bz = velocityB == null ? 0 : velocityB.z * time;
+			result.point.set((Math.max(a.min.x + ax, b.min.x + bx) + Math.min(a.max.x + ax, b.max.x + bx)) * 0.5f,
+				(Math.max(a.min.y + ay, b.min.y + by) + Math.min(a.max.y + ay, b.max.y + by)) * 0.5f,
+				(Math.max(a.min.z + az, b.min.z + bz) + Math.min(a.max.z + az, b.max.z + bz)) * 0.5f);
+		}
+		return true;
+	}
+
+	/** Sweeps two moving rectangles and returns their time of impact.
+	 * 
+	 * @param a The first rectangle at the start of the movement
+	 * @param velocityA The movement of the first rectangle
+	 * @param b The second rectangle at the start of the movement
+	 * @param velocityB The movement of the second rectangle (optional, null for a static rectangle)
+	 * @param result The time of impact as a fraction (0..1) of the movement, the normal of the edge of b that was hit and the
+	 *           center of the contact area. The time is 0 if the rectangles already overlap. (optional)
+	 * @return Whether the rectangles touch during the movement. */
+	public static boolean sweepRectangles (Rectangle a, Vector2 velocityA, Rectangle b, Vector2 velocityB,
+		SweepResult result) {
+		final float vx = velocityB == null ? velocityA.x : velocityA.x - velocityB.x;
+		final float vy = velocityB == null ? velocityA.y : velocityA.y - velocityB.y;
+		sweepEnter = Float.NEGATIVE_INFINITY;
+		sweepExit = Float.POSITIVE_INFINITY;
+		sweepAxis = -1;
+		if (!sweepAxis(a.x, a.x + a.width, b.x, b.x + b.width, vx, 0)
+			|| !sweepAxis(a.y, a.y + a.height, b.y, b.y + b.height, vy, 1)) return false;
+		if (sweepEnter > sweepExit || sweepEnter > 1f || sweepExit < 0) return false;
+		if (result != null) {
+			final float time = Math.max(0, sweepEnter);
+			result.time = time;
+			result.triangle = -1;
+			result.normal.setZero();
+			if (sweepAxis == 0)
+				result.normal.x = vx > 0 ? -1 : 1;
+			else if (sweepAxis == 1) result.normal.y = vy > 0 ? -1 : 1;
+			final float ax = a.x + velocityA.x * time, ay = a.y + velocityA.y * time;
+			final float bx = velocityB == null ? b.x : b.x + velocityB.x * time, by = velocityB == null ? b.y : b.y + velocityB.y * time;
+			result.point.set((Math.max(ax, bx) + Math.min(ax + a.width, bx + b.width)) * 0.5f,
+				(Math.max(ay, by) + Math.min(ay + a.height, by + b.height)) * 0.5f, 0);
+		}
+		return true;
+	}
+
+	/** Updates the entry and exit times of a box sweep with a single axis.
+	 * @return False if the boxes are separated on this axis and don't move along it. */
+	private static boolean sweepAxis (float aMin, float aMax, float bMin, float bMax, float v, int axis) {
+		float enter, exit;
+		if (v > 0) {
+			enter = (bMin - aMax) / v;
+			exit = (bMax - aMin) / v;
+		} else if (v < 0) {
+			enter = (bMax - aMin) / v;
+			exit = (bMin - aMax) / v;
+		} else {
+			return aMax >= bMin && aMin <= bMax;
+		}
+		if (enter > sweepEnter) {
+			sweepEnter = enter;
+			sweepAxis = axis;
+		}
+		if (exit < sweepExit) sweepExit = exit;
+		return true;
+	}
+
+	/** Sweeps a moving circle against a polygon and returns the first contact.
+	 * 
+	 * @param circle The circle at the start of the movement
+	 * @param velocity The movement of the circle
+	 * @param polygon The polygon, its transformed vertices are used
+	 * @param result The time of impact as a fraction (0..1) of the movement, the contact normal pointing away from the polygon
+	 *           and the contact point. The time is 0 if the circle already overlaps the polygon. (optional)
+	 * @return Whether the circle touches the polygon during the movement. */
+	public static boolean sweepCirclePolygon (Circle circle, Vector2 velocity, Polygon polygon, SweepResult result) {
+		final float[] vertices = polygon.getTransformedVertices();
+		return sweepCirclePolygon(circle.x, circle.y, circle.radius, velocity.x, velocity.y, vertices, 0, vertices.length,
+			result);
+	}
+
+	/** @see #sweepCirclePolygon(Circle, Vector2, Polygon, SweepResult)
+	 * @param offset Starting polygon index.
+	 * @param count Number of array indices to use after offset. */
+	public static boolean sweepCirclePolygon (float x, float y, float radius, float velocityX, float velocityY, float[] polygon,
+		int offset, int count, SweepResult result) {
+		if (result == null) result = sweepResult;
+		final float r2 = radius * radius;
+		final int end = offset + count;
+
+		// Test for overlap at the start of the movement.
+		float nearestX = 0, nearestY = 0, nearestDst2 = Float.POSITIVE_INFINITY;
+		for (int i = offset; i < end; i += 2) {
+			final float x1 = polygon[i], y1 = polygon[i + 1];
+			final int j = i + 2 < end ? i + 2 : offset;
+			final float ex = polygon[j] - x1, ey = polygon[j + 1] - y1, edgeSq = ex * ex + ey * ey;
+			float f = edgeSq == 0 ? 0 : ((x - x1) * ex + (y - y1) * ey) / edgeSq;
+			f = MathUtils.clamp(f, 0f, 1f);
+			final float px = x1 + ex * f, py = y1 + ey * f, dst2 = (x - px) * (x - px) + (y - py) * (y - py);
+			if (dst2 < nearestDst2) {
+				nearestDst2 = dst2;
+				nearestX = px;
+				nearestY = py;
+			}
+		}
+		final boolean inside = isPointInPolygon(polygon, offset, count, x, y);
+		if (inside || nearestDst2 <= r2) {
+			result.time = 0;
+			result.triangle = -1;
+			result.point.set(nearestX, nearestY, 0);
+			if (inside)
+				result.normal.set(nearestX - x, nearestY - y, 0).nor();
+			else
+				result.normal.set(x - nearestX, y - nearestY, 0).nor();
+			return true;
+		}
+
+		float time = 1f;
+		boolean hit = false;
+		final float velSq = velocityX * velocityX + velocityY * velocityY;
+		if (velSq == 0) return false;
+		for (int i = offset; i < end; i += 2) {
+			final float x1 = polygon[i], y1 = polygon[i + 1];
+			final int j = i + 2 < end ? i + 2 : offset;
+			final float ex = polygon[j] - x1, ey = polygon[j + 1] - y1, edgeSq = ex * ex + ey * ey;
+
+			// Edge, offset by the radius towards the circle.
+			if (edgeSq > 0) {
+				final float len = (float)Math.sqrt(edgeSq);
+				float nx = -ey / len, ny = ex / len;
+				float dist = nx * (x - x1) + ny * (y - y1);
+				if (dist < 0) {
+					nx = -nx;
+					ny = -ny;
+					dist = -dist;
+				}
+				final float nDotV = nx * velocityX + ny * velocityY;
+				if (dist > radius && nDotV < 0) {
+					final float t = (dist - radius) / -nDotV;
+					if (t < time) {
+						final float px = x + velocityX * t - nx * radius, py = y + velocityY * t - ny * radius;
+						final float f = ((px - x1) * ex + (py - y1) * ey) / edgeSq;
+						if (f >= 0 && f <= 1) {
+							time = t;
+							result.point.set(px, py, 0);
+							result.normal.set(nx, ny, 0);
+							hit = true;
+						}
+					}
+				}
+			}
+
+			// Vertex.
+			final float dx = x - x1, dy = y - y1;
+			final float t = lowestRoot(velSq, 2f * (velocityX * dx + velocityY * dy), dx * dx + dy * dy - r2, time);
+			if (t >= 0) {
+				time = t;
+				result.point.set(x1, y1, 0);
+				result.normal.set(x + velocityX * t - x1, y + velocityY * t - y1, 0).nor();
+				hit = true;
+			}
+		}
+		if (!hit) return false;
+		result.time = time;
+		result.triangle = -1;
+		return true;
+	}
+
+	/** Intersects the given ray with list of triangles. Returns the nearest intersection.
+	 * 
+	 * @param ray The ray
+	 * @param triangles The triangles, each successive 9 elements are the 3 vertices of a triangle, a vertex is made of 3
+	 *           successive floats (XYZ)
+	 * @param result The distance along the ray direction, the triangle normal facing the ray origin, the intersection point and
+	 *           the triangle index (optional)
+	 * @return Whether the ray and the triangles intersect. */
+	public static boolean intersectRayTrianglesResult (Ray ray, float[] triangles, SweepResult result) {
+		if (triangles.length % 9 != 0) throw new RuntimeException("triangles array size is not a multiple of 9");
+		float best = Float.POSITIVE_INFINITY;
+		int hit = -1;
+		for (int i = 0; i < triangles.length; i += 9) {
+			final float t = intersectRayTriangle(ray, triangles, i, best);
+			if (t >= 0) {
+				best = t;
+				hit = i;
+			}
+		}
+		if (hit == -1) return false;
+		if (result != null) setRayResult(ray, triangles, hit, best, hit / 9, result);
+		return true;
+	}
+
+	/** Intersects the given ray with the triangles of a {@link TriangleBVH}. Returns the nearest intersection point in
+	 * intersection.
+	 * 
+	 * @param ray The ray
+	 * @param bvh The prebuilt hierarchy
+	 * @param intersection The nearest intersection point (optional)
+	 * @return Whether the ray and the triangles intersect. */
+	public static boolean intersectRayTriangles (Ray ray, TriangleBVH bvh, Vector3 intersection) {
+		if (!intersectRayTrianglesResult(ray, bvh, sweepResult)) return false;
+		if (intersection != null) intersection.set(sweepResult.point);
+		return true;
+	}
+
+	/** Intersects the given ray with the triangles of a {@link TriangleBVH}. Returns the nearest intersection. Nodes are only
+	 * visited when the ray enters their bounds before the nearest intersection found so far.
+	 * 
+	 * @param ray The ray
+	 * @param bvh The prebuilt hierarchy
+	 * @param result The distance along the ray direction, the triangle normal facing the ray origin, the intersection point and
+	 *           the source triangle index (optional)
+	 * @return Whether the ray and the triangles intersect. */
+	public static boolean intersectRayTrianglesResult (Ray ray, TriangleBVH bvh, SweepResult result) {
+		if (bvh.triangleCount == 0) return false;
+		final Vector3 inv = rayInvDir.set(1f / ray.direction.x, 1f / ray.direction.y, 1f / ray.direction.z);
+		final float[] bounds = bvh.nodeBounds, triangles = bvh.triangles;
+		final int[] data = bvh.nodeData;
+		final int[] stack = bvhStack(bvh.depth);
+		float best = Float.POSITIVE_INFINITY;
+		int hit = -1;
+		int size = 0;
+		stack[size++] = 0;
+		while (size > 0) {
+			final int node = stack[--size];
+			if (!intersectRayBounds(ray, inv, bounds, node * 6, best)) continue;
+			final int first = data[node * 2], count = data[node * 2 + 1];
+			if (count == 0) {
+				stack[size++] = first + 1;
+				stack[size++] = first;
+				continue;
+			}
+			for (int i = first, n = first + count; i < n; i++) {
+				final float t = intersectRayTriangle(ray, triangles, i * 9, best);
+				if (t >= 0) {
+					best = t;
+					hit = i;
+				}
+			}
+		}
+		if (hit == -1) return false;
+		if (result != null) setRayResult(ray, triangles, hit * 9, best, bvh.triangleIndices[hit], result);
+		return true;
+	}
+
+	private static void setRayResult (Ray ray, float[] triangles, int offset, float t, int triangle, SweepResult result) {
+		final int o = offset;
+		result.time = t;
+		result.triangle = triangle;
+		ray.getEndPoint(result.point, t);
+		result.normal.set(triangles[o + 3] - triangles[o], triangles[o + 4] - triangles[o + 1], triangles[o + 5] - triangles[o + 2])
+			.crs(triangles[o + 6] - triangles[o], triangles[o + 7] - triangles[o + 1], triangles[o + 8] - triangles[o + 2]).nor();
+		if (result.normal.dot(ray.direction) > 0) result.normal.scl(-1f);
+	}
+
+	/** Two sided Moller-Trumbore test against the triangle at the offset.
+	 * @return The distance along the ray, or -1 if there is no intersection closer than max. */
+	private static float intersectRayTriangle (Ray ray, float[] triangles, int o, float max) {
+		final float x0 = triangles[o], y0 = triangles[o + 1], z0 = triangles[o + 2];
+		final float e1x = triangles[o + 3] - x0, e1y = triangles[o + 4] - y0, e1z = triangles[o + 5] - z0;
+		final float e2x = triangles[o + 6] - x0, e2y = triangles[o + 7] - y0, e2z = triangles[o + 8] - z0;
+		final Vector3 d = ray.direction;
+		final float px = d.y * e2z - d.z * e2y, py = d.z * e2x - d.x * e2z, pz = d.x * e2y - d.y * e2x;
+		final float det = e1x * px + e1y * py + e1z * pz;
+		if (det > -MathUtils.FLOAT_ROUNDING_ERROR * MathUtils.FLOAT_ROUNDING_ERROR
+			&& det < MathUtils.FLOAT_ROUNDING_ERROR * MathUtils.FLOAT_ROUNDING_ERROR) return -1;
+		final float invDet = 1f / det;
+		final float sx = ray.origin.x - x0, sy = ray.origin.y - y0, sz = ray.origin.z - z0;
+		final float u = (sx * px + sy * py + sz * pz) * invDet;
+		if (u < 0 || u > 1) return -1;
+		final float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+		final float v = (d.x * qx + d.y * qy + d.z * qz) * invDet;
+		if (v < 0 || u + v > 1) return -1;
+		final float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+		return t >= 0 && t < max ? t : -1;
+	}
+
+	/** Slab test of the ray against the bounds at the offset (min xyz, max xyz).
+	 * @return Whether the ray enters the bounds closer than max. */
+	private static boolean intersectRayBounds (Ray ray, Vector3 invDir, float[] bounds, int o, float max) {
+		final Vector3 origin = ray.origin;
+		float t1 = (bounds[o] - origin.x) * invDir.x, t2 = (bounds[o + 3] - origin.x) * invDir.x;
+		float tmin = Math.min(t1, t2), tmax = Math.max(t1, t2);
+		t1 = (bounds[o + 1] - origin.y) * invDir.y;
+		t2 = (bounds[o + 4] - origin.y) * invDir.y;
+		tmin = Math.max(tmin, Math.min(t1, t2));
+		tmax = Math.min(tmax, Math.max(t1, t2));
+		t1 = (bounds[o + 2] - origin.z) * invDir.z;
+		t2 = (bounds[o + 5] - origin.z) * invDir.z;
+		tmin = Math.max(tmin, Math.min(t1, t2));
+		tmax = Math.min(tmax, Math.max(t1, t2));
+		return tmax >= Math.max(tmin, 0) && tmin < max;
+	}
+
 	/** Intersects the two lines and returns the intersection point in intersection.
 	 * 
 	 * @param p1 The first point of the first line
@@ -1345,4 +1927,23 @@ public final class Intersector {
 		/** Distance of the translation required for the separation */
 		public float depth = 0;
 	}
+
+	/** The result of a continuous collision query or ray cast, see for example
+	 * {@link Intersector#sweepSphereTriangles(Vector3, float, Vector3, float[], SweepResult)}. */
+	public static class SweepResult {
+		/** The time of impact as a fraction (0..1) of the movement for swept queries, or the distance along the ray direction for
+		 * ray casts. */
+		public float time;
+		/** The unit length contact normal, pointing away from the surface that was hit. z is 0 for 2D queries. */
+		public final Vector3 normal = new Vector3();
+		/** The contact point. z is 0 for 2D queries. */
+		public final Vector3 point = new Vector3();
+		/** The index of the triangle that was hit for triangle queries, -1 otherwise. */
+		public int triangle = -1;
+
+		@Override
+		public String toString () {
+			return "SweepResult [time=" + time + ", normal=" + normal + ", point=" + point + ", triangle=" + triangle + "]";
+		}
+	}
 }
@@ -103,6 +103,20 @@ public final class MathUtils {
 
 	static public Random random = new RandomXS128();
 
+	static private final ThreadLocal<RandomXS128> threadRandom = new ThreadLocal<RandomXS128>() {
+		@Override
+		protected RandomXS128 initialValue () {
+			return new RandomXS128();
+		}
+	};
+
+	/** Returns a {@link RandomXS128} owned by the calling thread, which can be used without synchronization. Each thread's
+	 * generator is seeded randomly, for reproducible results across threads create the generators with
+	 * {@link RandomXS128#split()} instead. */
+	static public RandomXS128 threadRandom () {
+		return threadRandom.get();
+	}
+
 	/** Returns a random number between 0 (inclusive) and the specified value (inclusive). */
 	static public int random (int range) {
 		return random.nextInt(range + 1);
@@ -0,0 +1,657 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** Computes boolean operations (union, intersection, difference and xor) of two polygons with holes. Each operand is a set of
+ * contours combined with the even-odd rule, so holes are simply contours inside another contour and their winding doesn't
+ * matter. Contours may touch, overlap and share edges.
+ * <p>
+ * All edges are split where they intersect, then each piece is kept or discarded depending on whether the result of the
+ * operation is filled on exactly one side of it. The kept pieces are linked into the result contours: outer contours are
+ * counterclockwise and holes are clockwise, see {@link #getParents()} to find the outer contour of each hole.
+ * <p>
+ * All working memory and the result contours are kept and reused by later calls, so recomputing similar shapes every frame
+ * (eg for destructible terrain) doesn't allocate. The result of a call may be passed as an operand to the next call. */
+public class PolygonClipper {
+	public enum Operation {
+		Union, Intersection, Difference, Xor
+	}
+
+	private final Array<FloatArray> contours = new Array<FloatArray>();
+	private final Array<FloatArray> contourPool = new Array<FloatArray>();
+	private final IntArray parents = new IntArray();
+	private final FloatArray areas = new FloatArray();
+	private final Array<FloatArray> single = new Array<FloatArray>(1);
+	private final Array<FloatArray> single2 = new Array<FloatArray>(1);
+	private final FloatArray singleArray = new FloatArray(false, 0), singleArray2 = new FloatArray(false, 0);
+
+	// Input edges, x1, y1, x2, y2, and their operand, 1 for the subject and 2 for the clip.
+	private final FloatArray segments = new FloatArray();
+	private final IntArray segmentOwners = new IntArray();
+	// Split points: the segment, and t, x, y.
+	private final IntArray splitSegments = new IntArray();
+	private final FloatArray splits = new FloatArray();
+	// Edges after splitting, x1, y1, x2, y2.
+	private final FloatArray fragments = new FloatArray();
+	private final IntArray fragmentOwners = new IntArray();
+	// Unique vertices and the edges between them, each edge is stored once with a bit for each operand it is a boundary of.
+	private final FloatArray vertices = new FloatArray();
+	private final IntArray edges = new IntArray();
+	private final IntArray edgeOwners = new IntArray();
+	// Result edges from start to end vertex, with the filled side on the left.
+	private final IntArray resultEdges = new IntArray();
+
+	private long[] keys = new long[0];
+	private int[] ints = new int[0], starts = new int[0], fragmentVertices = new int[0];
+	private int[] bandStarts = new int[0], bandEdges = new int[0];
+	private float[] bandCoordinates = new float[0];
+	private boolean[] used = new boolean[0];
+	private float tolerance;
+	private int vertexCount;
+
+	/** @see #compute(Array, Array, Operation) */
+	public Array<FloatArray> compute (Polygon subject, Polygon clip, Operation operation) {
+		return compute(subject.getTransformedVertices(), clip.getTransformedVertices(), operation);
+	}
+
+	/** @param subject x,y pairs describing a polygon without holes.
+	 * @param clip x,y pairs describing a polygon without holes.
+	 * @see #compute(Array, Array, Operation) */
+	public Array<FloatArray> compute (float[] subject, float[] clip, Operation operation) {
+		singleArray.items = subject;
+		singleArray.size = subject.length;
+		singleArray2.items = clip;
+		singleArray2.size = clip.length;
+		single.clear();
+		single.add(singleArray);
+		single2.clear();
+		single2.add(singleArray2);
+		compute(single, single2, operation);
+		singleArray.items = singleArray2.items = null;
+		return contours;
+	}
+
+	/** Computes a boolean operation of two polygons.
+	 * @param subject The contours of the first polygon, each is x,y pairs. Filled areas are determined by the even-odd rule.
+	 * @param clip The contours of the second polygon.
+	 * @return The contours of the result, each is x,y pairs. Outer contours are counterclockwise, holes are clockwise. Note the
+	 *         returned array and its contours are reused for later calls to the same method. */
+	public Array<FloatArray> compute (Array<FloatArray> subject, Array<FloatArray> clip, Operation operation) {
+		segments.clear();
+		segmentOwners.clear();
+		float extent = 0;
+		for (int i = 0, n = subject.size; i < n; i++)
+			extent = Math.max(extent, addContour(subject.get(i), 1));
+		for (int i = 0, n = clip.size; i < n; i++)
+			extent = Math.max(extent, addContour(clip.get(i), 2));
+		// The input has float precision, points closer than this are considered to be on an edge.
+		tolerance = extent * 1e-6f;
+
+		// The contours are cleared only after reading the operands, so they can be passed back in.
+		contourPool.addAll(contours);
+		contours.clear();
+		parents.clear();
+		areas.clear();
+
+		split();
+		mergeVertices();
+		mergeEdges();
+		classify(operation);
+		link();
+		findParents();
+		return contours;
+	}
+
+	/** @return For each contour returned by the last computation, the index of the outer contour the hole is inside of, or -1
+	 *         if the contour is an outer contour. Note the returned array is reused. */
+	public IntArray getParents () {
+		return parents;
+	}
+
+	private float addContour (FloatArray contour, int owner) {
+		final float[] v = contour.items;
+		final int n = contour.size;
+		float extent = 0;
+		if (n < 6) return extent;
+		for (int i = 0; i < n; i += 2) {
+			final float x1 = v[i], y1 = v[i + 1];
+			final int j = i + 2 == n ? 0 : i + 2;
+			final float x2 = v[j], y2 = v[j + 1];
+			extent = Math.max(extent, Math.max(Math.abs(x1), Math.abs(y1)));
+			if (x1 == x2 && y1 == y2) continue;
+			segments.add(x1, y1, x2, y2);
+			segmentOwners.add(owner);
+		}
+		return extent;
+	}
+
+	/** Splits the segments where they intersect or touch, using a sweep along the x axis to find candidate pairs. */
+	private void split () {
+		final int n = segmentOwners.size;
+		final float[] s = segments.items;
+		final float tolerance = this.tolerance;
+		splitSegments.clear();
+		splits.clear();
+
+		long[] keys = ensure(this.keys, n);
+		this.keys = keys;
+		for (int i = 0; i < n; i++)
+			keys[i] = (long)sortable(Math.min(s[i * 4], s[i * 4 + 2])) << 32 | i;
+		Arrays.sort(keys, 0, n);
+		for (int a = 0; a < n; a++) {
+			final int i = (int)keys[a], oi = i * 4;
+			final float maxX = Math.max(s[oi], s[oi + 2]) + tolerance;
+			final float minY = Math.min(s[oi + 1], s[oi + 3]) - tolerance, maxY = Math.max(s[oi + 1], s[oi + 3]) + tolerance;
+			for (int b = a + 1; b < n; b++) {
+				final int j = (int)keys[b], oj = j * 4;
+				if (Math.min(s[oj], s[oj + 2]) > maxX) break;
+				if (Math.max(s[oj + 1], s[oj + 3]) < minY || Math.min(s[oj + 1], s[oj + 3]) > maxY) continue;
+				intersect(i, j);
+			}
+		}
+
+		// Sort the split points by segment, then by t within each segment.
+		final int splitCount = splitSegments.size;
+		final int[] starts = this.starts = ensure(this.starts, n + 1);
+		final int[] order = ints = ensure(ints, splitCount);
+		final float[] t = splits.items;
+		Arrays.fill(starts, 0, n + 1, 0);
+		for (int i = 0; i < splitCount; i++)
+			starts[splitSegments.items[i] + 1]++;
+		for (int i = 0; i < n; i++)
+			starts[i + 1] += starts[i];
+		for (int i = 0; i < splitCount; i++)
+			order[starts[splitSegments.items[i]]++] = i;
+		for (int i = n; i > 0; i--)
+			starts[i] = starts[i - 1];
+		starts[0] = 0;
+
+		fragments.clear();
+		fragmentOwners.clear();
+		for (int i = 0; i < n; i++) {
+			final int start = starts[i], end = starts[i + 1];
+			for (int a = start + 1; a < end; a++) {
+				final int split = order[a];
+				int b = a - 1;
+				for (; b >= start && t[order[b] * 3] > t[split * 3]; b--)
+					order[b + 1] = order[b];
+				order[b + 1] = split;
+			}
+			final int owner = segmentOwners.items[i];
+			float x = s[i * 4], y = s[i * 4 + 1];
+			for (int a = start; a < end; a++) {
+				final int o = order[a] * 3;
+				final float x2 = t[o + 1], y2 = t[o + 2];
+				if (x2 == x && y2 == y) continue;
+				fragments.add(x, y, x2, y2);
+				fragmentOwners.add(owner);
+				x = x2;
+				y = y2;
+			}
+			final float x2 = s[i * 4 + 2], y2 = s[i * 4 + 3];
+			if (x2 == x && y2 == y) continue;
+			fragments.add(x, y, x2, y2);
+			fragmentOwners.add(owner);
+		}
+	}
+
+	private void intersect (int i, int j) {
+		final float[] s = segments.items;
+		final int oi = i * 4, oj = j * 4;
+		// Touching: an endpoint is on the other segment. Segments meet at most once unless they are collinear, in which case
+		// this splits them at their overlapping ends.
+		boolean touching = splitOnSegment(i, s[oj], s[oj + 1]);
+		touching |= splitOnSegment(i, s[oj + 2], s[oj + 3]);
+		touching |= splitOnSegment(j, s[oi], s[oi + 1]);
+		touching |= splitOnSegment(j, s[oi + 2], s[oi + 3]);
+		if (touching) return;
+
+		final double x1 = s[oi], y1 = s[oi + 1], dx1 = s[oi + 2] - x1, dy1 = s[oi + 3] - y1;
+		final double dx2 = s[oj + 2] - s[oj], dy2 = s[oj + 3] - s[oj + 1];
+		final double denominator = dx1 * dy2 - dy1 * dx2;
+		if (denominator == 0) return;
+		final double ex = s[oj] - x1, ey = s[oj + 1] - y1;
+		final double t = (ex * dy2 - ey * dx2) / denominator, u = (ex * dy1 - ey * dx1) / denominator;
+		final double length1 = Math.sqrt(dx1 * dx1 + dy1 * dy1), length2 = Math.sqrt(dx2 * dx2 + dy2 * dy2);
+		final float tolerance = this.tolerance;
+		if (t * length1 <= tolerance || (1 - t) * length1 <= tolerance) return;
+		if (u * length2 <= tolerance || (1 - u) * length2 <= tolerance) return;
+		// Both pieces use the same rounded point, so their vertices match exactly.
+		final float x = (float)(x1 + dx1 * t), y = (float)(y1 + dy1 * t);
+		addSplit(i, (float)t, x, y);
+		addSplit(j, (float)u, x, y);
+	}
+
+	/** Splits the segment at the point if the point is on the segment, not counting its ends. */
+	private boolean splitOnSegment (int segment, float px, float py) {
+		final float[] s = segments.items;
+		final int o = segment * 4;
+		final double x1 = s[o], y1 = s[o + 1], dx = s[o + 2] - x1, dy = s[o + 3] - y1;
+		final double lengthSq = dx * dx + dy * dy, length = Math.sqrt(lengthSq);
+		final double t = ((px - x1) * dx + (py - y1) * dy) / lengthSq;
+		final float tolerance = this.tolerance;
+		if (t * length <= tolerance || (1 - t) * length <= tolerance) return false;
+		if (Math.abs(dx * (py - y1) - dy * (px - x1)) / length > tolerance) return false;
+		addSplit(segment, (float)t, px, py);
+		return true;
+	}
+
+	private void addSplit (int segment, float t, float x, float y) {
+		splitSegments.add(segment);
+		splits.add(t, x, y);
+	}
+
+	/** Assigns each fragment end the index of its unique vertex. */
+	private void mergeVertices () {
+		final int n = fragmentOwners.size, ends = n * 2;
+		final float[] f = fragments.items;
+		long[] keys = ensure(this.keys, ends);
+		this.keys = keys;
+		for (int i = 0; i < ends; i++)
+			keys[i] = vertexKey(f[i * 2], f[i * 2 + 1]);
+		Arrays.sort(keys, 0, ends);
+		int count = 0;
+		for (int i = 0; i < ends; i++)
+			if (count == 0 || keys[i] != keys[count - 1]) keys[count++] = keys[i];
+		vertexCount = count;
+
+		final int[] fragmentVertices = this.fragmentVertices = ensure(this.fragmentVertices, ends);
+		final FloatArray vertices = this.vertices;
+		vertices.clear();
+		vertices.ensureCapacity(count * 2);
+		vertices.size = count * 2;
+		for (int i = 0; i < ends; i++) {
+			final float x = f[i * 2], y = f[i * 2 + 1];
+			final int vertex = Arrays.binarySearch(keys, 0, count, vertexKey(x, y));
+			fragmentVertices[i] = vertex;
+			vertices.items[vertex * 2] = x;
+			vertices.items[vertex * 2 + 1] = y;
+		}
+	}
+
+	/** Merges fragments between the same vertices. An operand's boundary cancels out if it has an even number of them. */
+	private void mergeEdges () {
+		final int n = fragmentOwners.size, vertexCount = this.vertexCount;
+		final int[] fragmentVertices = this.fragmentVertices;
+		// Bucket the fragments by their lower vertex.
+		final int[] starts = this.starts = ensure(this.starts, vertexCount + 1);
+		final int[] order = ints = ensure(ints, n);
+		Arrays.fill(starts, 0, vertexCount + 1, 0);
+		for (int i = 0; i < n; i++)
+			starts[Math.min(fragmentVertices[i * 2], fragmentVertices[i * 2 + 1]) + 1]++;
+		for (int i = 0; i < vertexCount; i++)
+			starts[i + 1] += starts[i];
+		for (int i = 0; i < n; i++)
+			order[starts[Math.min(fragmentVertices[i * 2], fragmentVertices[i * 2 + 1])]++] = i;
+		for (int i = vertexCount; i > 0; i--)
+			starts[i] = starts[i - 1];
+		starts[0] = 0;
+
+		final IntArray edges = this.edges, edgeOwners = this.edgeOwners;
+		edges.clear();
+		edgeOwners.clear();
+		for (int v = 0; v < vertexCount; v++) {
+			final int first = edges.size / 2;
+			for (int a = starts[v], end = starts[v + 1]; a < end; a++) {
+				final int i = order[a], other = Math.max(fragmentVertices[i * 2], fragmentVertices[i * 2 + 1]);
+				final int owner = fragmentOwners.items[i];
+				int edge = first;
+				for (final int last = edges.size / 2; edge < last; edge++)
+					if (edges.items[edge * 2 + 1] == other) break;
+				if (edge == edges.size / 2) {
+					edges.add(v, other);
+					edgeOwners.add(owner);
+				} else
+					edgeOwners.items[edge] ^= owner;
+			}
+		}
+	}
+
+	/** Determines for each edge whether the operands are inside on its left and right side, then keeps the edges where the result
+	 * of the operation differs between both sides, oriented so the filled side is on the left. */
+	private void classify (Operation operation) {
+		final int edgeCount = edgeOwners.size;
+		final int[] e = edges.items, owners = edgeOwners.items;
+		final float[] v = vertices.items;
+
+		// Bucket the edges into horizontal bands to speed up ray casting. The band count is chosen so each edge is in about 2
+		// bands on average.
+		float minY = Float.POSITIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		double height = 0;
+		for (int i = 0; i < edgeCount; i++) {
+			if (owners[i] == 0) continue;
+			final float y1 = v[e[i * 2] * 2 + 1], y2 = v[e[i * 2 + 1] * 2 + 1];
+			minY = Math.min(minY, Math.min(y1, y2));
+			maxY = Math.max(maxY, Math.max(y1, y2));
+			height += Math.abs(y2 - y1);
+		}
+		int bandCount = 1;
+		if (maxY > minY && height > 0) bandCount = (int)Math.max(1, Math.min(edgeCount, edgeCount * (maxY - minY) / height));
+		final float bandScale = bandCount == 1 ? 0 : bandCount / (maxY - minY);
+		final int[] bandStarts = this.bandStarts = ensure(this.bandStarts, bandCount + 1);
+		Arrays.fill(bandStarts, 0, bandCount + 1, 0);
+		for (int i = 0; i < edgeCount; i++) {
+			if (owners[i] == 0) continue;
+			final float y1 = v[e[i * 2] * 2 + 1], y2 = v[e[i * 2 + 1] * 2 + 1];
+			bandStarts[band(Math.min(y1, y2), minY, bandScale, bandCount)]++;
+			bandStarts[band(Math.max(y1, y2), minY, bandScale, bandCount) + 1]--;
+		}
+		// Running sum of the band changes gives the edges per band, a second running sum the band starts.
+		for (int b = 0, count = 0, start = 0; b <= bandCount; b++) {
+			final int change = bandStarts[b];
+			bandStarts[b] = start;
+			count += change;
+			start += count;
+		}
+		final int entries = bandStarts[bandCount];
+		final int[] bandEdges = this.bandEdges = ensure(this.bandEdges, entries * 2);
+		for (int i = 0; i < edgeCount; i++) {
+			if (owners[i] == 0) continue;
+			final float y1 = v[e[i * 2] * 2 + 1], y2 = v[e[i * 2 + 1] * 2 + 1];
+			final int last = band(Math.max(y1, y2), minY, bandScale, bandCount);
+			for (int b = band(Math.min(y1, y2), minY, bandScale, bandCount); b <= last; b++)
+				bandEdges[bandStarts[b]++] = i;
+		}
+		for (int b = bandCount; b > 0; b--)
+			bandStarts[b] = bandStarts[b - 1];
+		bandStarts[0] = 0;
+		// Each band is stored twice, by increasing minimum x for rays to the left and by decreasing maximum x for rays to the
+		// right, so a ray only visits the edges it can cross.
+		final long[] keys = this.keys = ensure(this.keys, entries);
+		for (int pass = 0; pass < 2; pass++) {
+			for (int a = 0; a < entries; a++) {
+				final int i = bandEdges[a];
+				final float x1 = v[e[i * 2] * 2], x2 = v[e[i * 2 + 1] * 2];
+				keys[a] = (long)(pass == 0 ? sortable(Math.min(x1, x2)) : ~sortable(Math.max(x1, x2))) << 32 | i;
+			}
+			for (int b = 0; b < bandCount; b++)
+				Arrays.sort(keys, bandStarts[b], bandStarts[b + 1]);
+			for (int a = 0, o = pass * entries; a < entries; a++)
+				bandEdges[o + a] = (int)keys[a];
+		}
+		// The edge coordinates are copied in band order so rays read them sequentially.
+		final float[] bandCoordinates = this.bandCoordinates = ensure(this.bandCoordinates, entries * 8);
+		for (int a = 0, n = entries * 2; a < n; a++) {
+			final int i = bandEdges[a], start = e[i * 2] * 2, end = e[i * 2 + 1] * 2;
+			bandCoordinates[a * 4] = v[start];
+			bandCoordinates[a * 4 + 1] = v[start + 1];
+			bandCoordinates[a * 4 + 2] = v[end];
+			bandCoordinates[a * 4 + 3] = v[end + 1];
+		}
+
+		final IntArray resultEdges = this.resultEdges;
+		resultEdges.clear();
+		for (int i = 0; i < edgeCount; i++) {
+			final int owner = owners[i];
+			if (owner == 0) continue;
+			final int start = e[i * 2], end = e[i * 2 + 1];
+			final float x1 = v[start * 2], y1 = v[start * 2 + 1], x2 = v[end * 2], y2 = v[end * 2 + 1];
+			final double mx = (x1 + (double)x2) / 2, my = (y1 + (double)y2) / 2;
+			final int band = band((float)my, minY, bandScale, bandCount);
+			final boolean toRight = countRight(mx, band, entries) < countLeft(mx, band);
+			int left, right;
+			if (y1 != y2) {
+				// Only the operands this edge is a boundary of change their inside state across it. These are the states on the
+				// -x and +x side.
+				if (toRight) {
+					right = castRay(i, mx, my, band, entries, true, false);
+					left = right ^ owner;
+				} else {
+					left = castRay(i, mx, my, band, entries, false, false);
+					right = left ^ owner;
+				}
+				if (y2 < y1) {
+					final int swap = left;
+					left = right;
+					right = swap;
+				}
+			} else {
+				// Horizontal edges compare the inside state just above and just below the edge.
+				left = castRay(i, mx, my, band, entries, toRight, false);
+				right = castRay(i, mx, my, band, entries, toRight, true);
+				if (x2 < x1) {
+					final int swap = left;
+					left = right;
+					right = swap;
+				}
+			}
+			final boolean leftFilled = apply(operation, left), rightFilled = apply(operation, right);
+			if (leftFilled == rightFilled) continue;
+			if (leftFilled)
+				resultEdges.add(start, end);
+			else
+				resultEdges.add(end, start);
+		}
+	}
+
+	private static int band (float y, float minY, float bandScale, int bandCount) {
+		return Math.min(bandCount - 1, Math.max(0, (int)((y - minY) * bandScale)));
+	}
+
+	/** @return The number of edges in the band with a minimum x less than the specified x. */
+	private int countLeft (double x, int band) {
+		final int[] e = edges.items, bandEdges = this.bandEdges;
+		final float[] v = vertices.items;
+		int low = bandStarts[band], high = bandStarts[band + 1];
+		final int start = low;
+		while (low < high) {
+			final int mid = (low + high) >>> 1, i = bandEdges[mid];
+			if (Math.min(v[e[i * 2] * 2], v[e[i * 2 + 1] * 2]) < x)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low - start;
+	}
+
+	/** @return The number of edges in the band with a maximum x greater than the specified x. */
+	private int countRight (double x, int band, int entries) {
+		final int[] e = edges.items, bandEdges = this.bandEdges;
+		final float[] v = vertices.items;
+		int low = entries + bandStarts[band], high = entries + bandStarts[band + 1];
+		final int start = low;
+		while (low < high) {
+			final int mid = (low + high) >>> 1, i = bandEdges[mid];
+			if (Math.max(v[e[i * 2] * 2], v[e[i * 2 + 1] * 2]) > x)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low - start;
+	}
+
+	/** Casts a horizontal ray from the point and counts the edge crossings of each operand.
+	 * @param toRight If true, the ray goes in the positive x direction, else in the negative.
+	 * @param below If true, the ray is cast from slightly below the point, else from slightly above. This only matters for
+	 *           horizontal edges at the height of the point.
+	 * @return A bit for each operand the point is inside of, 1 for the subject and 2 for the clip. */
+	private int castRay (int ignore, double x, double y, int band, int entries, boolean toRight, boolean below) {
+		final int[] owners = edgeOwners.items, bandEdges = this.bandEdges;
+		final float[] c = bandCoordinates;
+		int inside = 0;
+		for (int a = bandStarts[band] + (toRight ? entries : 0), end = bandStarts[band + 1] + (toRight ? entries : 0); a < end;
+			a++) {
+			final int o = a * 4;
+			final double x1 = c[o], y1 = c[o + 1], x2 = c[o + 2], y2 = c[o + 3];
+			// The edges are sorted, stop at the first one entirely behind the ray.
+			if (toRight ? Math.max(x1, x2) <= x : Math.min(x1, x2) >= x) break;
+			final int i = bandEdges[a];
+			if (i == ignore) continue;
+			if (below ? (y1 >= y) == (y2 >= y) : (y1 > y) == (y2 > y)) continue;
+			final double crossing = x1 + (y - y1) * (x2 - x1) / (y2 - y1);
+			if (toRight ? crossing > x : crossing < x) inside ^= owners[i];
+		}
+		return inside;
+	}
+
+	private static boolean apply (Operation operation, int inside) {
+		switch (operation) {
+		case Union:
+			return inside != 0;
+		case Intersection:
+			return inside == 3;
+		case Difference:
+			return inside == 1;
+		default:
+			return inside == 1 || inside == 2;
+		}
+	}
+
+	/** Links the result edges into contours. Where several edges leave a vertex, the one turning most to the left is taken, so
+	 * contours touching at a vertex are kept separate. */
+	private void link () {
+		final int n = resultEdges.size / 2, vertexCount = this.vertexCount;
+		final int[] r = resultEdges.items;
+		final float[] v = vertices.items;
+		final int[] starts = this.starts = ensure(this.starts, vertexCount + 1);
+		final int[] order = ints = ensure(ints, n);
+		Arrays.fill(starts, 0, vertexCount + 1, 0);
+		for (int i = 0; i < n; i++)
+			starts[r[i * 2] + 1]++;
+		for (int i = 0; i < vertexCount; i++)
+			starts[i + 1] += starts[i];
+		for (int i = 0; i < n; i++)
+			order[starts[r[i * 2]]++] = i;
+		for (int i = vertexCount; i > 0; i--)
+			starts[i] = starts[i - 1];
+		starts[0] = 0;
+		if (used.length < n) used = new boolean[n];
+		final boolean[] used = this.used;
+		Arrays.fill(used, 0, n, false);
+
+		for (int first = 0; first < n; first++) {
+			if (used[first]) continue;
+			final FloatArray contour = contourPool.size > 0 ? contourPool.pop() : new FloatArray();
+			contour.clear();
+			int edge = first;
+			while (true) {
+				used[edge] = true;
+				final int from = r[edge * 2], to = r[edge * 2 + 1];
+				contour.add(v[from * 2], v[from * 2 + 1]);
+				// Choose the outgoing edge with the largest counterclockwise angle from the reversed incoming edge.
+				final double backX = v[from * 2] - v[to * 2], backY = v[from * 2 + 1] - v[to * 2 + 1];
+				int next = -1;
+				double best = -1;
+				for (int a = starts[to], end = starts[to + 1]; a < end; a++) {
+					final int candidate = order[a];
+					if (used[candidate] && candidate != first) continue;
+					final int target = r[candidate * 2 + 1];
+					final double outX = v[target * 2] - v[to * 2], outY = v[target * 2 + 1] - v[to * 2 + 1];
+					double angle = Math.atan2(backX * outY - backY * outX, backX * outX + backY * outY);
+					if (angle < 0) angle += Math.PI * 2;
+					if (angle > best) {
+						best = angle;
+						next = candidate;
+					}
+				}
+				if (next == -1 || next == first) break;
+				edge = next;
+			}
+			simplify(contour);
+			if (contour.size < 6) {
+				contourPool.add(contour);
+				continue;
+			}
+			contours.add(contour);
+			areas.add(GeometryUtils.polygonArea(contour.items, 0, contour.size));
+		}
+	}
+
+	/** Removes vertices on a straight line between their neighbors, left where edges were split. */
+	private void simplify (FloatArray contour) {
+		final float[] c = contour.items;
+		int size = 0;
+		for (int i = 0, n = contour.size; i < n; i += 2) {
+			c[size++] = c[i];
+			c[size++] = c[i + 1];
+			while (size >= 6 && isStraight(c, size - 6, size - 4, size - 2)) {
+				c[size - 4] = c[size - 2];
+				c[size - 3] = c[size - 1];
+				size -= 2;
+			}
+		}
+		while (size >= 6 && isStraight(c, size - 4, size - 2, 0))
+			size -= 2;
+		while (size >= 6 && isStraight(c, size - 2, 0, 2)) {
+			System.arraycopy(c, 2, c, 0, size - 2);
+			size -= 2;
+		}
+		contour.size = size;
+	}
+
+	private boolean isStraight (float[] c, int a, int b, int d) {
+		final double x = c[a], y = c[a + 1], dx = c[d] - x, dy = c[d + 1] - y, px = c[b] - x, py = c[b + 1] - y;
+		if (dx * px + dy * py <= 0 || (c[d] - c[b]) * dx + (c[d + 1] - c[b + 1]) * dy <= 0) return false;
+		return Math.abs(dx * py - dy * px) <= tolerance * Math.sqrt(dx * dx + dy * dy);
+	}
+
+	/** Finds the smallest outer contour containing each hole. */
+	private void findParents () {
+		final IntArray parents = this.parents;
+		final float[] areas = this.areas.items;
+		for (int i = 0, n = contours.size; i < n; i++) {
+			if (areas[i] >= 0) {
+				parents.add(-1);
+				continue;
+			}
+			// The middle of an edge of a hole is never on another contour.
+			final float[] hole = contours.get(i).items;
+			final float x = (hole[0] + hole[2]) / 2, y = (hole[1] + hole[3]) / 2;
+			int parent = -1;
+			float best = Float.POSITIVE_INFINITY;
+			for (int j = 0; j < n; j++) {
+				final float area = areas[j];
+				if (area <= -areas[i] || area >= best) continue;
+				final FloatArray contour = contours.get(j);
+				if (Intersector.isPointInPolygon(contour.items, 0, contour.size, x, y)) {
+					best = area;
+					parent = j;
+				}
+			}
+			parents.add(parent);
+		}
+	}
+
+	/** @return A value that sorts like the float. */
+	private static int sortable (float value) {
+		final int bits = NumberUtils.floatToRawIntBits(value + 0f);
+		return bits ^ ((bits >> 31) & 0x7fffffff);
+	}
+
+	private static long vertexKey (float x, float y) {
+		return (long)sortable(x) << 32 | (sortable(y) ^ 0x80000000L) & 0xffffffffL;
+	}
+
+	private static int[] ensure (int[] array, int size) {
+		return array.length >= size ? array : new int[Math.max(size, array.length * 2)];
+	}
+
+	private static float[] ensure (float[] array, int size) {
+		return array.length >= size ? array : new float[Math.max(size, array.length * 2)];
+	}
+
+	private static long[] ensure (long[] array, int size) {
+		return array.length >= size ? array : new long[Math.max(size, array.length * 2)];
+	}
+}
@@ -23,7 +23,8 @@ import java.util.Random;
  * is more than enough for any single-thread application. More details and algorithms can be found <a
  * href="http://xorshift.di.unimi.it/">here</a>.
  * <p>
- * Instances of RandomXS128 are not thread-safe.
+ * Instances of RandomXS128 are not thread-safe. Use {@link #split()} to create independent generators for multiple threads, or
+ * {@link MathUtils#threadRandom()}.
  * 
  * @author Inferno
  * @author davebaol */
@@ -34,6 +35,10 @@ public class RandomXS128 extends Random {
 
 	/** Normalization constant for float. */
 	private static final double NORM_FLOAT = 1.0 / (1L << 24);
+	private static final float NORM_FLOAT_F = 1f / (1 << 24);
+
+	/** Polynomial used by {@link #jump()} to advance the state by 2<sup>64</sup> steps. */
+	private static final long[] JUMP = {0x8c405782bca686adL, 0xc44f35946fef49c6L};
 
 	/** The first half of the internal state of this pseudo-random number generator. */
 	private long seed0;
@@ -141,6 +146,91 @@ public class RandomXS128 extends Random {
 		return (nextLong() & 1) != 0;
 	}
 
+	/** Fills the specified range of the array with pseudo-random, uniformly distributed {@code float} values between 0.0 and 1.0.
+	 * The values are the same as those returned by calling {@link #nextFloat()} count times, but the state is kept in local
+	 * variables during the loop which makes this considerably faster for large counts.
+	 * <p>
+	 * This implementation does not use {@link #nextLong()}, subclasses that override it should override this method as well. */
+	public void nextFloats (final float[] out, final int offset, final int count) {
+		long s0 = seed0, s1 = seed1;
+		for (int i = offset, n = offset + count; i < n; i++) {
+			long x = s0;
+			final long y = s1;
+			s0 = y;
+			x ^= x << 23;
+			s1 = x ^ y ^ (x >>> 17) ^ (y >>> 26);
+			out[i] = ((s1 + y) >>> 40) * NORM_FLOAT_F;
+		}
+		seed0 = s0;
+		seed1 = s1;
+	}
+
+	/** Fills the specified range of the array with pseudo-random, uniformly distributed {@code float} values between start
+	 * (inclusive) and end (exclusive).
+	 * @see #nextFloats(float[], int, int) */
+	public void nextFloats (final float[] out, final int offset, final int count, final float start, final float end) {
+		nextFloats(out, offset, count);
+		final float range = end - start;
+		for (int i = offset, n = offset + count; i < n; i++)
+			out[i] = start + out[i] * range;
+	}
+
+	/** Fills the specified range of the array with pseudo-random, normally distributed {@code float} values with mean 0.0 and
+	 * standard deviation 1.0, using the polar method. Contrary to {@link #nextGaussian()} this method is not synchronized and
+	 * doesn't keep a spare value between calls, so the result only depends on the state of this generator.
+	 * <p>
+	 * This implementation uses {@link #nextLong()} internally. */
+	public void nextGaussians (final float[] out, final int offset, final int count) {
+		for (int i = offset, n = offset + count; i < n; i += 2) {
+			double v1, v2, s;
+			do {
+				v1 = 2 * nextDouble() - 1;
+				v2 = 2 * nextDouble() - 1;
+				s = v1 * v1 + v2 * v2;
+			} while (s >= 1 || s == 0);
+			final double multiplier = Math.sqrt(-2 * Math.log(s) / s);
+			out[i] = (float)(v1 * multiplier);
+			if (i + 1 < n) out[i + 1] = (float)(v2 * multiplier);
+		}
+	}
+
+	/** Fills the specified range of the array with pseudo-random, normally distributed {@code float} values with the specified
+	 * mean and standard deviation.
+	 * @see #nextGaussians(float[], int, int) */
+	public void nextGaussians (final float[] out, final int offset, final int count, final float mean, final float deviation) {
+		nextGaussians(out, offset, count);
+		for (int i = offset, n = offset + count; i < n; i++)
+			out[i] = mean + out[i] * deviation;
+	}
+
+	/** Advances the state of this generator by 2<sup>64</sup> steps, as if {@link #nextLong()} was called 2<sup>64</sup> times.
+	 * This can be used to create non-overlapping sequences for parallel computations, see {@link #split()}. */
+	public void jump () {
+		long s0 = 0, s1 = 0;
+		for (int i = 0; i < JUMP.length; i++) {
+			for (int b = 0; b < 64; b++) {
+				if ((JUMP[i] & 1L << b) != 0) {
+					s0 ^= seed0;
+					s1 ^= seed1;
+				}
+				nextLong();
+			}
+		}
+		seed0 = s0;
+		seed1 = s1;
+	}
+
+	/** Returns a new generator that continues the sequence of this generator, and then advances this generator with
+	 * {@link #jump()}. The returned generator won't overlap with this one for 2<sup>64</sup> values. Splitting a generator with a
+	 * known seed the same number of times always results in the same streams, so each thread of a parallel computation can be
+	 * given its own reproducible stream without synchronization.
+	 * @return the new generator */
+	public RandomXS128 split () {
+		final RandomXS128 result = new RandomXS128(seed0, seed1);
+		jump();
+		return result;
+	}
+
 	/** Generates random bytes and places them into a user-supplied byte array. The number of random bytes produced is equal to the
 	 * length of the byte array.
 	 * <p>
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math.collision;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A bounding volume hierarchy over a static triangle soup, used to accelerate the ray and swept sphere queries of
+ * {@link com.badlogic.gdx.math.Intersector}. The hierarchy is stored in flat arrays so that queries don't allocate. Building
+ * allocates, but reuses the arrays of a previous build when they are large enough.
+ * <p>
+ * Nodes are stored depth first. Each node has 6 floats in {@link #nodeBounds} (min xyz, max xyz) and 2 ints in
+ * {@link #nodeData}: for a leaf the index of its first triangle and the triangle count, for an inner node the index of its
+ * first child (the second child directly follows it) and 0. */
+public class TriangleBVH {
+	/** The maximum number of triangles in a leaf node. */
+	public int maxLeafSize = 4;
+	/** The triangle positions in leaf order, each successive 9 floats are the 3 vertices of a triangle. */
+	public float[] triangles = new float[0];
+	/** For each triangle in {@link #triangles}, the index of the triangle in the source data. */
+	public int[] triangleIndices = new int[0];
+	public float[] nodeBounds = new float[0];
+	public int[] nodeData = new int[0];
+	public int triangleCount;
+	public int nodeCount;
+	/** The maximum depth of the hierarchy, the root has depth 1. */
+	public int depth;
+
+	private float[] centroids = new float[0];
+
+	public TriangleBVH () {
+	}
+
+	/** @see #build(float[], int, int) */
+	public TriangleBVH (float[] triangles) {
+		build(triangles, 0, triangles.length);
+	}
+
+	/** @see #build(float[], int, short[], int, int) */
+	public TriangleBVH (float[] vertices, int vertexSize, short[] indices) {
+		build(vertices, vertexSize, indices, 0, indices.length);
+	}
+
+	/** Builds the hierarchy from a triangle soup.
+	 * @param triangles The triangles, each successive 9 elements are the 3 vertices of a triangle, a vertex is made of 3
+	 *           successive floats (XYZ)
+	 * @return This BVH for chaining */
+	public TriangleBVH build (float[] triangles, int offset, int count) {
+		if (count % 9 != 0) throw new GdxRuntimeException("triangles array size is not a multiple of 9");
+		final int n = count / 9;
+		ensureCapacity(n);
+		System.arraycopy(triangles, offset, this.triangles, 0, count);
+		for (int i = 0; i < n; i++)
+			triangleIndices[i] = i;
+		return build(n);
+	}
+
+	/** Builds the hierarchy from indexed vertices, the first 3 floats of each vertex must be the position.
+	 * @param vertexSize the size of a vertex in floats
+	 * @param indices each successive 3 shorts index the 3 vertices of a triangle
+	 * @return This BVH for chaining */
+	public TriangleBVH build (float[] vertices, int vertexSize, short[] indices, int offset, int count) {
+		if (count % 3 != 0) throw new GdxRuntimeException("triangle list size is not a multiple of 3");
+		final int n = count / 3;
+		ensureCapacity(n);
+		final float[] t = this.triangles;
+		for (int i = 0, o = 0; i < count; i++, o += 3) {
+			final int v = (indices[offset + i] & 0xFFFF) * vertexSize;
+			t[o] = vertices[v];
+			t[o + 1] = vertices[v + 1];
+			t[o + 2] = vertices[v + 2];
+		}
+		for (int i = 0; i < n; i++)
+			triangleIndices[i] = i;
+		return build(n);
+	}
+
+	private void ensureCapacity (int n) {
+		if (triangles.length < n * 9) triangles = new float[n * 9];
+		if (triangleIndices.length < n) triangleIndices = new int[n];
+		if (centroids.length < n * 3) centroids = new float[n * 3];
+		final int maxNodes = Math.max(1, 2 * n - 1);
+		if (nodeData.length < maxNodes * 2) {
+			nodeData = new int[maxNodes * 2];
+			nodeBounds = new float[maxNodes * 6];
+		}
+	}
+
+	private TriangleBVH build (int n) {
+		if (maxLeafSize < 1) throw new IllegalArgumentException("maxLeafSize must be > 0: " + maxLeafSize);
+		final float[] t = triangles, c = centroids;
+		for (int i = 0, o = 0; i < n; i++, o += 9) {
+			c[i * 3] = (t[o] + t[o + 3] + t[o + 6]) / 3f;
+			c[i * 3 + 1] = (t[o + 1] + t[o + 4] + t[o + 7]) / 3f;
+			c[i * 3 + 2] = (t[o + 2] + t[o + 5] + t[o + 8]) / 3f;
+		}
+		triangleCount = n;
+		nodeCount = 1;
+		depth = 0;
+		buildNode(0, 0, n, 1);
+		return this;
+	}
+
+	private void buildNode (int node, int start, int end, int level) {
+		if (level > depth) depth = level;
+		final float[] t = triangles, c = centroids, b = nodeBounds;
+		float minX = Float.POSITIVE_INFINITY, minY = minX, minZ = minX;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = maxX, maxZ = maxX;
+		float cMinX = minX, cMinY = minX, cMinZ = minX, cMaxX = maxX, cMaxY = maxX, cMaxZ = maxX;
+		for (int i = start; i < end; i++) {
+			for (int o = i * 9, e = o + 9; o < e; o += 3) {
+				minX = Math.min(minX, t[o]);
+				minY = Math.min(minY, t[o + 1]);
+				minZ = Math.min(minZ, t[o + 2]);
+				maxX = Math.max(maxX, t[o]);
+				maxY = Math.max(maxY, t[o + 1]);
+				maxZ = Math.max(maxZ, t[o + 2]);
+			}
+			final int o = i * 3;
+			cMinX = Math.min(cMinX, c[o]);
+			cMinY = Math.min(cMinY, c[o + 1]);
+			cMinZ = Math.min(cMinZ, c[o + 2]);
+			cMaxX = Math.max(cMaxX, c[o]);
+			cMaxY = Math.max(cMaxY, c[o + 1]);
+			cMaxZ = Math.max(cMaxZ, c[o + 2]);
+		}
+		final int bo = node * 6;
+		b[bo] = minX;
+		b[bo + 1] = minY;
+		b[bo + 2] = minZ;
+		b[bo + 3] = maxX;
+		b[bo + 4] = maxY;
+		b[bo + 5] = maxZ;
+
+		final int count = end - start;
+		if (count <= maxLeafSize) {
+			nodeData[node * 2] = start;
+			nodeData[node * 2 + 1] = count;
+			return;
+		}
+
+		// Split at the center of the longest axis of the centroid bounds, falling back to halving the range.
+		final float ex = cMaxX - cMinX, ey = cMaxY - cMinY, ez = cMaxZ - cMinZ;
+		final int axis = ex >= ey && ex >= ez ? 0 : (ey >= ez ? 1 : 2);
+		final float split = axis == 0 ? cMinX + ex * 0.5f : (axis == 1 ? cMinY + ey * 0.5f : cMinZ + ez * 0.5f);
+		int mid = start;
+		for (int i = start; i < end; i++) {
+			if (c[i * 3 + axis] < split) {
+				swap(i, mid);
+				mid++;
+			}
+		}
+		if (mid == start || mid == end) mid = (start + end) >>> 1;
+
+		final int left = nodeCount;
+		nodeCount += 2;
+		nodeData[node * 2] = left;
+		nodeData[node * 2 + 1] = 0;
+		buildNode(left, start, mid, level + 1);
+		buildNode(left + 1, mid, end, level + 1);
+	}
+
+	private void swap (int a, int b) {
+		if (a == b) return;
+		final float[] t = triangles, c = centroids;
+		for (int i = 0, oa = a * 9, ob = b * 9; i < 9; i++, oa++, ob++) {
+			final float f = t[oa];
+			t[oa] = t[ob];
+			t[ob] = f;
+		}
+		for (int i = 0, oa = a * 3, ob = b * 3; i < 3; i++, oa++, ob++) {
+			final float f = c[oa];
+			c[oa] = c[ob];
+			c[ob] = f;
+		}
+		final int index = triangleIndices[a];
+		triangleIndices[a] = triangleIndices[b];
+		triangleIndices[b] = index;
+	}
+
+	/** @return Whether the specified node is a leaf. */
+	public boolean isLeaf (int node) {
+		return nodeData[node * 2 + 1] != 0 || nodeCount == 1;
+	}
+
+	/** @param out The bounding box to set to the bounds of the whole hierarchy.
+	 * @return The out parameter for chaining */
+	public BoundingBox getBounds (BoundingBox out) {
+		out.inf();
+		if (triangleCount == 0) return out;
+		final float[] b = nodeBounds;
+		return out.ext(b[0], b[1], b[2]).ext(b[3], b[4], b[5]);
+	}
+}
@@ -25,8 +25,15 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  * @author Nathan Sweet */
 public class TiledDrawable extends TextureRegionDrawable {
 	static private final Color temp = new Color();
+	/** Areas with more tiles than this are not cached, their vertices are drawn in chunks of this many tiles. */
+	static private final int maxCachedTiles = 256;
 
 	private final Color color = new Color(1, 1, 1, 1);
+	private float[] vertices = new float[0];
+	private int vertexCount;
+	private TextureRegion cachedRegion;
+	private Texture cachedTexture;
+	private float cachedU, cachedV, cachedU2, cachedV2, cachedX, cachedY, cachedWidth, cachedHeight, cachedColor;
 
 	public TiledDrawable () {
 		super();
@@ -41,54 +48,114 @@ public class TiledDrawable extends TextureRegionDrawable {
 	}
 
 	public void draw (Batch batch, float x, float y, float width, float height) {
-		Color batchColor = batch.getColor();
-		temp.set(batchColor);
-		batch.setColor(batchColor.mul(color));
-
 		TextureRegion region = getRegion();
+		Texture texture = region.getTexture();
+		float color = temp.set(batch.getColor()).mul(this.color).toFloatBits();
+		if (region != cachedRegion || texture != cachedTexture || region.getU() != cachedU || region.getV() != cachedV
+			|| region.getU2() != cachedU2 || region.getV2() != cachedV2 || x != cachedX || y != cachedY || width != cachedWidth
+			|| height != cachedHeight || color != cachedColor) computeVertices(batch, region, x, y, width, height, color);
+		if (vertexCount > 0) batch.draw(texture, vertices, 0, vertexCount);
+		if (cachedRegion == null) vertexCount = 0;
+	}
+
+	/** Computes the vertices of all the tiles, which are drawn again as long as the region, bounds and color stay the same. When
+	 * there are more than {@link #maxCachedTiles} tiles nothing is cached and all but the last chunk are drawn here. */
+	private void computeVertices (Batch batch, TextureRegion region, float x, float y, float width, float height, float color) {
 		float regionWidth = region.getRegionWidth(), regionHeight = region.getRegionHeight();
 		int fullX = (int)(width / regionWidth), fullY = (int)(height / regionHeight);
 		float remainingX = width - regionWidth * fullX, remainingY = height - regionHeight * fullY;
+		int tiles = (fullX + (remainingX > 0 ? 1 : 0)) * (fullY + (remainingY > 0 ? 1 : 0));
+		Texture texture = region.getTexture();
+		if (tiles <= maxCachedTiles) {
+			cachedRegion = region;
+			cachedTexture = texture;
+			cachedU = region.getU();
+			cachedV = region.getV();
+			cachedU2 = region.getU2();
+			cachedV2 = region.getV2();
+			cachedX = x;
+			cachedY = y;
+			cachedWidth = width;
+			cachedHeight = height;
+			cachedColor = color;
+		} else {
+			cachedRegion = null;
+			cachedTexture = null;
+			tiles = maxCachedTiles;
+		}
+		if (vertices.length < tiles * 20) vertices = new float[tiles * 20];
+		vertexCount = 0;
+
 		float startX = x, startY = y;
-		float endX = x + width - remainingX, endY = y + height - remainingY;
+		float u = region.getU(), u2 = region.getU2();
+		float v = region.getV(), v2 = region.getV2();
 		for (int i = 0; i < fullX; i++) {
 			y = startY;
 			for (int ii = 0; ii < fullY; ii++) {
-				batch.draw(region, x, y, regionWidth, regionHeight);
+				tile(batch, texture, x, y, regionWidth, regionHeight, u, v2, u2, v, color);
 				y += regionHeight;
 			}
 			x += regionWidth;
 		}
-		Texture texture = region.getTexture();
-		float u = region.getU();
-		float v2 = region.getV2();
 		if (remainingX > 0) {
 			// Right edge.
-			float u2 = u + remainingX / texture.getWidth();
-			float v = region.getV();
+			float edgeU2 = u + remainingX / texture.getWidth();
 			y = startY;
 			for (int ii = 0; ii < fullY; ii++) {
-				batch.draw(texture, x, y, remainingX, regionHeight, u, v2, u2, v);
+				tile(batch, texture, x, y, remainingX, regionHeight, u, v2, edgeU2, v, color);
 				y += regionHeight;
 			}
 			// Upper right corner.
-			if (remainingY > 0) {
-				v = v2 - remainingY / texture.getHeight();
-				batch.draw(texture, x, y, remainingX, remainingY, u, v2, u2, v);
-			}
+			if (remainingY > 0)
+				tile(batch, texture, x, y, remainingX, remainingY, u, v2, edgeU2, v2 - remainingY / texture.getHeight(), color);
 		}
 		if (remainingY > 0) {
 			// Top edge.
-			float u2 = region.getU2();
-			float v = v2 - remainingY / texture.getHeight();
+			float edgeV = v2 - remainingY / texture.getHeight();
 			x = startX;
 			for (int i = 0; i < fullX; i++) {
-				batch.draw(texture, x, y, regionWidth, remainingY, u, v2, u2, v);
+				tile(batch, texture, x, y, regionWidth, remainingY, u, v2, u2, edgeV, color);
 				x += regionWidth;
 			}
 		}
+	}
+
+	/** Adds the vertices of a tile in the layout used by
+	 * {@link Batch#draw(Texture, float, float, float, float, float, float, float, float)}. The vertices are drawn first if they
+	 * are full, which only happens when they are not cached. */
+	private void tile (Batch batch, Texture texture, float x, float y, float width, float height, float u, float v, float u2,
+		float v2, float color) {
+		float fx2 = x + width, fy2 = y + height;
+		float[] vertices = this.vertices;
+		int idx = vertexCount;
+		if (idx == vertices.length) {
+			batch.draw(texture, vertices, 0, idx);
+			idx = 0;
+		}
+		vertices[idx] = x;
+		vertices[idx + 1] = y;
+		vertices[idx + 2] = color;
+		vertices[idx + 3] = u;
+		vertices[idx + 4] = v;
+
+		vertices[idx + 5] = x;
+		vertices[idx + 6] = fy2;
+		vertices[idx + 7] = color;
+		vertices[idx + 8] = u;
+		vertices[idx + 9] = v2;
+
+		vertices[idx + 10] = fx2;
+		vertices[idx + 11] = fy2;
+		vertices[idx + 12] = color;
+		vertices[idx + 13] = u2;
+		vertices[idx + 14] = v2;
 
-		batch.setColor(temp);
+		vertices[idx + 15] = fx2;
+		vertices[idx + 16] = y;
+		vertices[idx + 17] = color;
+		vertices[idx + 18] = u2;
+		vertices[idx + 19] = v;
+		vertexCount = idx + 20;
 	}
 
 	public void draw (Batch batch, float x, float y, float originX, float originY, float width, float height, float scaleX,
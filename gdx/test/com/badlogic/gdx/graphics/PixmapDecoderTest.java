@@ -0,0 +1,162 @@
+package com.badlogic.gdx.graphics;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapDecoder.Target;
+import com.badlogic.gdx.graphics.PixmapIO.PNG;
+import com.badlogic.gdx.graphics.PixmapIO.PNG.RowFilter;
+
+public class PixmapDecoderTest {
+	static class BufferTarget extends Target {
+		int width, height;
+
+		BufferTarget (Format format) {
+			super(format);
+		}
+
+		ByteBuffer create (int width, int height) {
+			this.width = width;
+			this.height = height;
+			int bytes = format == Format.RGBA8888 ? 4 : format == Format.RGB888 ? 3 : format == Format.Alpha ? 1 : 2;
+			return buffer = ByteBuffer.allocate(width * height * bytes);
+		}
+
+		ByteBuffer buffer;
+
+		int getPixel (int x, int y) {
+			int[] row = new int[width];
+			PixmapOps.readRow(buffer, format, width, y, row);
+			return row[x];
+		}
+	}
+
+	static BufferedImage createImage (int width, int height, int type) {
+		BufferedImage image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				image.setRGB(x, y, (x * 40 + y) << 24 | (x * 17) << 16 | (y * 23) << 8 | (x * y * 5));
+		return image;
+	}
+
+	static ByteBuffer encode (BufferedImage image, boolean interlace) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setProgressiveMode(interlace ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED);
+		MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output);
+		writer.setOutput(stream);
+		writer.write(null, new IIOImage(image, null, null), param);
+		stream.close();
+		writer.dispose();
+		return ByteBuffer.wrap(output.toByteArray());
+	}
+
+	static void assertDecoded (BufferedImage image, boolean interlace, boolean alpha) throws IOException {
+		BufferTarget target = new BufferTarget(null);
+		PixmapDecoder.decodePNG(encode(image, interlace), target);
+		assertEquals(alpha ? Format.RGBA8888 : Format.RGB888, target.format);
+		assertEquals(image.getWidth(), target.width);
+		assertEquals(image.getHeight(), target.height);
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				int argb = image.getRGB(x, y);
+				if (image.getType() == BufferedImage.TYPE_BYTE_GRAY || image.getType() == BufferedImage.TYPE_USHORT_GRAY) {
+					// getRGB applies a color space conversion to gray images, the stored sample is what the PNG contains.
+					int gray = image.getRaster().getSample(x, y, 0) >>> (image.getType() == BufferedImage.TYPE_USHORT_GRAY ? 8 : 0);
+					argb = 0xff000000 | gray * 0x010101;
+				}
+				int expected = alpha ? argb << 8 | argb >>> 24 : argb << 8 | 0xff;
+				assertEquals("Pixel " + x + "," + y, expected, target.getPixel(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testColorTypes () throws IOException {
+		assertDecoded(createImage(13, 7, BufferedImage.TYPE_INT_ARGB), false, true);
+		assertDecoded(createImage(13, 7, BufferedImage.TYPE_INT_RGB), false, false);
+		assertDecoded(createImage(13, 7, BufferedImage.TYPE_BYTE_GRAY), false, false);
+		assertDecoded(createImage(13, 7, BufferedImage.TYPE_USHORT_GRAY), false, false);
+		assertDecoded(createImage(13, 7, BufferedImage.TYPE_BYTE_BINARY), false, false);
+
+		byte[] levels = {0, (byte)85, (byte)170, (byte)255};
+		IndexColorModel model = new IndexColorModel(2, 4, levels, levels, levels, new byte[] {0, (byte)255, (byte)255, (byte)255});
+		BufferedImage indexed = new BufferedImage(9, 5, BufferedImage.TYPE_BYTE_BINARY, model);
+		for (int y = 0; y < 5; y++)
+			for (int x = 0; x < 9; x++)
+				indexed.getRaster().setSample(x, y, 0, (x + y) % 4);
+		assertDecoded(indexed, false, true);
+	}
+
+	@Test
+	public void testInterlaced () throws IOException {
+		assertDecoded(createImage(13, 11, BufferedImage.TYPE_INT_ARGB), true, true);
+		assertDecoded(createImage(3, 2, BufferedImage.TYPE_BYTE_GRAY), true, false);
+	}
+
+	@Test
+	public void testFormatAndFilters () throws IOException {
+		int width = 40, height = 30;
+		ByteBuffer pixels = ByteBuffer.allocate(width * height * 4);
+		for (int i = 0; i < width * height; i++)
+			pixels.putInt(i * 4, i * 0x01030507 | 0xff);
+		PNG png = new PNG();
+		try {
+			png.setFlipY(false);
+			for (RowFilter filter : RowFilter.values()) {
+				png.setFilter(filter);
+				ByteArrayOutputStream output = new ByteArrayOutputStream();
+				png.write(output, pixels, Format.RGBA8888, width, height);
+
+				BufferTarget target = new BufferTarget(Format.RGB565);
+				PixmapDecoder.decodePNG(ByteBuffer.wrap(output.toByteArray()), target);
+				ByteBuffer expected = ByteBuffer.allocate(width * height * 2);
+				PixmapOps.convert(pixels, Format.RGBA8888, expected, Format.RGB565, width, height);
+				assertEquals(filter.toString(), expected, target.buffer);
+			}
+		} finally {
+			png.dispose();
+		}
+	}
+
+	@Test
+	public void testTGA () {
+		// 3x2 true color with alpha, RLE, bottom to top.
+		ByteBuffer data = ByteBuffer.allocate(100).order(ByteOrder.LITTLE_ENDIAN);
+		data.put((byte)0).put((byte)0).put((byte)10).putShort((short)0).putShort((short)0).put((byte)0);
+		data.putShort((short)0).putShort((short)0).putShort((short)3).putShort((short)2).put((byte)32).put((byte)8);
+		// Bottom row: 3 repeated red pixels.
+		data.put((byte)0x82).put((byte)0).put((byte)0).put((byte)255).put((byte)255);
+		// Top row: 3 raw pixels, blue, green, transparent white.
+		data.put((byte)0x02);
+		data.put((byte)255).put((byte)0).put((byte)0).put((byte)255);
+		data.put((byte)0).put((byte)255).put((byte)0).put((byte)255);
+		data.put((byte)255).put((byte)255).put((byte)255).put((byte)0);
+		data.flip();
+
+		BufferTarget target = new BufferTarget(null);
+		PixmapDecoder.decodeTGA(data, target);
+		assertEquals(Format.RGBA8888, target.format);
+		assertEquals(0x0000ffff, target.getPixel(0, 0));
+		assertEquals(0x00ff00ff, target.getPixel(1, 0));
+		assertEquals(0xffffff00, target.getPixel(2, 0));
+		for (int x = 0; x < 3; x++)
+			assertEquals(0xff0000ff, target.getPixel(x, 1));
+	}
+}
@@ -0,0 +1,125 @@
+package com.badlogic.gdx.graphics;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.Adler32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapIO.PNG;
+import com.badlogic.gdx.graphics.PixmapIO.PNG.RowFilter;
+
+public class PixmapIOTest {
+	static ByteBuffer createImage (int width, int height) {
+		ByteBuffer pixels = ByteBuffer.allocate(width * height * 4);
+		int seed = 1;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				seed = seed * 1103515245 + 12345;
+				int noise = (seed >>> 16) & 0xf;
+				pixels.putInt((y * width + x) * 4, (x & 0xff) << 24 | (y & 0xff) << 16 | ((x + y + noise) & 0xff) << 8 | 0xff - noise);
+			}
+		}
+		return pixels;
+	}
+
+	static BufferedImage encodeAndDecode (PNG png, ByteBuffer pixels, Format format, int width, int height) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		png.write(output, pixels, format, width, height);
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(output.toByteArray()));
+		assertNotNull(image);
+		assertEquals(width, image.getWidth());
+		assertEquals(height, image.getHeight());
+		return image;
+	}
+
+	static void assertPixels (ByteBuffer pixels, int width, int height, boolean flipY, BufferedImage image) {
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int rgba = pixels.getInt(((flipY ? height - y - 1 : y) * width + x) * 4);
+				int argb = image.getRGB(x, y);
+				assertEquals("Pixel " + x + "," + y, rgba, argb << 8 | argb >>> 24);
+			}
+		}
+	}
+
+	@Test
+	public void testFilters () throws IOException {
+		int width = 61, height = 37;
+		ByteBuffer pixels = createImage(width, height);
+		PNG png = new PNG();
+		try {
+			png.setFlipY(false);
+			for (RowFilter filter : RowFilter.values()) {
+				png.setFilter(filter);
+				assertPixels(pixels, width, height, false, encodeAndDecode(png, pixels, Format.RGBA8888, width, height));
+			}
+		} finally {
+			png.dispose();
+		}
+	}
+
+	@Test
+	public void testThreads () throws IOException {
+		// Large enough to be split into 4 bands.
+		int width = 512, height = 600;
+		ByteBuffer pixels = createImage(width, height);
+		PNG png = new PNG();
+		try {
+			png.setThreads(4);
+			png.setFilter(RowFilter.Adaptive);
+			assertPixels(pixels, width, height, true, encodeAndDecode(png, pixels, Format.RGBA8888, width, height));
+
+			png.setFlipY(false);
+			png.setFilter(RowFilter.Sub);
+			png.setCompression(1);
+			png.setStrategy(java.util.zip.Deflater.HUFFMAN_ONLY);
+			assertPixels(pixels, width, height, false, encodeAndDecode(png, pixels, Format.RGBA8888, width, height));
+
+			png.setFilter(RowFilter.None);
+			png.setCompression(java.util.zip.Deflater.NO_COMPRESSION);
+			png.setStrategy(java.util.zip.Deflater.DEFAULT_STRATEGY);
+			assertPixels(pixels, width, height, false, encodeAndDecode(png, pixels, Format.RGBA8888, width, height));
+		} finally {
+			png.dispose();
+		}
+	}
+
+	@Test
+	public void testOtherFormats () throws IOException {
+		int width = 20, height = 10;
+		ByteBuffer rgba = createImage(width, height);
+		ByteBuffer rgb = ByteBuffer.allocate(width * height * 3);
+		PixmapOps.convert(rgba, Format.RGBA8888, rgb, Format.RGB888, width, height);
+		ByteBuffer expected = ByteBuffer.allocate(width * height * 4);
+		PixmapOps.convert(rgb, Format.RGB888, expected, Format.RGBA8888, width, height);
+
+		PNG png = new PNG();
+		try {
+			png.setFlipY(false);
+			assertPixels(expected, width, height, false, encodeAndDecode(png, rgb, Format.RGB888, width, height));
+		} finally {
+			png.dispose();
+		}
+	}
+
+	@Test
+	public void testAdler32Combine () {
+		byte[] data = new byte[1000];
+		for (int i = 0; i < data.length; i++)
+			data[i] = (byte)(i * 31 + 7);
+		Adler32 all = new Adler32(), first = new Adler32(), second = new Adler32();
+		all.update(data, 0, data.length);
+		first.update(data, 0, 300);
+		second.update(data, 300, 700);
+		assertEquals(all.getValue(), PNG.adler32Combine(first.getValue(), second.getValue(), 700));
+	}
+}
@@ -0,0 +1,139 @@
+package com.badlogic.gdx.graphics;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapOps.ResizeFilter;
+
+public class PixmapOpsTest {
+	@After
+	public void resetThreads () {
+		PixmapOps.setThreads(Runtime.getRuntime().availableProcessors());
+	}
+
+	static ByteBuffer rgba (int width, int height, int color) {
+		ByteBuffer pixels = ByteBuffer.allocate(width * height * 4);
+		for (int i = 0; i < width * height; i++)
+			pixels.putInt(i * 4, color);
+		return pixels;
+	}
+
+	@Test
+	public void testConvert () {
+		ByteBuffer source = rgba(3, 2, 0xff8000ff);
+		source.putInt(4, 0x00ff0080);
+		for (Format format : new Format[] {Format.RGB565, Format.RGBA4444, Format.RGB888, Format.LuminanceAlpha, Format.Alpha}) {
+			ByteBuffer converted = ByteBuffer.allocate(3 * 2 * 4);
+			PixmapOps.convert(source, Format.RGBA8888, converted, format, 3, 2);
+			ByteBuffer back = ByteBuffer.allocate(3 * 2 * 4);
+			PixmapOps.convert(converted, format, back, Format.RGBA8888, 3, 2);
+			int c = back.getInt(0);
+			if (format == Format.RGB565 || format == Format.RGB888) assertEquals(format.toString(), 0xff8000ff, c & 0xfff0f0ff);
+			if (format == Format.RGBA4444) assertEquals(0x00ff0088, back.getInt(4));
+			if (format == Format.LuminanceAlpha) assertEquals(0x80, back.getInt(4) & 0xff);
+			if (format == Format.Alpha) assertEquals(0xffffffff, c);
+		}
+	}
+
+	@Test
+	public void testPremultiply () {
+		ByteBuffer pixels = rgba(2, 1, 0xff804080);
+		PixmapOps.premultiplyAlpha(pixels, Format.RGBA8888, 2, 1);
+		assertEquals(0x80402080, pixels.getInt(0));
+		PixmapOps.unpremultiplyAlpha(pixels, Format.RGBA8888, 2, 1);
+		assertEquals(0xff804080, pixels.getInt(4));
+	}
+
+	@Test
+	public void testColorMatrix () {
+		ByteBuffer pixels = rgba(1, 1, 0x204060ff);
+		// Swap red and blue, halve alpha.
+		PixmapOps.colorMatrix(pixels, Format.RGBA8888, 1, 1, new float[] {0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0,
+			0.5f, 0});
+		assertEquals(0x60402080, pixels.getInt(0));
+	}
+
+	@Test
+	public void testBoxBlur () {
+		ByteBuffer pixels = rgba(5, 5, 0x000000ff);
+		pixels.putInt((2 * 5 + 2) * 4, 0xff0000ff);
+		PixmapOps.blur(pixels, Format.RGBA8888, 5, 5, new int[] {1});
+		assertEquals(0x1c0000ff, pixels.getInt((1 * 5 + 1) * 4));
+		assertEquals(0x1c0000ff, pixels.getInt((2 * 5 + 2) * 4));
+		assertEquals(0x1c0000ff, pixels.getInt((3 * 5 + 2) * 4));
+		assertEquals(0x000000ff, pixels.getInt(0));
+		assertEquals(0x000000ff, pixels.getInt((4 * 5 + 4) * 4));
+	}
+
+	@Test
+	public void testBlurIgnoresTransparentColor () {
+		ByteBuffer pixels = rgba(4, 1, 0x00ff0000);
+		pixels.putInt(0, 0xff0000ff);
+		PixmapOps.blur(pixels, Format.RGBA8888, 4, 1, PixmapOps.gaussianBoxRadii(1, 3));
+		assertEquals(0xff000000, pixels.getInt(4) & 0xffffff00);
+	}
+
+	@Test
+	public void testResize () {
+		// Left half red, right half blue.
+		ByteBuffer source = rgba(4, 4, 0xff0000ff);
+		for (int y = 0; y < 4; y++)
+			for (int x = 2; x < 4; x++)
+				source.putInt((y * 4 + x) * 4, 0x0000ffff);
+		ByteBuffer target = ByteBuffer.allocate(2 * 2 * 4);
+		PixmapOps.resize(source, Format.RGBA8888, 4, 4, target, 2, 2, ResizeFilter.Bilinear);
+		assertEquals(target.getInt(0), target.getInt(2 * 4));
+		assertEquals(0xdb0024ff, target.getInt(0));
+		assertEquals(0x2400dbff, target.getInt(4));
+
+		ByteBuffer smaller = ByteBuffer.allocate(3 * 2 * 4);
+		PixmapOps.resize(rgba(10, 7, 0x336699ff), Format.RGBA8888, 10, 7, smaller, 3, 2, ResizeFilter.Lanczos3);
+		for (int i = 0; i < 3 * 2; i++)
+			assertEquals(0x336699ff, smaller.getInt(i * 4));
+
+		ByteBuffer larger = ByteBuffer.allocate(7 * 9 * 4);
+		PixmapOps.resize(rgba(3, 3, 0x336699ff), Format.RGBA8888, 3, 3, larger, 7, 9, ResizeFilter.Lanczos3);
+		for (int i = 0; i < 7 * 9; i++)
+			assertEquals(0x336699ff, larger.getInt(i * 4));
+	}
+
+	@Test
+	public void testBleedAlpha () {
+		ByteBuffer pixels = rgba(4, 1, 0x00000000);
+		pixels.putInt(0, 0xff0000ff);
+		PixmapOps.bleedAlpha(pixels, Format.RGBA8888, 4, 1, 1);
+		assertEquals(0xff000000, pixels.getInt(4));
+		assertEquals(0, pixels.getInt(8));
+		PixmapOps.bleedAlpha(pixels, Format.RGBA8888, 4, 1, -1);
+		assertEquals(0xff000000, pixels.getInt(12));
+	}
+
+	@Test
+	public void testParallelMatchesSingleThread () {
+		int width = 300, height = 400;
+		ByteBuffer source = ByteBuffer.allocate(width * height * 4);
+		for (int i = 0; i < width * height; i++)
+			source.putInt(i * 4, i * 0x9e3779b1 | 0x10);
+		ByteBuffer single = ByteBuffer.allocate(source.capacity()), parallel = ByteBuffer.allocate(source.capacity());
+		single.put(source.duplicate()).clear();
+		parallel.put(source.duplicate()).clear();
+
+		PixmapOps.setThreads(1);
+		PixmapOps.blur(single, Format.RGBA8888, width, height, PixmapOps.gaussianBoxRadii(3, 3));
+		PixmapOps.setThreads(4);
+		PixmapOps.blur(parallel, Format.RGBA8888, width, height, PixmapOps.gaussianBoxRadii(3, 3));
+		assertEquals(single, parallel);
+
+		ByteBuffer singleResized = ByteBuffer.allocate(97 * 131 * 4), parallelResized = ByteBuffer.allocate(97 * 131 * 4);
+		PixmapOps.setThreads(1);
+		PixmapOps.resize(source, Format.RGBA8888, width, height, singleResized, 97, 131, ResizeFilter.Lanczos3);
+		PixmapOps.setThreads(4);
+		PixmapOps.resize(source, Format.RGBA8888, width, height, parallelResized, 97, 131, ResizeFilter.Lanczos3);
+		assertEquals(singleResized, parallelResized);
+	}
+}
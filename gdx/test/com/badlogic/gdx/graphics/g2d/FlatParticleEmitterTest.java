@@ -0,0 +1,181 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class FlatParticleEmitterTest {
+	/** Returns an emitter using most of the values, with a sprite that doesn't need a texture. */
+	static ParticleEmitter createEmitter () {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(300);
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(400);
+		emitter.getLife().setHigh(300, 900);
+		emitter.getLife().setTimeline(new float[] {0, 1});
+		emitter.getLife().setScaling(new float[] {1, 0.5f});
+		emitter.getXScale().setHigh(8, 24);
+		emitter.getXScale().setTimeline(new float[] {0, 1});
+		emitter.getXScale().setScaling(new float[] {1, 0.25f});
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(40, 120);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		emitter.getAngle().setTimeline(new float[] {0, 1});
+		emitter.getAngle().setScaling(new float[] {0, 1});
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(-90, 90);
+		emitter.getRotation().setTimeline(new float[] {0, 1});
+		emitter.getRotation().setScaling(new float[] {0, 1});
+		emitter.getGravity().setActive(true);
+		emitter.getGravity().setHigh(-50);
+		emitter.getWind().setActive(true);
+		emitter.getWind().setHigh(10, 20);
+		emitter.getTransparency().setHigh(1);
+		emitter.getTransparency().setTimeline(new float[] {0, 0.5f, 1});
+		emitter.getTransparency().setScaling(new float[] {0, 1, 0});
+		emitter.getTint().setTimeline(new float[] {0, 0.5f});
+		emitter.getTint().setColors(new float[] {1, 0.5f, 0.25f, 0.25f, 0.5f, 1});
+		emitter.getSpawnShape().setShape(SpawnShape.square);
+		emitter.getSpawnWidth().setHigh(100);
+		emitter.getSpawnHeight().setHigh(50);
+		emitter.setAligned(true);
+		emitter.setAdditive(false);
+		Sprite sprite = new Sprite();
+		sprite.setSize(16, 8);
+		sprite.setOriginCenter();
+		emitter.setSprites(Array.with(sprite));
+		return emitter;
+	}
+
+	/** Runs the emitter for a number of frames with a fixed seed and returns the quads it draws, sorted by position. */
+	static ArrayList<float[]> run (ParticleEmitter emitter, int frames) {
+		MathUtils.random.setSeed(42);
+		emitter.setPosition(100, 50);
+		emitter.start();
+		for (int i = 0; i < frames; i++)
+			emitter.update(1 / 60f);
+		return draw(emitter);
+	}
+
+	static ArrayList<float[]> draw (ParticleEmitter emitter) {
+		final ArrayList<float[]> quads = new ArrayList<float[]>();
+		Batch batch = (Batch)Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class[] {Batch.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("draw") && args.length == 4 && args[1] instanceof float[]) {
+						float[] vertices = (float[])args[1];
+						int offset = (Integer)args[2], count = (Integer)args[3];
+						for (int i = offset; i < offset + count; i += 20) {
+							float[] quad = new float[20];
+							System.arraycopy(vertices, i, quad, 0, 20);
+							quads.add(quad);
+						}
+					}
+					return null;
+				}
+			});
+		emitter.draw(batch);
+		Collections.sort(quads, new Comparator<float[]>() {
+			public int compare (float[] a, float[] b) {
+				int result = Float.compare(a[0], b[0]);
+				return result != 0 ? result : Float.compare(a[1], b[1]);
+			}
+		});
+		return quads;
+	}
+
+	static void assertQuadsEqual (ArrayList<float[]> expected, ArrayList<float[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0, n = expected.size(); i < n; i++) {
+			float[] e = expected.get(i), a = actual.get(i);
+			for (int v = 0; v < 20; v += 5) {
+				assertEquals(e[v], a[v], 0.01f);
+				assertEquals(e[v + 1], a[v + 1], 0.01f);
+				assertEquals(e[v + 2], a[v + 2], 0);
+			}
+		}
+	}
+
+	@Test
+	public void matchesSpriteEmitter () {
+		ParticleEmitter config = createEmitter();
+		ArrayList<float[]> expected = run(new ParticleEmitter(config), 90);
+		FlatParticleEmitter emitter = new FlatParticleEmitter(config);
+		ArrayList<float[]> actual = run(emitter, 90);
+		assertTrue(expected.size() > 100);
+		assertQuadsEqual(expected, actual);
+
+		float minX = Float.MAX_VALUE;
+		for (int i = 0; i < emitter.getActiveCount(); i++)
+			minX = Math.min(minX, emitter.getParticleX(i));
+		assertTrue(emitter.getBoundingBox().min.x < minX);
+
+		// Not aligned with an animated angle, without rotation and with a rotation that doesn't change over time.
+		config.setAligned(false);
+		config.getRotation().setActive(false);
+		assertQuadsEqual(run(new ParticleEmitter(config), 90), run(new FlatParticleEmitter(config), 90));
+		config.getRotation().setActive(true);
+		config.getRotation().setTimeline(new float[] {0});
+		config.getRotation().setScaling(new float[] {1});
+		assertQuadsEqual(run(new ParticleEmitter(config), 90), run(new FlatParticleEmitter(config), 90));
+	}
+
+	@Test
+	public void attachedFollowsPosition () {
+		ParticleEmitter config = createEmitter();
+		config.setAttached(true);
+		config.getVelocity().setActive(false);
+		FlatParticleEmitter emitter = new FlatParticleEmitter(config);
+		run(emitter, 10);
+		float x = emitter.getParticleX(0);
+		emitter.setPosition(300, 50);
+		assertEquals(x + 200, emitter.getParticleX(0), 0.001f);
+	}
+
+	@Test
+	public void parallelUpdateMatchesSerial () {
+		ParticleEffect serial = createEffect(null), parallel = createEffect(new AsyncExecutor(3));
+		try {
+			for (int i = 0; i < 60; i++) {
+				MathUtils.random.setSeed(i);
+				serial.update(1 / 60f);
+				MathUtils.random.setSeed(i);
+				parallel.update(1 / 60f);
+			}
+			assertTrue(new ParticleEffect(parallel).getEmitters().first() instanceof FlatParticleEmitter);
+			for (int i = 0; i < 4; i++) {
+				ParticleEmitter expected = serial.getEmitters().get(i), actual = parallel.getEmitters().get(i);
+				assertTrue(expected.getActiveCount() > 0);
+				assertQuadsEqual(draw(expected), draw(actual));
+			}
+		} finally {
+			((FlatParticleEffect)parallel).getExecutor().dispose();
+		}
+	}
+
+	static ParticleEffect createEffect (AsyncExecutor executor) {
+		MathUtils.random.setSeed(42);
+		FlatParticleEffect effect = new FlatParticleEffect();
+		effect.setExecutor(executor);
+		ParticleEmitter config = createEmitter();
+		for (int i = 0; i < 4; i++)
+			effect.getEmitters().add(new FlatParticleEmitter(config));
+		effect.setPosition(100, 50);
+		effect.start();
+		return effect;
+	}
+}
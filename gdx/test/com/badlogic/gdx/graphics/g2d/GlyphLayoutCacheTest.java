@@ -0,0 +1,57 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Align;
+
+public class GlyphLayoutCacheTest {
+	@Test
+	public void testReuse () {
+		BitmapFont font = GlyphLayoutTest.createFont();
+		GlyphLayoutCache cache = new GlyphLayoutCache(2);
+		BitmapFontCache first = cache.get(font, new StringBuilder("Hello"), Color.WHITE, 0, Align.left, false);
+		assertSame(first, cache.get(font, "Hello", Color.WHITE, 0, Align.left, false));
+		assertEquals(1, cache.hits);
+		assertEquals(1, cache.misses);
+		assertEquals(40, first.getLayouts().first().width, 0);
+
+		cache.get(font, "Hello", Color.RED, 0, Align.left, false);
+		cache.get(font, "World", Color.WHITE, 0, Align.left, false);
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.misses);
+	}
+
+	@Test
+	public void testFontScale () {
+		BitmapFont font = GlyphLayoutTest.createFont();
+		GlyphLayoutCache cache = new GlyphLayoutCache(4);
+		assertEquals(40, cache.get(font, "Hello", Color.WHITE, 0, Align.left, false).getLayouts().first().width, 0);
+		font.getData().setScale(2);
+		GlyphLayout layout = cache.get(font, "Hello", Color.WHITE, 0, Align.left, false).getLayouts().first();
+		assertEquals(80, layout.width, 0);
+		assertEquals(20, layout.height, 0);
+		font.getData().setScale(2, 1);
+		assertEquals(10, cache.get(font, "Hello", Color.WHITE, 0, Align.left, false).getLayouts().first().height, 0);
+		assertEquals(3, cache.misses);
+		font.getData().setScale(1);
+		assertEquals(40, cache.get(font, "Hello", Color.WHITE, 0, Align.left, false).getLayouts().first().width, 0);
+		assertEquals(1, cache.hits);
+	}
+
+	@Test
+	public void testMarkupEnabled () {
+		BitmapFont font = GlyphLayoutTest.createFont();
+		GlyphLayoutCache cache = new GlyphLayoutCache(4);
+		GlyphLayout layout = cache.get(font, "a[RED]b", Color.WHITE, 0, Align.left, false).getLayouts().first();
+		assertEquals(16, layout.width, 0);
+		assertEquals(Color.RED, layout.runs.get(1).color);
+		font.getData().markupEnabled = false;
+		layout = cache.get(font, "a[RED]b", Color.WHITE, 0, Align.left, false).getLayouts().first();
+		assertEquals(56, layout.width, 0);
+		assertEquals(1, layout.runs.size);
+		assertEquals(0, cache.hits);
+	}
+}
@@ -0,0 +1,116 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Colors;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap.Entry;
+
+public class GlyphLayoutTest {
+	static final String PARAGRAPH = "The [RED]quick brown[] fox jumps over the [#00ff00]lazy[] dog. ";
+
+	/** Returns a font with 8 pixel wide glyphs for printable ASCII characters, which doesn't need textures. */
+	static BitmapFont createFont () {
+		BitmapFontData data = new BitmapFontData();
+		for (int ch = 32; ch < 127; ch++) {
+			Glyph glyph = new Glyph();
+			glyph.id = ch;
+			glyph.width = 8;
+			glyph.height = 10;
+			glyph.xadvance = 8;
+			data.setGlyph(ch, glyph);
+		}
+		data.spaceXadvance = 8;
+		data.down = -12;
+		data.capHeight = 10;
+		data.markupEnabled = true;
+		return new BitmapFont(data, Array.with(new TextureRegion()), false) {
+			protected void load (BitmapFontData data) {
+			}
+		};
+	}
+
+	@Test
+	public void testSingleLine () {
+		GlyphLayout layout = new GlyphLayout(createFont(), "Hello");
+		assertEquals(1, layout.runs.size);
+		assertEquals(5, layout.runs.first().glyphs.size);
+		assertEquals(40, layout.width, 0);
+		assertEquals(10, layout.height, 0);
+	}
+
+	@Test
+	public void testMarkup () {
+		GlyphLayout layout = new GlyphLayout(createFont(), "a[RED]b[#0000ff]c[]d[]e[[f");
+		Array<GlyphRun> runs = layout.runs;
+		assertEquals(5, runs.size);
+		assertEquals(Color.WHITE, runs.get(0).color);
+		assertEquals(Color.RED, runs.get(1).color);
+		assertEquals(Color.BLUE, runs.get(2).color);
+		assertEquals(Color.RED, runs.get(3).color);
+		assertEquals(Color.WHITE, runs.get(4).color);
+		assertEquals("e[f", runs.get(4).toString().substring(0, 3));
+		assertEquals(7 * 8, layout.width, 0);
+	}
+
+	@Test
+	public void testNamedColors () {
+		BitmapFont font = createFont();
+		GlyphLayout layout = new GlyphLayout();
+		// Looking up names must not use the iterator of Colors.
+		for (Entry<String, Color> entry : Colors.getColors()) {
+			layout.setText(font, "[" + entry.key + "]a");
+			assertEquals(entry.value, layout.runs.first().color);
+		}
+		layout.setText(font, "[RE]a[REDD]b");
+		assertEquals("[RE]a[REDD]b", layout.runs.first().toString().substring(0, 12));
+	}
+
+	@Test
+	public void testWrap () {
+		BitmapFont font = createFont();
+		GlyphLayout layout = new GlyphLayout(font, "aaaa bbbb cccc", Color.WHITE, 80, Align.left, true);
+		assertEquals(2, layout.runs.size);
+		assertEquals(0, layout.runs.get(1).x, 0);
+		assertEquals(-12, layout.runs.get(1).y, 0);
+		assertEquals(72, layout.width, 0);
+		assertEquals(22, layout.height, 0);
+	}
+
+	@Test
+	public void testSetTextDoesNotAllocate () {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) return;
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)bean;
+		if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) return;
+
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < 50; i++)
+			buffer.append(PARAGRAPH);
+		String text = buffer.toString();
+		BitmapFont font = createFont();
+		GlyphLayout layout = new GlyphLayout();
+
+		// Fill the pools and grow the arrays.
+		for (int i = 0; i < 10; i++)
+			layout.setText(font, text, Color.WHITE, 300, Align.left, true);
+		assertTrue(layout.runs.size > 100);
+
+		long threadId = Thread.currentThread().getId();
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 100; i++)
+			layout.setText(font, text, Color.WHITE, 300, Align.left, true);
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+		// Allow for a few bytes allocated when the JIT recompiles, a single object per call would exceed this.
+		assertTrue("Bytes allocated by setText: " + allocated, allocated < 100 * 16);
+	}
+}
@@ -0,0 +1,146 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+public class ParticleSorterTest {
+	static final int CAPACITY = 3000;
+
+	final Random random = new Random(7);
+	final Array<ParticleControllerRenderData> renderData = new Array<ParticleControllerRenderData>();
+	final PerspectiveCamera camera = new PerspectiveCamera();
+
+	@Test
+	public void incrementalSortsLikeDistance () {
+		ParticleSorter.Incremental sorter = new ParticleSorter.Incremental();
+		ParticleSorter.Distance distance = new ParticleSorter.Distance();
+		setUp(sorter);
+		setUp(distance);
+		for (int frame = 0; frame < 40; frame++) {
+			if (frame % 10 == 0)
+				randomize(100);
+			else
+				jitter(0.05f);
+			if (frame % 3 == 0) resize();
+			if (frame == 25) look(0.6f, 0, -0.8f);
+			assertSorted(sorter.sort(renderData), 0);
+			assertSorted(distance.sort(renderData), 0);
+		}
+	}
+
+	@Test
+	public void incrementalFollowsResizedControllers () {
+		ParticleSorter.Incremental sorter = new ParticleSorter.Incremental();
+		setUp(sorter);
+		assertSorted(sorter.sort(renderData), 0);
+		// The particles of the later controllers move to lower indices, but stay sorted.
+		renderData.get(0).controller.particles.size = 300;
+		jitter(0.01f);
+		assertSorted(sorter.sort(renderData), 0);
+		renderData.get(0).controller.particles.size = 400;
+		renderData.get(1).controller.particles.size = 450;
+		jitter(0.01f);
+		assertSorted(sorter.sort(renderData), 0);
+		assertEquals(0, sorter.fullSorts);
+	}
+
+	@Test
+	public void bucketsSortApproximately () {
+		ParticleSorter.Incremental sorter = new ParticleSorter.Incremental(16);
+		setUp(sorter);
+		for (int frame = 0; frame < 20; frame++) {
+			if (frame % 5 == 0)
+				randomize(100);
+			else
+				jitter(0.05f);
+			if (frame % 3 == 0) resize();
+			assertSorted(sorter.sort(renderData), 16);
+		}
+	}
+
+	private void setUp (ParticleSorter sorter) {
+		sorter.setCamera(camera);
+		sorter.ensureCapacity(CAPACITY);
+		if (renderData.size > 0) return;
+		for (int i = 0; i < 3; i++) {
+			ParticleControllerRenderData data = new ParticleControllerRenderData() {};
+			data.controller = new ParticleController();
+			data.controller.particles = new ParallelArray(CAPACITY / 3);
+			data.positionChannel = data.controller.particles.addChannel(ParticleChannels.Position);
+			data.controller.particles.size = 500;
+			renderData.add(data);
+		}
+		look(0, 0, 1);
+		randomize(100);
+	}
+
+	private void look (float x, float y, float z) {
+		float[] val = camera.view.val;
+		val[Matrix4.M20] = x;
+		val[Matrix4.M21] = y;
+		val[Matrix4.M22] = z;
+	}
+
+	private void randomize (float range) {
+		for (ParticleControllerRenderData data : renderData) {
+			FloatChannel positions = data.positionChannel;
+			for (int i = 0, n = positions.data.length; i < n; i++)
+				positions.data[i] = (random.nextFloat() - 0.5f) * range;
+		}
+	}
+
+	private void jitter (float amount) {
+		for (ParticleControllerRenderData data : renderData) {
+			FloatChannel positions = data.positionChannel;
+			for (int i = 0, n = positions.data.length; i < n; i++)
+				positions.data[i] += (random.nextFloat() - 0.5f) * amount;
+		}
+	}
+
+	private void resize () {
+		for (ParticleControllerRenderData data : renderData)
+			data.controller.particles.size = random.nextInt(data.controller.particles.capacity + 1);
+	}
+
+	/** Checks that the offsets are a permutation placing the particles from far to near, or only their buckets if not 0. */
+	private void assertSorted (int[] offsets, int buckets) {
+		float[] val = camera.view.val;
+		int count = 0;
+		for (ParticleControllerRenderData data : renderData)
+			count += data.controller.particles.size;
+		float[] sorted = new float[count];
+		boolean[] used = new boolean[count];
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		int i = 0;
+		for (ParticleControllerRenderData data : renderData) {
+			float[] positions = data.positionChannel.data;
+			for (int p = 0; p < data.controller.particles.size; p++, i++) {
+				float distance = val[Matrix4.M20] * positions[p * 3] + val[Matrix4.M21] * positions[p * 3 + 1]
+					+ val[Matrix4.M22] * positions[p * 3 + 2];
+				assertFalse(used[offsets[i]]);
+				used[offsets[i]] = true;
+				sorted[offsets[i]] = distance;
+				min = Math.min(min, distance);
+				max = Math.max(max, distance);
+			}
+		}
+		for (i = 1; i < count; i++) {
+			if (buckets == 0)
+				assertTrue(sorted[i - 1] <= sorted[i]);
+			else {
+				float scale = buckets / (max - min);
+				int previous = Math.min((int)((sorted[i - 1] - min) * scale), buckets - 1);
+				assertTrue(previous <= Math.min((int)((sorted[i] - min) * scale), buckets - 1));
+			}
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.particles.batches.BufferedParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.emitters.Emitter;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.Influencer;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ParticleSystemTest {
+	@Test
+	public void parallelUpdateRunsEachController () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			ParticleSystem system = new ParticleSystem();
+			system.setExecutor(executor, 3);
+			Array<CountingEmitter> emitters = addEffects(system);
+			for (int i = 0; i < 5; i++)
+				system.update(0.1f);
+			for (CountingEmitter emitter : emitters) {
+				assertEquals(5, emitter.updates);
+				assertEquals(0.1f, emitter.deltaTime, 0);
+				assertEquals(5, ((CountingInfluencer)emitter.controller.influencers.first()).updates);
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void parallelUpdateEmitsOnCallingThread () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			ParticleSystem serial = new ParticleSystem(), parallel = new ParticleSystem();
+			parallel.setExecutor(executor, 3);
+			Array<CountingEmitter> serialEmitters = addEffects(serial), parallelEmitters = addEffects(parallel);
+			for (int i = 0; i < 5; i++) {
+				MathUtils.random.setSeed(i);
+				serial.update(0.1f);
+				MathUtils.random.setSeed(i);
+				parallel.update(0.1f);
+			}
+			for (int i = 0; i < parallelEmitters.size; i++) {
+				CountingEmitter emitter = parallelEmitters.get(i);
+				assertSame(Thread.currentThread(), emitter.thread);
+				assertEquals(serialEmitters.get(i).random, emitter.random, 0);
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	static Array<CountingEmitter> addEffects (ParticleSystem system) {
+		Array<CountingEmitter> emitters = new Array<CountingEmitter>();
+		for (int i = 0; i < 10; i++) {
+			ParticleEffect effect = new ParticleEffect();
+			for (int c = 0; c < 1 + i % 3; c++) {
+				CountingEmitter emitter = new CountingEmitter();
+				CountingInfluencer influencer = new CountingInfluencer();
+				ParticleController controller = new ParticleController();
+				controller.emitter = emitter;
+				controller.influencers.add(influencer);
+				emitter.set(controller);
+				influencer.set(controller);
+				emitters.add(emitter);
+				effect.getControllers().add(controller);
+			}
+			system.add(effect);
+		}
+		return emitters;
+	}
+
+	@Test
+	public void fillVerticesCoversEachParticleOnce () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			RangeBatch batch = new RangeBatch();
+			batch.setSorter(new ParticleSorter.None());
+			batch.setExecutor(executor, 3);
+			int[][] sizes = {{5}, {1, 1}, {100, 1, 1, 1, 1}, {1, 1, 1, 1, 100}, {3, 7, 2, 9, 4, 6, 1, 8}};
+			for (int[] counts : sizes) {
+				batch.begin();
+				int total = 0;
+				for (int count : counts) {
+					batch.draw(renderData(count));
+					total += count;
+				}
+				batch.end();
+				assertEquals(Math.min(4, counts.length), batch.ranges);
+				for (int i = 0; i < total; i++)
+					assertEquals(1, batch.filled[i]);
+			}
+
+			// A batch that doesn't fill by range ignores the executor.
+			batch.fillRanges = false;
+			batch.begin();
+			batch.draw(renderData(5));
+			batch.draw(renderData(5));
+			batch.end();
+			assertEquals(1, batch.ranges);
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	static ParticleControllerRenderData renderData (int particles) {
+		ParticleControllerRenderData data = new ParticleControllerRenderData() {};
+		data.controller = new ParticleController();
+		data.controller.particles = new ParallelArray(particles);
+		data.controller.particles.size = particles;
+		return data;
+	}
+
+	static class CountingEmitter extends Emitter {
+		int updates;
+		float deltaTime, random;
+		Thread thread;
+
+		public void update () {
+			updates++;
+			deltaTime = controller.deltaTime;
+			random += MathUtils.random();
+			thread = Thread.currentThread();
+		}
+
+		public ParticleControllerComponent copy () {
+			return new CountingEmitter();
+		}
+	}
+
+	static class CountingInfluencer extends Influencer {
+		int updates;
+
+		public void update () {
+			updates++;
+		}
+
+		public ParticleControllerComponent copy () {
+			return new CountingInfluencer();
+		}
+	}
+
+	/** Records how many times each particle was filled and the ranges the render data was split into. */
+	static class RangeBatch extends BufferedParticleBatch<ParticleControllerRenderData> {
+		int[] filled;
+		int ranges;
+		boolean fillRanges = true;
+
+		RangeBatch () {
+			super(ParticleControllerRenderData.class);
+		}
+
+		protected void allocParticlesData (int capacity) {
+		}
+
+		protected void flush (int[] offsets) {
+			filled = new int[bufferedParticlesCount];
+			ranges = getFillRanges();
+			if (fillRanges) fillVertices(offsets);
+		}
+
+		protected boolean canFillRanges () {
+			return fillRanges;
+		}
+
+		protected void fillVertices (int[] offsets, int start, int end, int firstParticle, int range) {
+			assertTrue(start < end);
+			int tp = firstParticle;
+			for (int d = 0; d < start; d++)
+				firstParticle -= renderData.items[d].controller.particles.size;
+			assertEquals(0, firstParticle);
+			for (int d = start; d < end; d++)
+				for (int p = 0; p < renderData.items[d].controller.particles.size; p++)
+					filled[offsets[tp++]]++;
+		}
+
+		public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		}
+
+		public void save (AssetManager manager, ResourceData assetDependencyData) {
+		}
+
+		public void load (AssetManager manager, ResourceData assetDependencyData) {
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+
+public class CompressedTextureDataTest {
+	static final byte[] KTX2_IDENTIFIER = {(byte)0xAB, 0x4B, 0x54, 0x58, 0x20, 0x32, 0x30, (byte)0xBB, 0x0D, 0x0A, 0x1A, 0x0A};
+
+	/** Creates a KTX2 file with levels stored smallest first, as the specification recommends, filled with the level index. */
+	static ByteBuffer ktx2 (int vkFormat, int width, int height, int faces, int[] levelSizes, boolean zlib) {
+		int levels = levelSizes.length;
+		byte[][] levelData = new byte[levels][];
+		for (int level = 0; level < levels; level++) {
+			byte[] bytes = new byte[levelSizes[level] * faces];
+			for (int i = 0; i < bytes.length; i++)
+				bytes[i] = (byte)(level * 16 + i / levelSizes[level]);
+			if (zlib) {
+				Deflater deflater = new Deflater();
+				deflater.setInput(bytes);
+				deflater.finish();
+				byte[] compressed = new byte[bytes.length + 64];
+				int length = deflater.deflate(compressed);
+				deflater.end();
+				byte[] trimmed = new byte[length];
+				System.arraycopy(compressed, 0, trimmed, 0, length);
+				levelData[level] = trimmed;
+			} else
+				levelData[level] = bytes;
+		}
+		int headerSize = 80 + levels * 24, total = headerSize;
+		for (byte[] bytes : levelData)
+			total += bytes.length;
+		ByteBuffer buffer = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(KTX2_IDENTIFIER);
+		buffer.putInt(vkFormat).putInt(1).putInt(width).putInt(height).putInt(0).putInt(0).putInt(faces).putInt(levels);
+		buffer.putInt(zlib ? 3 : 0);
+		int offset = total;
+		for (int level = 0; level < levels; level++) {
+			offset -= levelData[level].length;
+			buffer.putLong(80 + level * 24, offset);
+			buffer.putLong(88 + level * 24, levelData[level].length);
+			buffer.putLong(96 + level * 24, levelSizes[level] * faces);
+			buffer.position(offset);
+			buffer.put(levelData[level]);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	static ByteBuffer dds (int fourCC, int width, int height, int levels, int dataSize) {
+		ByteBuffer buffer = ByteBuffer.allocate(128 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(0, 0x20534444);
+		buffer.putInt(4, 124);
+		buffer.putInt(8, 0x1007 | 0x20000);
+		buffer.putInt(12, height);
+		buffer.putInt(16, width);
+		buffer.putInt(28, levels);
+		buffer.putInt(76, 32);
+		buffer.putInt(80, 0x4);
+		buffer.putInt(84, fourCC);
+		for (int i = 128; i < buffer.capacity(); i++)
+			buffer.put(i, (byte)i);
+		return buffer;
+	}
+
+	@Test
+	public void testKTX2 () {
+		CompressedTextureData data = new CompressedTextureData(null, false);
+		// BC3 (DXT5) 8x8 with 4 levels: 4 blocks, then 1 block for 4x4, 2x2 and 1x1.
+		data.prepare(ktx2(137, 8, 8, 1, new int[] {64, 16, 16, 16}, false));
+		assertEquals(8, data.getWidth());
+		assertEquals(8, data.getHeight());
+		assertEquals(4, data.getNumberOfMipMapLevels());
+		assertEquals(0x83F3, data.getGlInternalFormat());
+		assertTrue(data.isCompressed());
+		assertTrue(data.useMipMaps());
+		for (int level = 0; level < 4; level++) {
+			ByteBuffer levelData = data.getData(level, 0);
+			assertEquals(level == 0 ? 64 : 16, levelData.remaining());
+			assertEquals(level * 16, levelData.get(0));
+		}
+		data.disposePreparedData();
+		assertFalse(data.isPrepared());
+	}
+
+	@Test
+	public void testKTX2Supercompressed () {
+		CompressedTextureData data = new CompressedTextureData(null, false);
+		// An RGBA8 cubemap without mipmaps, zlib supercompressed.
+		data.prepare(ktx2(37, 2, 2, 6, new int[] {16}, true));
+		assertEquals(6, data.getNumberOfFaces());
+		assertEquals(GL20.GL_RGBA, data.getGlInternalFormat());
+		assertFalse(data.isCompressed());
+		for (int face = 0; face < 6; face++) {
+			ByteBuffer faceData = data.getData(0, face);
+			assertEquals(16, faceData.remaining());
+			assertEquals(face, faceData.get(0));
+			assertEquals(face, faceData.get(15));
+		}
+		data.disposePreparedData();
+
+		// The inflated buffer is reused.
+		data = new CompressedTextureData(null, false);
+		data.prepare(ktx2(37, 2, 2, 1, new int[] {16}, true));
+		assertEquals(0, data.getData(0, 0).get(0));
+		data.disposePreparedData();
+	}
+
+	@Test
+	public void testDDS () {
+		CompressedTextureData data = new CompressedTextureData(null, false);
+		// DXT1 16x8 with 3 levels: 8 blocks, 2 blocks and 1 block of 8 bytes.
+		data.prepare(dds(0x31545844, 16, 8, 3, 88));
+		assertEquals(16, data.getWidth());
+		assertEquals(8, data.getHeight());
+		assertEquals(3, data.getNumberOfMipMapLevels());
+		assertEquals(0x83F1, data.getGlInternalFormat());
+		assertEquals(64, data.getData(0, 0).remaining());
+		assertEquals(16, data.getData(1, 0).remaining());
+		assertEquals(8, data.getData(2, 0).remaining());
+		assertEquals((byte)(128 + 80), data.getData(2, 0).get(0));
+		data.disposePreparedData();
+	}
+
+	@Test
+	public void testDDSTruncated () {
+		CompressedTextureData data = new CompressedTextureData(null, false);
+		try {
+			data.prepare(dds(0x35545844, 16, 16, 1, 100));
+			fail();
+		} catch (RuntimeException expected) {
+		}
+	}
+}
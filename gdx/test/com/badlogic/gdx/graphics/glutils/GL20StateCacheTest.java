@@ -0,0 +1,111 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+
+public class GL20StateCacheTest {
+	final ArrayList<String> calls = new ArrayList<String>();
+	GL30StateCache gl;
+
+	@Before
+	public void setUp () {
+		gl = new GL30StateCache((GL30)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL30.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					calls.add(method.getName());
+					if (method.getReturnType() == int.class) return 0;
+					if (method.getReturnType() == boolean.class) return false;
+					return null;
+				}
+			}));
+	}
+
+	@Test
+	public void testTextures () {
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glBindTexture(GL20.GL_TEXTURE_CUBE_MAP, 1);
+		gl.glActiveTexture(GL20.GL_TEXTURE1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		assertEquals(6, calls.size());
+		assertEquals(2, gl.getFilteredCalls());
+		assertEquals(2, gl.getFilteredTextureBindings());
+
+		// Deleting a texture unbinds it from all units.
+		gl.glDeleteTexture(1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		assertEquals(8, calls.size());
+	}
+
+	@Test
+	public void testState () {
+		gl.glUseProgram(3);
+		gl.glUseProgram(3);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glDisable(GL20.GL_BLEND);
+		gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE);
+		gl.glDepthMask(false);
+		gl.glDepthMask(false);
+		gl.glViewport(0, 0, 640, 480);
+		gl.glViewport(0, 0, 640, 480);
+		gl.glClearColor(0, 0, 0, 1);
+		gl.glClearColor(0, 0, 0, 1);
+		gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		assertEquals(10, calls.size());
+		assertEquals(6, gl.getFilteredCalls());
+		assertEquals(1, gl.getFilteredShaderSwitches());
+
+		gl.resetCounts();
+		assertEquals(0, gl.getFilteredCalls());
+		gl.invalidate();
+		gl.glUseProgram(3);
+		gl.glDepthMask(false);
+		assertEquals(12, calls.size());
+	}
+
+	@Test
+	public void testBuffers () {
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		assertEquals(2, calls.size());
+
+		// The element array buffer binding belongs to the vertex array object.
+		gl.glBindVertexArray(5);
+		gl.glBindVertexArray(5);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		assertEquals(4, calls.size());
+
+		gl.glDeleteBuffers(1, BufferUtils.newIntBuffer(1).put(0, 1));
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 1);
+		assertEquals(6, calls.size());
+
+		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 7);
+		gl.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, 7);
+		gl.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, 0);
+		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 7);
+		assertEquals(9, calls.size());
+	}
+}
@@ -0,0 +1,128 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Matrix4;
+
+public class ShaderProgramTest {
+	static final String[] names = {"u_color", "u_projTrans", "u_texture"};
+	static final int[] types = {GL20.GL_FLOAT_VEC4, GL20.GL_FLOAT_MAT4, GL20.GL_SAMPLER_2D};
+
+	int uniformCalls;
+	ShaderProgram program;
+
+	@Before
+	public void setUp () {
+		Gdx.app = (Application)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Application.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					return defaultValue(method);
+				}
+			});
+		Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL20.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					String name = method.getName();
+					if (name.startsWith("glUniform")) uniformCalls++;
+					if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+						int pname = (Integer)args[1];
+						((IntBuffer)args[2]).put(0, pname == GL20.GL_ACTIVE_UNIFORMS ? names.length
+							: pname == GL20.GL_ACTIVE_ATTRIBUTES ? 0 : 1);
+					} else if (name.equals("glGetActiveUniform")) {
+						int index = (Integer)args[1];
+						((IntBuffer)args[3]).put(0, types[index]);
+						return names[index];
+					} else if (name.equals("glGetUniformLocation")) {
+						for (int i = 0; i < names.length; i++)
+							if (names[i].equals(args[1])) return i * 7;
+						return -1;
+					}
+					return defaultValue(method);
+				}
+			});
+		program = new ShaderProgram("vertex", "fragment");
+		assertTrue(program.isCompiled());
+	}
+
+	static Object defaultValue (Method method) {
+		if (method.getReturnType() == int.class) return 1;
+		if (method.getReturnType() == long.class) return 0L;
+		if (method.getReturnType() == boolean.class) return false;
+		if (method.getReturnType() == String.class) return "";
+		return null;
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = null;
+		Gdx.gl = Gdx.gl20 = null;
+	}
+
+	@Test
+	public void testSkipsUnchangedValues () {
+		int color = program.uniformHandle("u_color");
+		program.setUniformf(color, 1, 0, 0, 1);
+		program.setUniformf(color, 1, 0, 0, 1);
+		program.setUniformf("u_color", 1, 0, 0, 1);
+		assertEquals(1, uniformCalls);
+		program.setUniformf(color, 1, 0, 0, 0.5f);
+		assertEquals(2, uniformCalls);
+
+		Matrix4 matrix = new Matrix4();
+		program.setUniformMatrix("u_projTrans", matrix);
+		program.setUniformMatrix("u_projTrans", matrix);
+		assertEquals(3, uniformCalls);
+		matrix.setToTranslation(1, 0, 0);
+		program.setUniformMatrix("u_projTrans", matrix);
+		assertEquals(4, uniformCalls);
+		program.setUniformMatrix("u_projTrans", matrix, true);
+		program.setUniformMatrix("u_projTrans", matrix);
+		assertEquals(6, uniformCalls);
+
+		program.setUniformi("u_texture", 0);
+		program.setUniformi("u_texture", 0);
+		assertEquals(7, uniformCalls);
+	}
+
+	@Test
+	public void testInvalidate () {
+		int texture = program.uniformHandle("u_texture");
+		program.setUniformi(texture, 1);
+		program.invalidateUniforms();
+		program.setUniformi(texture, 1);
+		assertEquals(2, uniformCalls);
+
+		// Values set through arrays aren't tracked and forget the previous value.
+		int color = program.uniformHandle("u_color");
+		program.setUniformf(color, 0, 0, 0, 0);
+		program.setUniform4fv(color, new float[] {1, 1, 1, 1}, 0, 4);
+		program.setUniformf(color, 0, 0, 0, 0);
+		assertEquals(5, uniformCalls);
+	}
+
+	@Test
+	public void testUnknownUniform () {
+		ShaderProgram.pedantic = false;
+		try {
+			int handle = program.uniformHandle("u_missing");
+			assertEquals(-1, handle);
+			program.setUniformf(handle, 1);
+			program.setUniformf(handle, 1);
+			assertEquals(2, uniformCalls);
+		} finally {
+			ShaderProgram.pedantic = true;
+		}
+	}
+}
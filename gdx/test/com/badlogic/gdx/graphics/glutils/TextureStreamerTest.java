@@ -0,0 +1,42 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+
+public class TextureStreamerTest {
+	static FileHandle file (final byte[] bytes) {
+		return new FileHandle("image") {
+			public InputStream read () {
+				return new ByteArrayInputStream(bytes);
+			}
+		};
+	}
+
+	static byte[] bytes (int... values) {
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++)
+			bytes[i] = (byte)values[i];
+		return bytes;
+	}
+
+	@Test
+	public void readsJpegSize () {
+		// SOI, an APP0 segment with 2 bytes of data, then SOF0 with 8 bit precision, 300 high and 200 wide.
+		byte[] jpeg = bytes(0xff, 0xd8, 0xff, 0xe0, 0, 4, 1, 2, 0xff, 0xc0, 0, 11, 8, 1, 44, 0, 200);
+		assertArrayEquals(new int[] {200, 300}, TextureStreamer.readImageSize(file(jpeg)));
+	}
+
+	@Test
+	public void truncatedJpegHeader () {
+		// An APP0 segment claiming 4000 bytes in a file ending right after its length.
+		assertNull(TextureStreamer.readImageSize(file(bytes(0xff, 0xd8, 0xff, 0xe0, 0x0f, 0xa0, 1, 2))));
+		// A segment length smaller than the length field itself.
+		assertNull(TextureStreamer.readImageSize(file(bytes(0xff, 0xd8, 0xff, 0xe0, 0, 1, 1, 2))));
+	}
+}
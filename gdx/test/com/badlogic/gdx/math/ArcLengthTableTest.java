@@ -0,0 +1,59 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class ArcLengthTableTest {
+	@Test
+	public void testLinear () {
+		Bezier<Vector2> line = new Bezier<Vector2>(new Vector2(0, 0), new Vector2(3, 4));
+		ArcLengthTable<Vector2> table = new ArcLengthTable<Vector2>(line, new Vector2());
+		assertEquals(5f, table.getLength(), 1e-5f);
+		assertEquals(0f, table.getT(-1f), 0f);
+		assertEquals(0.5f, table.getT(2.5f), 1e-5f);
+		assertEquals(1f, table.getT(10f), 0f);
+		assertEquals(2.5f, table.getDistance(0.5f), 1e-5f);
+	}
+
+	@Test
+	public void testCubicLength () {
+		Bezier<Vector2> curve = new Bezier<Vector2>(new Vector2(0, 0), new Vector2(0, 10), new Vector2(10, -10),
+			new Vector2(10, 0));
+		ArcLengthTable<Vector2> table = new ArcLengthTable<Vector2>(curve, new Vector2(), 0.0001f);
+		assertEquals(curve.approxLength(10000), table.getLength(), 1e-3f);
+	}
+
+	@Test
+	public void testUniformSpeed () {
+		Vector2[] points = {new Vector2(0, 0), new Vector2(5, 20), new Vector2(10, 0), new Vector2(30, 5), new Vector2(40, 0)};
+		CatmullRomSpline<Vector2> spline = new CatmullRomSpline<Vector2>(points, false);
+		ArcLengthTable<Vector2> table = new ArcLengthTable<Vector2>(spline, new Vector2(), 0.0001f);
+
+		int count = 200;
+		Vector2[] samples = new Vector2[count];
+		for (int i = 0; i < count; i++)
+			samples[i] = new Vector2();
+		table.sampleUniform(samples, 0, count);
+		float step = table.getLength() / (count - 1), sum = 0;
+		for (int i = 1; i < count; i++) {
+			float dst = samples[i - 1].dst(samples[i]);
+			// chords are slightly shorter than the arc in sharp bends
+			assertEquals(step, dst, step * 0.05f);
+			sum += dst;
+		}
+		assertEquals(table.getLength(), sum, table.getLength() * 0.001f);
+	}
+
+	@Test
+	public void testRoundTrip () {
+		Vector3[] points = {new Vector3(0, 0, 0), new Vector3(1, 2, 3), new Vector3(4, 0, -2), new Vector3(6, 6, 6),
+			new Vector3(10, 0, 0)};
+		BSpline<Vector3> spline = new BSpline<Vector3>(points, 3, false);
+		ArcLengthTable<Vector3> table = new ArcLengthTable<Vector3>(spline, new Vector3());
+		for (int i = 0; i <= 20; i++) {
+			float t = i / 20f;
+			assertEquals(t, table.getT(table.getDistance(t)), 1e-4f);
+		}
+	}
+}
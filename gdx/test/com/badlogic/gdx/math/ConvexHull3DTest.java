@@ -0,0 +1,168 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+public class ConvexHull3DTest {
+	@Test
+	public void testCube () {
+		FloatArray points = new FloatArray();
+		for (int x = 0; x <= 2; x++)
+			for (int y = 0; y <= 2; y++)
+				for (int z = 0; z <= 2; z++)
+					points.add(x, y, z);
+		ConvexHull3D hull = new ConvexHull3D();
+		FloatArray vertices = hull.computeVertices(points);
+		// Points on the cube faces but not on corners may or may not be kept, the corners must be.
+		assertTrue(vertices.size / 3 >= 8);
+		assertClosed(vertices.items, hull.getTriangles());
+		assertContains(vertices.items, hull.getTriangles(), points.items, points.size / 3);
+		assertEquals(8f, volume(vertices.items, hull.getTriangles()), 1e-4f);
+	}
+
+	@Test
+	public void testSphere () {
+		RandomXS128 random = new RandomXS128(5);
+		int count = 5000;
+		float[] points = new float[count * 3];
+		Vector3 v = new Vector3();
+		for (int i = 0; i < count; i++) {
+			v.set((float)random.nextGaussian(), (float)random.nextGaussian(), (float)random.nextGaussian()).nor();
+			// Half the points are inside the sphere.
+			if (i % 2 == 1) v.scl(random.nextFloat() * 0.99f);
+			points[i * 3] = v.x + 10;
+			points[i * 3 + 1] = v.y;
+			points[i * 3 + 2] = v.z - 3;
+		}
+		ConvexHull3D hull = new ConvexHull3D();
+		IntArray indices = hull.computeIndices(points);
+		assertClosed(points, indices);
+		assertContains(points, indices, points, count);
+		IntArray used = new IntArray();
+		for (int i = 0; i < indices.size; i++) {
+			assertEquals("inner point on hull", 0, indices.get(i) % 2);
+			if (!used.contains(indices.get(i))) used.add(indices.get(i));
+		}
+		// Every point on the sphere is a hull vertex, Euler: F = 2V - 4.
+		assertEquals(count / 2, used.size);
+		assertEquals(2 * used.size - 4, indices.size / 3);
+		assertEquals(4f / 3f * MathUtils.PI, volume(points, indices), 0.05f);
+
+		// Results are reused and stable.
+		int size = indices.size;
+		assertSame(indices, hull.computeIndices(points));
+		assertEquals(size, indices.size);
+	}
+
+	@Test
+	public void testNearlyCoplanar () {
+		// Grid points moved by far less than their spacing are nearly coplanar with many faces.
+		RandomXS128 random = new RandomXS128(3);
+		ConvexHull3D hull = new ConvexHull3D();
+		FloatArray points = new FloatArray();
+		for (int i = 0; i < 2000; i++) {
+			float origin = i % 2 == 0 ? 0 : -0.1f, noise = i % 4 < 2 ? 2e-7f : 0;
+			points.clear();
+			for (int x = 0; x <= 2; x++)
+				for (int y = 0; y <= 2; y++)
+					for (int z = 0; z <= 2; z++)
+						points.add(origin + x * 0.1f + (random.nextFloat() - 0.5f) * noise,
+							origin + y * 0.1f + (random.nextFloat() - 0.5f) * noise,
+							origin + z * 0.1f + (random.nextFloat() - 0.5f) * noise);
+			IntArray indices = hull.computeIndices(points);
+			assertClosed(points.items, indices);
+			assertContains(points.items, indices, points.items, points.size / 3);
+			assertEquals(0.008f, volume(points.items, indices), 1e-5f);
+		}
+	}
+
+	@Test
+	public void testNoisyDuplicates () {
+		// Many duplicates of grid points, moved by about a float ulp, must not produce zero area triangles.
+		RandomXS128 random = new RandomXS128(1);
+		ConvexHull3D hull = new ConvexHull3D();
+		FloatArray points = new FloatArray();
+		for (int i = 0; i < 500; i++) {
+			points.clear();
+			for (int p = 0, n = 4 + random.nextInt(300); p < n; p++)
+				points.add(random.nextInt(4) * 0.1f + (float)(random.nextGaussian() * 1e-7),
+					random.nextInt(4) * 0.1f + (float)(random.nextGaussian() * 1e-7),
+					random.nextInt(4) * 0.1f + (float)(random.nextGaussian() * 1e-7));
+			IntArray indices = hull.computeIndices(points);
+			if (indices.size == 0) continue;
+			assertClosed(points.items, indices);
+			assertContains(points.items, indices, points.items, points.size / 3);
+			float[] v = points.items;
+			for (int t = 0; t < indices.size; t += 3) {
+				int a = indices.get(t) * 3, b = indices.get(t + 1) * 3, c = indices.get(t + 2) * 3;
+				double ux = v[b] - v[a], uy = v[b + 1] - v[a + 1], uz = v[b + 2] - v[a + 2];
+				double vx = v[c] - v[a], vy = v[c + 1] - v[a + 1], vz = v[c + 2] - v[a + 2];
+				double nx = uy * vz - uz * vy, ny = uz * vx - ux * vz, nz = ux * vy - uy * vx;
+				assertTrue("zero area triangle", nx * nx + ny * ny + nz * nz > 1e-24);
+			}
+		}
+	}
+
+	@Test
+	public void testDegenerate () {
+		ConvexHull3D hull = new ConvexHull3D();
+		assertEquals(0, hull.computeIndices(new float[] {0, 0, 0, 1, 0, 0, 0, 1, 0}).size);
+		assertEquals(0, hull.computeIndices(new float[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 1, 1, 0, 2, 3, 0}).size);
+		assertEquals(4, hull.computeVertices(new float[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1}).size / 3);
+		assertEquals(12, hull.getTriangles().size);
+	}
+
+	/** Every directed edge must be used exactly once, and its reverse once. */
+	private static void assertClosed (float[] points, IntArray triangles) {
+		IntArray edges = new IntArray();
+		for (int i = 0; i < triangles.size; i += 3)
+			for (int j = 0; j < 3; j++)
+				edges.add(triangles.get(i + j), triangles.get(i + (j + 1) % 3));
+		for (int i = 0; i < edges.size; i += 2) {
+			int a = edges.get(i), b = edges.get(i + 1), forward = 0, backward = 0;
+			for (int j = 0; j < edges.size; j += 2) {
+				if (edges.get(j) == a && edges.get(j + 1) == b) forward++;
+				if (edges.get(j) == b && edges.get(j + 1) == a) backward++;
+			}
+			assertEquals(1, forward);
+			assertEquals(1, backward);
+		}
+	}
+
+	/** All points must be behind or on every face plane. Computed in double precision, the float {@link Plane} is not accurate
+	 * enough for small triangles. */
+	private static void assertContains (float[] vertices, IntArray triangles, float[] points, int count) {
+		for (int i = 0; i < triangles.size; i += 3) {
+			int a = triangles.get(i) * 3, b = triangles.get(i + 1) * 3, c = triangles.get(i + 2) * 3;
+			double ux = vertices[b] - vertices[a], uy = vertices[b + 1] - vertices[a + 1], uz = vertices[b + 2] - vertices[a + 2];
+			double vx = vertices[c] - vertices[a], vy = vertices[c + 1] - vertices[a + 1], vz = vertices[c + 2] - vertices[a + 2];
+			double nx = uy * vz - uz * vy, ny = uz * vx - ux * vz, nz = ux * vy - uy * vx;
+			double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+			for (int j = 0; j < count * 3; j += 3) {
+				double distance = (nx * (points[j] - vertices[a]) + ny * (points[j + 1] - vertices[a + 1])
+					+ nz * (points[j + 2] - vertices[a + 2])) / length;
+				assertTrue(distance < 1e-5);
+			}
+		}
+	}
+
+	private static Vector3 set (Vector3 v, float[] values, int index) {
+		return v.set(values[index * 3], values[index * 3 + 1], values[index * 3 + 2]);
+	}
+
+	private static float volume (float[] vertices, IntArray triangles) {
+		Vector3 a = new Vector3(), b = new Vector3(), c = new Vector3();
+		float volume = 0;
+		for (int i = 0; i < triangles.size; i += 3) {
+			set(a, vertices, triangles.get(i));
+			set(b, vertices, triangles.get(i + 1));
+			set(c, vertices, triangles.get(i + 2));
+			volume += a.dot(b.crs(c)) / 6;
+		}
+		return volume;
+	}
+}
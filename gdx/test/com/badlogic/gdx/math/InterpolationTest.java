@@ -0,0 +1,45 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class InterpolationTest {
+	private static final Interpolation[] interpolations = {Interpolation.linear, Interpolation.pow2, Interpolation.pow3In,
+		Interpolation.pow4Out, Interpolation.pow5, Interpolation.exp5, Interpolation.exp10In, Interpolation.exp10Out,
+		Interpolation.elastic, Interpolation.elasticOut, Interpolation.bounce, Interpolation.bounceIn, Interpolation.swing};
+
+	private static float[] alphas () {
+		float[] alphas = new float[1001];
+		for (int i = 0; i < alphas.length; i++)
+			alphas[i] = i / (float)(alphas.length - 1);
+		return alphas;
+	}
+
+	@Test
+	public void testBulkApply () {
+		float[] in = alphas(), out = new float[in.length + 2];
+		for (Interpolation interpolation : interpolations) {
+			interpolation.apply(in, 0, out, 1, in.length);
+			for (int i = 0; i < in.length; i++)
+				assertEquals(interpolation.apply(in[i]), out[i + 1], 1e-5f);
+		}
+	}
+
+	@Test
+	public void testTable () {
+		float[] in = alphas(), out = new float[in.length];
+		for (Interpolation interpolation : interpolations) {
+			Interpolation.Table table = new Interpolation.Table(interpolation, 0.001f);
+			assertTrue(table.getError() <= 0.001f);
+			table.apply(in, out, in.length);
+			int outside = 0;
+			for (int i = 0; i < in.length; i++) {
+				// Values within one table interval of a discontinuity, like the jump of elastic at 0.5, can't be approximated
+				if (Math.abs(interpolation.apply(in[i]) - table.apply(in[i])) > 0.001f) outside++;
+				assertEquals(table.apply(in[i]), out[i], 0f);
+			}
+			assertTrue(outside <= in.length / table.getSize() + 1);
+		}
+	}
+}
@@ -1,12 +1,17 @@
 
 package com.badlogic.gdx.math;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import com.badlogic.gdx.math.Intersector.SplitTriangle;
+import com.badlogic.gdx.math.Intersector.SweepResult;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.math.collision.TriangleBVH;
 
 public class IntersectorTest {
 
@@ -106,4 +111,136 @@ public class IntersectorTest {
 			assertTrue("Either first or second way must be right (first: " + first + ", second: " + second + ")", first ^ second);
 		}
 	}
+
+	@Test
+	public void testSweepSphereTriangle () {
+		SweepResult result = new SweepResult();
+		Vector3 a = new Vector3(-1, 0, -1), b = new Vector3(1, 0, -1), c = new Vector3(0, 0, 1);
+
+		// Falling onto the face
+		assertTrue(Intersector.sweepSphereTriangle(new Vector3(0, 2, 0), 0.5f, new Vector3(0, -4, 0), a, b, c, result));
+		assertEquals(0.375f, result.time, 1e-5f);
+		assertEquals(1f, result.normal.y, 1e-5f);
+		assertEquals(0f, result.point.y, 1e-5f);
+
+		// Moving past the triangle
+		assertFalse(Intersector.sweepSphereTriangle(new Vector3(5, 2, 0), 0.5f, new Vector3(0, -4, 0), a, b, c, result));
+
+		// Too short movement
+		assertFalse(Intersector.sweepSphereTriangle(new Vector3(0, 2, 0), 0.5f, new Vector3(0, -1, 0), a, b, c, result));
+
+		// Hitting the edge from the side
+		assertTrue(Intersector.sweepSphereTriangle(new Vector3(0, 0, -3), 0.5f, new Vector3(0, 0, 4), a, b, c, result));
+		assertEquals(0.375f, result.time, 1e-5f);
+		assertEquals(-1f, result.normal.z, 1e-5f);
+		assertEquals(-1f, result.point.z, 1e-5f);
+
+		// Hitting a vertex
+		assertTrue(Intersector.sweepSphereTriangle(new Vector3(0, 0, 3), 0.5f, new Vector3(0, 0, -4), a, b, c, result));
+		assertEquals(0.375f, result.time, 1e-5f);
+		assertEquals(1f, result.point.z, 1e-5f);
+
+		// Already overlapping
+		assertTrue(Intersector.sweepSphereTriangle(new Vector3(0, 0.25f, 0), 0.5f, new Vector3(0, 1, 0), a, b, c, result));
+		assertEquals(0f, result.time, 0f);
+	}
+
+	@Test
+	public void testSweepSphereTrianglesBVH () {
+		float[] triangles = randomTriangles(500);
+		TriangleBVH bvh = new TriangleBVH(triangles);
+		SweepResult expected = new SweepResult(), actual = new SweepResult();
+		Vector3 center = new Vector3(), velocity = new Vector3();
+		for (int i = 0; i < 200; i++) {
+			center.set(MathUtils.random(-60f, 60f), MathUtils.random(-60f, 60f), MathUtils.random(-60f, 60f));
+			velocity.set(MathUtils.random(-30f, 30f), MathUtils.random(-30f, 30f), MathUtils.random(-30f, 30f));
+			boolean hit = Intersector.sweepSphereTriangles(center, 1f, velocity, triangles, expected);
+			assertEquals(hit, Intersector.sweepSphereTriangles(center, 1f, velocity, bvh, actual));
+			if (hit) assertEquals(expected.time, actual.time, 1e-5f);
+		}
+	}
+
+	@Test
+	public void testIntersectRayTrianglesBVH () {
+		float[] triangles = randomTriangles(500);
+		TriangleBVH bvh = new TriangleBVH(triangles);
+		Ray ray = new Ray();
+		Vector3 expected = new Vector3(), actual = new Vector3();
+		SweepResult result = new SweepResult();
+		for (int i = 0; i < 200; i++) {
+			ray.set(MathUtils.random(-60f, 60f), MathUtils.random(-60f, 60f), MathUtils.random(-60f, 60f),
+				MathUtils.random(-1f, 1f), MathUtils.random(-1f, 1f), MathUtils.random(-1f, 1f));
+			ray.direction.nor();
+			boolean hit = Intersector.intersectRayTriangles(ray, triangles, expected);
+			assertEquals(hit, Intersector.intersectRayTriangles(ray, bvh, actual));
+			assertEquals(hit, Intersector.intersectRayTrianglesResult(ray, triangles, result));
+			if (hit) {
+				assertTrue(expected.epsilonEquals(actual, 1e-3f));
+				assertTrue(expected.epsilonEquals(result.point, 1e-3f));
+				assertTrue(result.normal.dot(ray.direction) <= 0);
+			}
+		}
+	}
+
+	private static float[] randomTriangles (int count) {
+		MathUtils.random.setSeed(42);
+		float[] triangles = new float[count * 9];
+		for (int i = 0; i < triangles.length; i += 9) {
+			float x = MathUtils.random(-50f, 50f), y = MathUtils.random(-50f, 50f), z = MathUtils.random(-50f, 50f);
+			for (int j = 0; j < 9; j += 3) {
+				triangles[i + j] = x + MathUtils.random(-5f, 5f);
+				triangles[i + j + 1] = y + MathUtils.random(-5f, 5f);
+				triangles[i + j + 2] = z + MathUtils.random(-5f, 5f);
+			}
+		}
+		return triangles;
+	}
+
+	@Test
+	public void testSweepBounds () {
+		SweepResult result = new SweepResult();
+		BoundingBox a = new BoundingBox(new Vector3(0, 0, 0), new Vector3(1, 1, 1));
+		BoundingBox b = new BoundingBox(new Vector3(3, 0, 0), new Vector3(4, 1, 1));
+		assertTrue(Intersector.sweepBounds(a, new Vector3(4, 0, 0), b, null, result));
+		assertEquals(0.5f, result.time, 1e-5f);
+		assertEquals(-1f, result.normal.x, 0f);
+		assertEquals(3f, result.point.x, 1e-5f);
+
+		// Both moving towards each other
+		assertTrue(Intersector.sweepBounds(a, new Vector3(1, 0, 0), b, new Vector3(-1, 0, 0), result));
+		assertEquals(1f, result.time, 1e-5f);
+
+		assertFalse(Intersector.sweepBounds(a, new Vector3(1, 0, 0), b, null, result));
+		assertFalse(Intersector.sweepBounds(a, new Vector3(4, 3, 0), b, null, result));
+
+		Rectangle r1 = new Rectangle(0, 0, 1, 1), r2 = new Rectangle(0, 3, 1, 1);
+		assertTrue(Intersector.sweepRectangles(r1, new Vector2(0, 4), r2, null, result));
+		assertEquals(0.5f, result.time, 1e-5f);
+		assertEquals(-1f, result.normal.y, 0f);
+	}
+
+	@Test
+	public void testSweepCirclePolygon () {
+		SweepResult result = new SweepResult();
+		Polygon square = new Polygon(new float[] {0, 0, 2, 0, 2, 2, 0, 2});
+		square.setPosition(4, 0);
+
+		// Hitting an edge
+		assertTrue(Intersector.sweepCirclePolygon(new Circle(0, 1, 1), new Vector2(6, 0), square, result));
+		assertEquals(0.5f, result.time, 1e-5f);
+		assertEquals(-1f, result.normal.x, 1e-5f);
+		assertEquals(4f, result.point.x, 1e-5f);
+
+		// Hitting a vertex
+		assertTrue(Intersector.sweepCirclePolygon(new Circle(0, 2.5f, 1), new Vector2(8, 0), square, result));
+		assertEquals(4f, result.point.x, 1e-5f);
+		assertEquals(2f, result.point.y, 1e-5f);
+
+		// Missing
+		assertFalse(Intersector.sweepCirclePolygon(new Circle(0, 4, 1), new Vector2(8, 0), square, result));
+
+		// Tunneling through with a single large step is still detected
+		assertTrue(Intersector.sweepCirclePolygon(new Circle(0, 1, 0.1f), new Vector2(100, 0), square, result));
+		assertEquals(0.039f, result.time, 1e-5f);
+	}
 }
@@ -0,0 +1,138 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.PolygonClipper.Operation;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+public class PolygonClipperTest {
+	static float[] rectangle (float x, float y, float width, float height) {
+		return new float[] {x, y, x + width, y, x + width, y + height, x, y + height};
+	}
+
+	static float area (Array<FloatArray> contours) {
+		float area = 0;
+		for (FloatArray contour : contours)
+			area += GeometryUtils.polygonArea(contour.items, 0, contour.size);
+		return area;
+	}
+
+	@Test
+	public void testOverlappingRectangles () {
+		PolygonClipper clipper = new PolygonClipper();
+		float[] a = rectangle(0, 0, 2, 2), b = rectangle(1, 1, 2, 2);
+		assertEquals(7, area(clipper.compute(a, b, Operation.Union)), 1e-5f);
+		assertEquals(1, clipper.compute(a, b, Operation.Union).size);
+		assertEquals(8, clipper.compute(a, b, Operation.Union).first().size / 2);
+		assertEquals(1, area(clipper.compute(a, b, Operation.Intersection)), 1e-5f);
+		assertEquals(3, area(clipper.compute(a, b, Operation.Difference)), 1e-5f);
+		assertEquals(6, area(clipper.compute(a, b, Operation.Xor)), 1e-5f);
+		assertEquals(2, clipper.compute(a, b, Operation.Xor).size);
+		assertEquals(0, clipper.compute(a, rectangle(5, 5, 1, 1), Operation.Intersection).size);
+	}
+
+	@Test
+	public void testHole () {
+		PolygonClipper clipper = new PolygonClipper();
+		Array<FloatArray> result = clipper.compute(rectangle(0, 0, 10, 10), rectangle(4, 4, 2, 2), Operation.Difference);
+		assertEquals(2, result.size);
+		assertEquals(96, area(result), 1e-4f);
+		int outer = GeometryUtils.polygonArea(result.get(0).items, 0, 8) > 0 ? 0 : 1;
+		assertEquals(-1, clipper.getParents().get(outer));
+		assertEquals(outer, clipper.getParents().get(1 - outer));
+		assertTrue(GeometryUtils.isClockwise(result.get(1 - outer).items, 0, 8));
+
+		// Cutting the hole open merges it with the outer contour.
+		Array<FloatArray> subject = new Array<FloatArray>();
+		for (FloatArray contour : result)
+			subject.add(new FloatArray(contour));
+		Array<FloatArray> clip = new Array<FloatArray>();
+		clip.add(new FloatArray(rectangle(4.5f, -1, 1, 6)));
+		result = clipper.compute(subject, clip, Operation.Difference);
+		assertEquals(1, result.size);
+		assertEquals(92, area(result), 1e-4f);
+	}
+
+	@Test
+	public void testSharedEdges () {
+		PolygonClipper clipper = new PolygonClipper();
+		Array<FloatArray> result = clipper.compute(rectangle(0, 0, 1, 1), rectangle(1, 0, 1, 1), Operation.Union);
+		assertEquals(1, result.size);
+		assertEquals(4, result.first().size / 2);
+		assertEquals(2, area(result), 1e-5f);
+		assertEquals(0, clipper.compute(rectangle(0, 0, 1, 1), rectangle(1, 0, 1, 1), Operation.Intersection).size);
+		assertEquals(0, clipper.compute(rectangle(0, 0, 1, 1), rectangle(0, 0, 1, 1), Operation.Difference).size);
+		assertEquals(1, clipper.compute(rectangle(0, 0, 1, 1), rectangle(0, 0, 1, 1), Operation.Union).size);
+
+		// Touching corners stay separate contours.
+		result = clipper.compute(rectangle(0, 0, 1, 1), rectangle(1, 1, 1, 1), Operation.Union);
+		assertEquals(2, result.size);
+		assertEquals(4, result.get(0).size / 2);
+		assertEquals(4, result.get(1).size / 2);
+	}
+
+	@Test
+	public void testAreas () {
+		RandomXS128 random = new RandomXS128(3);
+		PolygonClipper clipper = new PolygonClipper();
+		for (int i = 0; i < 200; i++) {
+			float[] a = star(random), b = star(random);
+			// Snapping can make the polygons self intersect, so the even-odd areas are computed with an empty clip.
+			float areaA = area(clipper.compute(a, new float[0], Operation.Union));
+			float areaB = area(clipper.compute(b, new float[0], Operation.Union));
+			float union = area(clipper.compute(a, b, Operation.Union));
+			float intersection = area(clipper.compute(a, b, Operation.Intersection));
+			float difference = area(clipper.compute(a, b, Operation.Difference));
+			float xor = area(clipper.compute(a, b, Operation.Xor));
+			assertEquals(areaA + areaB, union + intersection, 1e-3f);
+			assertEquals(areaA - intersection, difference, 1e-3f);
+			assertEquals(union - intersection, xor, 1e-3f);
+		}
+	}
+
+	@Test
+	public void testReuseResult () {
+		PolygonClipper clipper = new PolygonClipper(), other = new PolygonClipper();
+		Array<FloatArray> terrain = new Array<FloatArray>();
+		terrain.add(new FloatArray(rectangle(0, 0, 100, 20)));
+		Array<FloatArray> hole = new Array<FloatArray>();
+		hole.add(new FloatArray());
+		float area = 2000;
+		RandomXS128 random = new RandomXS128(7);
+		for (int i = 0; i < 50; i++) {
+			FloatArray circle = hole.first();
+			circle.clear();
+			float x = random.nextFloat() * 100, y = random.nextFloat() * 20;
+			for (int j = 0; j < 16; j++)
+				circle.add(x + 3 * MathUtils.cosDeg(j * 22.5f), y + 3 * MathUtils.sinDeg(j * 22.5f));
+			float removed = area(other.compute(terrain, hole, Operation.Intersection));
+			Array<FloatArray> result = clipper.compute(terrain, hole, Operation.Difference);
+			assertEquals(area - removed, area(result), 0.01f);
+			area = area(result);
+			// Pass the result back in.
+			terrain = result;
+		}
+		for (int i = 0; i < terrain.size; i++)
+			if (clipper.getParents().get(i) != -1) assertTrue(GeometryUtils.isClockwise(terrain.get(i).items, 0, terrain.get(i).size));
+	}
+
+	static float[] star (RandomXS128 random) {
+		int count = 3 + random.nextInt(12);
+		float cx = random.nextFloat() * 4, cy = random.nextFloat() * 4;
+		float[] points = new float[count * 2];
+		for (int i = 0; i < count; i++) {
+			float angle = i * MathUtils.PI2 / count, radius = 0.5f + random.nextFloat() * 3;
+			// Snap some coordinates to a grid to create shared vertices and collinear edges.
+			points[i * 2] = cx + radius * MathUtils.cos(angle);
+			points[i * 2 + 1] = cy + radius * MathUtils.sin(angle);
+			if (random.nextBoolean()) {
+				points[i * 2] = Math.round(points[i * 2]);
+				points[i * 2 + 1] = Math.round(points[i * 2 + 1]);
+			}
+		}
+		return points;
+	}
+}
@@ -0,0 +1,58 @@
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class RandomXS128Test {
+	@Test
+	public void testNextFloats () {
+		RandomXS128 a = new RandomXS128(1234), b = new RandomXS128(1234);
+		float[] values = new float[1000];
+		a.nextFloats(values, 10, 980);
+		assertEquals(0f, values[9], 0f);
+		assertEquals(0f, values[990], 0f);
+		for (int i = 10; i < 990; i++)
+			assertEquals(b.nextFloat(), values[i], 0f);
+		assertEquals(a.nextLong(), b.nextLong());
+
+		a.nextFloats(values, 0, values.length, -5f, 5f);
+		for (float value : values)
+			assertTrue(value >= -5f && value < 5f);
+	}
+
+	@Test
+	public void testNextGaussians () {
+		RandomXS128 random = new RandomXS128(42);
+		float[] values = new float[100001];
+		random.nextGaussians(values, 0, values.length, 3f, 2f);
+		double sum = 0, sum2 = 0;
+		for (float value : values) {
+			sum += value;
+			sum2 += value * value;
+		}
+		double mean = sum / values.length;
+		assertEquals(3, mean, 0.05);
+		assertEquals(2, Math.sqrt(sum2 / values.length - mean * mean), 0.05);
+	}
+
+	@Test
+	public void testJump () {
+		RandomXS128 random = new RandomXS128(1, 2);
+		random.jump();
+		assertEquals(0xd9753c320273b15dL, random.getState(0));
+		assertEquals(0x5021baf306365757L, random.getState(1));
+	}
+
+	@Test
+	public void testSplit () {
+		RandomXS128 a = new RandomXS128(99), b = new RandomXS128(99), reference = new RandomXS128(99);
+		RandomXS128 a1 = a.split(), b1 = b.split();
+		for (int i = 0; i < 100; i++) {
+			long value = a1.nextLong();
+			assertEquals(reference.nextLong(), value);
+			assertEquals(value, b1.nextLong());
+			assertEquals(a.nextLong(), b.nextLong());
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ChunkedSpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.tests.utils.GdxTest;
+
+/** Draws a 1000x1000 tile world with a {@link ChunkedSpriteCache} while the camera pans, changing and replacing random tiles
+ * every frame. Logs the draw calls, culled chunks and uploaded bytes. */
+public class ChunkedSpriteCacheTest extends GdxTest {
+	static final int WORLD_SIZE = 1000, TILE_SIZE = 16;
+
+	Texture texture;
+	TextureRegion[] tiles = new TextureRegion[4];
+	ChunkedSpriteCache cache;
+	int[] ids = new int[WORLD_SIZE * WORLD_SIZE];
+	OrthographicCamera camera;
+	Rectangle viewBounds = new Rectangle();
+	float time;
+	int frames;
+
+	@Override
+	public void create () {
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		for (int i = 0; i < tiles.length; i++)
+			tiles[i] = new TextureRegion(texture, (i % 2) * 16, (i / 2) * 16, 16, 16);
+
+		cache = new ChunkedSpriteCache(32 * TILE_SIZE, 32 * 32);
+		for (int y = 0; y < WORLD_SIZE; y++)
+			for (int x = 0; x < WORLD_SIZE; x++)
+				ids[y * WORLD_SIZE + x] = cache.add(tiles[MathUtils.random(tiles.length - 1)], x * TILE_SIZE, y * TILE_SIZE,
+					TILE_SIZE, TILE_SIZE);
+
+		camera = new OrthographicCamera();
+		camera.setToOrtho(false);
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		time += Gdx.graphics.getDeltaTime();
+		float worldSize = WORLD_SIZE * TILE_SIZE;
+		camera.position.set(worldSize / 2 + MathUtils.cos(time * 0.1f) * worldSize / 3,
+			worldSize / 2 + MathUtils.sin(time * 0.1f) * worldSize / 3, 0);
+		camera.update();
+		viewBounds.set(camera.position.x - camera.viewportWidth / 2, camera.position.y - camera.viewportHeight / 2,
+			camera.viewportWidth, camera.viewportHeight);
+
+		// Change some tiles near the camera, and remove and add one back.
+		for (int i = 0; i < 20; i++) {
+			int x = MathUtils.clamp((int)(viewBounds.x / TILE_SIZE) + MathUtils.random(40), 0, WORLD_SIZE - 1);
+			int y = MathUtils.clamp((int)(viewBounds.y / TILE_SIZE) + MathUtils.random(30), 0, WORLD_SIZE - 1);
+			int index = y * WORLD_SIZE + x;
+			if (i == 0) {
+				cache.remove(ids[index]);
+				ids[index] = cache.add(tiles[MathUtils.random(tiles.length - 1)], x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE,
+					TILE_SIZE);
+			} else
+				cache.set(ids[index], tiles[MathUtils.random(tiles.length - 1)], x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+		}
+
+		cache.setProjectionMatrix(camera.combined);
+		cache.begin();
+		cache.draw(viewBounds);
+		cache.end();
+
+		if (++frames == 60) {
+			Gdx.app.log("ChunkedSpriteCacheTest", "sprites: " + cache.getSize() + ", chunks: " + cache.getChunkCount()
+				+ ", draw calls: " + cache.renderCalls + ", culled: " + cache.culledChunks + ", uploaded: " + cache.uploadedBytes
+				+ " bytes, fps: " + Gdx.graphics.getFramesPerSecond());
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		cache.dispose();
+		texture.dispose();
+	}
+}
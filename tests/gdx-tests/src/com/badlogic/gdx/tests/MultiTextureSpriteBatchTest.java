@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.MultiTextureSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws sprites from several textures in interleaved order with a {@link SpriteBatch} and a {@link MultiTextureSpriteBatch}
+ * and logs the draw calls and texture bindings counted by {@link GLProfiler}. Touch to switch between the batches. */
+public class MultiTextureSpriteBatchTest extends GdxTest {
+	static final int SPRITES = 4000;
+
+	Texture[] textures;
+	SpriteBatch spriteBatch;
+	MultiTextureSpriteBatch multiBatch;
+	GLProfiler profiler;
+	float[] positions = new float[SPRITES * 2];
+	boolean useMulti = true;
+	long lastLog;
+
+	@Override
+	public void create () {
+		textures = new Texture[] {new Texture("data/bobargb8888-32x32.png"), new Texture("data/bobrgb888-32x32.png"),
+			new Texture("data/egg.png"), new Texture("data/badlogicsmall.jpg")};
+		spriteBatch = new SpriteBatch();
+		multiBatch = new MultiTextureSpriteBatch();
+		for (int i = 0; i < positions.length; i += 2) {
+			positions[i] = MathUtils.random(Gdx.graphics.getWidth() - 32);
+			positions[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 32);
+		}
+		profiler = new GLProfiler(Gdx.graphics);
+		profiler.enable();
+		Gdx.app.log("MultiTextureSpriteBatchTest", "Texture units used by MultiTextureSpriteBatch: " + multiBatch.getMaxTextures());
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) useMulti = !useMulti;
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		profiler.reset();
+		Batch batch = useMulti ? multiBatch : spriteBatch;
+		batch.begin();
+		for (int i = 0; i < SPRITES; i++)
+			batch.draw(textures[i % textures.length], positions[i * 2], positions[i * 2 + 1], 32, 32);
+		batch.end();
+
+		if (TimeUtils.timeSinceMillis(lastLog) > 1000) {
+			lastLog = TimeUtils.millis();
+			Gdx.app.log("MultiTextureSpriteBatchTest", (useMulti ? "MultiTextureSpriteBatch" : "SpriteBatch") + ": draw calls: "
+				+ profiler.getDrawCalls() + ", texture bindings: " + profiler.getTextureBindings() + ", fps: "
+				+ Gdx.graphics.getFramesPerSecond());
+		}
+	}
+
+	@Override
+	public void dispose () {
+		profiler.disable();
+		spriteBatch.dispose();
+		multiBatch.dispose();
+		for (Texture texture : textures)
+			texture.dispose();
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.RecordingBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Draws many rotating sprites either directly with a {@link SpriteBatch} or by recording them on worker threads into one
+ * {@link RecordingBatch} per thread and submitting those to the SpriteBatch. Touch to switch. */
+public class RecordingBatchTest extends GdxTest {
+	static final int SPRITES = 100000;
+	static final int THREADS = 4;
+
+	Texture texture;
+	TextureRegion region;
+	SpriteBatch batch;
+	RecordingBatch[] recorders = new RecordingBatch[THREADS];
+	AsyncExecutor executor;
+	@SuppressWarnings("unchecked") AsyncResult<Void>[] results = new AsyncResult[THREADS];
+	float[] sprites = new float[SPRITES * 3];
+	float rotation;
+	boolean recorded = true;
+	long time;
+	int frames;
+
+	@Override
+	public void create () {
+		texture = new Texture("data/bobargb8888-32x32.png");
+		region = new TextureRegion(texture);
+		batch = new SpriteBatch(8191);
+		for (int i = 0; i < THREADS; i++)
+			recorders[i] = new RecordingBatch(SPRITES / THREADS);
+		executor = new AsyncExecutor(THREADS, "RecordingBatchTest");
+		for (int i = 0; i < sprites.length; i += 3) {
+			sprites[i] = MathUtils.random(Gdx.graphics.getWidth());
+			sprites[i + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			sprites[i + 2] = MathUtils.random(360f);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			recorded = !recorded;
+			time = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		rotation += Gdx.graphics.getDeltaTime() * 90;
+		long start = TimeUtils.nanoTime();
+		if (recorded) {
+			for (int i = 0; i < THREADS; i++) {
+				final RecordingBatch recorder = recorders[i];
+				final int first = i * SPRITES / THREADS, last = (i + 1) * SPRITES / THREADS;
+				results[i] = executor.submit(new AsyncTask<Void>() {
+					public Void call () {
+						recorder.begin();
+						drawSprites(recorder, first, last);
+						recorder.end();
+						return null;
+					}
+				});
+			}
+			batch.begin();
+			// Submit in order, each recorder is drawn as soon as its worker is done.
+			for (int i = 0; i < THREADS; i++) {
+				results[i].get();
+				recorders[i].submit(batch);
+			}
+			batch.end();
+		} else {
+			batch.begin();
+			drawSprites(batch, 0, SPRITES);
+			batch.end();
+		}
+		time += TimeUtils.nanoTime() - start;
+
+		if (++frames == 60) {
+			Gdx.app.log("RecordingBatchTest", (recorded ? THREADS + " RecordingBatches" : "SpriteBatch") + ": "
+				+ time / frames / 1000000f + " ms per frame for " + SPRITES + " sprites");
+			time = 0;
+			frames = 0;
+		}
+	}
+
+	void drawSprites (Batch batch, int first, int last) {
+		float[] sprites = this.sprites;
+		for (int i = first * 3, n = last * 3; i < n; i += 3)
+			batch.draw(region, sprites[i], sprites[i + 1], 16, 16, 32, 32, 1, 1, sprites[i + 2] + rotation);
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+		batch.dispose();
+		texture.dispose();
+	}
+}
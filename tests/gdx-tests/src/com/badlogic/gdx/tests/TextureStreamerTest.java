@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.TextureStreamer;
+import com.badlogic.gdx.graphics.glutils.TextureStreamer.StreamedTexture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+
+/** Draws a grid of streamed textures while the camera zooms in and out, logging the resident bytes, budget bias, loads and
+ * evictions of the {@link TextureStreamer}. */
+public class TextureStreamerTest extends GdxTest {
+	static final String[] FILES = {"data/badlogic.jpg", "data/planet_earth.png", "data/planet_heavyclouds.jpg",
+		"data/Textures1.png"};
+	static final int GRID = 8;
+	static final float CELL = 256;
+
+	SpriteBatch batch;
+	OrthographicCamera camera;
+	TextureStreamer streamer;
+	StreamedTexture[] textures = new StreamedTexture[GRID * GRID];
+	float time;
+	int frames;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		camera = new OrthographicCamera();
+		camera.setToOrtho(false);
+		camera.position.set(GRID * CELL / 2, GRID * CELL / 2, 0);
+		// Not enough for all textures at full resolution.
+		streamer = new TextureStreamer(4 * 1024 * 1024);
+		for (int i = 0; i < textures.length; i++) {
+			textures[i] = streamer.load(Gdx.files.internal(FILES[i % FILES.length]));
+			textures[i].setFilter(TextureFilter.MipMapLinearLinear, TextureFilter.Linear);
+		}
+	}
+
+	@Override
+	public void render () {
+		time += Gdx.graphics.getDeltaTime();
+		camera.zoom = 0.25f + (MathUtils.sin(time * 0.3f) + 1) * 2;
+		camera.update();
+
+		float screenSize = CELL / camera.zoom;
+		for (int i = 0; i < textures.length; i++)
+			textures[i].setScreenSize(screenSize);
+		streamer.update();
+
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		for (int i = 0; i < textures.length; i++)
+			batch.draw(textures[i], (i % GRID) * CELL, (i / GRID) * CELL, CELL, CELL);
+		batch.end();
+
+		if (++frames == 60) {
+			Gdx.app.log("TextureStreamerTest", "zoom: " + camera.zoom + ", resident: " + streamer.getResidentBytes() / 1024
+				+ " KB of " + streamer.getBudget() / 1024 + " KB, bias: " + streamer.getBias() + ", pending: "
+				+ streamer.getPendingLoads() + ", loads: " + streamer.loads + ", evictions: " + streamer.evictions + ", uploaded: "
+				+ streamer.uploadedBytes / 1024 + " KB");
+			streamer.resetStats();
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		streamer.dispose();
+	}
+}
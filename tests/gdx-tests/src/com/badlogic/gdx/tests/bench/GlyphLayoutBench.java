@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Lays out a chat log of long wrapped paragraphs with color markup every frame and logs the time spent in
+ * {@link GlyphLayout#setText(BitmapFont, CharSequence, Color, float, int, boolean)}. */
+public class GlyphLayoutBench extends GdxTest {
+	static final int MESSAGES = 200;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	GlyphLayout[] layouts = new GlyphLayout[MESSAGES];
+	String[] messages = new String[MESSAGES];
+	long time;
+	int frames;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		font.getData().markupEnabled = true;
+		for (int i = 0; i < MESSAGES; i++) {
+			layouts[i] = new GlyphLayout();
+			messages[i] = "[ORANGE]Player" + i + "[]: The [RED]quick brown[] fox jumps over the [#00ff00]lazy[] dog, message " + i
+				+ " of a long chat log that is wrapped to several lines.";
+		}
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		float width = Gdx.graphics.getWidth() / 3;
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < MESSAGES; i++)
+			layouts[i].setText(font, messages[i], Color.WHITE, width, Align.left, true);
+		time += TimeUtils.nanoTime() - start;
+
+		batch.begin();
+		float y = Gdx.graphics.getHeight();
+		for (int i = MESSAGES - 1; i >= 0 && y > 0; i--) {
+			font.draw(batch, layouts[i], 10, y);
+			y -= layouts[i].height + 4;
+		}
+		batch.end();
+
+		if (++frames == 60) {
+			Gdx.app.log("GlyphLayoutBench", time / frames / 1000000f + " ms per frame to lay out " + MESSAGES + " messages");
+			time = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
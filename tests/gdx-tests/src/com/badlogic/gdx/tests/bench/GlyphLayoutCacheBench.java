@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws many labels that rarely change and a counter that changes every frame, either with {@link BitmapFont#draw} or with a
+ * {@link GlyphLayoutCache} and {@link BitmapFontCache#updateText(CharSequence)}, and logs the time per frame. Touch to
+ * switch. */
+public class GlyphLayoutCacheBench extends GdxTest {
+	static final int LABELS = 2000;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	GlyphLayoutCache layoutCache;
+	BitmapFontCache counterCache;
+	String[] labels = new String[LABELS];
+	float[] positions = new float[LABELS * 2];
+	StringBuilder counter = new StringBuilder();
+	int count;
+	boolean cached = true;
+	long time;
+	int frames;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		font.setFixedWidthGlyphs("0123456789");
+		layoutCache = new GlyphLayoutCache(LABELS + 100);
+		counterCache = new BitmapFontCache(font);
+		for (int i = 0; i < LABELS; i++) {
+			labels[i] = "Label " + i;
+			positions[i * 2] = MathUtils.random(Gdx.graphics.getWidth() - 60);
+			positions[i * 2 + 1] = MathUtils.random(20, Gdx.graphics.getHeight());
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			cached = !cached;
+			time = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		// One label changes every frame.
+		labels[MathUtils.random(LABELS - 1)] = "Label " + MathUtils.random(LABELS);
+		counter.setLength(0);
+		counter.append(1000000 + count++);
+
+		long start = TimeUtils.nanoTime();
+		batch.begin();
+		if (cached) {
+			for (int i = 0; i < LABELS; i++)
+				layoutCache.draw(batch, font, labels[i], positions[i * 2], positions[i * 2 + 1]);
+			if (!counterCache.updateText(counter)) counterCache.setText(counter, 10, 20);
+			counterCache.draw(batch);
+		} else {
+			for (int i = 0; i < LABELS; i++)
+				font.draw(batch, labels[i], positions[i * 2], positions[i * 2 + 1]);
+			font.draw(batch, counter, 10, 20);
+		}
+		batch.end();
+		time += TimeUtils.nanoTime() - start;
+
+		if (++frames == 60) {
+			Gdx.app.log("GlyphLayoutCacheBench", (cached ? "GlyphLayoutCache" : "BitmapFont") + ": " + time / frames / 1000000f
+				+ " ms per frame for " + LABELS + " labels, cache hits: " + layoutCache.hits + ", misses: " + layoutCache.misses);
+			time = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures the throughput of 100k interpolation evaluations, calling {@link Interpolation#apply(float)} per value versus
+ * {@link Interpolation#apply(float[], float[], int)} and {@link Interpolation.Table} approximations. */
+public class InterpolationBench extends GdxTest {
+	static final String TAG = "InterpolationBench";
+	static final int COUNT = 100000;
+	static final int RUNS = 20;
+
+	final String[] names = {"pow5", "exp10", "elastic", "bounce"};
+	final Interpolation[] interpolations = {Interpolation.pow5, Interpolation.exp10, Interpolation.elastic, Interpolation.bounce};
+	final float[] in = new float[COUNT], out = new float[COUNT];
+	float sink;
+
+	@Override
+	public void create () {
+		for (int i = 0; i < COUNT; i++)
+			in[i] = MathUtils.random();
+		for (int i = 0; i < interpolations.length; i++) {
+			Interpolation interpolation = interpolations[i];
+			Interpolation.Table table = new Interpolation.Table(interpolation, 0.001f);
+			Gdx.app.log(TAG, names[i] + " table size: " + table.getSize() + ", error: " + table.getError());
+			// Warm up
+			for (int run = 0; run < RUNS; run++) {
+				scalar(interpolation);
+				interpolation.apply(in, out, COUNT);
+				scalar(table);
+				table.apply(in, out, COUNT);
+			}
+
+			long start = TimeUtils.nanoTime();
+			for (int run = 0; run < RUNS; run++)
+				scalar(interpolation);
+			log(names[i] + " apply(float)", start);
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < RUNS; run++)
+				interpolation.apply(in, out, COUNT);
+			log(names[i] + " apply(float[])", start);
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < RUNS; run++)
+				scalar(table);
+			log(names[i] + " table apply(float)", start);
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < RUNS; run++)
+				table.apply(in, out, COUNT);
+			log(names[i] + " table apply(float[])", start);
+		}
+	}
+
+	private void scalar (Interpolation interpolation) {
+		final float[] in = this.in, out = this.out;
+		for (int i = 0; i < COUNT; i++)
+			out[i] = interpolation.apply(in[i]);
+		sink += out[COUNT / 2];
+	}
+
+	private void log (String name, long start) {
+		float ms = (TimeUtils.nanoTime() - start) / 1000000f / RUNS;
+		Gdx.app.log(TAG, name + ": " + ms + " ms per " + COUNT + " evaluations");
+	}
+}
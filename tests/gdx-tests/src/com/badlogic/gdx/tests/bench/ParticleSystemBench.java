@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleEffect;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleShader.AlignMode;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleSystem;
+import com.badlogic.gdx.graphics.g3d.particles.batches.BillboardParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.emitters.RegularEmitter;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ColorInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsModifier.BrownianAcceleration;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.RegionInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ScaleInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.SpawnInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.BillboardRenderer;
+import com.badlogic.gdx.graphics.g3d.particles.values.PointSpawnShapeValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Simulates {@value #EFFECTS} billboard effects with a {@link ParticleSystem}, updating them and filling the batch vertices on
+ * the calling thread or with {@link ParticleSystem#setExecutor(AsyncExecutor, int)}, and logs the time per frame. Nothing is
+ * rendered. */
+public class ParticleSystemBench extends GdxTest {
+	static final String TAG = "ParticleSystemBench";
+	static final int EFFECTS = 500, PARTICLES = 200, FRAMES = 120, THREADS = 4;
+
+	ParticleSystem system;
+	BillboardParticleBatch batch;
+	AsyncExecutor executor;
+
+	@Override
+	public void create () {
+		PerspectiveCamera camera = new PerspectiveCamera(67, 640, 480);
+		camera.position.set(0, 0, 60);
+		camera.update();
+		batch = new BillboardParticleBatch(AlignMode.ViewPoint, false, EFFECTS * PARTICLES);
+		batch.setCamera(camera);
+		system = new ParticleSystem();
+		system.add(batch);
+		Vector3 position = new Vector3();
+		for (int i = 0; i < EFFECTS; i++) {
+			ParticleEffect effect = new ParticleEffect(createController());
+			effect.init();
+			effect.start();
+			effect.translate(position.set(MathUtils.random(-40f, 40f), MathUtils.random(-30f, 30f), MathUtils.random(-20f, 0f)));
+			system.add(effect);
+		}
+		executor = new AsyncExecutor(THREADS, TAG);
+
+		// Fill the effects before measuring.
+		for (int i = 0; i < 60; i++)
+			system.update(1 / 60f);
+		for (int i = 0; i < 3; i++) {
+			Gdx.app.log(TAG, "--- run " + (i + 1));
+			bench(null);
+			bench(executor);
+		}
+	}
+
+	private void bench (AsyncExecutor executor) {
+		system.setExecutor(executor, THREADS);
+		long update = 0, fill = 0;
+		for (int i = 0; i < FRAMES; i++) {
+			long start = TimeUtils.nanoTime();
+			system.update(1 / 60f);
+			long updated = TimeUtils.nanoTime();
+			system.begin();
+			system.draw();
+			system.end();
+			fill += TimeUtils.nanoTime() - updated;
+			update += updated - start;
+		}
+		Gdx.app.log(TAG, (executor == null ? "serial" : THREADS + " threads + caller") + ": update " + update / FRAMES / 1000000f
+			+ " ms, fill " + fill / FRAMES / 1000000f + " ms per frame for " + batch.getBufferedCount() + " particles");
+	}
+
+	private ParticleController createController () {
+		RegularEmitter emitter = new RegularEmitter();
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(PARTICLES);
+		emitter.getLife().setHigh(1000);
+		emitter.setMaxParticleCount(PARTICLES);
+
+		PointSpawnShapeValue spawnShape = new PointSpawnShapeValue();
+		spawnShape.xOffsetValue.setActive(true);
+		spawnShape.xOffsetValue.setLow(0, 1);
+		spawnShape.yOffsetValue.setActive(true);
+		spawnShape.yOffsetValue.setLow(0, 1);
+
+		ScaleInfluencer scaleInfluencer = new ScaleInfluencer();
+		scaleInfluencer.value.setTimeline(new float[] {0, 1});
+		scaleInfluencer.value.setScaling(new float[] {1, 0});
+		scaleInfluencer.value.setHigh(1);
+
+		ColorInfluencer.Single colorInfluencer = new ColorInfluencer.Single();
+		colorInfluencer.colorValue.setColors(new float[] {1, 0.5f, 0.1f, 0.1f, 0.2f, 1});
+		colorInfluencer.colorValue.setTimeline(new float[] {0, 1});
+		colorInfluencer.alphaValue.setHigh(1);
+		colorInfluencer.alphaValue.setTimeline(new float[] {0, 0.5f, 1});
+		colorInfluencer.alphaValue.setScaling(new float[] {0, 1, 0});
+
+		DynamicsInfluencer dynamicsInfluencer = new DynamicsInfluencer();
+		BrownianAcceleration modifier = new BrownianAcceleration();
+		modifier.strengthValue.setTimeline(new float[] {0, 1});
+		modifier.strengthValue.setScaling(new float[] {0, 1});
+		modifier.strengthValue.setHigh(40);
+		dynamicsInfluencer.velocities.add(modifier);
+
+		return new ParticleController("Bench", emitter, new BillboardRenderer(batch), new RegionInfluencer.Single(),
+			new SpawnInfluencer(spawnShape), scaleInfluencer, colorInfluencer, dynamicsInfluencer);
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+	}
+}
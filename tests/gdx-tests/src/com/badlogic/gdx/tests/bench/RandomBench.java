@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares generating floats one at a time with {@link MathUtils#random}, in bulk with
+ * {@link RandomXS128#nextFloats(float[], int, int)}, and from multiple threads sharing one generator versus using
+ * {@link MathUtils#threadRandom()} or split generators. */
+public class RandomBench extends GdxTest {
+	static final String TAG = "RandomBench";
+	static final int COUNT = 10000000;
+	static final int THREADS = 4;
+
+	final float[] values = new float[COUNT];
+	float sink;
+
+	@Override
+	public void create () {
+		for (int i = 0; i < 3; i++) {
+			Gdx.app.log(TAG, "--- run " + (i + 1));
+			bench();
+		}
+	}
+
+	private void bench () {
+		final float[] values = this.values;
+
+		long start = TimeUtils.nanoTime();
+		Random java = new Random(1);
+		for (int i = 0; i < COUNT; i++)
+			values[i] = java.nextFloat();
+		log("java.util.Random nextFloat", start);
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < COUNT; i++)
+			values[i] = MathUtils.random();
+		log("MathUtils.random()", start);
+
+		RandomXS128 random = new RandomXS128(1);
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < COUNT; i++)
+			values[i] = random.nextFloat();
+		log("RandomXS128 nextFloat", start);
+
+		start = TimeUtils.nanoTime();
+		random.nextFloats(values, 0, COUNT);
+		log("RandomXS128 nextFloats", start);
+
+		start = TimeUtils.nanoTime();
+		random.nextGaussians(values, 0, COUNT);
+		log("RandomXS128 nextGaussians", start);
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < COUNT; i++)
+			values[i] = (float)random.nextGaussian();
+		log("RandomXS128 nextGaussian", start);
+
+		start = TimeUtils.nanoTime();
+		runThreads(new Worker() {
+			public void run (int offset, int count) {
+				final Random random = MathUtils.random;
+				for (int i = offset, n = offset + count; i < n; i++) {
+					synchronized (random) {
+						values[i] = random.nextFloat();
+					}
+				}
+			}
+		});
+		log(THREADS + " threads, shared MathUtils.random", start);
+
+		start = TimeUtils.nanoTime();
+		runThreads(new Worker() {
+			public void run (int offset, int count) {
+				final RandomXS128 random = MathUtils.threadRandom();
+				for (int i = offset, n = offset + count; i < n; i++)
+					values[i] = random.nextFloat();
+			}
+		});
+		log(THREADS + " threads, MathUtils.threadRandom()", start);
+
+		final RandomXS128[] streams = new RandomXS128[THREADS];
+		RandomXS128 seed = new RandomXS128(1);
+		for (int i = 0; i < THREADS; i++)
+			streams[i] = seed.split();
+		start = TimeUtils.nanoTime();
+		runThreads(new Worker() {
+			public void run (int offset, int count) {
+				streams[offset / count].nextFloats(values, offset, count);
+			}
+		});
+		log(THREADS + " threads, split streams nextFloats", start);
+
+		for (int i = 0; i < COUNT; i += 1000)
+			sink += values[i];
+	}
+
+	private void runThreads (final Worker worker) {
+		final int count = COUNT / THREADS;
+		Thread[] threads = new Thread[THREADS];
+		for (int i = 0; i < THREADS; i++) {
+			final int offset = i * count;
+			threads[i] = new Thread(new Runnable() {
+				public void run () {
+					worker.run(offset, count);
+				}
+			});
+			threads[i].start();
+		}
+		try {
+			for (Thread thread : threads)
+				thread.join();
+		} catch (InterruptedException ignored) {
+		}
+	}
+
+	private void log (String name, long start) {
+		Gdx.app.log(TAG, name + ": " + (TimeUtils.nanoTime() - start) / 1000000f + " ms for " + COUNT + " values");
+	}
+
+	interface Worker {
+		void run (int offset, int count);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws a debug overlay of {@value #SHAPES} shapes, alternating outlines and filled shapes, with a {@link ShapeRenderer} that
+ * flushes when the shape type changes or with {@link ShapeRenderer#setMergeShapeTypes(boolean)}, and logs the time per frame.
+ * Touch to switch. */
+public class ShapeRendererBench extends GdxTest {
+	static final int SHAPES = 100000;
+
+	ShapeRenderer renderer;
+	float[] shapes = new float[SHAPES * 3];
+	boolean merged = true;
+	long time;
+	int frames;
+
+	@Override
+	public void create () {
+		renderer = new ShapeRenderer(200000, null, VertexDataType.VertexBufferObjectStreaming);
+		renderer.setAutoShapeType(true);
+		renderer.setMergeShapeTypes(merged);
+		for (int i = 0; i < SHAPES * 3; i += 3) {
+			shapes[i] = MathUtils.random(Gdx.graphics.getWidth());
+			shapes[i + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			shapes[i + 2] = MathUtils.random(2f, 6f);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			merged = !merged;
+			renderer.setMergeShapeTypes(merged);
+			time = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		long start = TimeUtils.nanoTime();
+		renderer.begin();
+		for (int i = 0; i < SHAPES * 3; i += 3) {
+			float x = shapes[i], y = shapes[i + 1], size = shapes[i + 2];
+			renderer.set(ShapeType.Filled);
+			renderer.setColor(0.2f, 0.6f, 1, 1);
+			if (i % 2 == 0)
+				renderer.rect(x, y, size, size);
+			else
+				renderer.circle(x, y, size, 8);
+			renderer.set(ShapeType.Line);
+			renderer.setColor(1, 1, 1, 1);
+			renderer.rect(x, y, size, size);
+		}
+		renderer.end();
+		time += TimeUtils.nanoTime() - start;
+
+		if (++frames == 60) {
+			Gdx.app.log("ShapeRendererBench", (merged ? "merged" : "flush per type") + ": " + time / frames / 1000000f
+				+ " ms per frame for " + SHAPES * 2 + " shapes");
+			time = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Flushes a {@link SpriteBatch} and a {@link ShapeRenderer} many times per frame, using the default vertex storage or
+ * {@link VertexDataType#VertexBufferObjectStreaming}, and logs the time per frame. Touch to switch. */
+public class StreamingVertexBench extends GdxTest {
+	static final int FLUSHES = 500;
+	static final int SPRITES_PER_FLUSH = 20;
+
+	Texture texture1, texture2;
+	SpriteBatch defaultBatch, streamingBatch;
+	ShapeRenderer defaultShapes, streamingShapes;
+	float[] positions = new float[FLUSHES * SPRITES_PER_FLUSH * 2];
+	boolean streaming = true;
+	long time;
+	int frames;
+
+	@Override
+	public void create () {
+		texture1 = new Texture("data/bobargb8888-32x32.png");
+		texture2 = new Texture("data/bobrgb888-32x32.png");
+		defaultBatch = new SpriteBatch(1000);
+		streamingBatch = new SpriteBatch(1000, null, VertexDataType.VertexBufferObjectStreaming);
+		defaultShapes = new ShapeRenderer(500);
+		streamingShapes = new ShapeRenderer(500, null, VertexDataType.VertexBufferObjectStreaming);
+		for (int i = 0; i < positions.length; i += 2) {
+			positions[i] = MathUtils.random(Gdx.graphics.getWidth() - 32);
+			positions[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 32);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			streaming = !streaming;
+			time = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		long start = TimeUtils.nanoTime();
+		SpriteBatch batch = streaming ? streamingBatch : defaultBatch;
+		batch.begin();
+		for (int i = 0, p = 0; i < FLUSHES; i++) {
+			// Alternating textures flushes the batch every SPRITES_PER_FLUSH sprites.
+			Texture texture = (i & 1) == 0 ? texture1 : texture2;
+			for (int j = 0; j < SPRITES_PER_FLUSH; j++, p += 2)
+				batch.draw(texture, positions[p], positions[p + 1]);
+		}
+		batch.end();
+
+		ShapeRenderer shapes = streaming ? streamingShapes : defaultShapes;
+		shapes.begin(ShapeType.Line);
+		shapes.setColor(Color.GREEN);
+		for (int i = 0; i < FLUSHES; i++) {
+			shapes.rect(positions[i * 2], positions[i * 2 + 1], 32, 32);
+			shapes.flush();
+		}
+		shapes.end();
+		Gdx.gl.glFinish();
+		time += TimeUtils.nanoTime() - start;
+
+		if (++frames == 60) {
+			Gdx.app.log("StreamingVertexBench", (streaming ? "streaming" : "default") + ": " + time / frames / 1000000f
+				+ " ms per frame, " + FLUSHES * 2 + " flushes");
+			time = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		texture1.dispose();
+		texture2.dispose();
+		defaultBatch.dispose();
+		streamingBatch.dispose();
+		defaultShapes.dispose();
+		streamingShapes.dispose();
+	}
+}
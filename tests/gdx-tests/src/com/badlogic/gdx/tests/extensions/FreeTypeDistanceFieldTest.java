@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.extensions;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Generates one incremental distance field font at runtime and draws it at several scales. */
+public class FreeTypeDistanceFieldTest extends GdxTest {
+	SpriteBatch batch;
+	ShaderProgram shader;
+	FreeTypeFontGenerator generator;
+	BitmapFont font;
+
+	public void create () {
+		batch = new SpriteBatch();
+		shader = DistanceFieldFont.createDistanceFieldShader();
+		batch.setShader(shader);
+
+		generator = new FreeTypeFontGenerator(Gdx.files.internal("data/arial.ttf"));
+		FreeTypeFontParameter param = new FreeTypeFontParameter();
+		param.size = 32;
+		param.incremental = true;
+		param.distanceFieldSpread = 4;
+		param.minFilter = TextureFilter.Linear;
+		param.magFilter = TextureFilter.Linear;
+		long start = TimeUtils.nanoTime();
+		font = generator.generateFont(param);
+		Gdx.app.log("FreeTypeDistanceFieldTest", "Generated " + param.characters.length() + " glyphs in "
+			+ TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(start)) + " ms");
+	}
+
+	public void render () {
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		batch.begin();
+		float y = Gdx.graphics.getHeight() - 10;
+		for (float scale = 0.5f; scale <= 4; scale *= 1.5f) {
+			font.getData().setScale(scale);
+			font.draw(batch, "Scale " + scale + ": Hello World", 10, y);
+			y -= font.getLineHeight();
+		}
+		batch.end();
+	}
+
+	public void resize (int width, int height) {
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+	}
+
+	public void dispose () {
+		batch.dispose();
+		shader.dispose();
+		font.dispose();
+		((FreeTypeBitmapFontData)font.getData()).dispose();
+		generator.dispose();
+	}
+}
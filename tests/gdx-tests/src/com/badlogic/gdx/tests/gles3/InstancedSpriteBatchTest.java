@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.gles3;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws many rotating and scaled sprites with a {@link SpriteBatch} or an {@link InstancedSpriteBatch} and logs the time spent
+ * in the draw calls. Touch to switch between the batches. */
+public class InstancedSpriteBatchTest extends GdxTest {
+	static final int SPRITES = 100000;
+
+	Texture texture;
+	TextureRegion region;
+	SpriteBatch spriteBatch;
+	InstancedSpriteBatch instancedBatch;
+	float[] sprites = new float[SPRITES * 4];
+	boolean useInstanced = true;
+	long drawTime;
+	int frames;
+
+	@Override
+	public void create () {
+		if (Gdx.gl30 == null) {
+			throw new GdxRuntimeException("GLES 3.0 profile required for this test");
+		}
+		texture = new Texture("data/bobargb8888-32x32.png");
+		region = new TextureRegion(texture);
+		spriteBatch = new SpriteBatch(8191);
+		instancedBatch = new InstancedSpriteBatch(10000);
+		for (int i = 0; i < sprites.length; i += 4) {
+			sprites[i] = MathUtils.random(Gdx.graphics.getWidth());
+			sprites[i + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			sprites[i + 2] = MathUtils.random(360f);
+			sprites[i + 3] = MathUtils.random(0.5f, 1.5f);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			useInstanced = !useInstanced;
+			drawTime = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		float delta = Gdx.graphics.getDeltaTime();
+		long start = TimeUtils.nanoTime();
+		Batch batch = useInstanced ? instancedBatch : spriteBatch;
+		batch.begin();
+		float[] sprites = this.sprites;
+		for (int i = 0; i < sprites.length; i += 4) {
+			sprites[i + 2] += delta * 90;
+			batch.draw(region, sprites[i], sprites[i + 1], 16, 16, 32, 32, sprites[i + 3], sprites[i + 3], sprites[i + 2]);
+		}
+		batch.end();
+		drawTime += TimeUtils.nanoTime() - start;
+
+		if (++frames == 60) {
+			Gdx.app.log("InstancedSpriteBatchTest", (useInstanced ? "InstancedSpriteBatch" : "SpriteBatch") + ": "
+				+ drawTime / frames / 1000000f + " ms per frame for " + SPRITES + " sprites, fps: "
+				+ Gdx.graphics.getFramesPerSecond());
+			drawTime = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		spriteBatch.dispose();
+		instancedBatch.dispose();
+		texture.dispose();
+	}
+}
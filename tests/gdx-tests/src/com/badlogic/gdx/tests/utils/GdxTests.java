@@ -37,11 +37,19 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.GlyphLayoutBench;
+import com.badlogic.gdx.tests.bench.GlyphLayoutCacheBench;
+import com.badlogic.gdx.tests.bench.InterpolationBench;
+import com.badlogic.gdx.tests.bench.ParticleSystemBench;
+import com.badlogic.gdx.tests.bench.RandomBench;
+import com.badlogic.gdx.tests.bench.ShapeRendererBench;
+import com.badlogic.gdx.tests.bench.StreamingVertexBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
 import com.badlogic.gdx.tests.extensions.ControllersTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeAtlasTest;
+import com.badlogic.gdx.tests.extensions.FreeTypeDistanceFieldTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeDisposeTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeFontLoaderTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeIncrementalTest;
@@ -111,6 +119,7 @@ public class GdxTests {
 		Bresenham2Test.class,
 		BufferUtilsTest.class,
 		BulletTestCollection.class,
+		ChunkedSpriteCacheTest.class,
 		ClipboardTest.class,
 		CollectionsTest.class,
 		ColorTest.class,
@@ -141,6 +150,8 @@ public class GdxTests {
 		GestureDetectorTest.class,
 		GLES30Test.class,
 		GLProfilerErrorTest.class,
+		GlyphLayoutBench.class,
+		GlyphLayoutCacheBench.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
 		GroupTest.class,
@@ -156,6 +167,7 @@ public class GdxTests {
 		InputTest.class,
 		IntegerBitmapFontTest.class,
 		InterpolationTest.class,
+		InterpolationBench.class,
 		InverseKinematicsTest.class,
 		IsometricTileTest.class,
 		KinematicBodyTest.class,
@@ -174,6 +186,7 @@ public class GdxTests {
 		ModelCacheTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
+		MultiTextureSpriteBatchTest.class,
 		MultitouchTest.class,
 		MusicTest.class,
 		NetAPITest.class,
@@ -186,6 +199,7 @@ public class GdxTests {
 		ParticleEmitterTest.class,
 		ParticleEmittersTest.class,
 		ParticleEmitterChangeSpriteTest.class,
+		ParticleSystemBench.class,
 		PixelsPerInchTest.class,
 		PixmapBlendingTest.class,
 		PixmapPackerTest.class,
@@ -196,6 +210,8 @@ public class GdxTests {
 		PreferencesTest.class,
 		ProjectTest.class,
 		ProjectiveTextureTest.class,
+		RandomBench.class,
+		RecordingBatchTest.class,
 		ReflectionTest.class,
 		ReflectionCorrectnessTest.class,
 		RotationTest.class,
@@ -212,6 +228,7 @@ public class GdxTests {
 		ShaderMultitextureTest.class,
 		ShaderTest.class,
 		ShadowMappingTest.class,
+		ShapeRendererBench.class,
 		ShapeRendererTest.class,
 		SimpleAnimationTest.class,
 		SimpleDecalTest.class,
@@ -229,6 +246,7 @@ public class GdxTests {
 		StageDebugTest.class,
 		StagePerformanceTest.class,
 		StageTest.class,
+		StreamingVertexBench.class,
 		SuperKoalio.class,
 		TableLayoutTest.class,
 		TableTest.class,
@@ -242,6 +260,7 @@ public class GdxTests {
 		TextureDownloadTest.class,
 		TextureFormatTest.class,
 		TextureRegion3DTest.class,
+		TextureStreamerTest.class,
 		TideMapAssetManagerTest.class,
 		TideMapDirectLoaderTest.class,
 		TileTest.class,
@@ -269,6 +288,7 @@ public class GdxTests {
 		YDownTest.class,
 		FreeTypeFontLoaderTest.class,
 		FreeTypeDisposeTest.class,
+		FreeTypeDistanceFieldTest.class,
 		FreeTypeMetricsTest.class,
 		FreeTypeIncrementalTest.class,
 		FreeTypePackTest.class,